@@ -0,0 +1,292 @@
+package com.tecknobit.googlemanager;
+
+import com.tecknobit.googlemanager.GoogleManager.AuthorizationMode;
+
+import static com.tecknobit.googlemanager.GoogleManager.*;
+
+/**
+ * The {@code GoogleConfig} class is useful to memorize the configuration of a {@link GoogleManager}'s manager
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote this class is immutable, so the same configuration can be shared between many threads and many managers
+ * without any lock, to create the configuration of another account use {@link #withUserId(String)}:
+ * <pre>
+ *     {@code
+ *        GoogleConfig firstAccount = new GoogleConfig(CLIENT_ID, CLIENT_SECRET, "first@gmail.com",
+ *                 ACCESS_TYPE, APPROVAL_PROMPT, "application_name");
+ *        GoogleConfig secondAccount = firstAccount.withUserId("second@gmail.com");
+ *     }
+ * </pre>
+ **/
+public final class GoogleConfig {
+
+    /**
+     * {@code clientId} client identifier value
+     **/
+    private final String clientId;
+
+    /**
+     * {@code clientSecret} client secret value
+     **/
+    private final String clientSecret;
+
+    /**
+     * {@code userId} used to identifier a user -> me to use an authenticated user
+     **/
+    private final String userId;
+
+    /**
+     * {@code accessType} access type used in the auth operations
+     **/
+    private final String accessType;
+
+    /**
+     * {@code approvalPrompt} approval prompt type used in the auth operations
+     **/
+    private final String approvalPrompt;
+
+    /**
+     * {@code port} port used in the auth operations
+     **/
+    private final int port;
+
+    /**
+     * {@code host} host used in the auth operations
+     **/
+    private final String host;
+
+    /**
+     * {@code callBackPath} callback path used in the auth operations
+     **/
+    private final String callBackPath;
+
+    /**
+     * {@code applicationName} name of application to give at the project
+     **/
+    private final String applicationName;
+
+    /**
+     * {@code authorizationMode} mode to perform the auth request
+     **/
+    private final AuthorizationMode authorizationMode;
+
+    /**
+     * Constructor to init a {@link GoogleConfig}
+     *
+     * @param clientId:        client identifier value
+     * @param clientSecret:    client secret value
+     * @param userId:          used to identifier a user -> me to use an authenticated user
+     * @param accessType:      access type used in the auth operations
+     * @param approvalPrompt:  approval prompt type used in the auth operations
+     * @param port:            port used in the auth operations
+     * @param host:            host used in the auth operations
+     * @param callBackPath:    callback path used in the auth operations
+     * @param applicationName: name of application to give at the project
+     **/
+    public GoogleConfig(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
+                        int port, String host, String callBackPath, String applicationName) {
+        this(clientId, clientSecret, userId, accessType, approvalPrompt, port, host, callBackPath, applicationName,
+                AuthorizationMode.EAGER);
+    }
+
+    /**
+     * Constructor to init a {@link GoogleConfig}
+     *
+     * @param clientId:          client identifier value
+     * @param clientSecret:      client secret value
+     * @param userId:            used to identifier a user -> me to use an authenticated user
+     * @param accessType:        access type used in the auth operations
+     * @param approvalPrompt:    approval prompt type used in the auth operations
+     * @param port:              port used in the auth operations
+     * @param host:              host used in the auth operations
+     * @param callBackPath:      callback path used in the auth operations
+     * @param applicationName:   name of application to give at the project
+     * @param authorizationMode: mode to perform the auth request
+     **/
+    public GoogleConfig(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
+                        int port, String host, String callBackPath, String applicationName,
+                        AuthorizationMode authorizationMode) {
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.userId = userId;
+        this.accessType = accessType;
+        this.approvalPrompt = approvalPrompt;
+        this.port = port;
+        this.host = host;
+        this.callBackPath = callBackPath;
+        this.applicationName = applicationName;
+        this.authorizationMode = authorizationMode;
+    }
+
+    /**
+     * Constructor to init a {@link GoogleConfig}
+     *
+     * @param clientId:        client identifier value
+     * @param clientSecret:    client secret value
+     * @param userId:          used to identifier a user -> me to use an authenticated user
+     * @param accessType:      access type used in the auth operations
+     * @param approvalPrompt:  approval prompt type used in the auth operations
+     * @param applicationName: name of application to give at the project
+     **/
+    public GoogleConfig(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
+                        String applicationName) {
+        this(clientId, clientSecret, userId, accessType, approvalPrompt, DEFAULT_PORT, DEFAULT_HOST,
+                DEFAULT_CALLBACK_PATH, applicationName);
+    }
+
+    /**
+     * Method to get {@link #clientId} instance <br>
+     * Any params required
+     *
+     * @return {@link #clientId} instance as {@link String}
+     **/
+    public String getClientId() {
+        return clientId;
+    }
+
+    /**
+     * Method to get {@link #clientSecret} instance <br>
+     * Any params required
+     *
+     * @return {@link #clientSecret} instance as {@link String}
+     **/
+    public String getClientSecret() {
+        return clientSecret;
+    }
+
+    /**
+     * Method to get {@link #userId} instance <br>
+     * Any params required
+     *
+     * @return {@link #userId} instance as {@link String}
+     **/
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Method to get {@link #accessType} instance <br>
+     * Any params required
+     *
+     * @return {@link #accessType} instance as {@link String}
+     **/
+    public String getAccessType() {
+        return accessType;
+    }
+
+    /**
+     * Method to get {@link #approvalPrompt} instance <br>
+     * Any params required
+     *
+     * @return {@link #approvalPrompt} instance as {@link String}
+     **/
+    public String getApprovalPrompt() {
+        return approvalPrompt;
+    }
+
+    /**
+     * Method to get {@link #port} instance <br>
+     * Any params required
+     *
+     * @return {@link #port} instance as int
+     **/
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Method to get {@link #host} instance <br>
+     * Any params required
+     *
+     * @return {@link #host} instance as {@link String}
+     **/
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Method to get {@link #callBackPath} instance <br>
+     * Any params required
+     *
+     * @return {@link #callBackPath} instance as {@link String}
+     **/
+    public String getCallBackPath() {
+        return callBackPath;
+    }
+
+    /**
+     * Method to get {@link #applicationName} instance <br>
+     * Any params required
+     *
+     * @return {@link #applicationName} instance as {@link String}
+     **/
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    /**
+     * Method to get {@link #authorizationMode} instance <br>
+     * Any params required
+     *
+     * @return {@link #authorizationMode} instance as {@link AuthorizationMode}
+     **/
+    public AuthorizationMode getAuthorizationMode() {
+        return authorizationMode;
+    }
+
+    /**
+     * Method to create a copy of this configuration for another user
+     *
+     * @param userId: used to identifier a user -> me to use an authenticated user
+     * @return configuration as {@link GoogleConfig}
+     **/
+    public GoogleConfig withUserId(String userId) {
+        return new GoogleConfig(clientId, clientSecret, userId, accessType, approvalPrompt, port, host, callBackPath,
+                applicationName, authorizationMode);
+    }
+
+    /**
+     * Method to create a copy of this configuration with another application name
+     *
+     * @param applicationName: name of application to give at the project
+     * @return configuration as {@link GoogleConfig}
+     **/
+    public GoogleConfig withApplicationName(String applicationName) {
+        return new GoogleConfig(clientId, clientSecret, userId, accessType, approvalPrompt, port, host, callBackPath,
+                applicationName, authorizationMode);
+    }
+
+    /**
+     * Method to create a copy of this configuration with another mode to perform the auth request
+     *
+     * @param authorizationMode: mode to perform the auth request
+     * @return configuration as {@link GoogleConfig}
+     **/
+    public GoogleConfig withAuthorizationMode(AuthorizationMode authorizationMode) {
+        return new GoogleConfig(clientId, clientSecret, userId, accessType, approvalPrompt, port, host, callBackPath,
+                applicationName, authorizationMode);
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * Any params required
+     *
+     * @return a string representation of the object as {@link String}
+     * @apiNote the {@link #clientSecret} is not included
+     */
+    @Override
+    public String toString() {
+        return "GoogleConfig{" +
+                "clientId='" + clientId + '\'' +
+                ", userId='" + userId + '\'' +
+                ", accessType='" + accessType + '\'' +
+                ", approvalPrompt='" + approvalPrompt + '\'' +
+                ", port=" + port +
+                ", host='" + host + '\'' +
+                ", callBackPath='" + callBackPath + '\'' +
+                ", applicationName='" + applicationName + '\'' +
+                ", authorizationMode=" + authorizationMode +
+                '}';
+    }
+
+}
@@ -6,20 +6,27 @@ import com.google.api.client.extensions.java6.auth.oauth2.AuthorizationCodeInsta
 import com.google.api.client.extensions.jetty.auth.oauth2.LocalServerReceiver;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow.Builder;
-import com.google.api.client.googleapis.auth.oauth2.GoogleRefreshTokenRequest;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.client.util.store.DataStore;
 import com.google.api.client.util.store.FileDataStoreFactory;
+import com.tecknobit.googlemanager.auth.AppendOnlyDataStoreFactory;
+import com.tecknobit.googlemanager.auth.ServiceAccountDelegation;
+import com.tecknobit.googlemanager.auth.TokenRefreshScheduler;
+import com.tecknobit.googlemanager.http.PooledHttpTransport;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import static java.lang.Integer.parseInt;
-import static java.lang.Thread.sleep;
-import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.Executors.newCachedThreadPool;
 
 /**
  * The {@code GoogleManager} class is useful to manage all Google's API services giving basic methods
@@ -77,35 +84,74 @@ public abstract class GoogleManager {
     public static final String AUTO_APPROVAL_PROMPT = "auto";
 
     /**
-     * {@code properties} is a local instance used to instantiate a new {@link GoogleManager}'s manager without re-insert
-     * credentials
+     * {@code lastConfig} is the configuration of the last manager authorized, used to instantiate a new
+     * {@link GoogleManager}'s manager without re-insert credentials
      **/
-    protected static final Properties properties = new Properties();
+    private static volatile GoogleConfig lastConfig;
 
     /**
-     * {@code credentialDataStore} is a local instance used to memorize credentials for {@code "Google"}'s api usage
+     * {@code DEFAULT_CREDENTIALS_DIRECTORY} is a constant for default directory where the credentials are stored
      **/
-    private static final DataStore<StoredCredential> credentialDataStore;
+    public static final String DEFAULT_CREDENTIALS_DIRECTORY = "/.oauth-credentials/";
 
-    static {
-        try {
-            credentialDataStore = new FileDataStoreFactory(new File("/.oauth-credentials/"))
-                    .getDataStore("credentialDatastore");
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
+    /**
+     * {@code CREDENTIAL_DATA_STORE_ID} is a constant for the identifier of the credentials data store
+     **/
+    public static final String CREDENTIAL_DATA_STORE_ID = "credentialDatastore";
+
+    /**
+     * {@code defaultCredentialDataStore} is a local instance used to memorize credentials for {@code "Google"}'s api usage
+     *
+     * @apiNote if not set with {@link #setDefaultCredentialDataStore(DataStore)} will be used a
+     * {@link FileDataStoreFactory} at {@link #DEFAULT_CREDENTIALS_DIRECTORY}
+     **/
+    private static volatile DataStore<StoredCredential> defaultCredentialDataStore;
+
+    /**
+     * {@code defaultHttpTransport} is the transport shared by the managers created after it has been set
+     *
+     * @apiNote if not set with {@link #setDefaultHttpTransport(HttpTransport)} each manager will use its own
+     * {@link NetHttpTransport}
+     **/
+    private static volatile HttpTransport defaultHttpTransport;
+
+    /**
+     * {@code defaultConnectTimeout} is the connect timeout, in milliseconds, of the requests of all the managers
+     **/
+    private static volatile int defaultConnectTimeout = 20000;
+
+    /**
+     * {@code defaultReadTimeout} is the read timeout, in milliseconds, of the requests of all the managers
+     **/
+    private static volatile int defaultReadTimeout = 20000;
+
+    /**
+     * {@code AUTHORIZATION_EXECUTOR} is the instance used to perform the auth requests in background
+     **/
+    private static final ExecutorService AUTHORIZATION_EXECUTOR = newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "google-authorizer");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
-     * {@code netHttpTransport} is an instance used to HTTP transport
+     * {@code httpTransport} is an instance used to HTTP transport
      **/
-    protected final NetHttpTransport netHttpTransport = new NetHttpTransport();
+    protected final HttpTransport httpTransport;
 
     /**
      * {@code gsonFactory} is an instance used to JSON factory
      **/
     protected final GsonFactory gsonFactory = GsonFactory.getDefaultInstance();
 
+    /**
+     * {@code credentialDataStore} is the instance used by this manager to memorize its credentials
+     *
+     * @apiNote it is null for the managers that impersonate a user with a service account, because they do not have any
+     * credential to memorize, until they change project with {@link #changeProject}
+     **/
+    protected volatile DataStore<StoredCredential> credentialDataStore;
+
     /**
      * {@code authCodeFlow} is an instance used to Google's authorization code flow operations
      * **/
@@ -116,6 +162,23 @@ public abstract class GoogleManager {
      * **/
     protected Credential credentials;
 
+    /**
+     * {@code authorization} is the instance used to resolve the {@link #credentials}, shared with the managers
+     * created as views of this manager
+     **/
+    private volatile Authorization authorization;
+
+    /**
+     * {@code delegatedRequestInitializer} is the instance used to authorize the requests on behalf of {@link #userId}
+     * with a service account, null if the manager has been authorized with the installed application flow
+     **/
+    private volatile HttpRequestInitializer delegatedRequestInitializer;
+
+    /**
+     * {@code config} is the configuration of this manager
+     **/
+    protected volatile GoogleConfig config;
+
     /**
      * {@code clientId} is a local instance used to identifier a client
      * **/
@@ -168,6 +231,12 @@ public abstract class GoogleManager {
      **/
     private volatile boolean tokenAutoRefreshing;
 
+    /**
+     * {@code refreshScheduler} is the instance used to refresh the {@link #credentials}'s token when
+     * {@link #tokenAutoRefreshing} is enabled
+     **/
+    private TokenRefreshScheduler refreshScheduler;
+
     /** Constructor to init a {@link GoogleManager}
      * @param clientId: client identifier value
      * @param clientSecret: client secret value
@@ -182,8 +251,8 @@ public abstract class GoogleManager {
      * **/
     public GoogleManager(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
                          int port, String host, String callBackPath, Collection<String> scopes) throws IOException {
-        if (!changeProject(clientId, clientSecret, userId, accessType, approvalPrompt, port, host, callBackPath, scopes))
-            throw new IOException();
+        this(new GoogleConfig(clientId, clientSecret, userId, accessType, approvalPrompt, port, host, callBackPath,
+                null), scopes);
     }
 
     /** Constructor to init a {@link GoogleManager}
@@ -268,17 +337,90 @@ public abstract class GoogleManager {
      * </pre>
      **/
     public GoogleManager(Collection<String> scopes) throws IOException {
-        clientId = properties.getProperty("clientId");
-        if (clientId == null)
-            throw new IOException("You need to call a parameterized constructor first of this or invalid clientId inserted");
-        if (!changeProject(clientId, properties.getProperty("clientSecret"), properties.getProperty("userId"),
-                properties.getProperty("accessType"), properties.getProperty("approvalPrompt"),
-                parseInt(properties.getProperty("port")), properties.getProperty("host"),
-                properties.getProperty("callBackPath"), scopes)) {
-            throw new IOException();
+        this(getLastConfig(), scopes);
+    }
+
+    /**
+     * Constructor to init a {@link GoogleManager}
+     *
+     * @param config: configuration of the manager
+     * @param scopes: collection of {@link String} for scopes
+     * @throws IOException when auth request has been go wrong
+     * @apiNote the configuration is memorized by the manager, so different managers for different accounts can be
+     * created at the same time from different threads
+     **/
+    public GoogleManager(GoogleConfig config, Collection<String> scopes) throws IOException {
+        httpTransport = getDefaultHttpTransport();
+        credentialDataStore = getDefaultCredentialDataStore();
+        this.config = config;
+        AuthorizationMode authorizationMode = config.getAuthorizationMode();
+        if (authorizationMode == AuthorizationMode.EAGER) {
+            if (!changeProject(config.getClientId(), config.getClientSecret(), config.getUserId(),
+                    config.getAccessType(), config.getApprovalPrompt(), config.getPort(), config.getHost(),
+                    config.getCallBackPath(), scopes)) {
+                throw new IOException();
+            }
+        } else {
+            setProject(config.getClientId(), config.getClientSecret(), config.getUserId(), config.getAccessType(),
+                    config.getApprovalPrompt(), config.getPort(), config.getHost(), config.getCallBackPath(), scopes);
+            lastConfig = this.config;
+            authorization = new Authorization();
+            if (authorizationMode == AuthorizationMode.BACKGROUND)
+                authorizeAsync();
         }
     }
 
+    /**
+     * Constructor to init a {@link GoogleManager} impersonating a user with a service account
+     *
+     * @param delegation:      the service account with the domain-wide delegation enabled
+     * @param userId:          the email of the user to impersonate
+     * @param applicationName: name of application to give at the project
+     * @param scopes:          collection of {@link String} for scopes
+     * @apiNote this constructor does not perform any auth request and does not use the credential data store, the
+     * access token of {@code userId} is requested at the first request and then cached by the {@code delegation}, so
+     * many managers for different users can be created cheaply, also where the file system is read-only
+     **/
+    public GoogleManager(ServiceAccountDelegation delegation, String userId, String applicationName,
+                         Collection<String> scopes) {
+        httpTransport = getDefaultHttpTransport();
+        credentialDataStore = null;
+        config = new GoogleConfig(null, null, userId, null, null, applicationName);
+        this.userId = userId;
+        this.scopes = scopes;
+        port = config.getPort();
+        host = config.getHost();
+        callBackPath = config.getCallBackPath();
+        delegatedRequestInitializer = delegation.getRequestInitializer(userId, scopes);
+        authorization = new Authorization(null);
+    }
+
+    /**
+     * Constructor to init a {@link GoogleManager} sharing the authorization of another manager
+     *
+     * @param manager: manager already authorized from which share the transport, the auth code flow and the credentials
+     * @apiNote this constructor does not perform any auth request, so it is useful to create many managers for the
+     * same account with a single authorization and a single connection pool
+     **/
+    protected GoogleManager(GoogleManager manager) {
+        httpTransport = manager.httpTransport;
+        credentialDataStore = manager.credentialDataStore;
+        authCodeFlow = manager.authCodeFlow;
+        credentials = manager.credentials;
+        authorization = manager.authorization;
+        delegatedRequestInitializer = manager.delegatedRequestInitializer;
+        config = manager.config;
+        clientId = manager.clientId;
+        clientSecret = manager.clientSecret;
+        userId = manager.userId;
+        accessType = manager.accessType;
+        approvalPrompt = manager.approvalPrompt;
+        port = manager.port;
+        host = manager.host;
+        callBackPath = manager.callBackPath;
+        scopes = manager.scopes;
+    }
+
     /**
      * Method to change a project to work on with {@code GoogleManager}'s library during runtime usage.
      *
@@ -298,43 +440,11 @@ public abstract class GoogleManager {
                                  String approvalPrompt, int port, String host, String callBackPath,
                                  Collection<String> scopes) {
         try {
-            if (accessType != null && !accessType.equals(ONLINE_ACCESS_TYPE) && !accessType.equals(OFFLINE_ACCESS_TYPE))
-                throw new IOException("Access type must be online, offline or null");
-            if (approvalPrompt != null && !approvalPrompt.equals(FORCE_APPROVAL_PROMPT) &&
-                    !approvalPrompt.equals(AUTO_APPROVAL_PROMPT)) {
-                throw new IOException("Approval prompt must be force, auto or null");
-            }
-            if (!callBackPath.contains("/"))
-                callBackPath = "/" + callBackPath;
-            this.accessType = accessType;
-            this.approvalPrompt = approvalPrompt;
-            this.scopes = scopes;
-            this.clientId = clientId;
-            this.clientSecret = clientSecret;
-            this.userId = userId;
-            this.port = port;
-            this.host = host;
-            this.callBackPath = callBackPath;
-            try {
-                createAuthCodeFlow();
-                credentials = new AuthorizationCodeInstalledApp(authCodeFlow, new LocalServerReceiver.Builder()
-                        .setPort(port).setHost(host).setCallbackPath(callBackPath).build()).authorize(userId);
-            } catch (Exception e) {
-                String errorMessage = e.getLocalizedMessage();
-                if (errorMessage.contains("invalid_grant") || errorMessage.contains("Token has been revoked")) {
-                    credentialDataStore.clear();
-                    return changeProject(clientId, clientSecret, userId, accessType, approvalPrompt, port, host,
-                            callBackPath, scopes);
-                }
-            }
-            properties.setProperty("clientId", clientId);
-            properties.setProperty("clientSecret", clientSecret);
-            properties.setProperty("userId", userId);
-            properties.setProperty("accessType", accessType);
-            properties.setProperty("approvalPrompt", approvalPrompt);
-            properties.setProperty("port", String.valueOf(port));
-            properties.setProperty("host", host);
-            properties.setProperty("callBackPath", callBackPath);
+            setProject(clientId, clientSecret, userId, accessType, approvalPrompt, port, host, callBackPath, scopes);
+            credentials = authorize();
+            authorization = new Authorization(credentials);
+            delegatedRequestInitializer = null;
+            lastConfig = config;
         } catch (IOException e) {
             e.printStackTrace();
             return false;
@@ -342,6 +452,183 @@ public abstract class GoogleManager {
         return true;
     }
 
+    /**
+     * Method to set the project to work on, without performing the auth request
+     *
+     * @param clientId:       client identifier value
+     * @param clientSecret:   client secret value
+     * @param userId:         used to identifier a user -> me to use an authenticated user
+     * @param accessType:     access type used in the auth operations
+     * @param approvalPrompt: approval prompt type used in the auth operations
+     * @param port:           port used in the auth operations
+     * @param host:           host used in the auth operations
+     * @param callBackPath:   callback path used in the auth operations
+     * @param scopes:         collection of {@link String} for scopes
+     * @throws IOException when some params are not correct
+     **/
+    private void setProject(String clientId, String clientSecret, String userId, String accessType,
+                            String approvalPrompt, int port, String host, String callBackPath,
+                            Collection<String> scopes) throws IOException {
+        if (accessType != null && !accessType.equals(ONLINE_ACCESS_TYPE) && !accessType.equals(OFFLINE_ACCESS_TYPE))
+            throw new IOException("Access type must be online, offline or null");
+        if (approvalPrompt != null && !approvalPrompt.equals(FORCE_APPROVAL_PROMPT) &&
+                !approvalPrompt.equals(AUTO_APPROVAL_PROMPT)) {
+            throw new IOException("Approval prompt must be force, auto or null");
+        }
+        if (!callBackPath.contains("/"))
+            callBackPath = "/" + callBackPath;
+        this.accessType = accessType;
+        this.approvalPrompt = approvalPrompt;
+        this.scopes = scopes;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.userId = userId;
+        this.port = port;
+        this.host = host;
+        this.callBackPath = callBackPath;
+        if (credentialDataStore == null)
+            credentialDataStore = getDefaultCredentialDataStore();
+        createAuthCodeFlow();
+        config = new GoogleConfig(clientId, clientSecret, userId, accessType, approvalPrompt, port, host,
+                callBackPath, config != null ? config.getApplicationName() : null,
+                config != null ? config.getAuthorizationMode() : AuthorizationMode.EAGER);
+    }
+
+    /**
+     * Method to perform the auth request of the project set <br>
+     * Any params required
+     *
+     * @return credentials as {@link Credential}
+     * @throws IOException when auth request has been go wrong
+     **/
+    private Credential authorize() throws IOException {
+        try {
+            return new AuthorizationCodeInstalledApp(authCodeFlow, new LocalServerReceiver.Builder()
+                    .setPort(port).setHost(host).setCallbackPath(callBackPath).build()).authorize(userId);
+        } catch (IOException e) {
+            String errorMessage = e.getLocalizedMessage();
+            if (errorMessage != null && (errorMessage.contains("invalid_grant") ||
+                    errorMessage.contains("Token has been revoked"))) {
+                credentialDataStore.delete(userId);
+                return authorize();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Method to start in background the auth request, if it has not been started yet <br>
+     * Any params required
+     *
+     * @return credentials as {@link CompletableFuture} of {@link Credential}
+     * @apiNote useful with {@link AuthorizationMode#LAZY} to warm-up the manager before its first request
+     **/
+    public CompletableFuture<Credential> authorizeAsync() {
+        return authorizeAsync(AUTHORIZATION_EXECUTOR);
+    }
+
+    /**
+     * Method to start in background the auth request, if it has not been started yet
+     *
+     * @param executor: the executor where perform the auth request
+     * @return credentials as {@link CompletableFuture} of {@link Credential}
+     * @apiNote useful with {@link AuthorizationMode#LAZY} to warm-up the manager before its first request
+     **/
+    public CompletableFuture<Credential> authorizeAsync(Executor executor) {
+        Authorization authorization = this.authorization;
+        if (authorization.start())
+            executor.execute(() -> completeAuthorization(authorization));
+        return authorization.credentials;
+    }
+
+    /**
+     * Method to start in background the auth requests of many managers at the same time
+     *
+     * @param managers: the managers to authorize
+     * @return completion of all the auth requests as {@link CompletableFuture}
+     **/
+    public static CompletableFuture<Void> authorizeAll(Collection<? extends GoogleManager> managers) {
+        return CompletableFuture.allOf(managers.stream().map(GoogleManager::authorizeAsync)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Method to wait the {@link #credentials}, if the auth request has not been started yet it will be performed on
+     * the current thread <br>
+     * Any params required
+     *
+     * @return credentials as {@link Credential}
+     * @throws IOException when auth request has been go wrong
+     **/
+    public Credential awaitCredentials() throws IOException {
+        Authorization authorization = this.authorization;
+        if (authorization.start())
+            completeAuthorization(authorization);
+        try {
+            return authorization.credentials.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Method to check whether the {@link #credentials} have been resolved <br>
+     * Any params required
+     *
+     * @return whether the {@link #credentials} have been resolved as boolean
+     **/
+    public boolean isAuthorized() {
+        CompletableFuture<Credential> credentials = authorization.credentials;
+        return credentials.isDone() && !credentials.isCompletedExceptionally();
+    }
+
+    /**
+     * Method to perform the auth request and complete an {@link Authorization}
+     *
+     * @param authorization: the authorization to complete
+     **/
+    private void completeAuthorization(Authorization authorization) {
+        try {
+            credentials = authorize();
+            authorization.credentials.complete(credentials);
+        } catch (Throwable e) {
+            authorization.credentials.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Method to get the {@link HttpRequestInitializer} to use in the requests of this manager <br>
+     * Any params required
+     *
+     * @return request initializer as {@link HttpRequestInitializer}
+     * @apiNote the {@link #credentials} are resolved at the first request, so the manager can be built without waiting
+     * the auth request. The timeouts set with {@link #setDefaultTimeouts(int, int)} are applied to the request
+     **/
+    protected HttpRequestInitializer getRequestInitializer() {
+        return request -> {
+            request.setConnectTimeout(defaultConnectTimeout)
+                    .setReadTimeout(defaultReadTimeout);
+            HttpRequestInitializer delegatedRequestInitializer = this.delegatedRequestInitializer;
+            if (delegatedRequestInitializer != null)
+                delegatedRequestInitializer.initialize(request);
+            else
+                awaitCredentials().initialize(request);
+        };
+    }
+
+    /**
+     * Method to check whether the manager impersonates {@link #userId} with a service account <br>
+     * Any params required
+     *
+     * @return whether the manager impersonates {@link #userId} with a service account as boolean
+     **/
+    public boolean isDelegated() {
+        return delegatedRequestInitializer != null;
+    }
+
     /**
      * Method to change a project to work on with {@code GoogleManager}'s library during runtime usage.
      *
@@ -419,12 +706,120 @@ public abstract class GoogleManager {
                 DEFAULT_CALLBACK_PATH, scopes);
     }
 
+    /**
+     * Method to get the configuration of the last manager authorized <br>
+     * Any params required
+     *
+     * @return configuration as {@link GoogleConfig}
+     * @throws IOException when any manager has been authorized yet
+     **/
+    protected static GoogleConfig getLastConfig() throws IOException {
+        GoogleConfig config = lastConfig;
+        if (config == null)
+            throw new IOException("You need to call a parameterized constructor first of this or invalid clientId inserted");
+        return config;
+    }
+
+    /**
+     * Method to set the data store used by the managers created after this call to memorize their credentials
+     *
+     * @param credentialDataStore: the data store to use, for example a {@link FileDataStoreFactory}'s data store or,
+     *                             to store the credentials of many users, an {@link AppendOnlyDataStoreFactory}'s
+     *                             data store
+     * @apiNote the managers already created keep to use their data store
+     **/
+    public static void setDefaultCredentialDataStore(DataStore<StoredCredential> credentialDataStore) {
+        if (credentialDataStore == null)
+            throw new IllegalArgumentException("Credential data store cannot be null");
+        defaultCredentialDataStore = credentialDataStore;
+    }
+
+    /**
+     * Method to get the data store used by the new managers to memorize their credentials <br>
+     * Any params required
+     *
+     * @return data store as {@link DataStore} of {@link StoredCredential}
+     * @throws IOException when the default data store cannot be created
+     **/
+    public static DataStore<StoredCredential> getDefaultCredentialDataStore() throws IOException {
+        DataStore<StoredCredential> dataStore = defaultCredentialDataStore;
+        if (dataStore == null) {
+            synchronized (GoogleManager.class) {
+                dataStore = defaultCredentialDataStore;
+                if (dataStore == null) {
+                    defaultCredentialDataStore = dataStore = new FileDataStoreFactory(
+                            new File(DEFAULT_CREDENTIALS_DIRECTORY)).getDataStore(CREDENTIAL_DATA_STORE_ID);
+                }
+            }
+        }
+        return dataStore;
+    }
+
+    /**
+     * Method to set the transport shared by the managers created after this call
+     *
+     * @param httpTransport: the transport to use, for example one created by {@link PooledHttpTransport} to send the
+     *                       requests of all the managers through a single pool of keep-alive connections
+     * @apiNote the managers already created keep to use their transport
+     **/
+    public static void setDefaultHttpTransport(HttpTransport httpTransport) {
+        defaultHttpTransport = httpTransport;
+    }
+
+    /**
+     * Method to get the transport to use for a new manager <br>
+     * Any params required
+     *
+     * @return the transport set with {@link #setDefaultHttpTransport(HttpTransport)} if set, a new
+     * {@link NetHttpTransport} otherwise, as {@link HttpTransport}
+     **/
+    public static HttpTransport getDefaultHttpTransport() {
+        HttpTransport httpTransport = defaultHttpTransport;
+        if (httpTransport == null)
+            return new NetHttpTransport();
+        return httpTransport;
+    }
+
+    /**
+     * Method to set the timeouts of the requests of all the managers
+     *
+     * @param connectTimeout: connect timeout in milliseconds, 0 for an infinite timeout
+     * @param readTimeout:    read timeout in milliseconds, 0 for an infinite timeout
+     * @apiNote the timeouts apply also to the managers already created, from their next request
+     **/
+    public static void setDefaultTimeouts(int connectTimeout, int readTimeout) {
+        if (connectTimeout < 0 || readTimeout < 0)
+            throw new IllegalArgumentException("Timeouts cannot be negative");
+        defaultConnectTimeout = connectTimeout;
+        defaultReadTimeout = readTimeout;
+    }
+
+    /**
+     * Method to get {@link #defaultConnectTimeout} instance <br>
+     * Any params required
+     *
+     * @return {@link #defaultConnectTimeout} instance as int
+     **/
+    public static int getDefaultConnectTimeout() {
+        return defaultConnectTimeout;
+    }
+
+    /**
+     * Method to get {@link #defaultReadTimeout} instance <br>
+     * Any params required
+     *
+     * @return {@link #defaultReadTimeout} instance as int
+     **/
+    public static int getDefaultReadTimeout() {
+        return defaultReadTimeout;
+    }
+
     /**
      * Method to instantiate {@link #authCodeFlow} <br>
      * Any params required
      **/
     private void createAuthCodeFlow() {
-        authCodeFlow = new Builder(netHttpTransport, gsonFactory, clientId, clientSecret, scopes)
+        authCodeFlow = new Builder(httpTransport, gsonFactory, clientId, clientSecret, scopes)
                 .setAccessType(accessType)
                 .setApprovalPrompt(approvalPrompt)
                 .setCredentialDataStore(credentialDataStore)
@@ -438,31 +833,36 @@ public abstract class GoogleManager {
      * @apiNote useful for example for {@code "backend"} use, because the token expires and with this method
      * it will be automatically refreshed allowing to continue the workflow with {@code "Google"}'s
      * services, {@link #accessType} will be set as {@link #OFFLINE_ACCESS_TYPE} and {@link #approvalPrompt} will be set
-     * as {@link #FORCE_APPROVAL_PROMPT} to perform the auto refresh
+     * as {@link #FORCE_APPROVAL_PROMPT} to perform the auto refresh. The refresh will be performed by the
+     * {@link TokenRefreshScheduler#getSharedScheduler()} shared by all the managers
      **/
     public void enableTokenAutoRefreshing() {
-        if (!tokenAutoRefreshing) {
+        enableTokenAutoRefreshing(TokenRefreshScheduler.getSharedScheduler());
+    }
+
+    /**
+     * Method to enable the auto refreshing of refresh token for {@link #credentials} instance
+     *
+     * @param refreshScheduler: the scheduler to use to refresh the token shortly before it expires
+     * @apiNote useful for example for {@code "backend"} use, because the token expires and with this method
+     * it will be automatically refreshed allowing to continue the workflow with {@code "Google"}'s
+     * services, {@link #accessType} will be set as {@link #OFFLINE_ACCESS_TYPE} and {@link #approvalPrompt} will be set
+     * as {@link #FORCE_APPROVAL_PROMPT} to perform the auto refresh. The managers that impersonate a user with a
+     * service account do not need it, their token is refreshed at the first request after it expires
+     **/
+    public synchronized void enableTokenAutoRefreshing(TokenRefreshScheduler refreshScheduler) {
+        if (!tokenAutoRefreshing && !isDelegated()) {
             if (authCodeFlow.getAccessType().equals(ONLINE_ACCESS_TYPE) ||
                     authCodeFlow.getApprovalPrompt().equals(AUTO_APPROVAL_PROMPT)) {
                 accessType = OFFLINE_ACCESS_TYPE;
                 approvalPrompt = FORCE_APPROVAL_PROMPT;
                 createAuthCodeFlow();
             }
+            this.refreshScheduler = refreshScheduler;
             tokenAutoRefreshing = true;
-            newSingleThreadExecutor().execute(() -> {
-                while (tokenAutoRefreshing) {
-                    try {
-                        if (System.currentTimeMillis() >= credentials.getExpirationTimeMilliseconds()) {
-                            credentials.refreshToken();
-                            credentials.setAccessToken(new GoogleRefreshTokenRequest(netHttpTransport, gsonFactory,
-                                    credentials.getRefreshToken(), clientId, clientSecret).setScopes(scopes)
-                                    .setGrantType("refresh_token").execute().getAccessToken());
-                        }
-                        sleep(5000);
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
-                }
+            authorization.credentials.thenAccept(credential -> {
+                if (tokenAutoRefreshing)
+                    refreshScheduler.schedule(credential);
             });
         }
     }
@@ -470,20 +870,41 @@ public abstract class GoogleManager {
     /**
      * Method to disable the auto refreshing of refresh token for {@link #credentials} instance <br>
      * Any params required
+     *
+     * @apiNote the managers that share the same {@link #credentials} share also their auto refreshing
      **/
-    public void disableTokenAutoRefreshing() {
-        if (tokenAutoRefreshing)
+    public synchronized void disableTokenAutoRefreshing() {
+        if (tokenAutoRefreshing) {
+            Credential credential = getCredentials();
+            if (credential != null)
+                refreshScheduler.cancel(credential);
+            refreshScheduler = null;
             tokenAutoRefreshing = false;
+        }
     }
 
     /**
      * Method to get {@link #credentials} instance <br>
      * Any params required
      *
-     * @return {@link #credentials} instance as {@link Credential}
+     * @return {@link #credentials} instance as {@link Credential}, null if they have not been resolved yet or if the
+     * manager impersonates a user with a service account
+     * @apiNote to wait the {@link #credentials} use {@link #awaitCredentials()}
      **/
     public Credential getCredentials() {
-        return credentials;
+        if (!isAuthorized())
+            return null;
+        return authorization.credentials.join();
+    }
+
+    /**
+     * Method to get {@link #config} instance <br>
+     * Any params required
+     *
+     * @return {@link #config} instance as {@link GoogleConfig}
+     **/
+    public GoogleConfig getConfig() {
+        return config;
     }
 
     /**
@@ -579,12 +1000,88 @@ public abstract class GoogleManager {
      * <li>
      * LIBRARY_OBJECT -> return response formatted as custom object offered by {@code GoogleManager}'s library
      * </li>
+     * <li>
+     * RAW -> return the body of the response as {@link java.io.InputStream} without parsing it, the stream must be
+     * closed by the caller
+     * </li>
      * </ul>
      **/
     public enum ReturnFormat {
         STRING,
         JSON,
-        LIBRARY_OBJECT
+        LIBRARY_OBJECT,
+        RAW
+    }
+
+    /**
+     * List of modes offered by library to perform the auth request of a manager
+     *
+     * @apiNote <ul>
+     * <li>
+     * EAGER -> the auth request is performed by the constructor of the manager
+     * </li>
+     * <li>
+     * LAZY -> the auth request is performed at the first request of the manager or when
+     * {@link #authorizeAsync()} is invoked
+     * </li>
+     * <li>
+     * BACKGROUND -> the auth request is started in background by the constructor of the manager
+     * </li>
+     * </ul>
+     **/
+    public enum AuthorizationMode {
+        EAGER,
+        LAZY,
+        BACKGROUND
+    }
+
+    /**
+     * The {@code Authorization} class is useful to share the resolution of the credentials between a manager and
+     * its views
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class Authorization {
+
+        /**
+         * {@code credentials} the credentials resolved by the auth request
+         **/
+        private final CompletableFuture<Credential> credentials;
+
+        /**
+         * {@code started} whether the auth request has been started
+         **/
+        private final AtomicBoolean started;
+
+        /**
+         * Constructor to init an {@link Authorization} not started yet <br>
+         * Any params required
+         **/
+        private Authorization() {
+            credentials = new CompletableFuture<>();
+            started = new AtomicBoolean();
+        }
+
+        /**
+         * Constructor to init an {@link Authorization} already completed
+         *
+         * @param credentials: the credentials resolved
+         **/
+        private Authorization(Credential credentials) {
+            this.credentials = CompletableFuture.completedFuture(credentials);
+            started = new AtomicBoolean(true);
+        }
+
+        /**
+         * Method to mark the auth request as started <br>
+         * Any params required
+         *
+         * @return whether the caller has to perform the auth request as boolean
+         **/
+        private boolean start() {
+            return started.compareAndSet(false, true);
+        }
+
     }
 
 }
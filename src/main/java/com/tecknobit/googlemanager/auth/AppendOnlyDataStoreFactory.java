@@ -0,0 +1,451 @@
+package com.tecknobit.googlemanager.auth;
+
+import com.google.api.client.util.IOUtils;
+import com.google.api.client.util.store.AbstractDataStore;
+import com.google.api.client.util.store.AbstractDataStoreFactory;
+import com.google.api.client.util.store.DataStore;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * The {@code AppendOnlyDataStoreFactory} class is useful to store many credentials, for example thousands of
+ * {@code "userId"}, keeping all of them in memory and persisting each change as a record appended to a log file
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote differently from {@link com.google.api.client.util.store.FileDataStoreFactory}, that rewrites the whole
+ * file at each change, the lookups are served from memory and each change costs a single append, the log is compacted
+ * when the obsolete records become many more than the live ones. Like the other data stores, each lookup returns a new
+ * copy of the value stored, so a change to the value returned is not applied to the store until it is set again
+ **/
+public class AppendOnlyDataStoreFactory extends AbstractDataStoreFactory {
+
+    /**
+     * {@code dataDirectory} is the directory where the log files are stored
+     **/
+    private final File dataDirectory;
+
+    /**
+     * Constructor to init a {@link AppendOnlyDataStoreFactory}
+     *
+     * @param dataDirectory: the directory where the log files are stored
+     * @throws IOException when the directory cannot be created
+     **/
+    public AppendOnlyDataStoreFactory(File dataDirectory) throws IOException {
+        if (!dataDirectory.exists() && !dataDirectory.mkdirs())
+            throw new IOException("Unable to create directory: " + dataDirectory);
+        this.dataDirectory = dataDirectory;
+    }
+
+    /**
+     * Method to get {@link #dataDirectory} instance <br>
+     * Any params required
+     *
+     * @return {@link #dataDirectory} instance as {@link File}
+     **/
+    public File getDataDirectory() {
+        return dataDirectory;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    protected <V extends Serializable> DataStore<V> createDataStore(String id) throws IOException {
+        return new AppendOnlyDataStore<>(this, id);
+    }
+
+    /**
+     * The {@code AppendOnlyDataStore} class is the {@link DataStore} created by {@link AppendOnlyDataStoreFactory}
+     *
+     * @param <V> the type of the values stored
+     * @author N7ghtm4r3 - Tecknobit
+     * @apiNote the log file is a sequence of records formed by the operation, the key and, for the set operation,
+     * the serialized value
+     **/
+    private static class AppendOnlyDataStore<V extends Serializable> extends AbstractDataStore<V> {
+
+        /**
+         * {@code SET_RECORD} is a constant for the record of a set operation
+         **/
+        private static final byte SET_RECORD = 1;
+
+        /**
+         * {@code DELETE_RECORD} is a constant for the record of a delete operation
+         **/
+        private static final byte DELETE_RECORD = 2;
+
+        /**
+         * {@code MIN_COMPACTION_RECORDS} is a constant for the minimum number of records to start a compaction
+         **/
+        private static final int MIN_COMPACTION_RECORDS = 1024;
+
+        /**
+         * {@code values} is the instance used to memorize in memory the serialized values stored
+         **/
+        private final ConcurrentHashMap<String, byte[]> values;
+
+        /**
+         * {@code logFile} is the file where the records are appended
+         **/
+        private final File logFile;
+
+        /**
+         * {@code writeLock} is the instance used to serialize the appends to the {@link #logFile}
+         **/
+        private final ReentrantLock writeLock;
+
+        /**
+         * {@code log} is the stream used to append the records to the {@link #logFile}
+         **/
+        private DataOutputStream log;
+
+        /**
+         * {@code logLength} length of the records completely written in the {@link #logFile}
+         **/
+        private long logLength;
+
+        /**
+         * {@code records} number of records currently in the {@link #logFile}
+         **/
+        private int records;
+
+        /**
+         * Constructor to init a {@link AppendOnlyDataStore}
+         *
+         * @param dataStoreFactory: the factory which has created this data store
+         * @param id:               the identifier of this data store
+         * @throws IOException when the log file cannot be read or opened
+         **/
+        private AppendOnlyDataStore(AppendOnlyDataStoreFactory dataStoreFactory, String id) throws IOException {
+            super(dataStoreFactory, id);
+            values = new ConcurrentHashMap<>();
+            writeLock = new ReentrantLock();
+            logFile = new File(dataStoreFactory.getDataDirectory(), id + ".log");
+            long validLength = replay();
+            if (logFile.exists() && logFile.length() != validLength) {
+                try (RandomAccessFile file = new RandomAccessFile(logFile, "rw")) {
+                    file.setLength(validLength);
+                }
+            }
+            openLog();
+        }
+
+        /**
+         * Method to load in memory the records of the {@link #logFile} <br>
+         * Any params required
+         *
+         * @return length of the valid records read, an incomplete record at the end of the file, left by a write
+         * interrupted, is discarded
+         * @throws IOException when the log file cannot be read or is corrupted
+         **/
+        private long replay() throws IOException {
+            if (!logFile.exists())
+                return 0;
+            long fileLength = logFile.length();
+            long validLength = 0;
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(logFile)))) {
+                while (true) {
+                    byte operation = input.readByte();
+                    if (operation != SET_RECORD && operation != DELETE_RECORD)
+                        throw corrupted("unknown operation " + operation, validLength);
+                    long recordLength = 1 + 4;
+                    byte[] key = readBytes(input, fileLength - validLength - recordLength, validLength);
+                    recordLength += key.length;
+                    if (operation == SET_RECORD) {
+                        recordLength += 4;
+                        byte[] value = readBytes(input, fileLength - validLength - recordLength, validLength);
+                        values.put(new String(key, UTF_8), value);
+                        recordLength += value.length;
+                    } else
+                        values.remove(new String(key, UTF_8));
+                    validLength += recordLength;
+                    records++;
+                }
+            } catch (EOFException ignored) {
+            }
+            return validLength;
+        }
+
+        /**
+         * Method to read a field of a record formed by its length and its bytes
+         *
+         * @param input:        the stream from which read the field
+         * @param available:    the number of bytes of the file after the length of the field
+         * @param recordOffset: the offset of the record in the file
+         * @return the bytes of the field as array of byte
+         * @throws EOFException when the field is incomplete, because the record has been interrupted
+         * @throws IOException  when the length of the field is not valid
+         **/
+        private byte[] readBytes(DataInputStream input, long available, long recordOffset) throws IOException {
+            int length = input.readInt();
+            if (length < 0)
+                throw corrupted("negative length " + length, recordOffset);
+            if (length > available)
+                throw new EOFException();
+            byte[] bytes = new byte[length];
+            input.readFully(bytes);
+            return bytes;
+        }
+
+        /**
+         * Method to create the exception thrown when the {@link #logFile} is corrupted
+         *
+         * @param reason:       the reason of the corruption
+         * @param recordOffset: the offset of the corrupted record in the file
+         * @return the exception as {@link IOException}
+         **/
+        private IOException corrupted(String reason, long recordOffset) {
+            return new IOException("Corrupted log file " + logFile + ": " + reason + " in the record at offset "
+                    + recordOffset);
+        }
+
+        /**
+         * Method to open the {@link #log} stream in append mode <br>
+         * Any params required
+         *
+         * @throws IOException when the log file cannot be opened
+         **/
+        private void openLog() throws IOException {
+            logLength = logFile.length();
+            log = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFile, true)));
+        }
+
+        /**
+         * Method to append a record to the {@link #logFile}
+         *
+         * @param operation: the operation of the record
+         * @param key:       the key of the record
+         * @param value:     the serialized value of the record, null for the delete operation
+         * @throws IOException when the record cannot be written
+         * @apiNote when the record cannot be written the part of it already written is removed, so the next records
+         * are not appended after an incomplete one
+         **/
+        private void append(byte operation, String key, byte[] value) throws IOException {
+            long recordLength;
+            try {
+                recordLength = writeRecord(log, operation, key, value);
+                log.flush();
+            } catch (IOException e) {
+                try {
+                    truncateLog();
+                } catch (IOException truncateError) {
+                    e.addSuppressed(truncateError);
+                }
+                throw e;
+            }
+            logLength += recordLength;
+            records++;
+        }
+
+        /**
+         * Method to remove from the {@link #logFile} the part of a record not completely written <br>
+         * Any params required
+         *
+         * @throws IOException when the log file cannot be truncated or opened again
+         **/
+        private void truncateLog() throws IOException {
+            try {
+                log.close();
+            } catch (IOException ignored) {
+            }
+            try (RandomAccessFile file = new RandomAccessFile(logFile, "rw")) {
+                file.setLength(logLength);
+            }
+            openLog();
+        }
+
+        /**
+         * Method to write a record
+         *
+         * @param output:    the stream where write the record
+         * @param operation: the operation of the record
+         * @param key:       the key of the record
+         * @param value:     the serialized value of the record, null for the delete operation
+         * @return length of the record written as long
+         * @throws IOException when the record cannot be written
+         **/
+        private static long writeRecord(DataOutputStream output, byte operation, String key,
+                                        byte[] value) throws IOException {
+            byte[] keyBytes = key.getBytes(UTF_8);
+            output.writeByte(operation);
+            output.writeInt(keyBytes.length);
+            output.write(keyBytes);
+            long recordLength = 1 + Integer.BYTES + keyBytes.length;
+            if (value != null) {
+                output.writeInt(value.length);
+                output.write(value);
+                recordLength += Integer.BYTES + value.length;
+            }
+            return recordLength;
+        }
+
+        /**
+         * Method to rewrite the {@link #logFile} with only the live values, when the obsolete records are too many <br>
+         * Any params required
+         *
+         * @throws IOException when the log file cannot be rewritten
+         **/
+        private void compactIfNeeded() throws IOException {
+            if (records < MIN_COMPACTION_RECORDS || records < values.size() * 2)
+                return;
+            File compactedFile = new File(logFile.getParentFile(), logFile.getName() + ".compact");
+            int compactedRecords = 0;
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(compactedFile)))) {
+                for (Map.Entry<String, byte[]> entry : values.entrySet()) {
+                    writeRecord(output, SET_RECORD, entry.getKey(), entry.getValue());
+                    compactedRecords++;
+                }
+            }
+            log.close();
+            try {
+                try {
+                    Files.move(compactedFile.toPath(), logFile.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(compactedFile.toPath(), logFile.toPath(), REPLACE_EXISTING);
+                }
+                records = compactedRecords;
+            } finally {
+                Files.deleteIfExists(compactedFile.toPath());
+                openLog();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public Set<String> keySet() {
+            return Collections.unmodifiableSet(values.keySet());
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public Collection<V> values() throws IOException {
+            ArrayList<V> copies = new ArrayList<>(values.size());
+            for (byte[] value : values.values())
+                copies.add(IOUtils.deserialize(value));
+            return Collections.unmodifiableList(copies);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @apiNote the value is deserialized from memory, so each call returns a new copy
+         **/
+        @Override
+        public V get(String key) throws IOException {
+            if (key == null)
+                return null;
+            byte[] value = values.get(key);
+            return value != null ? IOUtils.deserialize(value) : null;
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public DataStore<V> set(String key, V value) throws IOException {
+            if (key == null || value == null)
+                throw new IllegalArgumentException("Key and value cannot be null");
+            byte[] serializedValue = IOUtils.serialize(value);
+            writeLock.lock();
+            try {
+                append(SET_RECORD, key, serializedValue);
+                values.put(key, serializedValue);
+                compactIfNeeded();
+            } finally {
+                writeLock.unlock();
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public DataStore<V> clear() throws IOException {
+            writeLock.lock();
+            try {
+                log.close();
+                values.clear();
+                new FileOutputStream(logFile).close();
+                records = 0;
+                openLog();
+            } finally {
+                writeLock.unlock();
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public DataStore<V> delete(String key) throws IOException {
+            if (key == null)
+                return this;
+            writeLock.lock();
+            try {
+                if (values.containsKey(key)) {
+                    append(DELETE_RECORD, key, null);
+                    values.remove(key);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public boolean containsKey(String key) {
+            return key != null && values.containsKey(key);
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public boolean containsValue(V value) throws IOException {
+            if (value == null)
+                return false;
+            byte[] serializedValue = IOUtils.serialize(value);
+            for (byte[] storedValue : values.values())
+                if (Arrays.equals(serializedValue, storedValue))
+                    return true;
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public boolean isEmpty() {
+            return values.isEmpty();
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+    }
+
+}
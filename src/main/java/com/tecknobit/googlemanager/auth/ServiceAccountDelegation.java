@@ -0,0 +1,164 @@
+package com.tecknobit.googlemanager.auth;
+
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.auth.http.HttpCredentialsAdapter;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.auth.oauth2.ServiceAccountCredentials;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code ServiceAccountDelegation} class is useful to impersonate the users of a Google Workspace's domain with a
+ * service account with the domain-wide delegation enabled, without any auth request from the browser
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the same instance can be shared between all the managers of a process, a single key is used to sign the
+ * token requests of all the users and the credentials of each user are cached, so its access token is reused until
+ * it expires:
+ * <pre>
+ *     {@code
+ *        ServiceAccountDelegation delegation = new ServiceAccountDelegation("service_account.json");
+ *        GmailMessagesManager firstManager = new GmailMessagesManager(delegation, "first@domain.com",
+ *                 "application_name");
+ *        GmailMessagesManager secondManager = new GmailMessagesManager(delegation, "second@domain.com",
+ *                 "application_name");
+ *     }
+ * </pre>
+ **/
+public class ServiceAccountDelegation {
+
+    /**
+     * {@code serviceAccount} is the instance of the service account used to sign the token requests
+     **/
+    private final ServiceAccountCredentials serviceAccount;
+
+    /**
+     * {@code scopedCredentials} is the instance used to memorize the credentials of the service account for each
+     * collection of scopes
+     **/
+    private final ConcurrentHashMap<Set<String>, GoogleCredentials> scopedCredentials;
+
+    /**
+     * {@code delegatedCredentials} is the instance used to memorize the credentials of each subject impersonated for
+     * each collection of scopes
+     **/
+    private final ConcurrentHashMap<Set<String>, ConcurrentHashMap<String, GoogleCredentials>> delegatedCredentials;
+
+    /**
+     * Constructor to init a {@link ServiceAccountDelegation}
+     *
+     * @param serviceAccount: the instance of the service account used to sign the token requests
+     **/
+    public ServiceAccountDelegation(ServiceAccountCredentials serviceAccount) {
+        this.serviceAccount = serviceAccount;
+        scopedCredentials = new ConcurrentHashMap<>();
+        delegatedCredentials = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Constructor to init a {@link ServiceAccountDelegation}
+     *
+     * @param keyStream: the stream of the JSON key of the service account
+     * @throws IOException when the key cannot be read
+     **/
+    public ServiceAccountDelegation(InputStream keyStream) throws IOException {
+        this(ServiceAccountCredentials.fromStream(keyStream));
+    }
+
+    /**
+     * Constructor to init a {@link ServiceAccountDelegation}
+     *
+     * @param keyPath: the path of the JSON key of the service account
+     * @throws IOException when the key cannot be read
+     **/
+    public ServiceAccountDelegation(String keyPath) throws IOException {
+        this(readKey(keyPath));
+    }
+
+    /**
+     * Method to read the key of the service account
+     *
+     * @param keyPath: the path of the JSON key of the service account
+     * @return the service account as {@link ServiceAccountCredentials}
+     * @throws IOException when the key cannot be read
+     **/
+    private static ServiceAccountCredentials readKey(String keyPath) throws IOException {
+        try (InputStream keyStream = new FileInputStream(keyPath)) {
+            return ServiceAccountCredentials.fromStream(keyStream);
+        }
+    }
+
+    /**
+     * Method to get {@link #serviceAccount} instance <br>
+     * Any params required
+     *
+     * @return {@link #serviceAccount} instance as {@link ServiceAccountCredentials}
+     **/
+    public ServiceAccountCredentials getServiceAccount() {
+        return serviceAccount;
+    }
+
+    /**
+     * Method to get the credentials to impersonate a subject
+     *
+     * @param subject: the email of the user to impersonate
+     * @param scopes:  collection of {@link String} for scopes
+     * @return credentials as {@link GoogleCredentials}
+     * @apiNote the credentials are created once for each subject, so the access token is requested only when it is
+     * expired
+     **/
+    public GoogleCredentials getDelegatedCredentials(String subject, Collection<String> scopes) {
+        Set<String> scopesKey = Set.copyOf(scopes);
+        return delegatedCredentials.computeIfAbsent(scopesKey, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(subject, key -> scopedCredentials.computeIfAbsent(scopesKey,
+                        serviceAccount::createScoped).createDelegated(subject));
+    }
+
+    /**
+     * Method to get the {@link HttpRequestInitializer} to authorize the requests on behalf of a subject
+     *
+     * @param subject: the email of the user to impersonate
+     * @param scopes:  collection of {@link String} for scopes
+     * @return request initializer as {@link HttpRequestInitializer}
+     **/
+    public HttpRequestInitializer getRequestInitializer(String subject, Collection<String> scopes) {
+        return new HttpCredentialsAdapter(getDelegatedCredentials(subject, scopes));
+    }
+
+    /**
+     * Method to remove from the cache the credentials of a subject
+     *
+     * @param subject: the email of the user to remove
+     **/
+    public void evict(String subject) {
+        for (ConcurrentHashMap<String, GoogleCredentials> subjects : delegatedCredentials.values())
+            subjects.remove(subject);
+    }
+
+    /**
+     * Method to remove from the cache the credentials of all the subjects <br>
+     * Any params required
+     **/
+    public void clear() {
+        delegatedCredentials.clear();
+    }
+
+    /**
+     * Method to get the number of subjects currently cached <br>
+     * Any params required
+     *
+     * @return number of subjects currently cached as int
+     **/
+    public int getCachedSubjectsCount() {
+        int count = 0;
+        for (ConcurrentHashMap<String, GoogleCredentials> subjects : delegatedCredentials.values())
+            count += subjects.size();
+        return count;
+    }
+
+}
@@ -0,0 +1,290 @@
+package com.tecknobit.googlemanager.auth;
+
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.auth.oauth2.TokenErrorResponse;
+import com.google.api.client.auth.oauth2.TokenResponseException;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The {@code TokenRefreshScheduler} class is useful to refresh the tokens of many {@link Credential} shortly before
+ * they expire, sharing the same few threads between all the accounts of the JVM
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote each refresh is scheduled at the expiration time of the token minus {@link #refreshAhead} and minus a random
+ * jitter up to {@link #maxJitter}, so the refreshes of many accounts do not fire together. The refresh is performed
+ * with {@link Credential#refreshToken()} that swaps the access token and its expiration under the lock of the
+ * credential, so the concurrent requests see the old or the new token, never a mix of the two
+ **/
+public class TokenRefreshScheduler {
+
+    /**
+     * {@code DEFAULT_REFRESH_AHEAD} is a constant for default milliseconds before the expiration to refresh a token
+     **/
+    public static final long DEFAULT_REFRESH_AHEAD = SECONDS.toMillis(60);
+
+    /**
+     * {@code DEFAULT_MAX_JITTER} is a constant for default maximum random jitter in milliseconds of each refresh
+     **/
+    public static final long DEFAULT_MAX_JITTER = SECONDS.toMillis(30);
+
+    /**
+     * {@code DEFAULT_MAX_CONCURRENT_REFRESHES} is a constant for default maximum number of refreshes at the same time
+     **/
+    public static final int DEFAULT_MAX_CONCURRENT_REFRESHES = 4;
+
+    /**
+     * {@code RETRY_DELAY} is a constant for milliseconds to wait before retry a failed refresh
+     **/
+    private static final long RETRY_DELAY = SECONDS.toMillis(15);
+
+    /**
+     * {@code PERMANENT_ERRORS} is a constant for the errors of the token endpoint that a retry cannot fix
+     **/
+    private static final Set<String> PERMANENT_ERRORS = Set.of("invalid_grant", "invalid_client", "unauthorized_client",
+            "unsupported_grant_type", "invalid_scope");
+
+    /**
+     * {@code sharedScheduler} is the instance shared by all the managers of the JVM
+     **/
+    private static volatile TokenRefreshScheduler sharedScheduler;
+
+    /**
+     * {@code executor} is the instance used to schedule and to execute the refreshes
+     **/
+    private final ScheduledThreadPoolExecutor executor;
+
+    /**
+     * {@code refreshes} is the instance used to memorize the refresh scheduled for each credential
+     **/
+    private final ConcurrentHashMap<Credential, ScheduledFuture<?>> refreshes;
+
+    /**
+     * {@code rejections} is the instance used to memorize the error that has stopped the refreshing of each credential
+     **/
+    private final ConcurrentHashMap<Credential, TokenResponseException> rejections;
+
+    /**
+     * {@code refreshAhead} milliseconds before the expiration to refresh a token
+     **/
+    private final long refreshAhead;
+
+    /**
+     * {@code maxJitter} maximum random jitter in milliseconds of each refresh
+     **/
+    private final long maxJitter;
+
+    /**
+     * Constructor to init a {@link TokenRefreshScheduler}
+     *
+     * @param refreshAhead:           milliseconds before the expiration to refresh a token
+     * @param maxJitter:              maximum random jitter in milliseconds of each refresh
+     * @param maxConcurrentRefreshes: maximum number of refreshes at the same time
+     **/
+    public TokenRefreshScheduler(long refreshAhead, long maxJitter, int maxConcurrentRefreshes) {
+        if (refreshAhead < 0 || maxJitter < 0)
+            throw new IllegalArgumentException("Refresh ahead and max jitter cannot be negative");
+        if (maxConcurrentRefreshes < 1)
+            throw new IllegalArgumentException("Max concurrent refreshes must be at least 1");
+        this.refreshAhead = refreshAhead;
+        this.maxJitter = maxJitter;
+        refreshes = new ConcurrentHashMap<>();
+        rejections = new ConcurrentHashMap<>();
+        AtomicInteger threads = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "google-token-refresher-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executor = new ScheduledThreadPoolExecutor(maxConcurrentRefreshes, threadFactory);
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Constructor to init a {@link TokenRefreshScheduler} <br>
+     * Any params required
+     *
+     * @apiNote will be used {@link #DEFAULT_REFRESH_AHEAD}, {@link #DEFAULT_MAX_JITTER} and
+     * {@link #DEFAULT_MAX_CONCURRENT_REFRESHES}
+     **/
+    public TokenRefreshScheduler() {
+        this(DEFAULT_REFRESH_AHEAD, DEFAULT_MAX_JITTER, DEFAULT_MAX_CONCURRENT_REFRESHES);
+    }
+
+    /**
+     * Method to get the {@link TokenRefreshScheduler} shared by all the managers of the JVM <br>
+     * Any params required
+     *
+     * @return shared scheduler as {@link TokenRefreshScheduler}
+     * @apiNote if the shared scheduler has been shut down a new one will be created
+     **/
+    public static TokenRefreshScheduler getSharedScheduler() {
+        TokenRefreshScheduler scheduler = sharedScheduler;
+        if (scheduler == null || scheduler.isShutdown()) {
+            synchronized (TokenRefreshScheduler.class) {
+                scheduler = sharedScheduler;
+                if (scheduler == null || scheduler.isShutdown())
+                    sharedScheduler = scheduler = new TokenRefreshScheduler();
+            }
+        }
+        return scheduler;
+    }
+
+    /**
+     * Method to schedule the auto refreshing of a credential
+     *
+     * @param credential: credential to keep refreshed
+     * @apiNote if the credential is already scheduled it will not be scheduled again, the error that has stopped its
+     * previous refreshing, if any, is discarded
+     **/
+    public void schedule(Credential credential) {
+        rejections.remove(credential);
+        refreshes.computeIfAbsent(credential, key -> executor.schedule(() -> refresh(key), computeDelay(key),
+                MILLISECONDS));
+    }
+
+    /**
+     * Method to stop the auto refreshing of a credential
+     *
+     * @param credential: credential to stop to refresh
+     **/
+    public void cancel(Credential credential) {
+        ScheduledFuture<?> refresh = refreshes.remove(credential);
+        if (refresh != null)
+            refresh.cancel(false);
+    }
+
+    /**
+     * Method to check whether a credential is scheduled
+     *
+     * @param credential: credential to check
+     * @return whether the credential is scheduled as boolean
+     **/
+    public boolean isScheduled(Credential credential) {
+        return refreshes.containsKey(credential);
+    }
+
+    /**
+     * Method to get the error that has stopped the auto refreshing of a credential
+     *
+     * @param credential: credential to check
+     * @return the error returned by the token endpoint as {@link TokenResponseException}, null if the refreshing of
+     * the credential has not been stopped by an error
+     * @apiNote when the refresh token has been rejected, for example because it has been revoked, the credential needs
+     * to be authorized again and then scheduled with {@link #schedule(Credential)}
+     **/
+    public TokenResponseException getRejection(Credential credential) {
+        return rejections.get(credential);
+    }
+
+    /**
+     * Method to get the number of credentials scheduled <br>
+     * Any params required
+     *
+     * @return number of credentials scheduled as int
+     **/
+    public int getScheduledCount() {
+        return refreshes.size();
+    }
+
+    /**
+     * Method to stop all the refreshes and release the threads of this scheduler <br>
+     * Any params required
+     **/
+    public void shutdown() {
+        executor.shutdownNow();
+        refreshes.clear();
+    }
+
+    /**
+     * Method to check whether this scheduler has been shut down <br>
+     * Any params required
+     *
+     * @return whether this scheduler has been shut down as boolean
+     **/
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Method to refresh a credential and to schedule its next refresh
+     *
+     * @param credential: credential to refresh
+     * @apiNote when the token endpoint rejects the refresh token, for example because it has been revoked, the
+     * credential is not scheduled anymore, because each next refresh would fail in the same way, and the error is
+     * available with {@link #getRejection(Credential)}
+     **/
+    private void refresh(Credential credential) {
+        long nextDelay;
+        try {
+            if (credential.refreshToken())
+                nextDelay = computeDelay(credential);
+            else
+                nextDelay = RETRY_DELAY;
+        } catch (TokenResponseException e) {
+            if (isPermanent(e)) {
+                rejections.put(credential, e);
+                cancel(credential);
+                e.printStackTrace();
+                return;
+            }
+            e.printStackTrace();
+            nextDelay = RETRY_DELAY;
+        } catch (Exception e) {
+            e.printStackTrace();
+            nextDelay = RETRY_DELAY;
+        }
+        reschedule(credential, nextDelay);
+    }
+
+    /**
+     * Method to check whether a failed refresh cannot be fixed by a retry
+     *
+     * @param exception: exception thrown by the token endpoint
+     * @return whether the failure is permanent as boolean
+     **/
+    private static boolean isPermanent(TokenResponseException exception) {
+        TokenErrorResponse details = exception.getDetails();
+        return details != null && PERMANENT_ERRORS.contains(details.getError());
+    }
+
+    /**
+     * Method to schedule the next refresh of a credential
+     *
+     * @param credential: credential to refresh
+     * @param delay:      milliseconds to wait before the refresh
+     **/
+    private void reschedule(Credential credential, long delay) {
+        refreshes.computeIfPresent(credential, (key, previous) -> {
+            if (executor.isShutdown())
+                return null;
+            return executor.schedule(() -> refresh(key), delay, MILLISECONDS);
+        });
+    }
+
+    /**
+     * Method to compute the milliseconds to wait before the refresh of a credential
+     *
+     * @param credential: credential to refresh
+     * @return milliseconds to wait as long
+     * @apiNote the delay is never lower than {@link #RETRY_DELAY}, so a token without expiration or with a lifetime
+     * shorter than {@link #refreshAhead} does not cause a loop of refreshes
+     **/
+    private long computeDelay(Credential credential) {
+        Long expiresIn = credential.getExpiresInSeconds();
+        if (expiresIn == null)
+            return RETRY_DELAY;
+        long jitter = maxJitter > 0 ? current().nextLong(maxJitter) : 0;
+        return Math.max(RETRY_DELAY, SECONDS.toMillis(expiresIn) - refreshAhead - jitter);
+    }
+
+}
@@ -0,0 +1,406 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.http.HttpExecuteInterceptor;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.services.gmail.GmailRequest;
+import com.tecknobit.googlemanager.http.AbortHandle;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The {@code GmailHedgingPolicy} class is useful to reduce the tail latency of the {@code "GET"} requests sending a
+ * duplicate of the requests that are slower than usual
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote when a request has not answered within the {@link #getPercentile()} of the latencies observed, a duplicate
+ * is sent and the first response received is returned, the other attempt is aborted, see {@link AbortHandle}. The
+ * duplicate is an independent copy of the request. The latencies observed are the ones of the network, from when an
+ * attempt is sent to when its response is received, so the waits of the {@link GmailRateLimiter} and of the
+ * {@link GmailIsolation} do not inflate them. The duplicates are charged to the
+ * quota like any other request, see {@link GmailRateLimiter}, and at most {@link #getMaxHedgeRatio()} of the requests
+ * are duplicated, so the hedging cannot exhaust the budget:
+ * <pre>
+ *     {@code
+ *        // duplicate the requests slower than the 95th percentile, at most the 5% of the requests
+ *        manager.setHedgingPolicy(new GmailHedgingPolicy(0.95, 0.05));
+ *     }
+ * </pre>
+ **/
+public final class GmailHedgingPolicy {
+
+    /**
+     * {@code DEFAULT_PERCENTILE} is a constant for the default percentile of the latencies after which a request is
+     * duplicated
+     **/
+    public static final double DEFAULT_PERCENTILE = 0.95;
+
+    /**
+     * {@code DEFAULT_MAX_HEDGE_RATIO} is a constant for the default max ratio of the requests that can be duplicated
+     **/
+    public static final double DEFAULT_MAX_HEDGE_RATIO = 0.1;
+
+    /**
+     * {@code DEFAULT_INITIAL_DELAY} is a constant for the delay, in milliseconds, after which a request is duplicated
+     * while not enough latencies have been observed
+     **/
+    public static final long DEFAULT_INITIAL_DELAY = 1000;
+
+    /**
+     * {@code SAMPLES_SIZE} is a constant for the number of latencies kept to compute the percentile
+     **/
+    private static final int SAMPLES_SIZE = 512;
+
+    /**
+     * {@code MIN_SAMPLES} is a constant for the number of latencies needed before using the percentile
+     **/
+    private static final int MIN_SAMPLES = 32;
+
+    /**
+     * {@code UPDATE_INTERVAL} is a constant for the number of latencies observed between two computations of the
+     * percentile
+     **/
+    private static final int UPDATE_INTERVAL = 32;
+
+    /**
+     * {@code SENT_AT} is the time, in nanoseconds, when the last attempt of the current thread has been sent
+     **/
+    private static final ThreadLocal<Long> SENT_AT = new ThreadLocal<>();
+
+    /**
+     * {@code percentile} is the percentile of the latencies after which a request is duplicated
+     **/
+    private final double percentile;
+
+    /**
+     * {@code maxHedgeRatio} is the max ratio of the requests that can be duplicated
+     **/
+    private final double maxHedgeRatio;
+
+    /**
+     * {@code initialDelay} is the delay, in milliseconds, after which a request is duplicated while not enough
+     * latencies have been observed
+     **/
+    private final long initialDelay;
+
+    /**
+     * {@code samples} are the last latencies observed, in nanoseconds
+     **/
+    private final long[] samples;
+
+    /**
+     * {@code samplesCount} is the number of latencies observed
+     **/
+    private long samplesCount;
+
+    /**
+     * {@code hedgeDelay} is the current delay, in nanoseconds, after which a request is duplicated
+     **/
+    private volatile long hedgeDelay;
+
+    /**
+     * {@code requests} is the number of requests executed
+     **/
+    private final AtomicLong requests;
+
+    /**
+     * {@code hedges} is the number of duplicates sent
+     **/
+    private final AtomicLong hedges;
+
+    /**
+     * {@code hedgesWon} is the number of duplicates that have answered before the original request
+     **/
+    private final AtomicLong hedgesWon;
+
+    /**
+     * Constructor to init a {@link GmailHedgingPolicy} with the default values <br>
+     * Any params required
+     **/
+    public GmailHedgingPolicy() {
+        this(DEFAULT_PERCENTILE, DEFAULT_MAX_HEDGE_RATIO);
+    }
+
+    /**
+     * Constructor to init a {@link GmailHedgingPolicy}
+     *
+     * @param percentile:    the percentile of the latencies after which a request is duplicated, between 0 and 1
+     * @param maxHedgeRatio: the max ratio of the requests that can be duplicated, between 0 and 1
+     **/
+    public GmailHedgingPolicy(double percentile, double maxHedgeRatio) {
+        this(percentile, maxHedgeRatio, DEFAULT_INITIAL_DELAY);
+    }
+
+    /**
+     * Constructor to init a {@link GmailHedgingPolicy}
+     *
+     * @param percentile:    the percentile of the latencies after which a request is duplicated, between 0 and 1
+     * @param maxHedgeRatio: the max ratio of the requests that can be duplicated, between 0 and 1
+     * @param initialDelay:  the delay, in milliseconds, after which a request is duplicated while not enough
+     *                       latencies have been observed
+     **/
+    public GmailHedgingPolicy(double percentile, double maxHedgeRatio, long initialDelay) {
+        if (percentile <= 0 || percentile >= 1)
+            throw new IllegalArgumentException("Percentile must be between 0 and 1");
+        if (maxHedgeRatio < 0 || maxHedgeRatio > 1)
+            throw new IllegalArgumentException("Max hedge ratio must be between 0 and 1");
+        if (initialDelay < 0)
+            throw new IllegalArgumentException("Initial delay cannot be negative");
+        this.percentile = percentile;
+        this.maxHedgeRatio = maxHedgeRatio;
+        this.initialDelay = initialDelay;
+        samples = new long[SAMPLES_SIZE];
+        hedgeDelay = MILLISECONDS.toNanos(initialDelay);
+        requests = new AtomicLong();
+        hedges = new AtomicLong();
+        hedgesWon = new AtomicLong();
+    }
+
+    /**
+     * Method to get {@link #percentile} instance <br>
+     * Any params required
+     *
+     * @return {@link #percentile} instance as double
+     **/
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Method to get {@link #maxHedgeRatio} instance <br>
+     * Any params required
+     *
+     * @return {@link #maxHedgeRatio} instance as double
+     **/
+    public double getMaxHedgeRatio() {
+        return maxHedgeRatio;
+    }
+
+    /**
+     * Method to get {@link #initialDelay} instance <br>
+     * Any params required
+     *
+     * @return {@link #initialDelay} instance as long
+     **/
+    public long getInitialDelay() {
+        return initialDelay;
+    }
+
+    /**
+     * Method to get the current delay after which a request is duplicated <br>
+     * Any params required
+     *
+     * @return the delay, in milliseconds, as long
+     **/
+    public long getHedgeDelay() {
+        return NANOSECONDS.toMillis(hedgeDelay);
+    }
+
+    /**
+     * Method to get {@link #requests} instance <br>
+     * Any params required
+     *
+     * @return {@link #requests} instance as long
+     **/
+    public long getRequestsCount() {
+        return requests.get();
+    }
+
+    /**
+     * Method to get {@link #hedges} instance <br>
+     * Any params required
+     *
+     * @return {@link #hedges} instance as long
+     **/
+    public long getHedgesCount() {
+        return hedges.get();
+    }
+
+    /**
+     * Method to get {@link #hedgesWon} instance <br>
+     * Any params required
+     *
+     * @return {@link #hedgesWon} instance as long
+     **/
+    public long getHedgesWonCount() {
+        return hedgesWon.get();
+    }
+
+    /**
+     * Method to install the policy on a request, so the latency of its attempts is measured from when they are sent
+     *
+     * @param request: the request where install the policy
+     * @apiNote the policy must be installed after the other ones, so the waits of their interceptors are excluded
+     **/
+    public void install(HttpRequest request) {
+        HttpExecuteInterceptor executeInterceptor = request.getInterceptor();
+        request.setInterceptor(httpRequest -> {
+            if (executeInterceptor != null)
+                executeInterceptor.intercept(httpRequest);
+            SENT_AT.set(System.nanoTime());
+        });
+    }
+
+    /**
+     * Method to execute a request, sending a duplicate when it is slower than usual
+     *
+     * @param request:  the request to execute, must be idempotent
+     * @param executor: the executor where the attempts are executed
+     * @return the response of the first attempt answered as {@link M}
+     * @throws IOException when both the attempts have been go wrong
+     * @apiNote the duplicate is a copy of the request, the attempt discarded is aborted
+     **/
+    public <M> M execute(GmailRequest<M> request, Executor executor) throws IOException {
+        requests.incrementAndGet();
+        AbortHandle primaryHandle = new AbortHandle();
+        CompletableFuture<M> primary = attempt(request, executor, primaryHandle);
+        try {
+            return primary.get(hedgeDelay, NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (hedges.get() + 1 > maxHedgeRatio * requests.get())
+                return await(primary, primaryHandle);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            primaryHandle.abort();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting the response");
+        }
+        hedges.incrementAndGet();
+        AbortHandle hedgeHandle = new AbortHandle();
+        CompletableFuture<M> hedge = attempt(copy(request), executor, hedgeHandle);
+        CompletableFuture<M> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((response, error) -> complete(first, response, error, failures, hedgeHandle, false));
+        hedge.whenComplete((response, error) -> complete(first, response, error, failures, primaryHandle, true));
+        try {
+            return await(first, primaryHandle);
+        } finally {
+            hedgeHandle.abort();
+        }
+    }
+
+    /**
+     * Method to copy a request, so the copy can be executed at the same time of the original one
+     *
+     * @param request: the request to copy
+     * @return the copy of the request as {@link GmailRequest}
+     **/
+    private static <M> GmailRequest<M> copy(GmailRequest<M> request) {
+        GmailRequest<M> copy = (GmailRequest<M>) request.clone();
+        copy.setRequestHeaders(request.getRequestHeaders().clone());
+        return copy;
+    }
+
+    /**
+     * Method to execute an attempt of a request in background
+     *
+     * @param request:  the request to execute
+     * @param executor: the executor where the attempt is executed
+     * @param handle:   the handle used to abort the attempt
+     * @return the response of the attempt as {@link CompletableFuture} of {@link M}
+     **/
+    private <M> CompletableFuture<M> attempt(GmailRequest<M> request, Executor executor, AbortHandle handle) {
+        return supplyAsync(() -> {
+            handle.bind();
+            SENT_AT.remove();
+            try {
+                M response = request.execute();
+                Long sentAt = SENT_AT.get();
+                if (sentAt != null)
+                    record(System.nanoTime() - sentAt);
+                return response;
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            } finally {
+                SENT_AT.remove();
+                handle.unbind();
+            }
+        }, executor);
+    }
+
+    /**
+     * Method to complete the response of a hedged request with the first attempt successfully answered
+     *
+     * @param first:    the response of the hedged request
+     * @param response: the response of the attempt
+     * @param error:    the error of the attempt, null if successful
+     * @param failures: the number of attempts failed
+     * @param other:    the handle used to abort the other attempt
+     * @param hedge:    whether the attempt is the duplicate
+     * @apiNote the hedge won is counted before the response is completed, so the caller reads the counters updated
+     **/
+    private <M> void complete(CompletableFuture<M> first, M response, Throwable error, AtomicInteger failures,
+                              AbortHandle other, boolean hedge) {
+        if (error == null) {
+            synchronized (first) {
+                if (first.isDone())
+                    return;
+                if (hedge)
+                    hedgesWon.incrementAndGet();
+                first.complete(response);
+            }
+            other.abort();
+        } else if (failures.incrementAndGet() == 2)
+            first.completeExceptionally(error);
+    }
+
+    /**
+     * Method to wait the response of a request
+     *
+     * @param response: the response to wait
+     * @param handle:   the handle used to abort the primary attempt when the wait is interrupted
+     * @return the response as {@link M}
+     * @throws IOException when the request has been go wrong
+     **/
+    private <M> M await(CompletableFuture<M> response, AbortHandle handle) throws IOException {
+        try {
+            return response.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            handle.abort();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting the response");
+        }
+    }
+
+    /**
+     * Method to get the {@link IOException} that has caused the failure of an attempt
+     *
+     * @param error: the error of the attempt
+     * @return the exception as {@link IOException}
+     **/
+    private static IOException unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null)
+            error = error.getCause();
+        if (error instanceof IOException)
+            return (IOException) error;
+        if (error instanceof RuntimeException)
+            throw (RuntimeException) error;
+        return new IOException(error);
+    }
+
+    /**
+     * Method to record the latency of an attempt and update the {@link #hedgeDelay}
+     *
+     * @param latency: the latency, in nanoseconds, of the attempt
+     **/
+    private synchronized void record(long latency) {
+        samples[(int) (samplesCount++ % SAMPLES_SIZE)] = latency;
+        if (samplesCount >= MIN_SAMPLES && samplesCount % UPDATE_INTERVAL == 0) {
+            long[] sorted = Arrays.copyOf(samples, (int) Math.min(samplesCount, SAMPLES_SIZE));
+            Arrays.sort(sorted);
+            hedgeDelay = sorted[(int) Math.min(sorted.length - 1, Math.floor(percentile * sorted.length))];
+        }
+    }
+
+}
@@ -0,0 +1,926 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.http.*;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.tecknobit.googlemanager.gmail.GmailIsolation.CircuitState.*;
+
+/**
+ * The {@code GmailIsolation} class is useful to isolate the resource families of Gmail from each other, so a family
+ * that degrades cannot consume all the threads of the application
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote each {@link ResourceFamily} has:
+ * <ul>
+ *     <li>
+ *         a bulkhead: at most {@link #getMaxConcurrentCalls(ResourceFamily)} requests of the family are executed at
+ *         the same time, the other ones are rejected immediately
+ *     </li>
+ *     <li>
+ *         a circuit breaker: when the rate of the requests failed for a server error, a rate limit or a network error
+ *         exceeds the threshold the circuit opens and the requests of the family are rejected immediately for the
+ *         open duration, then a single request is let through to check whether the family has recovered
+ *     </li>
+ * </ul>
+ * The rejected requests fail with a {@link RejectedRequestException}:
+ * <pre>
+ *     {@code
+ *        GmailIsolation isolation = new GmailIsolation();
+ *        isolation.setMaxConcurrentCalls(SETTINGS, 4);
+ *        manager.setIsolation(isolation);
+ *        ...
+ *        System.out.println(isolation.getState(SETTINGS));
+ *     }
+ * </pre>
+ * A batch request is isolated as a single request: it takes a single permit for each family of its parts, so its parts
+ * do not hold the permits of their families. The batch requests are isolated only when their initializer installs the
+ * isolation, like the ones created by {@link GmailManager}
+ **/
+public final class GmailIsolation {
+
+    /**
+     * {@code DEFAULT_MAX_CONCURRENT_CALLS} is a constant for the default max number of requests of a family executed at
+     * the same time
+     **/
+    public static final int DEFAULT_MAX_CONCURRENT_CALLS = 64;
+
+    /**
+     * {@code DEFAULT_FAILURE_RATE_THRESHOLD} is a constant for the default rate of failed requests that opens the circuit
+     **/
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+
+    /**
+     * {@code DEFAULT_WINDOW_SIZE} is a constant for the default number of the last requests used to compute the rate
+     * of failed requests
+     **/
+    public static final int DEFAULT_WINDOW_SIZE = 20;
+
+    /**
+     * {@code DEFAULT_OPEN_DURATION} is a constant for the default time, in milliseconds, in which the circuit stays open
+     **/
+    public static final long DEFAULT_OPEN_DURATION = 30000;
+
+    /**
+     * {@code BATCH_PATH} is a constant for the path of the batch requests
+     **/
+    private static final String BATCH_PATH = "/batch";
+
+    /**
+     * {@code CURRENT_BATCH} is the batch request of which the current thread is intercepting the parts, null if none
+     **/
+    private static final ThreadLocal<IsolatedBatch> CURRENT_BATCH = new ThreadLocal<>();
+
+    /**
+     * {@code failureRateThreshold} is the rate of failed requests that opens the circuit
+     **/
+    private final double failureRateThreshold;
+
+    /**
+     * {@code windowSize} is the number of the last requests used to compute the rate of failed requests
+     **/
+    private final int windowSize;
+
+    /**
+     * {@code openDuration} is the time, in milliseconds, in which the circuit stays open
+     **/
+    private final long openDuration;
+
+    /**
+     * {@code compartments} are the compartments of the resource families
+     **/
+    private final EnumMap<ResourceFamily, Compartment> compartments;
+
+    /**
+     * Constructor to init a {@link GmailIsolation} with the default values <br>
+     * Any params required
+     **/
+    public GmailIsolation() {
+        this(DEFAULT_FAILURE_RATE_THRESHOLD, DEFAULT_WINDOW_SIZE, DEFAULT_OPEN_DURATION);
+    }
+
+    /**
+     * Constructor to init a {@link GmailIsolation}
+     *
+     * @param failureRateThreshold: the rate of failed requests that opens the circuit, between 0 and 1
+     * @param windowSize:           the number of the last requests used to compute the rate of failed requests
+     * @param openDuration:         the time, in milliseconds, in which the circuit stays open
+     **/
+    public GmailIsolation(double failureRateThreshold, int windowSize, long openDuration) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1)
+            throw new IllegalArgumentException("Failure rate threshold must be between 0 and 1");
+        if (windowSize <= 0)
+            throw new IllegalArgumentException("Window size must be positive");
+        if (openDuration < 0)
+            throw new IllegalArgumentException("Open duration cannot be negative");
+        this.failureRateThreshold = failureRateThreshold;
+        this.windowSize = windowSize;
+        this.openDuration = openDuration;
+        compartments = new EnumMap<>(ResourceFamily.class);
+        for (ResourceFamily family : ResourceFamily.values())
+            compartments.put(family, new Compartment(DEFAULT_MAX_CONCURRENT_CALLS));
+    }
+
+    /**
+     * Method to get {@link #failureRateThreshold} instance <br>
+     * Any params required
+     *
+     * @return {@link #failureRateThreshold} instance as double
+     **/
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * Method to get {@link #windowSize} instance <br>
+     * Any params required
+     *
+     * @return {@link #windowSize} instance as int
+     **/
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Method to get {@link #openDuration} instance <br>
+     * Any params required
+     *
+     * @return {@link #openDuration} instance as long
+     **/
+    public long getOpenDuration() {
+        return openDuration;
+    }
+
+    /**
+     * Method to set the max number of requests of a family executed at the same time
+     *
+     * @param family:             the resource family
+     * @param maxConcurrentCalls: the max number of requests executed at the same time
+     * @apiNote the requests already in execution are not affected
+     **/
+    public void setMaxConcurrentCalls(ResourceFamily family, int maxConcurrentCalls) {
+        if (maxConcurrentCalls <= 0)
+            throw new IllegalArgumentException("Max concurrent calls must be positive");
+        compartments.get(family).setMaxConcurrentCalls(maxConcurrentCalls);
+    }
+
+    /**
+     * Method to get the max number of requests of a family executed at the same time
+     *
+     * @param family: the resource family
+     * @return the max number of requests as int
+     **/
+    public int getMaxConcurrentCalls(ResourceFamily family) {
+        return compartments.get(family).maxConcurrentCalls;
+    }
+
+    /**
+     * Method to get the number of requests of a family in execution
+     *
+     * @param family: the resource family
+     * @return the number of requests as int
+     **/
+    public int getActiveCalls(ResourceFamily family) {
+        Compartment compartment = compartments.get(family);
+        Semaphore bulkhead = compartment.bulkhead;
+        return compartment.maxConcurrentCalls - bulkhead.availablePermits();
+    }
+
+    /**
+     * Method to get the state of the circuit of a family
+     *
+     * @param family: the resource family
+     * @return the state of the circuit as {@link CircuitState}
+     **/
+    public CircuitState getState(ResourceFamily family) {
+        return compartments.get(family).getState();
+    }
+
+    /**
+     * Method to get the number of requests of a family rejected
+     *
+     * @param family: the resource family
+     * @return the number of requests rejected as long
+     **/
+    public long getRejectedCount(ResourceFamily family) {
+        return compartments.get(family).rejected.get();
+    }
+
+    /**
+     * Method to get the current rate of failed requests of a family
+     *
+     * @param family: the resource family
+     * @return the rate of failed requests as double
+     **/
+    public double getFailureRate(ResourceFamily family) {
+        return compartments.get(family).getFailureRate();
+    }
+
+    /**
+     * Method to close the circuit of a family and clear its statistics
+     *
+     * @param family: the resource family
+     **/
+    public void reset(ResourceFamily family) {
+        compartments.get(family).reset();
+    }
+
+    /**
+     * Method to install the isolation on a request
+     *
+     * @param request: the request where install the isolation
+     * @apiNote a batch request is isolated as a single request, taking a permit for each family of its parts when it
+     * is sent, the other requests that are not of a {@link ResourceFamily} are not isolated
+     **/
+    public void install(HttpRequest request) {
+        String path = request.getUrl().getRawPath();
+        ResourceFamily family = ResourceFamily.fromPath(path);
+        if (family != null)
+            new IsolatedRequest(request, family, compartments.get(family));
+        else if (path.equals(BATCH_PATH) || path.startsWith(BATCH_PATH + "/"))
+            new IsolatedBatch(request);
+    }
+
+    /**
+     * Method to release the permits of the batch request sent by the current thread, when it has not been sent because
+     * one of its parts failed before <br>
+     * Any params required
+     *
+     * @apiNote it is called after the execution of each batch request isolated, it has no effect when the batch has
+     * been sent, because its permits have been already released
+     **/
+    static void endBatch() {
+        IsolatedBatch batch = CURRENT_BATCH.get();
+        if (batch != null)
+            batch.cancel();
+    }
+
+    /**
+     * {@code ResourceFamily} list of available resource families
+     **/
+    public enum ResourceFamily {
+
+        /**
+         * {@code MESSAGES} resource family
+         **/
+        MESSAGES,
+
+        /**
+         * {@code THREADS} resource family
+         **/
+        THREADS,
+
+        /**
+         * {@code LABELS} resource family
+         **/
+        LABELS,
+
+        /**
+         * {@code DRAFTS} resource family
+         **/
+        DRAFTS,
+
+        /**
+         * {@code HISTORY} resource family
+         **/
+        HISTORY,
+
+        /**
+         * {@code SETTINGS} resource family
+         **/
+        SETTINGS,
+
+        /**
+         * {@code USERS} resource family, the profile and the push notifications
+         **/
+        USERS;
+
+        /**
+         * {@code USER_PATH} is the pattern of the path of the Gmail's requests, the group is the first segment of the
+         * endpoint relative to {@code "users/{userId}"}
+         **/
+        private static final Pattern USER_PATH = Pattern.compile("/gmail/v1/users/[^/]+/?([^/]*)");
+
+        /**
+         * Method to get the resource family of a request
+         *
+         * @param path: the path of the request
+         * @return the resource family as {@link ResourceFamily}, null if the request is not of a family
+         **/
+        public static ResourceFamily fromPath(String path) {
+            Matcher matcher = USER_PATH.matcher(path);
+            if (!matcher.find())
+                return null;
+            switch (matcher.group(1)) {
+                case "messages":
+                    return MESSAGES;
+                case "threads":
+                    return THREADS;
+                case "labels":
+                    return LABELS;
+                case "drafts":
+                    return DRAFTS;
+                case "history":
+                    return HISTORY;
+                case "settings":
+                    return SETTINGS;
+                default:
+                    return USERS;
+            }
+        }
+
+    }
+
+    /**
+     * {@code CircuitState} list of available states of a circuit
+     **/
+    public enum CircuitState {
+
+        /**
+         * {@code CLOSED} the requests are executed
+         **/
+        CLOSED,
+
+        /**
+         * {@code OPEN} the requests are rejected
+         **/
+        OPEN,
+
+        /**
+         * {@code HALF_OPEN} a single request is executed to check whether the family has recovered
+         **/
+        HALF_OPEN
+
+    }
+
+    /**
+     * The {@code RejectedRequestException} class is the exception thrown when a request is rejected by the isolation
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    public static final class RejectedRequestException extends IOException {
+
+        /**
+         * {@code serialVersionUID} the version of the serialized form of the exception
+         **/
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * {@code family} the resource family of the request rejected
+         **/
+        private final ResourceFamily family;
+
+        /**
+         * {@code state} the state of the circuit when the request has been rejected
+         **/
+        private final CircuitState state;
+
+        /**
+         * Constructor to init a {@link RejectedRequestException}
+         *
+         * @param family: the resource family of the request rejected
+         * @param state:  the state of the circuit when the request has been rejected
+         **/
+        public RejectedRequestException(ResourceFamily family, CircuitState state) {
+            super(state == CLOSED ? "Too many concurrent requests for " + family : "Circuit " + state + " for "
+                    + family);
+            this.family = family;
+            this.state = state;
+        }
+
+        /**
+         * Method to get {@link #family} instance <br>
+         * Any params required
+         *
+         * @return {@link #family} instance as {@link ResourceFamily}
+         **/
+        public ResourceFamily getFamily() {
+            return family;
+        }
+
+        /**
+         * Method to get {@link #state} instance <br>
+         * Any params required
+         *
+         * @return {@link #state} instance as {@link CircuitState}, {@link CircuitState#CLOSED} when the request has
+         * been rejected by the bulkhead
+         **/
+        public CircuitState getState() {
+            return state;
+        }
+
+    }
+
+    /**
+     * The {@code Compartment} class is useful to hold the bulkhead and the circuit breaker of a resource family
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private final class Compartment {
+
+        /**
+         * {@code rejected} the number of requests rejected
+         **/
+        private final AtomicLong rejected;
+
+        /**
+         * {@code outcomes} the outcomes of the last requests, {@code "true"} if failed
+         **/
+        private final boolean[] outcomes;
+
+        /**
+         * {@code bulkhead} the permits of the requests executed at the same time
+         **/
+        private volatile Semaphore bulkhead;
+
+        /**
+         * {@code maxConcurrentCalls} the max number of requests executed at the same time
+         **/
+        private volatile int maxConcurrentCalls;
+
+        /**
+         * {@code state} the state of the circuit
+         **/
+        private CircuitState state;
+
+        /**
+         * {@code openedAt} the time, in milliseconds, when the circuit has been opened
+         **/
+        private long openedAt;
+
+        /**
+         * {@code trialInFlight} whether the request that checks the recovery is in execution
+         **/
+        private boolean trialInFlight;
+
+        /**
+         * {@code outcomesCount} the number of outcomes recorded
+         **/
+        private int outcomesCount;
+
+        /**
+         * {@code failuresCount} the number of failures in the {@link #outcomes}
+         **/
+        private int failuresCount;
+
+        /**
+         * Constructor to init a {@link Compartment}
+         *
+         * @param maxConcurrentCalls: the max number of requests executed at the same time
+         **/
+        private Compartment(int maxConcurrentCalls) {
+            rejected = new AtomicLong();
+            outcomes = new boolean[windowSize];
+            state = CLOSED;
+            setMaxConcurrentCalls(maxConcurrentCalls);
+        }
+
+        /**
+         * Method to set the max number of requests executed at the same time
+         *
+         * @param maxConcurrentCalls: the max number of requests executed at the same time
+         **/
+        private void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            bulkhead = new Semaphore(maxConcurrentCalls);
+        }
+
+        /**
+         * Method to get the state of the circuit <br>
+         * Any params required
+         *
+         * @return the state of the circuit as {@link CircuitState}
+         **/
+        private synchronized CircuitState getState() {
+            if (state == OPEN && System.currentTimeMillis() - openedAt >= openDuration)
+                state = HALF_OPEN;
+            return state;
+        }
+
+        /**
+         * Method to get the current rate of failed requests <br>
+         * Any params required
+         *
+         * @return the rate of failed requests as double
+         **/
+        private synchronized double getFailureRate() {
+            int recorded = Math.min(outcomesCount, windowSize);
+            return recorded == 0 ? 0 : (double) failuresCount / recorded;
+        }
+
+        /**
+         * Method to let an attempt through the circuit and the bulkhead
+         *
+         * @param family: the resource family of the attempt
+         * @return the permit taken by the attempt as {@link Permit}
+         * @throws RejectedRequestException when the attempt is rejected
+         **/
+        private Permit acquire(ResourceFamily family) throws RejectedRequestException {
+            boolean trial;
+            synchronized (this) {
+                CircuitState current = getState();
+                if (current == OPEN || (current == HALF_OPEN && trialInFlight)) {
+                    rejected.incrementAndGet();
+                    throw new RejectedRequestException(family, current);
+                }
+                trial = current == HALF_OPEN;
+                if (trial)
+                    trialInFlight = true;
+            }
+            Semaphore permits = bulkhead;
+            if (!permits.tryAcquire()) {
+                if (trial)
+                    cancelTrial();
+                rejected.incrementAndGet();
+                throw new RejectedRequestException(family, CLOSED);
+            }
+            return new Permit(this, permits, trial);
+        }
+
+        /**
+         * Method to let another attempt check the recovery, when the current one has not been sent <br>
+         * Any params required
+         **/
+        private synchronized void cancelTrial() {
+            trialInFlight = false;
+        }
+
+        /**
+         * Method to record the outcome of an attempt
+         *
+         * @param failed: whether the attempt is failed
+         * @param trial:  whether the attempt is the one that checks the recovery
+         **/
+        private synchronized void record(boolean failed, boolean trial) {
+            if (trial) {
+                trialInFlight = false;
+                if (failed)
+                    open();
+                else
+                    reset();
+                return;
+            }
+            if (state != CLOSED)
+                return;
+            int slot = outcomesCount++ % windowSize;
+            if (outcomesCount > windowSize && outcomes[slot])
+                failuresCount--;
+            outcomes[slot] = failed;
+            if (failed)
+                failuresCount++;
+            if (outcomesCount >= windowSize && (double) failuresCount / windowSize >= failureRateThreshold)
+                open();
+        }
+
+        /**
+         * Method to open the circuit <br>
+         * Any params required
+         **/
+        private void open() {
+            state = OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+
+        /**
+         * Method to close the circuit and clear the statistics <br>
+         * Any params required
+         **/
+        private synchronized void reset() {
+            state = CLOSED;
+            trialInFlight = false;
+            outcomesCount = 0;
+            failuresCount = 0;
+        }
+
+    }
+
+    /**
+     * The {@code IsolatedRequest} class is useful to take and release the permits of each attempt of a request
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class IsolatedRequest implements HttpExecuteInterceptor, HttpUnsuccessfulResponseHandler,
+            HttpIOExceptionHandler, HttpResponseInterceptor {
+
+        /**
+         * {@code family} the resource family of the request
+         **/
+        private final ResourceFamily family;
+
+        /**
+         * {@code compartment} the compartment of the {@link #family}
+         **/
+        private final Compartment compartment;
+
+        /**
+         * {@code executeInterceptor} the interceptor installed before the isolation
+         **/
+        private final HttpExecuteInterceptor executeInterceptor;
+
+        /**
+         * {@code unsuccessfulResponseHandler} the handler installed before the isolation
+         **/
+        private final HttpUnsuccessfulResponseHandler unsuccessfulResponseHandler;
+
+        /**
+         * {@code ioExceptionHandler} the handler installed before the isolation
+         **/
+        private final HttpIOExceptionHandler ioExceptionHandler;
+
+        /**
+         * {@code responseInterceptor} the interceptor installed before the isolation
+         **/
+        private final HttpResponseInterceptor responseInterceptor;
+
+        /**
+         * {@code permit} the permit of the current attempt, null if no permit is held
+         **/
+        private Permit permit;
+
+        /**
+         * Constructor to init an {@link IsolatedRequest}
+         *
+         * @param request:     the request to isolate
+         * @param family:      the resource family of the request
+         * @param compartment: the compartment of the family
+         **/
+        private IsolatedRequest(HttpRequest request, ResourceFamily family, Compartment compartment) {
+            this.family = family;
+            this.compartment = compartment;
+            executeInterceptor = request.getInterceptor();
+            unsuccessfulResponseHandler = request.getUnsuccessfulResponseHandler();
+            ioExceptionHandler = request.getIOExceptionHandler();
+            responseInterceptor = request.getResponseInterceptor();
+            request.setInterceptor(this);
+            request.setUnsuccessfulResponseHandler(this);
+            request.setIOExceptionHandler(this);
+            request.setResponseInterceptor(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @throws RejectedRequestException when the attempt is rejected
+         * @apiNote when the request is a part of a batch request the permit is taken by the batch
+         **/
+        @Override
+        public void intercept(HttpRequest request) throws IOException {
+            IsolatedBatch batch = CURRENT_BATCH.get();
+            if (batch == null) {
+                if (executeInterceptor != null)
+                    executeInterceptor.intercept(request);
+                permit = compartment.acquire(family);
+                return;
+            }
+            try {
+                if (executeInterceptor != null)
+                    executeInterceptor.intercept(request);
+                batch.acquire(compartment, family);
+            } catch (IOException | RuntimeException e) {
+                batch.cancel();
+                throw e;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public boolean handleResponse(HttpRequest request, HttpResponse response,
+                                      boolean supportsRetry) throws IOException {
+            int statusCode = response.getStatusCode();
+            release(statusCode == 429 || statusCode >= 500);
+            return unsuccessfulResponseHandler != null
+                    && unsuccessfulResponseHandler.handleResponse(request, response, supportsRetry);
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public boolean handleIOException(HttpRequest request, boolean supportsRetry) throws IOException {
+            release(true);
+            return ioExceptionHandler != null && ioExceptionHandler.handleIOException(request, supportsRetry);
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public void interceptResponse(HttpResponse response) throws IOException {
+            release(false);
+            if (responseInterceptor != null)
+                responseInterceptor.interceptResponse(response);
+        }
+
+        /**
+         * Method to release the permit of the current attempt and record its outcome
+         *
+         * @param failed: whether the attempt is failed
+         **/
+        private void release(boolean failed) {
+            if (permit == null)
+                return;
+            permit.release(failed);
+            permit = null;
+        }
+
+    }
+
+    /**
+     * The {@code IsolatedBatch} class is useful to take and release the permits of each attempt of a batch request
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @apiNote the parts of the batch are intercepted by the thread that sends the batch, right after the batch itself,
+     * so they find the batch as {@link #CURRENT_BATCH} and take the permits of their families from it
+     **/
+    private static final class IsolatedBatch implements HttpExecuteInterceptor, HttpUnsuccessfulResponseHandler,
+            HttpIOExceptionHandler, HttpResponseInterceptor {
+
+        /**
+         * {@code permits} the permits of the current attempt, one for each family of the parts
+         **/
+        private final EnumMap<ResourceFamily, Permit> permits;
+
+        /**
+         * {@code executeInterceptor} the interceptor installed before the isolation
+         **/
+        private final HttpExecuteInterceptor executeInterceptor;
+
+        /**
+         * {@code unsuccessfulResponseHandler} the handler installed before the isolation
+         **/
+        private final HttpUnsuccessfulResponseHandler unsuccessfulResponseHandler;
+
+        /**
+         * {@code ioExceptionHandler} the handler installed before the isolation
+         **/
+        private final HttpIOExceptionHandler ioExceptionHandler;
+
+        /**
+         * {@code responseInterceptor} the interceptor installed before the isolation
+         **/
+        private final HttpResponseInterceptor responseInterceptor;
+
+        /**
+         * Constructor to init an {@link IsolatedBatch}
+         *
+         * @param request: the batch request to isolate
+         **/
+        private IsolatedBatch(HttpRequest request) {
+            permits = new EnumMap<>(ResourceFamily.class);
+            executeInterceptor = request.getInterceptor();
+            unsuccessfulResponseHandler = request.getUnsuccessfulResponseHandler();
+            ioExceptionHandler = request.getIOExceptionHandler();
+            responseInterceptor = request.getResponseInterceptor();
+            request.setInterceptor(this);
+            request.setUnsuccessfulResponseHandler(this);
+            request.setIOExceptionHandler(this);
+            request.setResponseInterceptor(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @apiNote the parts are intercepted after this method returns, see {@link #acquire(Compartment, ResourceFamily)}
+         **/
+        @Override
+        public void intercept(HttpRequest request) throws IOException {
+            if (executeInterceptor != null)
+                executeInterceptor.intercept(request);
+            cancel();
+            CURRENT_BATCH.set(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public boolean handleResponse(HttpRequest request, HttpResponse response,
+                                      boolean supportsRetry) throws IOException {
+            int statusCode = response.getStatusCode();
+            release(statusCode == 429 || statusCode >= 500);
+            return unsuccessfulResponseHandler != null
+                    && unsuccessfulResponseHandler.handleResponse(request, response, supportsRetry);
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public boolean handleIOException(HttpRequest request, boolean supportsRetry) throws IOException {
+            release(true);
+            return ioExceptionHandler != null && ioExceptionHandler.handleIOException(request, supportsRetry);
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public void interceptResponse(HttpResponse response) throws IOException {
+            release(false);
+            if (responseInterceptor != null)
+                responseInterceptor.interceptResponse(response);
+        }
+
+        /**
+         * Method to take the permit of the family of a part, if not already taken by another part
+         *
+         * @param compartment: the compartment of the family
+         * @param family:      the resource family of the part
+         * @throws RejectedRequestException when the batch is rejected
+         **/
+        private void acquire(Compartment compartment, ResourceFamily family) throws RejectedRequestException {
+            if (!permits.containsKey(family))
+                permits.put(family, compartment.acquire(family));
+        }
+
+        /**
+         * Method to release the permits of the current attempt and record its outcome
+         *
+         * @param failed: whether the attempt is failed
+         **/
+        private void release(boolean failed) {
+            CURRENT_BATCH.remove();
+            for (Permit permit : permits.values())
+                permit.release(failed);
+            permits.clear();
+        }
+
+        /**
+         * Method to release the permits of the current attempt, when it has not been sent, without recording its
+         * outcome <br>
+         * Any params required
+         **/
+        private void cancel() {
+            CURRENT_BATCH.remove();
+            for (Permit permit : permits.values())
+                permit.cancel();
+            permits.clear();
+        }
+
+    }
+
+    /**
+     * The {@code Permit} class is useful to hold the permit taken by an attempt
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class Permit {
+
+        /**
+         * {@code compartment} the compartment from which the permit has been taken
+         **/
+        private final Compartment compartment;
+
+        /**
+         * {@code bulkhead} the bulkhead from which the permit has been taken
+         **/
+        private final Semaphore bulkhead;
+
+        /**
+         * {@code trial} whether the attempt is the one that checks the recovery of the family
+         **/
+        private final boolean trial;
+
+        /**
+         * Constructor to init a {@link Permit}
+         *
+         * @param compartment: the compartment from which the permit has been taken
+         * @param bulkhead:    the bulkhead from which the permit has been taken
+         * @param trial:       whether the attempt is the one that checks the recovery of the family
+         **/
+        private Permit(Compartment compartment, Semaphore bulkhead, boolean trial) {
+            this.compartment = compartment;
+            this.bulkhead = bulkhead;
+            this.trial = trial;
+        }
+
+        /**
+         * Method to release the permit and record the outcome of the attempt
+         *
+         * @param failed: whether the attempt is failed
+         **/
+        private void release(boolean failed) {
+            bulkhead.release();
+            compartment.record(failed, trial);
+        }
+
+        /**
+         * Method to release the permit of an attempt not sent, without recording its outcome <br>
+         * Any params required
+         **/
+        private void cancel() {
+            bulkhead.release();
+            if (trial)
+                compartment.cancelTrial();
+        }
+
+    }
+
+}
@@ -0,0 +1,340 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.GmailRequest;
+import com.google.api.services.gmail.model.*;
+import com.tecknobit.googlemanager.gmail.GmailManager.GmailRequestCall;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Locale.ROOT;
+
+/**
+ * The {@code GmailLabelDirectory} class is useful to resolve the names of the labels of a mailbox to their ids without
+ * requesting the list of the labels each time
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the labels are loaded with the first resolution and then kept updated from the responses of the requests
+ * that create, change or delete a label and from the lists of labels requested. The names are resolved ignoring the
+ * case, like Gmail does. When a history record refers a label not known, for example created by another client, the
+ * directory is reloaded with the next resolution of a name not known, otherwise a name not known causes a reload at
+ * most once every {@link #getMinReloadInterval()}, so the labels created by another client are found without
+ * requesting the list for each name that does not exist:
+ * <pre>
+ *     {@code
+ *        manager.getLabelDirectory().setMinReloadInterval(30000);
+ *        String labelId = manager.getLabelDirectory().getLabelId("Invoices");
+ *        messagesManager.modifyByLabelNames(messageId, List.of("Invoices"), List.of("UNREAD"));
+ *     }
+ * </pre>
+ **/
+public final class GmailLabelDirectory {
+
+    /**
+     * {@code DEFAULT_MIN_RELOAD_INTERVAL} is a constant for the default min time, in milliseconds, between two reloads
+     * caused by a name not known
+     **/
+    public static final long DEFAULT_MIN_RELOAD_INTERVAL = 10000;
+
+    /**
+     * {@code loader} is the call used to request the list of the labels
+     **/
+    private final GmailRequestCall<ListLabelsResponse> loader;
+
+    /**
+     * {@code namesIndex} are the ids of the labels, indexed by their name in lower case
+     **/
+    private final ConcurrentHashMap<String, String> namesIndex;
+
+    /**
+     * {@code idsIndex} are the names of the labels, indexed by their id
+     **/
+    private final ConcurrentHashMap<String, String> idsIndex;
+
+    /**
+     * {@code loads} is the number of times the list of the labels has been requested
+     **/
+    private final AtomicLong loads;
+
+    /**
+     * {@code stale} is whether the directory has to be reloaded with the next resolution of a name not known
+     **/
+    private volatile boolean stale;
+
+    /**
+     * {@code minReloadInterval} is the min time, in milliseconds, between two reloads caused by a name not known
+     **/
+    private volatile long minReloadInterval;
+
+    /**
+     * {@code loadedAt} is the time, in milliseconds, when the directory has been loaded the last time
+     **/
+    private volatile long loadedAt;
+
+    /**
+     * Constructor to init a {@link GmailLabelDirectory}
+     *
+     * @param loader: the call used to request the list of the labels
+     **/
+    public GmailLabelDirectory(GmailRequestCall<ListLabelsResponse> loader) {
+        this.loader = loader;
+        namesIndex = new ConcurrentHashMap<>();
+        idsIndex = new ConcurrentHashMap<>();
+        loads = new AtomicLong();
+        stale = true;
+        minReloadInterval = DEFAULT_MIN_RELOAD_INTERVAL;
+    }
+
+    /**
+     * Method to set {@link #minReloadInterval} instance
+     *
+     * @param minReloadInterval: the min time, in milliseconds, between two reloads caused by a name not known
+     **/
+    public void setMinReloadInterval(long minReloadInterval) {
+        if (minReloadInterval < 0)
+            throw new IllegalArgumentException("Min reload interval cannot be negative");
+        this.minReloadInterval = minReloadInterval;
+    }
+
+    /**
+     * Method to get {@link #minReloadInterval} instance <br>
+     * Any params required
+     *
+     * @return {@link #minReloadInterval} instance as long
+     **/
+    public long getMinReloadInterval() {
+        return minReloadInterval;
+    }
+
+    /**
+     * Method to get the id of a label
+     *
+     * @param name: the name of the label, ignoring the case
+     * @return the id of the label as {@link String}, null if the label does not exist
+     * @throws IOException when the list of the labels has been requested and the request has been go wrong
+     * @apiNote a name not known reloads the directory when it is stale or when it has not been loaded in the last
+     * {@link #getMinReloadInterval()}
+     **/
+    public String getLabelId(String name) throws IOException {
+        String key = name.toLowerCase(ROOT);
+        String labelId = namesIndex.get(key);
+        if (labelId == null) {
+            reloadOnMiss();
+            labelId = namesIndex.get(key);
+        }
+        return labelId;
+    }
+
+    /**
+     * Method to get the ids of some labels
+     *
+     * @param names: the names of the labels, ignoring the case
+     * @return the ids of the labels as {@link List} of {@link String}
+     * @throws IOException when the list of the labels has been requested and the request has been go wrong
+     * @throws IllegalArgumentException when a label does not exist
+     **/
+    public List<String> getLabelIds(Collection<String> names) throws IOException {
+        ArrayList<String> labelIds = new ArrayList<>(names.size());
+        for (String name : names) {
+            String labelId = getLabelId(name);
+            if (labelId == null)
+                throw new IllegalArgumentException("Label \"" + name + "\" not found");
+            labelIds.add(labelId);
+        }
+        return labelIds;
+    }
+
+    /**
+     * Method to get the name of a label
+     *
+     * @param labelId: the id of the label
+     * @return the name of the label as {@link String}, null if the label does not exist
+     * @throws IOException when the list of the labels has been requested and the request has been go wrong
+     **/
+    public String getLabelName(String labelId) throws IOException {
+        String name = idsIndex.get(labelId);
+        if (name == null) {
+            reloadOnMiss();
+            name = idsIndex.get(labelId);
+        }
+        return name;
+    }
+
+    /**
+     * Method to get whether the labels have been loaded <br>
+     * Any params required
+     *
+     * @return {@code "true"} if the labels have been loaded, {@code "false"} if not
+     **/
+    public boolean isLoaded() {
+        return loads.get() > 0;
+    }
+
+    /**
+     * Method to get whether the directory will be reloaded with the next resolution of a name not known <br>
+     * Any params required
+     *
+     * @return {@code "true"} if the directory will be reloaded, {@code "false"} if not
+     **/
+    public boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * Method to get the number of labels known <br>
+     * Any params required
+     *
+     * @return the number of labels as int
+     **/
+    public int getLabelsCount() {
+        return idsIndex.size();
+    }
+
+    /**
+     * Method to get {@link #loads} instance <br>
+     * Any params required
+     *
+     * @return {@link #loads} instance as long
+     **/
+    public long getLoadsCount() {
+        return loads.get();
+    }
+
+    /**
+     * Method to reload the directory with the next resolution of a name not known <br>
+     * Any params required
+     **/
+    public void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Method to reload the directory immediately <br>
+     * Any params required
+     *
+     * @throws IOException when the request has been go wrong
+     * @apiNote when the {@link #loader} already updates the directory with its response, like the one of
+     * {@link GmailManager}, the response is not loaded again
+     **/
+    public synchronized void reload() throws IOException {
+        long loadsCount = loads.get();
+        ListLabelsResponse response = loader.call();
+        if (loads.get() == loadsCount)
+            load(response);
+    }
+
+    /**
+     * Method to reload the directory after a name not known, if it is stale or has not been loaded in the last
+     * {@link #minReloadInterval}, so the callers that miss at the same time cause a single request <br>
+     * Any params required
+     *
+     * @throws IOException when the request has been go wrong
+     **/
+    private synchronized void reloadOnMiss() throws IOException {
+        if (stale || System.currentTimeMillis() - loadedAt >= minReloadInterval)
+            reload();
+    }
+
+    /**
+     * Method to update the directory with the response of a request
+     *
+     * @param request:  the request executed
+     * @param response: the response of the request
+     * @apiNote the labels created and changed are added, the labels deleted are removed and the lists of labels replace
+     * the directory, the history records that refer a label not known invalidate the directory
+     **/
+    public <M> void update(GmailRequest<M> request, M response) {
+        if (request instanceof Gmail.Users.Labels.Delete)
+            remove(((Gmail.Users.Labels.Delete) request).getId());
+        else if (response instanceof ListLabelsResponse)
+            load((ListLabelsResponse) response);
+        else if (response instanceof Label) {
+            Label label = (Label) response;
+            if (label.getId() != null && label.getName() != null)
+                put(label.getId(), label.getName());
+        } else if (response instanceof ListHistoryResponse)
+            apply((ListHistoryResponse) response);
+    }
+
+    /**
+     * Method to replace the directory with a list of labels
+     *
+     * @param response: the list of labels
+     **/
+    private synchronized void load(ListLabelsResponse response) {
+        namesIndex.clear();
+        idsIndex.clear();
+        if (response.getLabels() != null)
+            for (Label label : response.getLabels())
+                put(label.getId(), label.getName());
+        loadedAt = System.currentTimeMillis();
+        loads.incrementAndGet();
+        stale = false;
+    }
+
+    /**
+     * Method to invalidate the directory when the history records refer a label not known
+     *
+     * @param history: the history records
+     **/
+    private void apply(ListHistoryResponse history) {
+        if (!isLoaded() || history.getHistory() == null)
+            return;
+        for (History record : history.getHistory()) {
+            if (record.getLabelsAdded() != null) {
+                for (HistoryLabelAdded added : record.getLabelsAdded())
+                    if (!isKnown(added.getLabelIds()))
+                        stale = true;
+            }
+            if (record.getLabelsRemoved() != null) {
+                for (HistoryLabelRemoved removed : record.getLabelsRemoved())
+                    if (!isKnown(removed.getLabelIds()))
+                        stale = true;
+            }
+        }
+    }
+
+    /**
+     * Method to get whether some labels are known
+     *
+     * @param labelIds: the ids of the labels
+     * @return {@code "true"} if all the labels are known, {@code "false"} if not
+     **/
+    private boolean isKnown(List<String> labelIds) {
+        if (labelIds != null)
+            for (String labelId : labelIds)
+                if (!idsIndex.containsKey(labelId))
+                    return false;
+        return true;
+    }
+
+    /**
+     * Method to add a label to the directory, replacing its previous name
+     *
+     * @param labelId: the id of the label
+     * @param name:    the name of the label
+     **/
+    private synchronized void put(String labelId, String name) {
+        String previous = idsIndex.put(labelId, name);
+        if (previous != null)
+            namesIndex.remove(previous.toLowerCase(ROOT), labelId);
+        namesIndex.put(name.toLowerCase(ROOT), labelId);
+    }
+
+    /**
+     * Method to remove a label from the directory
+     *
+     * @param labelId: the id of the label
+     **/
+    private synchronized void remove(String labelId) {
+        String name = idsIndex.remove(labelId);
+        if (name != null)
+            namesIndex.remove(name.toLowerCase(ROOT), labelId);
+    }
+
+}
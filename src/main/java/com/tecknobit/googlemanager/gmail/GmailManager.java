@@ -1,9 +1,19 @@
 package com.tecknobit.googlemanager.gmail;
 
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpRequestInitializer;
 import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.GmailRequest;
 import com.google.api.services.gmail.GmailScopes;
 import com.google.api.services.gmail.model.Message;
+import com.tecknobit.googlemanager.GoogleConfig;
 import com.tecknobit.googlemanager.GoogleManager;
+import com.tecknobit.googlemanager.auth.ServiceAccountDelegation;
+import com.tecknobit.googlemanager.gmail.records.BatchResult;
+import com.tecknobit.googlemanager.gmail.records.BatchResult.Failure;
 import org.apache.commons.codec.binary.Base64;
 
 import javax.activation.DataHandler;
@@ -17,8 +27,20 @@ import javax.mail.internet.MimeMultipart;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 
+import static com.google.api.client.http.HttpMethods.GET;
+import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.RAW;
+import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.STRING;
+import static java.util.concurrent.Executors.newCachedThreadPool;
 import static javax.mail.Message.RecipientType.*;
 
 /**
@@ -29,6 +51,16 @@ import static javax.mail.Message.RecipientType.*;
  **/
 public class GmailManager extends GoogleManager {
 
+    /**
+     * {@code MAX_BATCH_SIZE} is a constant for the max number of calls that can be sent in a single batch request
+     **/
+    public static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * {@code DEFAULT_BATCH_PARALLELISM} is a constant for the default max number of batch requests sent at the same time
+     **/
+    public static final int DEFAULT_BATCH_PARALLELISM = 4;
+
     /**
      * {@code APPLICATION_ATOM_XML_MIME_TYPE} is a constant for application/atom+xml mime type
      **/
@@ -148,11 +180,79 @@ public class GmailManager extends GoogleManager {
 
     }
 
+    /**
+     * {@code BATCH_EXECUTOR} is the instance used to send the batch and the bulk requests in parallel
+     **/
+    private static final ExecutorService BATCH_EXECUTOR = newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "gmail-batch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * {@code DEFAULT_ASYNC_EXECUTOR} is the instance used by default to execute the asynchronous requests, a virtual
+     * thread for each request when the runtime supports them
+     **/
+    private static final Executor DEFAULT_ASYNC_EXECUTOR = createDefaultAsyncExecutor();
+
+    /**
+     * {@code gmailService} is the instance of the {@link Gmail}'s client, used to create the batch requests
+     **/
+    private final Gmail gmailService;
+
     /**
      * {@code gmail} is the instance for {@link Gmail}'s service
      **/
     protected final Gmail.Users gmail;
 
+    /**
+     * {@code coalescer} is the instance used to coalesce the single requests, shared between a manager and its views,
+     * null if the coalescing is disabled
+     **/
+    private final AtomicReference<GmailRequestCoalescer> coalescer;
+
+    /**
+     * {@code asyncExecutor} is the instance used to execute the asynchronous requests, shared between a manager and its
+     * views
+     **/
+    private final AtomicReference<Executor> asyncExecutor;
+
+    /**
+     * {@code retryPolicy} is the policy used to retry the requests failed for a transient error, shared between a
+     * manager and its views, null if the requests are not retried
+     **/
+    private final AtomicReference<GmailRetryPolicy> retryPolicy;
+
+    /**
+     * {@code hedgingPolicy} is the policy used to duplicate the {@code "GET"} requests slower than usual, shared
+     * between a manager and its views, null if the requests are not duplicated
+     **/
+    private final AtomicReference<GmailHedgingPolicy> hedgingPolicy;
+
+    /**
+     * {@code isolation} is the instance used to isolate the resource families of Gmail from each other, shared between
+     * a manager and its views, null if the families are not isolated
+     **/
+    private final AtomicReference<GmailIsolation> isolation;
+
+    /**
+     * {@code singleFlight} is the instance used to execute only once the identical {@code "GET"} requests made at the
+     * same time, shared between a manager and its views, null if the requests are not deduplicated
+     **/
+    private final AtomicReference<GmailSingleFlight> singleFlight;
+
+    /**
+     * {@code messageCache} is the instance used to keep in memory the messages and the attachments already downloaded,
+     * shared between a manager and its views, null if the responses are not kept
+     **/
+    private final AtomicReference<GmailMessageCache> messageCache;
+
+    /**
+     * {@code labelDirectory} is the instance used to resolve the names of the labels to their ids, shared between a
+     * manager and its views
+     **/
+    private final GmailLabelDirectory labelDirectory;
+
     /**
      * Constructor to init a {@link GmailManager}
      *
@@ -169,10 +269,8 @@ public class GmailManager extends GoogleManager {
      **/
     public GmailManager(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
                         int port, String host, String callBackPath, String applicationName) throws IOException {
-        super(clientId, clientSecret, userId, accessType, approvalPrompt, port, host, callBackPath, GmailScopes.all());
-        gmail = new Gmail.Builder(netHttpTransport, gsonFactory, credentials).setApplicationName(applicationName)
-                .build().users();
-        properties.setProperty("application_name", applicationName);
+        this(new GoogleConfig(clientId, clientSecret, userId, accessType, approvalPrompt, port, host, callBackPath,
+                applicationName));
     }
 
     /**
@@ -188,10 +286,8 @@ public class GmailManager extends GoogleManager {
      **/
     public GmailManager(String clientId, String clientSecret, String userId, String accessType,
                         String approvalPrompt, String applicationName) throws IOException {
-        super(clientId, clientSecret, userId, accessType, approvalPrompt, GmailScopes.all());
-        gmail = new Gmail.Builder(netHttpTransport, gsonFactory, credentials).setApplicationName(applicationName)
-                .build().users();
-        properties.setProperty("application_name", applicationName);
+        this(new GoogleConfig(clientId, clientSecret, userId, accessType, approvalPrompt, DEFAULT_PORT,
+                DEFAULT_HOST, DEFAULT_CALLBACK_PATH, applicationName));
     }
 
     /**
@@ -208,10 +304,8 @@ public class GmailManager extends GoogleManager {
      **/
     public GmailManager(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
                         int port, String applicationName) throws IOException {
-        super(clientId, clientSecret, userId, accessType, approvalPrompt, port, GmailScopes.all());
-        gmail = new Gmail.Builder(netHttpTransport, gsonFactory, credentials).setApplicationName(applicationName)
-                .build().users();
-        properties.setProperty("application_name", applicationName);
+        this(new GoogleConfig(clientId, clientSecret, userId, accessType, approvalPrompt, port,
+                DEFAULT_HOST, DEFAULT_CALLBACK_PATH, applicationName));
     }
 
     /**
@@ -229,10 +323,8 @@ public class GmailManager extends GoogleManager {
      **/
     public GmailManager(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
                         int port, String callBackPath, String applicationName) throws IOException {
-        super(clientId, clientSecret, userId, accessType, approvalPrompt, port, callBackPath, GmailScopes.all());
-        gmail = new Gmail.Builder(netHttpTransport, gsonFactory, credentials).setApplicationName(applicationName)
-                .build().users();
-        properties.setProperty("application_name", applicationName);
+        this(new GoogleConfig(clientId, clientSecret, userId, accessType, approvalPrompt, port,
+                DEFAULT_HOST, callBackPath, applicationName));
     }
 
     /**
@@ -250,10 +342,8 @@ public class GmailManager extends GoogleManager {
      **/
     public GmailManager(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
                         String host, int port, String applicationName) throws IOException {
-        super(clientId, clientSecret, userId, accessType, approvalPrompt, host, port, GmailScopes.all());
-        gmail = new Gmail.Builder(netHttpTransport, gsonFactory, credentials).setApplicationName(applicationName)
-                .build().users();
-        properties.setProperty("application_name", applicationName);
+        this(new GoogleConfig(clientId, clientSecret, userId, accessType, approvalPrompt, port,
+                host, DEFAULT_CALLBACK_PATH, applicationName));
     }
 
     /**
@@ -273,9 +363,581 @@ public class GmailManager extends GoogleManager {
      * </pre>
      **/
     public GmailManager() throws IOException {
-        super(GmailScopes.all());
-        gmail = new Gmail.Builder(netHttpTransport, gsonFactory, credentials).setApplicationName(properties
-                .getProperty("application_name")).build().users();
+        this(getLastConfig());
+    }
+
+    /**
+     * Constructor to init a {@link GmailManager}
+     *
+     * @param config: configuration of the manager
+     * @throws IOException when auth request has been go wrong
+     * @apiNote see {@link GoogleManager#GoogleManager(GoogleConfig, java.util.Collection)}
+     **/
+    public GmailManager(GoogleConfig config) throws IOException {
+        super(config, GmailScopes.all());
+        gmailService = createGmail();
+        gmail = gmailService.users();
+        coalescer = new AtomicReference<>();
+        asyncExecutor = new AtomicReference<>(DEFAULT_ASYNC_EXECUTOR);
+        retryPolicy = new AtomicReference<>(new GmailRetryPolicy());
+        hedgingPolicy = new AtomicReference<>();
+        isolation = new AtomicReference<>();
+        singleFlight = new AtomicReference<>(new GmailSingleFlight());
+        messageCache = new AtomicReference<>();
+        labelDirectory = new GmailLabelDirectory(() -> execute(gmail.labels().list(userId)));
+    }
+
+    /**
+     * Constructor to init a {@link GmailManager} impersonating a user with a service account
+     *
+     * @param delegation:      the service account with the domain-wide delegation enabled
+     * @param userId:          the email of the user to impersonate
+     * @param applicationName: name of application to give at the project
+     * @apiNote this constructor does not perform any auth request from the browser, so it is useful to work with
+     * many mailboxes of a Google Workspace's domain
+     **/
+    public GmailManager(ServiceAccountDelegation delegation, String userId, String applicationName) {
+        super(delegation, userId, applicationName, GmailScopes.all());
+        gmailService = createGmail();
+        gmail = gmailService.users();
+        coalescer = new AtomicReference<>();
+        asyncExecutor = new AtomicReference<>(DEFAULT_ASYNC_EXECUTOR);
+        retryPolicy = new AtomicReference<>(new GmailRetryPolicy());
+        hedgingPolicy = new AtomicReference<>();
+        isolation = new AtomicReference<>();
+        singleFlight = new AtomicReference<>(new GmailSingleFlight());
+        messageCache = new AtomicReference<>();
+        labelDirectory = new GmailLabelDirectory(() -> execute(gmail.labels().list(userId)));
+    }
+
+    /**
+     * Constructor to init a {@link GmailManager} as view of another manager
+     *
+     * @param manager: manager already authorized from which share the authorization and the {@link #gmail} service
+     * @apiNote this constructor does not perform any auth request and does not create a new transport, is useful to
+     * create the different managers of the same account, see {@link GmailSession}
+     **/
+    public GmailManager(GmailManager manager) {
+        super(manager);
+        gmailService = manager.gmailService;
+        gmail = manager.gmail;
+        coalescer = manager.coalescer;
+        asyncExecutor = manager.asyncExecutor;
+        retryPolicy = manager.retryPolicy;
+        hedgingPolicy = manager.hedgingPolicy;
+        isolation = manager.isolation;
+        singleFlight = manager.singleFlight;
+        messageCache = manager.messageCache;
+        labelDirectory = manager.labelDirectory;
+    }
+
+    /**
+     * Method to create the {@link #gmailService} client <br>
+     * Any params required
+     *
+     * @return {@link #gmailService} client as {@link Gmail}
+     * @apiNote each attempt of a request waits the quota units of its method, see {@link GmailRateLimiter}, and the
+     * request is retried when fails for a transient error, see {@link GmailRetryPolicy}. When the isolation is enabled
+     * each attempt takes a permit of its resource family after waiting its quota units, see {@link GmailIsolation}.
+     * When the hedging is enabled its latencies are measured from when each attempt is sent, see
+     * {@link GmailHedgingPolicy}
+     **/
+    private Gmail createGmail() {
+        HttpRequestInitializer requestInitializer = getRequestInitializer();
+        String project = config.getClientId() != null ? config.getClientId() : config.getApplicationName();
+        GmailRateLimiter rateLimiter = GmailRateLimiter.getInstance(project, userId);
+        return new Gmail.Builder(httpTransport, gsonFactory, request -> {
+            requestInitializer.initialize(request);
+            GmailRetryPolicy policy = retryPolicy.get();
+            if (policy != null)
+                policy.install(request);
+            rateLimiter.install(request);
+            GmailIsolation requestIsolation = isolation.get();
+            if (requestIsolation != null)
+                requestIsolation.install(request);
+            GmailHedgingPolicy hedging = hedgingPolicy.get();
+            if (hedging != null)
+                hedging.install(request);
+        }).setApplicationName(config.getApplicationName()).build();
+    }
+
+    /**
+     * Method to execute a request and format its response
+     *
+     * @param request:  the request to execute
+     * @param format:   return type formatter -> {@link ReturnFormat}
+     * @param returner: the method used to format the parsed response
+     * @return response as {@code "format"} defines
+     * @throws IOException when the request has been go wrong
+     * @apiNote with the {@link ReturnFormat#RAW} format the body of the response is returned as {@link java.io.InputStream}
+     * without being parsed, so the {@code "returner"} is not invoked, otherwise see {@link #execute(GmailRequest)}
+     **/
+    protected <M, T> T execute(GmailRequest<M> request, ReturnFormat format,
+                               BiFunction<M, ReturnFormat, T> returner) throws IOException {
+        if (format == RAW)
+            return (T) request.executeAsInputStream();
+        return returner.apply(execute(request), format);
+    }
+
+    /**
+     * Method to execute a request
+     *
+     * @param request: the request to execute
+     * @return the parsed response as {@link M}
+     * @throws IOException when the request has been go wrong
+     * @apiNote a {@code "GET"} request identical to one in flight waits its response instead of being sent, see
+     * {@link GmailSingleFlight}, then when the coalescing is enabled the {@code "GET"} requests are sent with the other
+     * requests made at the same time, see {@link #enableCoalescing(long, int)}, otherwise when the hedging is enabled
+     * the {@code "GET"} requests slower than usual are duplicated, see {@link #setHedgingPolicy(GmailHedgingPolicy)}.
+     * When the message cache is enabled the messages and the attachments already downloaded are not requested again,
+     * see {@link GmailMessageCache}. The responses keep updated the {@link #getLabelDirectory()}
+     **/
+    protected <M> M execute(GmailRequest<M> request) throws IOException {
+        GmailMessageCache cache = messageCache.get();
+        M response;
+        if (GET.equals(request.getRequestMethod())) {
+            if (cache != null) {
+                response = cache.get(request);
+                if (response != null)
+                    return response;
+            }
+            GmailSingleFlight flight = singleFlight.get();
+            if (flight != null)
+                response = flight.execute(request, () -> executeGet(request));
+            else
+                response = executeGet(request);
+        } else
+            response = request.execute();
+        if (cache != null)
+            cache.update(request, response);
+        labelDirectory.update(request, response);
+        return response;
+    }
+
+    /**
+     * Method to execute a {@code "GET"} request
+     *
+     * @param request: the request to execute
+     * @return the parsed response as {@link M}
+     * @throws IOException when the request has been go wrong
+     **/
+    private <M> M executeGet(GmailRequest<M> request) throws IOException {
+        GmailRequestCoalescer requestCoalescer = coalescer.get();
+        if (requestCoalescer != null)
+            return requestCoalescer.execute(request);
+        GmailHedgingPolicy policy = hedgingPolicy.get();
+        if (policy != null)
+            return policy.execute(request, asyncExecutor.get());
+        return request.execute();
+    }
+
+    /**
+     * Method to enable the coalescing of the single requests with the default window <br>
+     * Any params required
+     *
+     * @return the coalescer enabled as {@link GmailRequestCoalescer}
+     * @apiNote see {@link #enableCoalescing(long, int)}
+     **/
+    public GmailRequestCoalescer enableCoalescing() {
+        return enableCoalescing(GmailRequestCoalescer.DEFAULT_WINDOW, MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Method to enable the coalescing of the single requests
+     *
+     * @param window:     the time, in milliseconds, in which the requests are collected
+     * @param maxPending: the max number of requests collected before sending them, at most {@link #MAX_BATCH_SIZE}
+     * @return the coalescer enabled as {@link GmailRequestCoalescer}
+     * @apiNote the {@code "GET"} requests, like {@code "getMessage"}, {@code "getThread"} or {@code "getLabel"}, made
+     * by many threads at the same time are sent as a single batch request, each caller keeps waiting only its own
+     * response. The coalescing is shared between this manager and its views, so it is useful with many threads that
+     * use the same {@link GmailSession}
+     **/
+    public GmailRequestCoalescer enableCoalescing(long window, int maxPending) {
+        GmailRequestCoalescer requestCoalescer = new GmailRequestCoalescer(this::newBatch, window, maxPending);
+        GmailRequestCoalescer previous = coalescer.getAndSet(requestCoalescer);
+        if (previous != null)
+            previous.flush();
+        return requestCoalescer;
+    }
+
+    /**
+     * Method to disable the coalescing of the single requests, the requests already collected are sent immediately <br>
+     * Any params required
+     **/
+    public void disableCoalescing() {
+        GmailRequestCoalescer previous = coalescer.getAndSet(null);
+        if (previous != null)
+            previous.flush();
+    }
+
+    /**
+     * Method to get whether the coalescing of the single requests is enabled <br>
+     * Any params required
+     *
+     * @return {@code "true"} if the coalescing is enabled, {@code "false"} if not
+     **/
+    public boolean isCoalescing() {
+        return coalescer.get() != null;
+    }
+
+    /**
+     * Method to execute asynchronously any request of the manager
+     *
+     * @param call: the call to execute, for example {@code () -> manager.getMessage(messageId)}
+     * @return the result of the call as {@link CompletableFuture} of {@link T}
+     * @apiNote the call is executed with the {@link #getAsyncExecutor()}, when the call fails the future is completed
+     * exceptionally with the exception thrown, like the {@link IOException} of a request or the {@link Exception} of
+     * the methods that send a message:
+     * <pre>
+     *     {@code
+     *        manager.async(() -> manager.getMessage(messageId))
+     *               .thenAccept(message -> System.out.println(message.getSnippet()));
+     *     }
+     * </pre>
+     **/
+    public <T> CompletableFuture<T> async(GmailCall<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            asyncExecutor.get().execute(() -> {
+                try {
+                    result.complete(call.call());
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Method to set the executor used to execute the asynchronous requests
+     *
+     * @param executor: the executor to use, null to use the default one
+     * @apiNote the executor is shared between this manager and its views, the default one executes each request in a
+     * virtual thread when the runtime supports them, otherwise in a pool of daemon threads
+     **/
+    public void setAsyncExecutor(Executor executor) {
+        asyncExecutor.set(executor != null ? executor : DEFAULT_ASYNC_EXECUTOR);
+    }
+
+    /**
+     * Method to get {@link #asyncExecutor} instance <br>
+     * Any params required
+     *
+     * @return {@link #asyncExecutor} instance as {@link Executor}
+     **/
+    public Executor getAsyncExecutor() {
+        return asyncExecutor.get();
+    }
+
+    /**
+     * Method to create the {@link #DEFAULT_ASYNC_EXECUTOR} <br>
+     * Any params required
+     *
+     * @return the executor as {@link Executor}
+     * @apiNote the virtual threads are looked up at runtime, so the library keeps working on the runtimes without
+     * them, where a pool of daemon threads is used
+     **/
+    private static Executor createDefaultAsyncExecutor() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "gmail-async");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Method to set the policy used to retry the requests failed for a transient error
+     *
+     * @param policy: the policy to use, null to not retry the requests
+     * @apiNote the policy is shared between this manager and its views and applies to the requests created after
+     * this call
+     **/
+    public void setRetryPolicy(GmailRetryPolicy policy) {
+        retryPolicy.set(policy);
+    }
+
+    /**
+     * Method to get {@link #retryPolicy} instance <br>
+     * Any params required
+     *
+     * @return {@link #retryPolicy} instance as {@link GmailRetryPolicy}, null if the requests are not retried
+     **/
+    public GmailRetryPolicy getRetryPolicy() {
+        return retryPolicy.get();
+    }
+
+    /**
+     * Method to set the policy used to duplicate the {@code "GET"} requests slower than usual
+     *
+     * @param policy: the policy to use, null to not duplicate the requests
+     * @apiNote the policy is shared between this manager and its views, the attempts are executed with the
+     * {@link #getAsyncExecutor()}. The hedging is not applied while the coalescing is enabled
+     **/
+    public void setHedgingPolicy(GmailHedgingPolicy policy) {
+        hedgingPolicy.set(policy);
+    }
+
+    /**
+     * Method to get {@link #hedgingPolicy} instance <br>
+     * Any params required
+     *
+     * @return {@link #hedgingPolicy} instance as {@link GmailHedgingPolicy}, null if the requests are not duplicated
+     **/
+    public GmailHedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy.get();
+    }
+
+    /**
+     * Method to set the instance used to isolate the resource families of Gmail from each other
+     *
+     * @param isolation: the isolation to use, null to not isolate the families
+     * @apiNote the isolation is shared between this manager and its views and applies to the requests created after
+     * this call. The same instance can be set on the managers of different accounts to share the limits between them
+     **/
+    public void setIsolation(GmailIsolation isolation) {
+        this.isolation.set(isolation);
+    }
+
+    /**
+     * Method to get {@link #isolation} instance <br>
+     * Any params required
+     *
+     * @return {@link #isolation} instance as {@link GmailIsolation}, null if the families are not isolated
+     **/
+    public GmailIsolation getIsolation() {
+        return isolation.get();
+    }
+
+    /**
+     * Method to set the instance used to execute only once the identical {@code "GET"} requests made at the same time
+     *
+     * @param singleFlight: the instance to use, null to send each request
+     * @apiNote the instance is shared between this manager and its views, by default the requests are deduplicated
+     **/
+    public void setSingleFlight(GmailSingleFlight singleFlight) {
+        this.singleFlight.set(singleFlight);
+    }
+
+    /**
+     * Method to get {@link #singleFlight} instance <br>
+     * Any params required
+     *
+     * @return {@link #singleFlight} instance as {@link GmailSingleFlight}, null if the requests are not deduplicated
+     **/
+    public GmailSingleFlight getSingleFlight() {
+        return singleFlight.get();
+    }
+
+    /**
+     * Method to set the instance used to keep in memory the messages and the attachments already downloaded
+     *
+     * @param messageCache: the cache to use, null to not keep the responses
+     * @apiNote the cache is shared between this manager and its views, so the labels of the messages kept are updated
+     * also by the history requests made with a {@link com.tecknobit.googlemanager.gmail.history.GmailHistoryManager}
+     * of the same {@link GmailSession}
+     **/
+    public void setMessageCache(GmailMessageCache messageCache) {
+        this.messageCache.set(messageCache);
+    }
+
+    /**
+     * Method to get {@link #messageCache} instance <br>
+     * Any params required
+     *
+     * @return {@link #messageCache} instance as {@link GmailMessageCache}, null if the responses are not kept
+     **/
+    public GmailMessageCache getMessageCache() {
+        return messageCache.get();
+    }
+
+    /**
+     * Method to get {@link #labelDirectory} instance <br>
+     * Any params required
+     *
+     * @return {@link #labelDirectory} instance as {@link GmailLabelDirectory}
+     * @apiNote the directory is shared between this manager and its views and loads the labels with the first
+     * resolution
+     **/
+    public GmailLabelDirectory getLabelDirectory() {
+        return labelDirectory;
+    }
+
+    /**
+     * Method to execute many requests with the batch endpoint of Gmail
+     *
+     * @param requests: the requests to execute keyed by the id of the resource requested
+     * @param format:   return type formatter -> {@link ReturnFormat}
+     * @param returner: the method used to format each parsed response
+     * @return the results of the requests as {@link BatchResult} keyed by the id of the resource requested
+     * @throws IOException when a batch request has been go wrong
+     * @apiNote the batches are sent one at a time, see {@link #executeBatch(Map, ReturnFormat, BiFunction, int)}
+     **/
+    protected <M, T> BatchResult<T> executeBatch(Map<String, ? extends GmailRequest<M>> requests, ReturnFormat format,
+                                                 BiFunction<M, ReturnFormat, T> returner) throws IOException {
+        return executeBatch(requests, format, returner, 1);
+    }
+
+    /**
+     * Method to execute many requests with the batch endpoint of Gmail
+     *
+     * @param requests:    the requests to execute keyed by the id of the resource requested
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @param returner:    the method used to format each parsed response
+     * @param parallelism: max number of batches sent at the same time
+     * @return the results of the requests as {@link BatchResult} keyed by the id of the resource requested
+     * @throws IOException when a batch request has been go wrong
+     * @apiNote the requests are sent in batches of {@link #MAX_BATCH_SIZE} calls, a call not successfully executed is
+     * reported in the {@link BatchResult#getFailures()} and does not stop the others. The results keep the order of the
+     * {@code "requests"} whatever is the order in which the batches are completed. The parts of a batch response are
+     * always parsed, so the {@link ReturnFormat#RAW} format is formatted as {@link ReturnFormat#STRING}
+     **/
+    protected <M, T> BatchResult<T> executeBatch(Map<String, ? extends GmailRequest<M>> requests, ReturnFormat format,
+                                                 BiFunction<M, ReturnFormat, T> returner,
+                                                 int parallelism) throws IOException {
+        ReturnFormat itemFormat = format == RAW ? STRING : format;
+        ArrayList<Map.Entry<String, ? extends GmailRequest<M>>> calls = new ArrayList<>(requests.entrySet());
+        int batchesCount = (calls.size() + MAX_BATCH_SIZE - 1) / MAX_BATCH_SIZE;
+        ArrayList<BatchResult<T>> batchesResults = new ArrayList<>(batchesCount);
+        for (int j = 0; j < batchesCount; j++)
+            batchesResults.add(new BatchResult<>());
+        dispatch(batchesCount, parallelism, batchIndex -> {
+            int from = batchIndex * MAX_BATCH_SIZE;
+            sendBatch(calls.subList(from, Math.min(from + MAX_BATCH_SIZE, calls.size())), itemFormat, returner,
+                    batchesResults.get(batchIndex));
+        });
+        BatchResult<T> batchResult = new BatchResult<>();
+        for (BatchResult<T> batchResults : batchesResults) {
+            batchResults.getResults().forEach(batchResult::addResult);
+            batchResults.getFailures().forEach(batchResult::addFailure);
+        }
+        return batchResult;
+    }
+
+    /**
+     * Method to execute many tasks with a bounded parallelism
+     *
+     * @param tasksCount:  number of tasks to execute
+     * @param parallelism: max number of tasks executed at the same time
+     * @param task:        the task to execute for each index from 0 to {@code "tasksCount"}
+     * @throws IOException when a task has been go wrong
+     * @apiNote the tasks are pulled by at most {@code "parallelism"} workers, the current thread included, and the
+     * first failure stops the tasks not started yet
+     **/
+    protected static void dispatch(int tasksCount, int parallelism, IndexedTask task) throws IOException {
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("Parallelism must be greater than 0");
+        AtomicInteger nextTask = new AtomicInteger();
+        Callable<Void> worker = () -> {
+            int taskIndex;
+            while ((taskIndex = nextTask.getAndIncrement()) < tasksCount) {
+                try {
+                    task.execute(taskIndex);
+                } catch (IOException | RuntimeException e) {
+                    nextTask.set(tasksCount);
+                    throw e;
+                }
+            }
+            return null;
+        };
+        ArrayList<Future<Void>> workers = new ArrayList<>();
+        for (int j = 1; j < Math.min(parallelism, tasksCount); j++)
+            workers.add(BATCH_EXECUTOR.submit(worker));
+        IOException failure = null;
+        try {
+            worker.call();
+        } catch (IOException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            failure = new IOException(e);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        for (Future<Void> taskWorker : workers) {
+            try {
+                taskWorker.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    Throwable cause = e.getCause();
+                    failure = cause instanceof IOException ? (IOException) cause : new IOException(cause);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting the tasks");
+            }
+        }
+        if (failure != null)
+            throw failure;
+    }
+
+    /**
+     * Method to send a single batch request
+     *
+     * @param calls:       the calls of the batch keyed by the id of the resource requested
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @param returner:    the method used to format each parsed response
+     * @param batchResult: the instance where store the results of the calls
+     * @throws IOException when the batch request has been go wrong
+     **/
+    private <M, T> void sendBatch(List<Map.Entry<String, ? extends GmailRequest<M>>> calls, ReturnFormat format,
+                                  BiFunction<M, ReturnFormat, T> returner,
+                                  BatchResult<T> batchResult) throws IOException {
+        BatchRequest batch = newBatch();
+        for (Map.Entry<String, ? extends GmailRequest<M>> call : calls) {
+            String id = call.getKey();
+            call.getValue().queue(batch, new JsonBatchCallback<>() {
+                @Override
+                public void onSuccess(M response, HttpHeaders responseHeaders) {
+                    batchResult.addResult(id, returner.apply(response, format));
+                }
+
+                @Override
+                public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                    batchResult.addFailure(id, toFailure(error));
+                }
+            });
+        }
+        try {
+            batch.execute();
+        } finally {
+            GmailIsolation.endBatch();
+        }
+    }
+
+    /**
+     * Method to create a batch request isolated as a single request when the isolation is enabled <br>
+     * Any params required
+     *
+     * @return the batch request as {@link BatchRequest}
+     * @apiNote the batch must be executed with {@link GmailIsolation#endBatch()} called after, so the permits of the
+     * batch are released also when one of its parts fails before the batch is sent
+     **/
+    BatchRequest newBatch() {
+        return gmailService.batch(request -> {
+            GmailIsolation requestIsolation = isolation.get();
+            if (requestIsolation != null)
+                requestIsolation.install(request);
+        });
+    }
+
+    /**
+     * Method to create a failure of a batch request
+     *
+     * @param error: the error obtained from Google's response
+     * @return failure as {@link Failure}
+     **/
+    private static Failure toFailure(GoogleJsonError error) {
+        String reason = null;
+        if (error.getErrors() != null && !error.getErrors().isEmpty())
+            reason = error.getErrors().get(0).getReason();
+        return new Failure(error.getCode(), error.getMessage(), reason);
     }
 
     /**
@@ -551,4 +1213,63 @@ public class GmailManager extends GoogleManager {
         return mime;
     }
 
+    /**
+     * The {@code GmailCall} interface is useful to execute asynchronously any method of a manager
+     *
+     * @param <T> type of the result of the call
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    @FunctionalInterface
+    public interface GmailCall<T> {
+
+        /**
+         * Method to execute the call <br>
+         * Any params required
+         *
+         * @return the result of the call as {@link T}
+         * @throws Exception when the call has been go wrong, like the {@link IOException} of a request
+         **/
+        T call() throws Exception;
+
+    }
+
+    /**
+     * The {@code GmailRequestCall} interface is useful to send a request on behalf of the components of a manager, like
+     * the caches that request a state when it is not kept
+     *
+     * @param <T> type of the response of the request
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    @FunctionalInterface
+    public interface GmailRequestCall<T> {
+
+        /**
+         * Method to send the request <br>
+         * Any params required
+         *
+         * @return the response of the request as {@link T}
+         * @throws IOException when the request has been go wrong
+         **/
+        T call() throws IOException;
+
+    }
+
+    /**
+     * The {@code IndexedTask} interface is useful to define a task executed by {@link #dispatch(int, int, IndexedTask)}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    @FunctionalInterface
+    protected interface IndexedTask {
+
+        /**
+         * Method to execute the task
+         *
+         * @param taskIndex: the index of the task to execute
+         * @throws IOException when the task has been go wrong
+         **/
+        void execute(int taskIndex) throws IOException;
+
+    }
+
 }
@@ -0,0 +1,590 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.json.GenericJson;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.GmailRequest;
+import com.google.api.services.gmail.model.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code GmailMessageCache} class is useful to keep in memory the messages and the attachments already downloaded
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the content of a message cannot change once created, only its labels can change, so the responses of
+ * {@code "getMessage"} and {@code "getAttachment"} are kept, indexed by the id, the format and the metadata headers
+ * requested, and the next identical requests are answered without using the network. The labels of the messages kept
+ * are updated in place from the history records, see
+ * {@link com.tecknobit.googlemanager.gmail.history.GmailHistoryManager}, and from the requests that modify the
+ * messages or their threads, the messages deleted, also with their thread, are removed. When the responses kept
+ * exceed {@link #getMaxBytes()} the least recently used are removed:
+ * <pre>
+ *     {@code
+ *        manager.setMessageCache(new GmailMessageCache(128 * 1024 * 1024));
+ *        ...
+ *        System.out.println(manager.getMessageCache().getHitRate());
+ *     }
+ * </pre>
+ **/
+public final class GmailMessageCache {
+
+    /**
+     * {@code DEFAULT_MAX_BYTES} is a constant for the default max size, in bytes, of the responses kept
+     **/
+    public static final long DEFAULT_MAX_BYTES = 64 * 1024 * 1024;
+
+    /**
+     * {@code ENTRY_OVERHEAD} is a constant for the size, in bytes, estimated for each object kept
+     **/
+    private static final int ENTRY_OVERHEAD = 64;
+
+    /**
+     * {@code maxBytes} is the max size, in bytes, of the responses kept
+     **/
+    private final long maxBytes;
+
+    /**
+     * {@code entries} are the responses kept, from the least recently used
+     **/
+    private final LinkedHashMap<String, Entry> entries;
+
+    /**
+     * {@code messagesIndex} are the keys of the responses kept, indexed by the id of their message
+     **/
+    private final HashMap<String, Set<String>> messagesIndex;
+
+    /**
+     * {@code threadsIndex} are the ids of the messages kept, indexed by the id of their thread
+     **/
+    private final HashMap<String, Set<String>> threadsIndex;
+
+    /**
+     * {@code messagesThreads} are the ids of the threads of the messages kept, indexed by the id of the message
+     **/
+    private final HashMap<String, String> messagesThreads;
+
+    /**
+     * {@code size} is the size, in bytes, of the responses kept
+     **/
+    private long size;
+
+    /**
+     * {@code hits} is the number of requests answered with a response kept
+     **/
+    private final AtomicLong hits;
+
+    /**
+     * {@code misses} is the number of requests sent because their response was not kept
+     **/
+    private final AtomicLong misses;
+
+    /**
+     * {@code evictions} is the number of responses removed to respect the {@link #maxBytes}
+     **/
+    private final AtomicLong evictions;
+
+    /**
+     * {@code patches} is the number of responses of which the labels have been updated in place
+     **/
+    private final AtomicLong patches;
+
+    /**
+     * Constructor to init a {@link GmailMessageCache} with the default max size <br>
+     * Any params required
+     **/
+    public GmailMessageCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Constructor to init a {@link GmailMessageCache}
+     *
+     * @param maxBytes: the max size, in bytes, of the responses kept
+     **/
+    public GmailMessageCache(long maxBytes) {
+        if (maxBytes <= 0)
+            throw new IllegalArgumentException("Max bytes must be positive");
+        this.maxBytes = maxBytes;
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+        messagesIndex = new HashMap<>();
+        threadsIndex = new HashMap<>();
+        messagesThreads = new HashMap<>();
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+        evictions = new AtomicLong();
+        patches = new AtomicLong();
+    }
+
+    /**
+     * Method to get {@link #maxBytes} instance <br>
+     * Any params required
+     *
+     * @return {@link #maxBytes} instance as long
+     **/
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Method to get {@link #size} instance <br>
+     * Any params required
+     *
+     * @return {@link #size} instance as long
+     **/
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Method to get the number of responses kept <br>
+     * Any params required
+     *
+     * @return the number of responses kept as int
+     **/
+    public synchronized int getEntriesCount() {
+        return entries.size();
+    }
+
+    /**
+     * Method to get {@link #hits} instance <br>
+     * Any params required
+     *
+     * @return {@link #hits} instance as long
+     **/
+    public long getHitsCount() {
+        return hits.get();
+    }
+
+    /**
+     * Method to get {@link #misses} instance <br>
+     * Any params required
+     *
+     * @return {@link #misses} instance as long
+     **/
+    public long getMissesCount() {
+        return misses.get();
+    }
+
+    /**
+     * Method to get {@link #evictions} instance <br>
+     * Any params required
+     *
+     * @return {@link #evictions} instance as long
+     **/
+    public long getEvictionsCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Method to get {@link #patches} instance <br>
+     * Any params required
+     *
+     * @return {@link #patches} instance as long
+     **/
+    public long getPatchesCount() {
+        return patches.get();
+    }
+
+    /**
+     * Method to get the rate of requests answered with a response kept <br>
+     * Any params required
+     *
+     * @return the rate of requests as double, between 0 and 1
+     **/
+    public double getHitRate() {
+        long hitsCount = hits.get();
+        long total = hitsCount + misses.get();
+        return total == 0 ? 0 : (double) hitsCount / total;
+    }
+
+    /**
+     * Method to reset the counters <br>
+     * Any params required
+     **/
+    public void resetCounters() {
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+        patches.set(0);
+    }
+
+    /**
+     * Method to remove all the responses kept <br>
+     * Any params required
+     **/
+    public synchronized void clear() {
+        entries.clear();
+        messagesIndex.clear();
+        threadsIndex.clear();
+        messagesThreads.clear();
+        size = 0;
+    }
+
+    /**
+     * Method to get the response kept of a request
+     *
+     * @param request: the request of which get the response
+     * @return a copy of the response kept as {@link M}, null if the request cannot be cached or its response is not
+     * kept
+     **/
+    public <M> M get(GmailRequest<M> request) {
+        String key = getKey(request);
+        if (key == null)
+            return null;
+        GenericJson response;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            response = entry != null ? entry.response.clone() : null;
+        }
+        if (response == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return (M) response;
+    }
+
+    /**
+     * Method to update the responses kept with the response of a request
+     *
+     * @param request:  the request executed
+     * @param response: the response of the request
+     * @apiNote the responses of {@code "getMessage"} and {@code "getAttachment"} are kept, the labels of the messages
+     * kept are updated from the history records, the messages and the threads modified, the messages deleted, also
+     * with their thread, are removed
+     **/
+    public <M> void update(GmailRequest<M> request, M response) {
+        if (request instanceof Gmail.Users.Messages.Delete)
+            evict(((Gmail.Users.Messages.Delete) request).getId());
+        else if (request instanceof Gmail.Users.Messages.BatchDelete) {
+            Object content = ((Gmail.Users.Messages.BatchDelete) request).getJsonContent();
+            if (content instanceof BatchDeleteMessagesRequest) {
+                List<String> ids = ((BatchDeleteMessagesRequest) content).getIds();
+                if (ids != null)
+                    for (String id : ids)
+                        evict(id);
+            }
+        } else if (request instanceof Gmail.Users.Messages.BatchModify) {
+            Object content = ((Gmail.Users.Messages.BatchModify) request).getJsonContent();
+            if (content instanceof BatchModifyMessagesRequest) {
+                BatchModifyMessagesRequest modify = (BatchModifyMessagesRequest) content;
+                if (modify.getIds() != null) {
+                    for (String id : modify.getIds()) {
+                        patch(id, modify.getAddLabelIds(), true);
+                        patch(id, modify.getRemoveLabelIds(), false);
+                    }
+                }
+            }
+        } else if (request instanceof Gmail.Users.Threads.Delete)
+            evictThread(((Gmail.Users.Threads.Delete) request).getId());
+        else if (response instanceof ListHistoryResponse)
+            apply((ListHistoryResponse) response);
+        else if (response instanceof com.google.api.services.gmail.model.Thread)
+            apply((com.google.api.services.gmail.model.Thread) response);
+        else if (response instanceof GenericJson) {
+            String key = getKey(request);
+            if (key != null)
+                put(key, getMessageId(request), ((GenericJson) response).clone());
+            else if (response instanceof Message) {
+                Message message = (Message) response;
+                if (message.getId() != null && message.getLabelIds() != null)
+                    patch(message.getId(), new ArrayList<>(message.getLabelIds()));
+            }
+        }
+    }
+
+    /**
+     * Method to update the labels of the messages kept from the history records
+     *
+     * @param history: the history records, from the oldest
+     **/
+    public void apply(ListHistoryResponse history) {
+        if (history.getHistory() == null)
+            return;
+        for (History record : history.getHistory()) {
+            if (record.getLabelsAdded() != null) {
+                for (HistoryLabelAdded added : record.getLabelsAdded())
+                    if (added.getMessage() != null)
+                        patch(added.getMessage().getId(), added.getLabelIds(), true);
+            }
+            if (record.getLabelsRemoved() != null) {
+                for (HistoryLabelRemoved removed : record.getLabelsRemoved())
+                    if (removed.getMessage() != null)
+                        patch(removed.getMessage().getId(), removed.getLabelIds(), false);
+            }
+            if (record.getMessagesDeleted() != null) {
+                for (HistoryMessageDeleted deleted : record.getMessagesDeleted())
+                    if (deleted.getMessage() != null)
+                        evict(deleted.getMessage().getId());
+            }
+        }
+    }
+
+    /**
+     * Method to remove the responses kept of a message
+     *
+     * @param messageId: the id of the message
+     **/
+    public synchronized void evict(String messageId) {
+        Set<String> keys = messagesIndex.remove(messageId);
+        if (keys != null) {
+            for (String key : keys)
+                size -= entries.remove(key).size;
+            unindexThread(messageId);
+        }
+    }
+
+    /**
+     * Method to remove the responses kept of the messages of a thread
+     *
+     * @param threadId: the id of the thread
+     **/
+    public synchronized void evictThread(String threadId) {
+        Set<String> messageIds = threadsIndex.get(threadId);
+        if (messageIds != null)
+            for (String messageId : new ArrayList<>(messageIds))
+                evict(messageId);
+    }
+
+    /**
+     * Method to update the labels of the messages kept from a thread
+     *
+     * @param thread: the thread, like the response of {@code "modify"}, {@code "trash"} or {@code "untrash"}
+     * @apiNote when the thread has not the labels of its messages the messages kept of the thread are removed
+     **/
+    private void apply(com.google.api.services.gmail.model.Thread thread) {
+        List<Message> messages = thread.getMessages();
+        if (messages != null && messages.stream().allMatch(message -> message.getLabelIds() != null)) {
+            for (Message message : messages)
+                patch(message.getId(), new ArrayList<>(message.getLabelIds()));
+        } else if (thread.getId() != null)
+            evictThread(thread.getId());
+    }
+
+    /**
+     * Method to add or remove labels to a message kept
+     *
+     * @param messageId: the id of the message
+     * @param labelIds:  the labels added or removed
+     * @param added:     whether the labels have been added
+     **/
+    private synchronized void patch(String messageId, List<String> labelIds, boolean added) {
+        if (labelIds == null)
+            return;
+        Set<String> keys = messagesIndex.get(messageId);
+        if (keys == null)
+            return;
+        for (String key : keys) {
+            GenericJson response = entries.get(key).response;
+            if (response instanceof Message) {
+                Message kept = (Message) response;
+                LinkedHashSet<String> labels = new LinkedHashSet<>();
+                if (kept.getLabelIds() != null)
+                    labels.addAll(kept.getLabelIds());
+                if (added)
+                    labels.addAll(labelIds);
+                else
+                    labels.removeAll(labelIds);
+                kept.setLabelIds(new ArrayList<>(labels));
+                patches.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Method to set the labels of a message kept
+     *
+     * @param messageId: the id of the message
+     * @param labelIds:  the current labels of the message
+     **/
+    private synchronized void patch(String messageId, List<String> labelIds) {
+        Set<String> keys = messagesIndex.get(messageId);
+        if (keys == null)
+            return;
+        for (String key : keys) {
+            GenericJson response = entries.get(key).response;
+            if (response instanceof Message) {
+                ((Message) response).setLabelIds(new ArrayList<>(labelIds));
+                patches.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Method to keep a response
+     *
+     * @param key:       the key of the response
+     * @param messageId: the id of the message of the response
+     * @param response:  the response to keep
+     **/
+    private synchronized void put(String key, String messageId, GenericJson response) {
+        long responseSize = sizeOf(response);
+        if (responseSize > maxBytes)
+            return;
+        Entry previous = entries.put(key, new Entry(messageId, response, responseSize));
+        if (previous != null)
+            size -= previous.size;
+        size += responseSize;
+        messagesIndex.computeIfAbsent(messageId, id -> new HashSet<>()).add(key);
+        if (response instanceof Message && ((Message) response).getThreadId() != null) {
+            String threadId = ((Message) response).getThreadId();
+            messagesThreads.put(messageId, threadId);
+            threadsIndex.computeIfAbsent(threadId, id -> new HashSet<>()).add(messageId);
+        }
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (size > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Entry> evicted = eldest.next();
+            eldest.remove();
+            size -= evicted.getValue().size;
+            Set<String> keys = messagesIndex.get(evicted.getValue().messageId);
+            keys.remove(evicted.getKey());
+            if (keys.isEmpty()) {
+                messagesIndex.remove(evicted.getValue().messageId);
+                unindexThread(evicted.getValue().messageId);
+            }
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Method to remove a message no more kept from the {@link #threadsIndex}
+     *
+     * @param messageId: the id of the message
+     **/
+    private void unindexThread(String messageId) {
+        String threadId = messagesThreads.remove(messageId);
+        if (threadId != null) {
+            Set<String> messageIds = threadsIndex.get(threadId);
+            messageIds.remove(messageId);
+            if (messageIds.isEmpty())
+                threadsIndex.remove(threadId);
+        }
+    }
+
+    /**
+     * Method to get the key of a request
+     *
+     * @param request: the request of which get the key
+     * @return the key of the request as {@link String}, null if the request cannot be cached
+     **/
+    private static String getKey(GmailRequest<?> request) {
+        if (request instanceof Gmail.Users.Messages.Get) {
+            Gmail.Users.Messages.Get get = (Gmail.Users.Messages.Get) request;
+            String key = "message:" + get.getId() + ":" + get.getFormat();
+            List<String> metadataHeaders = get.getMetadataHeaders();
+            if (metadataHeaders != null && !metadataHeaders.isEmpty()) {
+                TreeSet<String> headers = new TreeSet<>();
+                for (String header : metadataHeaders)
+                    headers.add(header.toLowerCase());
+                key += ":" + String.join(",", headers);
+            }
+            return key;
+        } else if (request instanceof Gmail.Users.Messages.Attachments.Get) {
+            Gmail.Users.Messages.Attachments.Get get = (Gmail.Users.Messages.Attachments.Get) request;
+            return "attachment:" + get.getMessageId() + ":" + get.getId();
+        }
+        return null;
+    }
+
+    /**
+     * Method to get the id of the message of a request that can be cached
+     *
+     * @param request: the request of which get the id of the message
+     * @return the id of the message as {@link String}
+     **/
+    private static String getMessageId(GmailRequest<?> request) {
+        if (request instanceof Gmail.Users.Messages.Get)
+            return ((Gmail.Users.Messages.Get) request).getId();
+        return ((Gmail.Users.Messages.Attachments.Get) request).getMessageId();
+    }
+
+    /**
+     * Method to estimate the size in memory of a response
+     *
+     * @param response: the response of which estimate the size
+     * @return the size, in bytes, as long
+     **/
+    private static long sizeOf(GenericJson response) {
+        if (response instanceof Message) {
+            Message message = (Message) response;
+            long messageSize = ENTRY_OVERHEAD + sizeOf(message.getId()) + sizeOf(message.getRaw())
+                    + sizeOf(message.getSnippet()) + sizeOf(message.getPayload());
+            if (message.getLabelIds() != null)
+                for (String labelId : message.getLabelIds())
+                    messageSize += sizeOf(labelId);
+            return messageSize;
+        } else if (response instanceof MessagePartBody)
+            return ENTRY_OVERHEAD + sizeOf(((MessagePartBody) response).getData());
+        return ENTRY_OVERHEAD + sizeOf(response.toString());
+    }
+
+    /**
+     * Method to estimate the size in memory of a part of a message
+     *
+     * @param part: the part of which estimate the size
+     * @return the size, in bytes, as long
+     **/
+    private static long sizeOf(MessagePart part) {
+        if (part == null)
+            return 0;
+        long partSize = ENTRY_OVERHEAD + sizeOf(part.getMimeType()) + sizeOf(part.getFilename());
+        if (part.getBody() != null)
+            partSize += ENTRY_OVERHEAD + sizeOf(part.getBody().getData()) + sizeOf(part.getBody().getAttachmentId());
+        if (part.getHeaders() != null)
+            for (MessagePartHeader header : part.getHeaders())
+                partSize += ENTRY_OVERHEAD + sizeOf(header.getName()) + sizeOf(header.getValue());
+        if (part.getParts() != null)
+            for (MessagePart subPart : part.getParts())
+                partSize += sizeOf(subPart);
+        return partSize;
+    }
+
+    /**
+     * Method to estimate the size in memory of a string
+     *
+     * @param value: the string of which estimate the size
+     * @return the size, in bytes, as long
+     **/
+    private static long sizeOf(String value) {
+        return value != null ? 40 + value.length() : 0;
+    }
+
+    /**
+     * The {@code Entry} class is useful to hold a response kept
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class Entry {
+
+        /**
+         * {@code messageId} the id of the message of the response
+         **/
+        private final String messageId;
+
+        /**
+         * {@code response} the response kept
+         **/
+        private final GenericJson response;
+
+        /**
+         * {@code size} the size, in bytes, estimated of the response
+         **/
+        private final long size;
+
+        /**
+         * Constructor to init an {@link Entry}
+         *
+         * @param messageId: the id of the message of the response
+         * @param response:  the response kept
+         * @param size:      the size, in bytes, estimated of the response
+         **/
+        private Entry(String messageId, GenericJson response, long size) {
+            this.messageId = messageId;
+            this.response = response;
+            this.size = size;
+        }
+
+    }
+
+}
@@ -0,0 +1,311 @@
+package com.tecknobit.googlemanager.gmail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+
+/**
+ * The {@code GmailPager} class is useful to iterate all the items of a Gmail's list following the page tokens
+ * automatically
+ *
+ * @param <E> type of the items of the list
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the pages are fetched lazily: while a page is consumed the next {@link #getPrefetchDepth()} pages are
+ * fetched in background, so only those pages are kept in memory however large the list is:
+ * <pre>
+ *     {@code
+ *        try (Stream<Message> messages = manager.streamMessages(false, "is:unread")) {
+ *            messages.forEach(message -> ...);
+ *        }
+ *     }
+ * </pre>
+ * The pager must be closed, directly or with its {@link #stream()}, when it is not consumed until the end, and it is
+ * not thread-safe, so it must be iterated and closed by the same thread
+ **/
+public final class GmailPager<E> implements Iterator<E>, AutoCloseable {
+
+    /**
+     * {@code DEFAULT_PREFETCH_DEPTH} is a constant for the default number of pages fetched in background
+     **/
+    public static final int DEFAULT_PREFETCH_DEPTH = 1;
+
+    /**
+     * {@code PREFETCH_EXECUTOR} is the instance used to fetch the pages in background
+     **/
+    private static final ExecutorService PREFETCH_EXECUTOR = newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "gmail-pager");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * {@code fetcher} is the instance used to fetch a page
+     **/
+    private final PageFetcher<E> fetcher;
+
+    /**
+     * {@code prefetchDepth} is the number of pages fetched in background while a page is consumed
+     **/
+    private final int prefetchDepth;
+
+    /**
+     * {@code pages} are the pages scheduled and not consumed yet, in order
+     **/
+    private final ArrayDeque<CompletableFuture<Page<E>>> pages;
+
+    /**
+     * {@code lastScheduled} is the last page scheduled
+     **/
+    private CompletableFuture<Page<E>> lastScheduled;
+
+    /**
+     * {@code items} are the items of the page currently consumed
+     **/
+    private Iterator<E> items;
+
+    /**
+     * {@code finished} whether all the pages have been consumed
+     **/
+    private boolean finished;
+
+    /**
+     * {@code closed} whether the pager has been closed
+     **/
+    private volatile boolean closed;
+
+    /**
+     * Constructor to init a {@link GmailPager}
+     *
+     * @param fetcher: the instance used to fetch a page
+     **/
+    public GmailPager(PageFetcher<E> fetcher) {
+        this(fetcher, DEFAULT_PREFETCH_DEPTH);
+    }
+
+    /**
+     * Constructor to init a {@link GmailPager}
+     *
+     * @param fetcher:       the instance used to fetch a page
+     * @param prefetchDepth: the number of pages fetched in background while a page is consumed, 0 to fetch a page
+     *                       only when it is needed
+     **/
+    public GmailPager(PageFetcher<E> fetcher, int prefetchDepth) {
+        if (prefetchDepth < 0)
+            throw new IllegalArgumentException("Prefetch depth cannot be negative");
+        this.fetcher = fetcher;
+        this.prefetchDepth = prefetchDepth;
+        pages = new ArrayDeque<>();
+        items = Collections.emptyIterator();
+    }
+
+    /**
+     * Method to get {@link #prefetchDepth} instance <br>
+     * Any params required
+     *
+     * @return {@link #prefetchDepth} instance as int
+     **/
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException when a page cannot be fetched
+     **/
+    @Override
+    public boolean hasNext() {
+        while (!items.hasNext()) {
+            if (closed || finished)
+                return false;
+            if (pages.isEmpty())
+                scheduleNextPage();
+            Page<E> page = await(pages.poll());
+            if (page == null) {
+                finished = true;
+                pages.clear();
+                return false;
+            }
+            items = page.getItems().iterator();
+            while (pages.size() < prefetchDepth)
+                scheduleNextPage();
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException when a page cannot be fetched
+     **/
+    @Override
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        return items.next();
+    }
+
+    /**
+     * Method to get a sequential stream of the items, closing the stream the pager is closed <br>
+     * Any params required
+     *
+     * @return the items as {@link Stream} of {@link E}
+     **/
+    public Stream<E> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED
+                | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * Method to stop the iteration and cancel the pages fetched in background <br>
+     * Any params required
+     **/
+    @Override
+    public void close() {
+        closed = true;
+        for (CompletableFuture<Page<E>> page : pages)
+            page.cancel(false);
+        pages.clear();
+        items = Collections.emptyIterator();
+    }
+
+    /**
+     * Method to schedule the fetch of the page after the {@link #lastScheduled} one <br>
+     * Any params required
+     *
+     * @apiNote the page is fetched as soon as the previous one is fetched, because its token is needed
+     **/
+    private void scheduleNextPage() {
+        if (lastScheduled == null)
+            lastScheduled = fetchPage(null);
+        else {
+            lastScheduled = lastScheduled.thenCompose(page -> {
+                if (page == null || page.getNextPageToken() == null || closed)
+                    return completedFuture(null);
+                return fetchPage(page.getNextPageToken());
+            });
+        }
+        pages.add(lastScheduled);
+    }
+
+    /**
+     * Method to fetch a page in background
+     *
+     * @param pageToken: the token of the page to fetch, null for the first page
+     * @return the page as {@link CompletableFuture} of {@link Page}
+     **/
+    private CompletableFuture<Page<E>> fetchPage(String pageToken) {
+        return supplyAsync(() -> {
+            try {
+                return fetcher.fetch(pageToken);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, PREFETCH_EXECUTOR);
+    }
+
+    /**
+     * Method to wait a page
+     *
+     * @param page: the page to wait
+     * @return the page as {@link Page}, null if there are no more pages
+     * @throws UncheckedIOException when the page cannot be fetched
+     **/
+    private Page<E> await(CompletableFuture<Page<E>> page) {
+        try {
+            return page.join();
+        } catch (CancellationException e) {
+            return null;
+        } catch (CompletionException e) {
+            close();
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException)
+                throw (UncheckedIOException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            throw new UncheckedIOException(new IOException(cause));
+        }
+    }
+
+    /**
+     * The {@code PageFetcher} interface is useful to fetch a single page of a Gmail's list
+     *
+     * @param <E> type of the items of the list
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    @FunctionalInterface
+    public interface PageFetcher<E> {
+
+        /**
+         * Method to fetch a page
+         *
+         * @param pageToken: the token of the page to fetch, null for the first page
+         * @return the page as {@link Page}
+         * @throws IOException when the request has been go wrong
+         **/
+        Page<E> fetch(String pageToken) throws IOException;
+
+    }
+
+    /**
+     * The {@code Page} class is useful to format a single page of a Gmail's list
+     *
+     * @param <E> type of the items of the list
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    public static final class Page<E> {
+
+        /**
+         * {@code items} the items of the page
+         **/
+        private final Collection<E> items;
+
+        /**
+         * {@code nextPageToken} the token of the next page, null if this is the last page
+         **/
+        private final String nextPageToken;
+
+        /**
+         * Constructor to init a {@link Page}
+         *
+         * @param items:         the items of the page
+         * @param nextPageToken: the token of the next page, null if this is the last page
+         **/
+        public Page(Collection<E> items, String nextPageToken) {
+            this.items = items != null ? items : Collections.emptyList();
+            this.nextPageToken = nextPageToken;
+        }
+
+        /**
+         * Method to get {@link #items} instance <br>
+         * Any params required
+         *
+         * @return {@link #items} instance as {@link Collection} of {@link E}
+         **/
+        public Collection<E> getItems() {
+            return items;
+        }
+
+        /**
+         * Method to get {@link #nextPageToken} instance <br>
+         * Any params required
+         *
+         * @return {@link #nextPageToken} instance as {@link String}
+         **/
+        public String getNextPageToken() {
+            return nextPageToken;
+        }
+
+    }
+
+}
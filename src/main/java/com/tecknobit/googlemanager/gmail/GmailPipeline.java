@@ -0,0 +1,379 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.tecknobit.googlemanager.gmail.records.BatchResult;
+import com.tecknobit.googlemanager.gmail.records.BatchResult.Failure;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.tecknobit.googlemanager.gmail.GmailManager.MAX_BATCH_SIZE;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code GmailPipeline} class is useful to hydrate, with batch requests, the ids obtained from a Gmail's list
+ * while the list is paginated
+ *
+ * @param <E> type of the items hydrated
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the ids are grouped in batches of {@link #getBatchSize()} ids and at most {@link #getConcurrency()}
+ * batches are fetched at the same time; the items hydrated are kept in a buffer of {@link #getBufferSize()} items
+ * and, when the buffer is full, the fetches wait that the items are consumed, so the memory used is bounded however
+ * large the list is:
+ * <pre>
+ *     {@code
+ *        try (GmailPipeline<Message> pipeline = manager.hydrateMessages(false, "is:unread", METADATA_FORMAT)) {
+ *            pipeline.forEachRemaining(message -> ...);
+ *        }
+ *     }
+ * </pre>
+ * The items are emitted as soon as they are hydrated, so their order can be different from the order of the list
+ **/
+public final class GmailPipeline<E> implements Iterator<E>, AutoCloseable {
+
+    /**
+     * {@code DEFAULT_BATCH_SIZE} is a constant for the default number of ids hydrated with a single batch request
+     **/
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    /**
+     * {@code DEFAULT_BUFFER_SIZE} is a constant for the default number of items hydrated and not consumed yet that
+     * can be buffered
+     **/
+    public static final int DEFAULT_BUFFER_SIZE = 200;
+
+    /**
+     * {@code PIPELINE_EXECUTOR} is the instance used to paginate the list and hydrate the ids in background
+     **/
+    private static final ExecutorService PIPELINE_EXECUTOR = newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "gmail-pipeline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * {@code END} is the marker placed in the {@link #buffer} when all the items have been hydrated
+     **/
+    private static final Object END = new Object();
+
+    /**
+     * {@code ids} is the pager of the ids to hydrate
+     **/
+    private final GmailPager<String> ids;
+
+    /**
+     * {@code fetcher} is the instance used to hydrate a batch of ids
+     **/
+    private final BatchFetcher<E> fetcher;
+
+    /**
+     * {@code batchSize} is the number of ids hydrated with a single batch request
+     **/
+    private final int batchSize;
+
+    /**
+     * {@code concurrency} is the max number of batches hydrated at the same time
+     **/
+    private final int concurrency;
+
+    /**
+     * {@code bufferSize} is the number of items hydrated and not consumed yet that can be buffered
+     **/
+    private final int bufferSize;
+
+    /**
+     * {@code buffer} is the buffer of the items hydrated and not consumed yet
+     **/
+    private final ArrayBlockingQueue<Object> buffer;
+
+    /**
+     * {@code inFlight} is the instance used to limit the batches hydrated at the same time
+     **/
+    private final Semaphore inFlight;
+
+    /**
+     * {@code failures} are the failures of the ids not hydrated keyed by id
+     **/
+    private final ConcurrentHashMap<String, Failure> failures;
+
+    /**
+     * {@code error} is the error that has stopped the pipeline
+     **/
+    private volatile IOException error;
+
+    /**
+     * {@code closed} whether the pipeline has been closed
+     **/
+    private volatile boolean closed;
+
+    /**
+     * {@code nextItem} is the next item to return, if already taken from the {@link #buffer}
+     **/
+    private E nextItem;
+
+    /**
+     * {@code finished} whether all the items have been consumed
+     **/
+    private boolean finished;
+
+    /**
+     * Constructor to init a {@link GmailPipeline}
+     *
+     * @param ids:         the pager of the ids to hydrate
+     * @param fetcher:     the instance used to hydrate a batch of ids
+     * @param batchSize:   the number of ids hydrated with a single batch request
+     * @param concurrency: the max number of batches hydrated at the same time
+     * @param bufferSize:  the number of items hydrated and not consumed yet that can be buffered
+     * @apiNote the pagination starts immediately
+     **/
+    public GmailPipeline(GmailPager<String> ids, BatchFetcher<E> fetcher, int batchSize, int concurrency,
+                         int bufferSize) {
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        if (concurrency <= 0)
+            throw new IllegalArgumentException("Concurrency must be positive");
+        if (bufferSize <= 0)
+            throw new IllegalArgumentException("Buffer size must be positive");
+        this.ids = ids;
+        this.fetcher = fetcher;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.bufferSize = bufferSize;
+        buffer = new ArrayBlockingQueue<>(bufferSize);
+        inFlight = new Semaphore(concurrency);
+        failures = new ConcurrentHashMap<>();
+        PIPELINE_EXECUTOR.execute(this::paginate);
+    }
+
+    /**
+     * Method to get {@link #batchSize} instance <br>
+     * Any params required
+     *
+     * @return {@link #batchSize} instance as int
+     **/
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Method to get {@link #concurrency} instance <br>
+     * Any params required
+     *
+     * @return {@link #concurrency} instance as int
+     **/
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Method to get {@link #bufferSize} instance <br>
+     * Any params required
+     *
+     * @return {@link #bufferSize} instance as int
+     **/
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Method to get {@link #failures} instance <br>
+     * Any params required
+     *
+     * @return {@link #failures} instance as {@link Map} of {@link String} and {@link Failure}
+     * @apiNote the failures are complete only when all the items have been consumed
+     **/
+    public Map<String, Failure> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException when the list cannot be paginated or a batch cannot be hydrated
+     **/
+    @Override
+    public boolean hasNext() {
+        if (nextItem != null)
+            return true;
+        if (finished || closed)
+            return false;
+        Object item;
+        try {
+            item = buffer.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting the items"));
+        }
+        if (item == END) {
+            finished = true;
+            if (error != null)
+                throw new UncheckedIOException(error);
+            return false;
+        }
+        // only the items hydrated and the END marker are placed in the buffer
+        @SuppressWarnings("unchecked")
+        E hydrated = (E) item;
+        nextItem = hydrated;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException when the list cannot be paginated or a batch cannot be hydrated
+     **/
+    @Override
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        E item = nextItem;
+        nextItem = null;
+        return item;
+    }
+
+    /**
+     * Method to get a sequential stream of the items, closing the stream the pipeline is closed <br>
+     * Any params required
+     *
+     * @return the items as {@link Stream} of {@link E}
+     **/
+    public Stream<E> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Method to stop the pagination and discard the items not consumed yet <br>
+     * Any params required
+     *
+     * @apiNote the batch requests already sent are completed in background, the pager of the ids is closed by the
+     * pagination thread, the only one that iterates it, as soon as it sees the pipeline closed
+     **/
+    @Override
+    public void close() {
+        closed = true;
+        nextItem = null;
+        buffer.clear();
+    }
+
+    /**
+     * Method to paginate the list and hydrate its ids in batches <br>
+     * Any params required
+     **/
+    private void paginate() {
+        try {
+            ArrayList<String> batch = new ArrayList<>(batchSize);
+            while (isRunning() && ids.hasNext()) {
+                batch.add(ids.next());
+                if (batch.size() == batchSize) {
+                    hydrate(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty() && isRunning())
+                hydrate(batch);
+            inFlight.acquire(concurrency);
+        } catch (UncheckedIOException e) {
+            fail(e.getCause());
+        } catch (InterruptedException e) {
+            fail(new InterruptedIOException("Interrupted while paginating the list"));
+        } catch (RuntimeException e) {
+            fail(new IOException(e));
+        } finally {
+            ids.close();
+            emit(END);
+        }
+    }
+
+    /**
+     * Method to hydrate a batch of ids in background, waiting when {@link #concurrency} batches are in flight
+     *
+     * @param batch: the batch of ids to hydrate
+     * @throws InterruptedException when interrupted while waiting
+     **/
+    private void hydrate(List<String> batch) throws InterruptedException {
+        inFlight.acquire();
+        PIPELINE_EXECUTOR.execute(() -> {
+            try {
+                BatchResult<E> result = fetcher.fetch(batch);
+                failures.putAll(result.getFailures());
+                for (E item : result.getResults().values())
+                    if (item != null && !emit(item))
+                        return;
+            } catch (IOException e) {
+                fail(e);
+            } catch (RuntimeException e) {
+                fail(new IOException(e));
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    /**
+     * Method to place an item in the {@link #buffer}, waiting while the buffer is full
+     *
+     * @param item: the item to place
+     * @return whether the item has been placed, {@code "false"} if the pipeline has been closed
+     **/
+    private boolean emit(Object item) {
+        try {
+            while (!closed)
+                if (buffer.offer(item, 100, MILLISECONDS))
+                    return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * Method to stop the pipeline for an error, the error is thrown to the consumer after the items already hydrated
+     *
+     * @param e: the error that has stopped the pipeline
+     **/
+    private synchronized void fail(IOException e) {
+        if (error == null)
+            error = e;
+    }
+
+    /**
+     * Method to get whether the pipeline can go on <br>
+     * Any params required
+     *
+     * @return {@code "true"} if the pipeline has not been closed and has not failed, {@code "false"} if not
+     **/
+    private boolean isRunning() {
+        return !closed && error == null;
+    }
+
+    /**
+     * The {@code BatchFetcher} interface is useful to hydrate a batch of ids
+     *
+     * @param <E> type of the items hydrated
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    @FunctionalInterface
+    public interface BatchFetcher<E> {
+
+        /**
+         * Method to hydrate a batch of ids
+         *
+         * @param ids: the ids to hydrate
+         * @return the items hydrated as {@link BatchResult} of {@link E}
+         * @throws IOException when the request has been go wrong
+         **/
+        BatchResult<E> fetch(List<String> ids) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,422 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.http.HttpExecuteInterceptor;
+import com.google.api.client.http.HttpRequest;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.google.api.client.http.HttpMethods.*;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The {@code GmailRateLimiter} class is useful to keep the requests under the usage limits of Gmail, charging each
+ * request with the quota units of its method
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/quota">
+ * Usage limits</a>. Each request waits until both the budget of its user and the budget of its project have enough
+ * quota units, so a burst of requests is spread over time instead of failing with {@code "rateLimitExceeded"}.
+ * Each attempt is charged, also the retries, because each of them is charged by Gmail. The budgets are shared between all the managers of the JVM with the same user and the same project:
+ * <pre>
+ *     {@code
+ *        // to keep a margin for other applications that use the same project
+ *        GmailRateLimiter.setProjectQuota(10000);
+ *        // to disable the limiter
+ *        GmailRateLimiter.setEnabled(false);
+ *     }
+ * </pre>
+ **/
+public final class GmailRateLimiter {
+
+    /**
+     * {@code DEFAULT_USER_QUOTA} is a constant for the quota units per second allowed for each user
+     **/
+    public static final double DEFAULT_USER_QUOTA = 250;
+
+    /**
+     * {@code DEFAULT_PROJECT_QUOTA} is a constant for the quota units per second allowed for each project
+     **/
+    public static final double DEFAULT_PROJECT_QUOTA = 20000;
+
+    /**
+     * {@code DEFAULT_COST} is a constant for the quota units charged to the Gmail's requests not in the cost table
+     **/
+    public static final int DEFAULT_COST = 5;
+
+    /**
+     * {@code USER_PATH} is the pattern of the path of the Gmail's requests, the group is the endpoint of the request
+     * relative to {@code "users/{userId}"}
+     **/
+    private static final Pattern USER_PATH = Pattern.compile("/gmail/v1/users/[^/]+/?(.*)$");
+
+    /**
+     * {@code COSTS} is the cost table of the Gmail's methods, in order from the most specific endpoint
+     **/
+    private static final ArrayList<Cost> COSTS = new ArrayList<>();
+
+    static {
+        cost(GET, "profile", 1);
+        cost(POST, "watch", 100);
+        cost(POST, "stop", 50);
+        cost(POST, "drafts/send", 100);
+        cost(POST, "drafts", 10);
+        cost(GET, "drafts", 5);
+        cost(GET, "drafts/{id}", 5);
+        cost(PUT, "drafts/{id}", 15);
+        cost(DELETE, "drafts/{id}", 10);
+        cost(GET, "history", 2);
+        cost(POST, "labels", 5);
+        cost(GET, "labels", 1);
+        cost(GET, "labels/{id}", 1);
+        cost(PUT, "labels/{id}", 5);
+        cost(PATCH, "labels/{id}", 5);
+        cost(DELETE, "labels/{id}", 5);
+        cost(GET, "messages/{id}/attachments/{id}", 5);
+        cost(POST, "messages/batchDelete", 50);
+        cost(POST, "messages/batchModify", 50);
+        cost(POST, "messages/import", 25);
+        cost(POST, "messages/send", 100);
+        cost(POST, "messages/{id}/modify", 5);
+        cost(POST, "messages/{id}/trash", 5);
+        cost(POST, "messages/{id}/untrash", 5);
+        cost(POST, "messages", 25);
+        cost(GET, "messages", 5);
+        cost(GET, "messages/{id}", 5);
+        cost(DELETE, "messages/{id}", 10);
+        cost(POST, "settings/delegates", 100);
+        cost(GET, "settings/delegates", 1);
+        cost(GET, "settings/delegates/{id}", 1);
+        cost(DELETE, "settings/delegates/{id}", 5);
+        cost(POST, "settings/filters", 5);
+        cost(GET, "settings/filters", 1);
+        cost(GET, "settings/filters/{id}", 1);
+        cost(DELETE, "settings/filters/{id}", 5);
+        cost(POST, "settings/forwardingAddresses", 100);
+        cost(GET, "settings/forwardingAddresses", 1);
+        cost(GET, "settings/forwardingAddresses/{id}", 1);
+        cost(DELETE, "settings/forwardingAddresses/{id}", 5);
+        cost(POST, "settings/sendAs/{id}/smimeInfo/{id}/setDefault", 5);
+        cost(POST, "settings/sendAs/{id}/smimeInfo", 5);
+        cost(GET, "settings/sendAs/{id}/smimeInfo", 1);
+        cost(GET, "settings/sendAs/{id}/smimeInfo/{id}", 1);
+        cost(DELETE, "settings/sendAs/{id}/smimeInfo/{id}", 5);
+        cost(POST, "settings/sendAs/{id}/verify", 100);
+        cost(POST, "settings/sendAs", 100);
+        cost(GET, "settings/sendAs", 1);
+        cost(GET, "settings/sendAs/{id}", 1);
+        cost(PUT, "settings/sendAs/{id}", 100);
+        cost(PATCH, "settings/sendAs/{id}", 100);
+        cost(DELETE, "settings/sendAs/{id}", 5);
+        cost(PUT, "settings/pop", 100);
+        cost(PUT, "settings/{id}", 5);
+        cost(GET, "settings/{id}", 1);
+        cost(DELETE, "threads/{id}", 20);
+        cost(GET, "threads", 10);
+        cost(GET, "threads/{id}", 10);
+        cost(POST, "threads/{id}/modify", 10);
+        cost(POST, "threads/{id}/trash", 10);
+        cost(POST, "threads/{id}/untrash", 10);
+    }
+
+    /**
+     * {@code USERS_BUCKETS} are the budgets of the users keyed by project and user
+     **/
+    private static final ConcurrentHashMap<String, TokenBucket> USERS_BUCKETS = new ConcurrentHashMap<>();
+
+    /**
+     * {@code PROJECTS_BUCKETS} are the budgets of the projects keyed by project
+     **/
+    private static final ConcurrentHashMap<String, TokenBucket> PROJECTS_BUCKETS = new ConcurrentHashMap<>();
+
+    /**
+     * {@code userQuota} is the quota units per second allowed for each user
+     **/
+    private static volatile double userQuota = DEFAULT_USER_QUOTA;
+
+    /**
+     * {@code projectQuota} is the quota units per second allowed for each project
+     **/
+    private static volatile double projectQuota = DEFAULT_PROJECT_QUOTA;
+
+    /**
+     * {@code enabled} whether the requests are limited
+     **/
+    private static volatile boolean enabled = true;
+
+    /**
+     * {@code userBucket} is the budget of the user of this limiter
+     **/
+    private final TokenBucket userBucket;
+
+    /**
+     * {@code projectBucket} is the budget of the project of this limiter
+     **/
+    private final TokenBucket projectBucket;
+
+    /**
+     * Constructor to init a {@link GmailRateLimiter}
+     *
+     * @param userBucket:    the budget of the user
+     * @param projectBucket: the budget of the project
+     **/
+    private GmailRateLimiter(TokenBucket userBucket, TokenBucket projectBucket) {
+        this.userBucket = userBucket;
+        this.projectBucket = projectBucket;
+    }
+
+    /**
+     * Method to get the limiter of a user of a project
+     *
+     * @param project: the key of the project, for example its client identifier
+     * @param user:    the key of the user, for example its email
+     * @return the limiter as {@link GmailRateLimiter}
+     * @apiNote the limiters of the same user of the same project share the same budgets
+     **/
+    public static GmailRateLimiter getInstance(String project, String user) {
+        String projectKey = String.valueOf(project);
+        return new GmailRateLimiter(USERS_BUCKETS.computeIfAbsent(projectKey + "/" + user,
+                key -> new TokenBucket(true)), PROJECTS_BUCKETS.computeIfAbsent(projectKey,
+                key -> new TokenBucket(false)));
+    }
+
+    /**
+     * Method to set the quota units per second allowed for each user
+     *
+     * @param unitsPerSecond: the quota units per second
+     **/
+    public static void setUserQuota(double unitsPerSecond) {
+        if (unitsPerSecond <= 0)
+            throw new IllegalArgumentException("Quota must be positive");
+        userQuota = unitsPerSecond;
+    }
+
+    /**
+     * Method to get {@link #userQuota} instance <br>
+     * Any params required
+     *
+     * @return {@link #userQuota} instance as double
+     **/
+    public static double getUserQuota() {
+        return userQuota;
+    }
+
+    /**
+     * Method to set the quota units per second allowed for each project
+     *
+     * @param unitsPerSecond: the quota units per second
+     **/
+    public static void setProjectQuota(double unitsPerSecond) {
+        if (unitsPerSecond <= 0)
+            throw new IllegalArgumentException("Quota must be positive");
+        projectQuota = unitsPerSecond;
+    }
+
+    /**
+     * Method to get {@link #projectQuota} instance <br>
+     * Any params required
+     *
+     * @return {@link #projectQuota} instance as double
+     **/
+    public static double getProjectQuota() {
+        return projectQuota;
+    }
+
+    /**
+     * Method to set whether the requests are limited
+     *
+     * @param enabled: whether the requests are limited
+     **/
+    public static void setEnabled(boolean enabled) {
+        GmailRateLimiter.enabled = enabled;
+    }
+
+    /**
+     * Method to get {@link #enabled} instance <br>
+     * Any params required
+     *
+     * @return {@link #enabled} instance as boolean
+     **/
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Method to get the quota units charged to a request
+     *
+     * @param method: the HTTP method of the request
+     * @param path:   the path of the request
+     * @return the quota units as int, 0 if the request is not a Gmail's request, like the envelope of a batch request
+     * @throws IllegalArgumentException when the method is null, like the one of a request not executed yet
+     **/
+    public static int getCost(String method, String path) {
+        if (method == null)
+            throw new IllegalArgumentException("The method of the request is not set yet");
+        Matcher matcher = USER_PATH.matcher(path);
+        if (!matcher.find())
+            return 0;
+        String endpoint = matcher.group(1);
+        for (Cost cost : COSTS)
+            if (cost.method.equals(method) && cost.endpoint.matcher(endpoint).matches())
+                return cost.units;
+        return DEFAULT_COST;
+    }
+
+    /**
+     * Method to install the limiter on a request, so each of its attempts waits its quota units before being sent
+     *
+     * @param request: the request where install the limiter
+     * @apiNote the quota units are charged when the request is executed, because the method and the content of the
+     * request are set only after its initialization. Each part of a batch request is charged singly, when the batch is
+     * sent
+     **/
+    public void install(HttpRequest request) {
+        HttpExecuteInterceptor executeInterceptor = request.getInterceptor();
+        request.setInterceptor(httpRequest -> {
+            if (executeInterceptor != null)
+                executeInterceptor.intercept(httpRequest);
+            acquire(httpRequest);
+        });
+    }
+
+    /**
+     * Method to wait until the budgets have enough quota units for a request
+     *
+     * @param request: the request to send
+     * @throws InterruptedIOException when interrupted while waiting
+     * @apiNote the method of the request must be already set, see {@link #install(HttpRequest)}
+     **/
+    public void acquire(HttpRequest request) throws InterruptedIOException {
+        if (!enabled)
+            return;
+        int cost = getCost(request.getRequestMethod(), request.getUrl().getRawPath());
+        if (cost == 0)
+            return;
+        long wait = Math.max(userBucket.reserve(cost), projectBucket.reserve(cost));
+        if (wait > 0) {
+            try {
+                NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting the quota");
+            }
+        }
+    }
+
+    /**
+     * Method to add a method to the {@link #COSTS} table
+     *
+     * @param method:   the HTTP method
+     * @param endpoint: the endpoint relative to {@code "users/{userId}"}, with {@code "{id}"} for the path variables
+     * @param units:    the quota units charged
+     **/
+    private static void cost(String method, String endpoint, int units) {
+        COSTS.add(new Cost(method, Pattern.compile(endpoint.replace("{id}", "[^/]+")), units));
+    }
+
+    /**
+     * The {@code Cost} class is useful to format a row of the {@link #COSTS} table
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class Cost {
+
+        /**
+         * {@code method} the HTTP method
+         **/
+        private final String method;
+
+        /**
+         * {@code endpoint} the pattern of the endpoint
+         **/
+        private final Pattern endpoint;
+
+        /**
+         * {@code units} the quota units charged
+         **/
+        private final int units;
+
+        /**
+         * Constructor to init a {@link Cost}
+         *
+         * @param method:   the HTTP method
+         * @param endpoint: the pattern of the endpoint
+         * @param units:    the quota units charged
+         **/
+        private Cost(String method, Pattern endpoint, int units) {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.units = units;
+        }
+
+    }
+
+    /**
+     * The {@code TokenBucket} class is useful to spread the quota units of a budget over time
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @apiNote the bucket holds up to a second of quota units; a request that finds the bucket empty reserves its units
+     * in advance and waits their refill, so the requests are served in arrival order
+     **/
+    private static final class TokenBucket {
+
+        /**
+         * {@code userBudget} whether the bucket is the budget of a user, otherwise of a project
+         **/
+        private final boolean userBudget;
+
+        /**
+         * {@code tokens} the quota units available, negative when reserved in advance
+         **/
+        private double tokens;
+
+        /**
+         * {@code lastRefill} the time, in nanoseconds, of the last refill
+         **/
+        private long lastRefill;
+
+        /**
+         * Constructor to init a {@link TokenBucket}
+         *
+         * @param userBudget: whether the bucket is the budget of a user, otherwise of a project
+         **/
+        private TokenBucket(boolean userBudget) {
+            this.userBudget = userBudget;
+            tokens = getRate();
+            lastRefill = System.nanoTime();
+        }
+
+        /**
+         * Method to reserve quota units
+         *
+         * @param units: the quota units to reserve
+         * @return the time to wait, in nanoseconds, before using the units
+         **/
+        private synchronized long reserve(int units) {
+            double rate = getRate();
+            long now = System.nanoTime();
+            tokens = Math.min(rate, tokens + (now - lastRefill) * rate / SECONDS.toNanos(1));
+            lastRefill = now;
+            tokens -= units;
+            if (tokens >= 0)
+                return 0;
+            return (long) (-tokens / rate * SECONDS.toNanos(1));
+        }
+
+        /**
+         * Method to get the quota units per second of the bucket <br>
+         * Any params required
+         *
+         * @return the quota units per second as double
+         **/
+        private double getRate() {
+            return userBudget ? userQuota : projectQuota;
+        }
+
+    }
+
+}
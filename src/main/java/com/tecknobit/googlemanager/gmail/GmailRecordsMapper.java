@@ -0,0 +1,472 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.services.gmail.model.*;
+import com.tecknobit.googlemanager.gmail.drafts.records.Draft;
+import com.tecknobit.googlemanager.gmail.drafts.records.Drafts;
+import com.tecknobit.googlemanager.gmail.history.records.HistoryList;
+import com.tecknobit.googlemanager.gmail.history.records.LabelAction;
+import com.tecknobit.googlemanager.gmail.labels.records.Label;
+import com.tecknobit.googlemanager.gmail.labels.records.Label.LabelColor;
+import com.tecknobit.googlemanager.gmail.labels.records.Label.LabelListVisibility;
+import com.tecknobit.googlemanager.gmail.labels.records.Label.LabelType;
+import com.tecknobit.googlemanager.gmail.labels.records.Label.MessageListVisibility;
+import com.tecknobit.googlemanager.gmail.messages.records.Messages;
+import com.tecknobit.googlemanager.gmail.records.Message;
+import com.tecknobit.googlemanager.gmail.records.Message.Header;
+import com.tecknobit.googlemanager.gmail.records.Message.MessageBody;
+import com.tecknobit.googlemanager.gmail.settings.records.AutoForwarding;
+import com.tecknobit.googlemanager.gmail.settings.records.AutoForwarding.Disposition;
+import com.tecknobit.googlemanager.gmail.settings.records.Delegate;
+import com.tecknobit.googlemanager.gmail.settings.records.Delegate.VerificationStatus;
+import com.tecknobit.googlemanager.gmail.settings.records.Filter;
+import com.tecknobit.googlemanager.gmail.settings.records.Filter.Action;
+import com.tecknobit.googlemanager.gmail.settings.records.Filter.Criteria;
+import com.tecknobit.googlemanager.gmail.settings.records.Filter.Criteria.SizeComparison;
+import com.tecknobit.googlemanager.gmail.settings.records.ForwardingAddress;
+import com.tecknobit.googlemanager.gmail.settings.records.ForwardingAddress.ForwardingVerificationStatus;
+import com.tecknobit.googlemanager.gmail.settings.records.ImapSettings;
+import com.tecknobit.googlemanager.gmail.settings.records.ImapSettings.ExpungeBehavior;
+import com.tecknobit.googlemanager.gmail.settings.records.PopSettings;
+import com.tecknobit.googlemanager.gmail.settings.records.PopSettings.AccessWindow;
+import com.tecknobit.googlemanager.gmail.settings.records.SendAs;
+import com.tecknobit.googlemanager.gmail.settings.records.SendAs.SendAsVerificationStatus;
+import com.tecknobit.googlemanager.gmail.settings.records.SendAs.SmtpMsa;
+import com.tecknobit.googlemanager.gmail.settings.records.SendAs.SmtpMsa.SecurityMode;
+import com.tecknobit.googlemanager.gmail.settings.records.SmimeInfo;
+import com.tecknobit.googlemanager.gmail.settings.records.VacationSettings;
+import com.tecknobit.googlemanager.gmail.threads.records.GmailThread;
+import com.tecknobit.googlemanager.gmail.threads.records.GmailThreads;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.tecknobit.googlemanager.gmail.labels.records.Label.LabelColor.AllowedColor._000000;
+
+/**
+ * The {@code GmailRecordsMapper} class is useful to create the library's records directly from the models of
+ * {@code Google}'s responses
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the fields are copied with the getters of the models and the full constructors of the records, so no
+ * intermediate {@link org.json.JSONObject} is created and no reflection is used
+ **/
+public final class GmailRecordsMapper {
+
+    /**
+     * Constructor to init a {@link GmailRecordsMapper}
+     *
+     * @apiNote this class cannot be instantiated
+     **/
+    private GmailRecordsMapper() {
+    }
+
+    /**
+     * Method to create a message object
+     *
+     * @param message: message obtained from Google's response
+     * @return message as {@link Message}
+     * @apiNote the fields of the message part are filled with the {@code "payload"} of the message
+     **/
+    public static Message toMessage(com.google.api.services.gmail.model.Message message) {
+        if (message == null)
+            return null;
+        MessagePart payload = message.getPayload();
+        if (payload == null)
+            payload = new MessagePart();
+        return new Message(message.getId(), payload.getPartId(), payload.getMimeType(), payload.getFilename(),
+                toHeaders(payload.getHeaders()), toMessageBody(payload.getBody()), toMessageParts(payload.getParts()),
+                message.getThreadId(), toList(message.getLabelIds()), message.getSnippet(),
+                valueOf(message.getHistoryId()), valueOf(message.getInternalDate()),
+                valueOf(message.getSizeEstimate()), message.getRaw());
+    }
+
+    /**
+     * Method to create a message part object
+     *
+     * @param messagePart: message part obtained from Google's response
+     * @return message part as {@link Message}
+     **/
+    public static Message toMessagePart(MessagePart messagePart) {
+        return new Message(null, messagePart.getPartId(), messagePart.getMimeType(), messagePart.getFilename(),
+                toHeaders(messagePart.getHeaders()), toMessageBody(messagePart.getBody()),
+                toMessageParts(messagePart.getParts()), null, new ArrayList<>(), null, BigInteger.ZERO, 0, 0, null);
+    }
+
+    /**
+     * Method to create a message body object
+     *
+     * @param messagePartBody: message body obtained from Google's response
+     * @return message body as {@link MessageBody}
+     **/
+    public static MessageBody toMessageBody(MessagePartBody messagePartBody) {
+        if (messagePartBody == null)
+            return new MessageBody(null, 0, null);
+        return new MessageBody(messagePartBody.getAttachmentId(), valueOf(messagePartBody.getSize()),
+                messagePartBody.getData());
+    }
+
+    /**
+     * Method to create a messages list object
+     *
+     * @param listMessagesResponse: list obtained from Google's response
+     * @return messages list as {@link Messages}
+     **/
+    public static Messages toMessages(ListMessagesResponse listMessagesResponse) {
+        ArrayList<Message> messages = new ArrayList<>();
+        if (listMessagesResponse.getMessages() != null)
+            for (com.google.api.services.gmail.model.Message message : listMessagesResponse.getMessages())
+                messages.add(toMessage(message));
+        return new Messages(listMessagesResponse.getNextPageToken(),
+                (int) valueOf(listMessagesResponse.getResultSizeEstimate()), messages);
+    }
+
+    /**
+     * Method to create a thread object
+     *
+     * @param thread: thread obtained from Google's response
+     * @return thread as {@link GmailThread}
+     **/
+    public static GmailThread toThread(com.google.api.services.gmail.model.Thread thread) {
+        ArrayList<Message> messages = new ArrayList<>();
+        if (thread.getMessages() != null)
+            for (com.google.api.services.gmail.model.Message message : thread.getMessages())
+                messages.add(toMessage(message));
+        return new GmailThread(thread.getId(), thread.getSnippet(), valueOf(thread.getHistoryId()), messages);
+    }
+
+    /**
+     * Method to create a threads list object
+     *
+     * @param listThreadsResponse: list obtained from Google's response
+     * @return threads list as {@link GmailThreads}
+     **/
+    public static GmailThreads toThreads(ListThreadsResponse listThreadsResponse) {
+        ArrayList<GmailThread> threads = new ArrayList<>();
+        if (listThreadsResponse.getThreads() != null)
+            for (com.google.api.services.gmail.model.Thread thread : listThreadsResponse.getThreads())
+                threads.add(toThread(thread));
+        return new GmailThreads(listThreadsResponse.getNextPageToken(),
+                (int) valueOf(listThreadsResponse.getResultSizeEstimate()), threads);
+    }
+
+    /**
+     * Method to create a draft object
+     *
+     * @param draft: draft obtained from Google's response
+     * @return draft as {@link Draft}
+     **/
+    public static Draft toDraft(com.google.api.services.gmail.model.Draft draft) {
+        return new Draft(draft.getId(), toMessage(draft.getMessage()));
+    }
+
+    /**
+     * Method to create a drafts list object
+     *
+     * @param listDraftsResponse: list obtained from Google's response
+     * @return drafts list as {@link Drafts}
+     **/
+    public static Drafts toDrafts(ListDraftsResponse listDraftsResponse) {
+        ArrayList<Draft> drafts = new ArrayList<>();
+        if (listDraftsResponse.getDrafts() != null)
+            for (com.google.api.services.gmail.model.Draft draft : listDraftsResponse.getDrafts())
+                drafts.add(toDraft(draft));
+        return new Drafts(listDraftsResponse.getNextPageToken(), (int) valueOf(listDraftsResponse.getResultSizeEstimate()),
+                drafts);
+    }
+
+    /**
+     * Method to create a label object
+     *
+     * @param label: label obtained from Google's response
+     * @return label as {@link Label}
+     **/
+    public static Label toLabel(com.google.api.services.gmail.model.Label label) {
+        com.google.api.services.gmail.model.LabelColor color = label.getColor();
+        return new Label(label.getId(), label.getName(),
+                toEnum(MessageListVisibility.class, label.getMessageListVisibility(), MessageListVisibility.show),
+                toEnum(LabelListVisibility.class, label.getLabelListVisibility(), LabelListVisibility.labelShow),
+                toEnum(LabelType.class, label.getType(), LabelType.user), valueOf(label.getMessagesTotal()),
+                valueOf(label.getMessagesUnread()), valueOf(label.getThreadsTotal()),
+                valueOf(label.getThreadsUnread()), color == null || color.getTextColor() == null ?
+                new LabelColor(_000000, _000000) :
+                new LabelColor(color.getTextColor(), color.getBackgroundColor()));
+    }
+
+    /**
+     * Method to create a labels list
+     *
+     * @param labels: labels obtained from Google's response
+     * @return labels list as {@link ArrayList} of {@link Label}
+     **/
+    public static ArrayList<Label> toLabels(List<com.google.api.services.gmail.model.Label> labels) {
+        ArrayList<Label> labelsList = new ArrayList<>();
+        if (labels != null)
+            for (com.google.api.services.gmail.model.Label label : labels)
+                labelsList.add(toLabel(label));
+        return labelsList;
+    }
+
+    /**
+     * Method to create a history list object
+     *
+     * @param listHistoryResponse: history list obtained from Google's response
+     * @return history list as {@link HistoryList}
+     * @apiNote the changes of all the history records of the page are collected in a single {@link HistoryList}
+     * identified by the current {@code "historyId"} of the mailbox
+     **/
+    public static HistoryList toHistoryList(ListHistoryResponse listHistoryResponse) {
+        ArrayList<Message> messages = new ArrayList<>();
+        ArrayList<Message> messagesAdded = new ArrayList<>();
+        ArrayList<Message> messagesDeleted = new ArrayList<>();
+        ArrayList<LabelAction> labelsAdded = new ArrayList<>();
+        ArrayList<LabelAction> labelsRemoved = new ArrayList<>();
+        if (listHistoryResponse.getHistory() != null) {
+            for (History history : listHistoryResponse.getHistory()) {
+                if (history.getMessages() != null)
+                    for (com.google.api.services.gmail.model.Message message : history.getMessages())
+                        messages.add(toMessage(message));
+                if (history.getMessagesAdded() != null)
+                    for (HistoryMessageAdded messageAdded : history.getMessagesAdded())
+                        messagesAdded.add(toMessage(messageAdded.getMessage()));
+                if (history.getMessagesDeleted() != null)
+                    for (HistoryMessageDeleted messageDeleted : history.getMessagesDeleted())
+                        messagesDeleted.add(toMessage(messageDeleted.getMessage()));
+                if (history.getLabelsAdded() != null)
+                    for (HistoryLabelAdded labelAdded : history.getLabelsAdded())
+                        labelsAdded.add(new LabelAction(toMessage(labelAdded.getMessage()),
+                                toList(labelAdded.getLabelIds())));
+                if (history.getLabelsRemoved() != null)
+                    for (HistoryLabelRemoved labelRemoved : history.getLabelsRemoved())
+                        labelsRemoved.add(new LabelAction(toMessage(labelRemoved.getMessage()),
+                                toList(labelRemoved.getLabelIds())));
+            }
+        }
+        BigInteger historyId = listHistoryResponse.getHistoryId();
+        return new HistoryList(historyId != null ? historyId.toString() : null, messages, messagesAdded,
+                messagesDeleted, labelsAdded, labelsRemoved);
+    }
+
+    /**
+     * Method to create an auto forwarding object
+     *
+     * @param autoForwarding: auto forwarding obtained from Google's response
+     * @return auto forwarding as {@link AutoForwarding}
+     **/
+    public static AutoForwarding toAutoForwarding(com.google.api.services.gmail.model.AutoForwarding autoForwarding) {
+        return new AutoForwarding(valueOf(autoForwarding.getEnabled()), autoForwarding.getEmailAddress(),
+                toEnum(Disposition.class, autoForwarding.getDisposition(), Disposition.leaveInInbox));
+    }
+
+    /**
+     * Method to create an imap settings object
+     *
+     * @param imapSettings: imap settings obtained from Google's response
+     * @return imap settings as {@link ImapSettings}
+     **/
+    public static ImapSettings toImapSettings(com.google.api.services.gmail.model.ImapSettings imapSettings) {
+        return new ImapSettings(valueOf(imapSettings.getEnabled()), valueOf(imapSettings.getAutoExpunge()),
+                toEnum(ExpungeBehavior.class, imapSettings.getExpungeBehavior(),
+                        ExpungeBehavior.expungeBehaviorUnspecified), valueOf(imapSettings.getMaxFolderSize()));
+    }
+
+    /**
+     * Method to create a pop settings object
+     *
+     * @param popSettings: pop settings obtained from Google's response
+     * @return pop settings as {@link PopSettings}
+     **/
+    public static PopSettings toPopSettings(com.google.api.services.gmail.model.PopSettings popSettings) {
+        return new PopSettings(toEnum(AccessWindow.class, popSettings.getAccessWindow(),
+                AccessWindow.accessWindowUnspecified), toEnum(Disposition.class, popSettings.getDisposition(),
+                Disposition.leaveInInbox));
+    }
+
+    /**
+     * Method to create a vacation settings object
+     *
+     * @param vacationSettings: vacation settings obtained from Google's response
+     * @return vacation settings as {@link VacationSettings}
+     **/
+    public static VacationSettings toVacationSettings(com.google.api.services.gmail.model.VacationSettings
+                                                              vacationSettings) {
+        return new VacationSettings(valueOf(vacationSettings.getEnableAutoReply()),
+                vacationSettings.getResponseSubject(), vacationSettings.getResponseBodyPlainText(),
+                vacationSettings.getResponseBodyHtml(), valueOf(vacationSettings.getRestrictToContacts()),
+                valueOf(vacationSettings.getRestrictToDomain()), valueOf(vacationSettings.getStartTime()),
+                valueOf(vacationSettings.getEndTime()));
+    }
+
+    /**
+     * Method to create a delegate object
+     *
+     * @param delegate: delegate obtained from Google's response
+     * @return delegate as {@link Delegate}
+     **/
+    public static Delegate toDelegate(com.google.api.services.gmail.model.Delegate delegate) {
+        return new Delegate(delegate.getDelegateEmail(), toEnum(VerificationStatus.class,
+                delegate.getVerificationStatus(), VerificationStatus.verificationStatusUnspecified));
+    }
+
+    /**
+     * Method to create a filter object
+     *
+     * @param filter: filter obtained from Google's response
+     * @return filter as {@link Filter}
+     **/
+    public static Filter toFilter(com.google.api.services.gmail.model.Filter filter) {
+        FilterCriteria criteria = filter.getCriteria();
+        if (criteria == null)
+            criteria = new FilterCriteria();
+        FilterAction action = filter.getAction();
+        if (action == null)
+            action = new FilterAction();
+        return new Filter(filter.getId(), new Criteria(criteria.getFrom(), criteria.getTo(), criteria.getSubject(),
+                criteria.getQuery(), criteria.getNegatedQuery(), valueOf(criteria.getHasAttachment()),
+                valueOf(criteria.getExcludeChats()), valueOf(criteria.getSize()), toEnum(SizeComparison.class,
+                criteria.getSizeComparison(), SizeComparison.unspecified)),
+                new Action(toList(action.getAddLabelIds()), toList(action.getRemoveLabelIds()), action.getForward()));
+    }
+
+    /**
+     * Method to create a forwarding address object
+     *
+     * @param forwardingAddress: forwarding address obtained from Google's response
+     * @return forwarding address as {@link ForwardingAddress}
+     **/
+    public static ForwardingAddress toForwardingAddress(com.google.api.services.gmail.model.ForwardingAddress
+                                                                forwardingAddress) {
+        return new ForwardingAddress(forwardingAddress.getForwardingEmail(),
+                toEnum(ForwardingVerificationStatus.class, forwardingAddress.getVerificationStatus(),
+                        ForwardingVerificationStatus.verificationStatusUnspecified));
+    }
+
+    /**
+     * Method to create a send as object
+     *
+     * @param sendAs: send as obtained from Google's response
+     * @return send as as {@link SendAs}
+     **/
+    public static SendAs toSendAs(com.google.api.services.gmail.model.SendAs sendAs) {
+        com.google.api.services.gmail.model.SmtpMsa smtpMsa = sendAs.getSmtpMsa();
+        if (smtpMsa == null)
+            smtpMsa = new com.google.api.services.gmail.model.SmtpMsa();
+        return new SendAs(sendAs.getSendAsEmail(), sendAs.getDisplayName(), sendAs.getReplyToAddress(),
+                sendAs.getSignature(), valueOf(sendAs.getIsPrimary()), valueOf(sendAs.getIsDefault()),
+                valueOf(sendAs.getTreatAsAlias()), new SmtpMsa(smtpMsa.getHost(), valueOf(smtpMsa.getPort()),
+                smtpMsa.getUsername(), smtpMsa.getPassword(), toEnum(SecurityMode.class, smtpMsa.getSecurityMode(),
+                SecurityMode.securityModeUnspecified)), toEnum(SendAsVerificationStatus.class,
+                sendAs.getVerificationStatus(), SendAsVerificationStatus.verificationStatusUnspecified));
+    }
+
+    /**
+     * Method to create a smime info object
+     *
+     * @param smimeInfo: smime info obtained from Google's response
+     * @return smime info as {@link SmimeInfo}
+     **/
+    public static SmimeInfo toSmimeInfo(com.google.api.services.gmail.model.SmimeInfo smimeInfo) {
+        if (smimeInfo.getPkcs12() != null && smimeInfo.getPem() == null) {
+            return new SmimeInfo(smimeInfo.getPkcs12(), smimeInfo.getId(), smimeInfo.getIssuerCn(),
+                    valueOf(smimeInfo.getIsDefault()), valueOf(smimeInfo.getExpiration()),
+                    smimeInfo.getEncryptedKeyPassword());
+        }
+        return new SmimeInfo(smimeInfo.getId(), smimeInfo.getIssuerCn(), valueOf(smimeInfo.getIsDefault()),
+                valueOf(smimeInfo.getExpiration()), smimeInfo.getEncryptedKeyPassword(), smimeInfo.getPem());
+    }
+
+    /**
+     * Method to create a headers list
+     *
+     * @param headers: headers obtained from Google's response
+     * @return headers list as {@link ArrayList} of {@link Header}
+     **/
+    private static ArrayList<Header> toHeaders(List<MessagePartHeader> headers) {
+        ArrayList<Header> headersList = new ArrayList<>();
+        if (headers != null)
+            for (MessagePartHeader header : headers)
+                headersList.add(new Header(header.getName(), header.getValue()));
+        return headersList;
+    }
+
+    /**
+     * Method to create a message parts list
+     *
+     * @param parts: message parts obtained from Google's response
+     * @return message parts list as {@link ArrayList} of {@link Message}
+     **/
+    private static ArrayList<Message> toMessageParts(List<MessagePart> parts) {
+        ArrayList<Message> partsList = new ArrayList<>();
+        if (parts != null)
+            for (MessagePart part : parts)
+                partsList.add(toMessagePart(part));
+        return partsList;
+    }
+
+    /**
+     * Method to copy a list obtained from Google's response
+     *
+     * @param list: list to copy
+     * @return list as {@link ArrayList} of {@link String}, empty if {@code "list"} is null
+     **/
+    private static ArrayList<String> toList(List<String> list) {
+        if (list == null)
+            return new ArrayList<>();
+        return new ArrayList<>(list);
+    }
+
+    /**
+     * Method to get the constant of an enum from its name
+     *
+     * @param enumType:     the type of the enum
+     * @param name:         the name of the constant
+     * @param defaultValue: the constant to return if {@code "name"} is null
+     * @return the constant of the enum as {@code "enumType"}
+     **/
+    private static <E extends Enum<E>> E toEnum(Class<E> enumType, String name, E defaultValue) {
+        if (name == null)
+            return defaultValue;
+        return Enum.valueOf(enumType, name);
+    }
+
+    /**
+     * Method to unbox a value obtained from Google's response
+     *
+     * @param value: value to unbox
+     * @return value as boolean, false if {@code "value"} is null
+     **/
+    private static boolean valueOf(Boolean value) {
+        return value != null && value;
+    }
+
+    /**
+     * Method to unbox a value obtained from Google's response
+     *
+     * @param value: value to unbox
+     * @return value as int, 0 if {@code "value"} is null
+     **/
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Method to unbox a value obtained from Google's response
+     *
+     * @param value: value to unbox
+     * @return value as long, 0 if {@code "value"} is null
+     **/
+    private static long valueOf(Long value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Method to get a value obtained from Google's response
+     *
+     * @param value: value to get
+     * @return value as {@link BigInteger}, {@link BigInteger#ZERO} if {@code "value"} is null
+     **/
+    private static BigInteger valueOf(BigInteger value) {
+        return value != null ? value : BigInteger.ZERO;
+    }
+
+}
@@ -0,0 +1,297 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.services.gmail.GmailRequest;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+
+import static com.tecknobit.googlemanager.gmail.GmailManager.MAX_BATCH_SIZE;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code GmailRequestCoalescer} class is useful to send as a single batch request the single requests made by
+ * many threads at the same time
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the requests are collected for at most {@link #getWindow()} milliseconds or until {@link #getMaxPending()}
+ * requests are pending, then are sent with the batch endpoint of Gmail and each caller receives only its own response,
+ * see {@link GmailManager#enableCoalescing(long, int)}:
+ * <pre>
+ *     {@code
+ *        GmailMessagesManager manager = new GmailMessagesManager(config);
+ *        manager.enableCoalescing();
+ *        // the concurrent requests of many threads are sent in a single batch request
+ *        Message message = manager.getMessage(messageId);
+ *     }
+ * </pre>
+ **/
+public final class GmailRequestCoalescer {
+
+    /**
+     * {@code DEFAULT_WINDOW} is a constant for the default time, in milliseconds, in which the requests are collected
+     **/
+    public static final long DEFAULT_WINDOW = 10;
+
+    /**
+     * {@code FLUSH_SCHEDULER} is the instance used to send the requests collected when the window is elapsed
+     **/
+    private static final ScheduledExecutorService FLUSH_SCHEDULER = newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gmail-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * {@code FLUSH_EXECUTOR} is the instance used to send the requests collected without blocking the callers and the
+     * {@link #FLUSH_SCHEDULER}
+     **/
+    private static final ExecutorService FLUSH_EXECUTOR = newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "gmail-coalescer-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * {@code batches} is the instance used to create the batch requests
+     **/
+    private final Supplier<BatchRequest> batches;
+
+    /**
+     * {@code window} is the time, in milliseconds, in which the requests are collected
+     **/
+    private final long window;
+
+    /**
+     * {@code maxPending} is the max number of requests collected before sending them
+     **/
+    private final int maxPending;
+
+    /**
+     * {@code pending} is the list of the requests collected and not sent yet
+     **/
+    private ArrayList<PendingRequest<?>> pending;
+
+    /**
+     * {@code scheduledFlush} is the flush scheduled for the {@link #pending} requests
+     **/
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Constructor to init a {@link GmailRequestCoalescer}
+     *
+     * @param batches:    the instance used to create the batch requests
+     * @param window:     the time, in milliseconds, in which the requests are collected
+     * @param maxPending: the max number of requests collected before sending them
+     **/
+    GmailRequestCoalescer(Supplier<BatchRequest> batches, long window, int maxPending) {
+        if (window < 0)
+            throw new IllegalArgumentException("Window cannot be negative");
+        if (maxPending <= 0 || maxPending > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("Max pending must be between 1 and " + MAX_BATCH_SIZE);
+        this.batches = batches;
+        this.window = window;
+        this.maxPending = maxPending;
+        pending = new ArrayList<>();
+    }
+
+    /**
+     * Method to get {@link #window} instance <br>
+     * Any params required
+     *
+     * @return {@link #window} instance as long
+     **/
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * Method to get {@link #maxPending} instance <br>
+     * Any params required
+     *
+     * @return {@link #maxPending} instance as int
+     **/
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    /**
+     * Method to collect a request and wait its response
+     *
+     * @param request: the request to collect
+     * @return the response of the request as {@link M}
+     * @throws IOException when the request has been go wrong
+     **/
+    public <M> M execute(GmailRequest<M> request) throws IOException {
+        try {
+            return submit(request).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            throw new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting the coalesced request");
+        }
+    }
+
+    /**
+     * Method to collect a request
+     *
+     * @param request: the request to collect
+     * @return the response of the request as {@link CompletableFuture} of {@link M}
+     **/
+    public <M> CompletableFuture<M> submit(GmailRequest<M> request) {
+        PendingRequest<M> pendingRequest = new PendingRequest<>(request);
+        ArrayList<PendingRequest<?>> toSend = null;
+        synchronized (this) {
+            pending.add(pendingRequest);
+            if (pending.size() >= maxPending)
+                toSend = drain();
+            else if (pending.size() == 1)
+                scheduledFlush = FLUSH_SCHEDULER.schedule(() -> FLUSH_EXECUTOR.execute(this::flush), window,
+                        MILLISECONDS);
+        }
+        if (toSend != null) {
+            ArrayList<PendingRequest<?>> batch = toSend;
+            FLUSH_EXECUTOR.execute(() -> send(batch));
+        }
+        return pendingRequest.response;
+    }
+
+    /**
+     * Method to send immediately the requests collected <br>
+     * Any params required
+     **/
+    public void flush() {
+        ArrayList<PendingRequest<?>> toSend;
+        synchronized (this) {
+            toSend = drain();
+        }
+        send(toSend);
+    }
+
+    /**
+     * Method to take the requests collected and cancel the scheduled flush <br>
+     * Any params required
+     *
+     * @return the requests collected as {@link ArrayList} of {@link PendingRequest}
+     **/
+    private ArrayList<PendingRequest<?>> drain() {
+        ArrayList<PendingRequest<?>> toSend = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return toSend;
+    }
+
+    /**
+     * Method to send the requests collected
+     *
+     * @param toSend: the requests to send
+     * @apiNote a single request is sent directly without the batch endpoint
+     **/
+    private void send(ArrayList<PendingRequest<?>> toSend) {
+        if (toSend.isEmpty())
+            return;
+        if (toSend.size() == 1) {
+            toSend.get(0).executeDirectly();
+            return;
+        }
+        try {
+            BatchRequest batch = batches.get();
+            for (PendingRequest<?> pendingRequest : toSend)
+                pendingRequest.queue(batch);
+            batch.execute();
+        } catch (IOException | RuntimeException e) {
+            for (PendingRequest<?> pendingRequest : toSend)
+                pendingRequest.response.completeExceptionally(e);
+        } finally {
+            GmailIsolation.endBatch();
+        }
+    }
+
+    /**
+     * The {@code PendingRequest} class is useful to bind a request collected to the response waited by its caller
+     *
+     * @param <M> type of the response of the request
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class PendingRequest<M> {
+
+        /**
+         * {@code request} the request collected
+         **/
+        private final GmailRequest<M> request;
+
+        /**
+         * {@code response} the response waited by the caller
+         **/
+        private final CompletableFuture<M> response;
+
+        /**
+         * Constructor to init a {@link PendingRequest}
+         *
+         * @param request: the request collected
+         **/
+        private PendingRequest(GmailRequest<M> request) {
+            this.request = request;
+            response = new CompletableFuture<>();
+        }
+
+        /**
+         * Method to send the request without the batch endpoint <br>
+         * Any params required
+         **/
+        private void executeDirectly() {
+            try {
+                response.complete(request.execute());
+            } catch (IOException | RuntimeException e) {
+                response.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * Method to add the request to a batch request
+         *
+         * @param batch: the batch request where add the request
+         * @throws IOException when the request cannot be added
+         **/
+        private void queue(BatchRequest batch) throws IOException {
+            request.queue(batch, new JsonBatchCallback<>() {
+                @Override
+                public void onSuccess(M result, HttpHeaders responseHeaders) {
+                    response.complete(result);
+                }
+
+                @Override
+                public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                    response.completeExceptionally(new GoogleJsonResponseException(
+                            new HttpResponseException.Builder(error.getCode(), error.getMessage(), responseHeaders),
+                            error));
+                }
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,575 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.http.*;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import static com.google.api.client.http.HttpMethods.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The {@code GmailRetryPolicy} class is useful to retry the requests failed for a transient error
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/handle-errors">
+ * Resolve errors</a>. The requests that fail for a rate limit ({@code 429}, or {@code 403} with the
+ * {@code "rateLimitExceeded"} or {@code "userRateLimitExceeded"} reason), a server error ({@code 500}, {@code 502},
+ * {@code 503}, {@code 504}) or a network error are sent again after an exponential backoff with full jitter, or after
+ * the time indicated by the {@code "Retry-After"} header, until {@link #getMaxAttempts()} attempts. A request rejected
+ * for a rate limit has not been processed, so it is retried whatever is its method. For the other errors are retried
+ * only the requests that can be sent more times with the same effect, see {@link #isRetrySafe(String, String)}: the
+ * other ones, like the sending of a message, are retried only when they have not reached the server, because the
+ * connection failed before their content was sent, or when the server rejected them with a {@code 503} indicating a
+ * {@code "Retry-After"}. Each part of a batch request is retried singly:
+ * <pre>
+ *     {@code
+ *        manager.setRetryPolicy(new GmailRetryPolicy(8, 1000, 60000));
+ *        ...
+ *        System.out.println(manager.getRetryPolicy().getRetriesCount());
+ *     }
+ * </pre>
+ **/
+public final class GmailRetryPolicy {
+
+    /**
+     * {@code DEFAULT_MAX_ATTEMPTS} is a constant for the default max number of attempts of a request
+     **/
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+    /**
+     * {@code DEFAULT_BASE_DELAY} is a constant for the default max delay, in milliseconds, before the first retry
+     **/
+    public static final long DEFAULT_BASE_DELAY = 500;
+
+    /**
+     * {@code DEFAULT_MAX_DELAY} is a constant for the default max delay, in milliseconds, before a retry
+     **/
+    public static final long DEFAULT_MAX_DELAY = 32000;
+
+    /**
+     * {@code RATE_LIMIT_REASONS} are the reasons of the {@code 403} errors sent for a rate limit
+     **/
+    private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded");
+
+    /**
+     * {@code IDEMPOTENT_METHODS} are the HTTP methods of the requests that can be sent more times with the same effect
+     **/
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of(GET, HEAD, PUT, DELETE, OPTIONS, TRACE);
+
+    /**
+     * {@code RETRY_SAFE_PATH} is the pattern of the paths of the {@code POST} requests of Gmail that set a state, so can
+     * be sent more times with the same effect
+     **/
+    private static final Pattern RETRY_SAFE_PATH = Pattern.compile("/gmail/v1/users/[^/]+/(messages/(batchModify|"
+            + "batchDelete|[^/]+/(modify|trash|untrash))|threads/[^/]+/(modify|trash|untrash))$");
+
+    /**
+     * {@code MAX_ERROR_LENGTH} is the max number of bytes of an error response read to get its reason
+     **/
+    private static final int MAX_ERROR_LENGTH = 65536;
+
+    /**
+     * {@code maxAttempts} is the max number of attempts of a request
+     **/
+    private final int maxAttempts;
+
+    /**
+     * {@code baseDelay} is the max delay, in milliseconds, before the first retry, doubled at each retry
+     **/
+    private final long baseDelay;
+
+    /**
+     * {@code maxDelay} is the max delay, in milliseconds, before a retry
+     **/
+    private final long maxDelay;
+
+    /**
+     * {@code retries} is the number of retries made
+     **/
+    private final AtomicLong retries;
+
+    /**
+     * {@code recovered} is the number of requests successful after one or more retries
+     **/
+    private final AtomicLong recovered;
+
+    /**
+     * {@code exhausted} is the number of requests failed for a transient error also after the retries
+     **/
+    private final AtomicLong exhausted;
+
+    /**
+     * Constructor to init a {@link GmailRetryPolicy} with the default values <br>
+     * Any params required
+     **/
+    public GmailRetryPolicy() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * Constructor to init a {@link GmailRetryPolicy}
+     *
+     * @param maxAttempts: the max number of attempts of a request, 1 to not retry
+     * @param baseDelay:   the max delay, in milliseconds, before the first retry, doubled at each retry
+     * @param maxDelay:    the max delay, in milliseconds, before a retry, a {@code "Retry-After"} longer than it is
+     *                     not waited and the request fails
+     **/
+    public GmailRetryPolicy(int maxAttempts, long baseDelay, long maxDelay) {
+        if (maxAttempts <= 0)
+            throw new IllegalArgumentException("Max attempts must be positive");
+        if (baseDelay < 0 || maxDelay < baseDelay)
+            throw new IllegalArgumentException("Delays must be positive and the max delay not less than the base one");
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        retries = new AtomicLong();
+        recovered = new AtomicLong();
+        exhausted = new AtomicLong();
+    }
+
+    /**
+     * Method to get {@link #maxAttempts} instance <br>
+     * Any params required
+     *
+     * @return {@link #maxAttempts} instance as int
+     **/
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Method to get {@link #baseDelay} instance <br>
+     * Any params required
+     *
+     * @return {@link #baseDelay} instance as long
+     **/
+    public long getBaseDelay() {
+        return baseDelay;
+    }
+
+    /**
+     * Method to get {@link #maxDelay} instance <br>
+     * Any params required
+     *
+     * @return {@link #maxDelay} instance as long
+     **/
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Method to get {@link #retries} instance <br>
+     * Any params required
+     *
+     * @return {@link #retries} instance as long
+     **/
+    public long getRetriesCount() {
+        return retries.get();
+    }
+
+    /**
+     * Method to get {@link #recovered} instance <br>
+     * Any params required
+     *
+     * @return {@link #recovered} instance as long
+     **/
+    public long getRecoveredCount() {
+        return recovered.get();
+    }
+
+    /**
+     * Method to get {@link #exhausted} instance <br>
+     * Any params required
+     *
+     * @return {@link #exhausted} instance as long
+     **/
+    public long getExhaustedCount() {
+        return exhausted.get();
+    }
+
+    /**
+     * Method to reset the counters <br>
+     * Any params required
+     **/
+    public void resetCounters() {
+        retries.set(0);
+        recovered.set(0);
+        exhausted.set(0);
+    }
+
+    /**
+     * Method to get whether a response can be retried
+     *
+     * @param statusCode: the HTTP status code of the response
+     * @return {@code "true"} if the response is a rate limit or a server error, {@code "false"} if not
+     **/
+    public static boolean isRetryable(int statusCode) {
+        return statusCode == 429 || statusCode == 500 || statusCode == 502 || statusCode == 503
+                || statusCode == 504;
+    }
+
+    /**
+     * Method to get whether a response can be retried
+     *
+     * @param statusCode: the HTTP status code of the response
+     * @param reason:     the reason of the error of the response, null if not indicated
+     * @return {@code "true"} if the response is a rate limit, also a {@code 403} with a rate limit reason, or a server
+     * error, {@code "false"} if not
+     **/
+    public static boolean isRetryable(int statusCode, String reason) {
+        return isRetryable(statusCode) || (statusCode == 403 && reason != null
+                && RATE_LIMIT_REASONS.contains(reason));
+    }
+
+    /**
+     * Method to get whether a request can be sent more times with the same effect
+     *
+     * @param method: the HTTP method of the request
+     * @return {@code "true"} if the method is idempotent, {@code "false"} if not
+     **/
+    public static boolean isIdempotent(String method) {
+        return IDEMPOTENT_METHODS.contains(method);
+    }
+
+    /**
+     * Method to get whether a request of Gmail can be sent more times with the same effect
+     *
+     * @param method: the HTTP method of the request
+     * @param path:   the path of the request
+     * @return {@code "true"} if the method is idempotent or the request sets a state, like {@code "batchModify"},
+     * {@code "batchDelete"}, {@code "modify"}, {@code "trash"} or {@code "untrash"}, {@code "false"} if not
+     **/
+    public static boolean isRetrySafe(String method, String path) {
+        return isIdempotent(method) || (POST.equals(method) && path != null
+                && RETRY_SAFE_PATH.matcher(path).find());
+    }
+
+    /**
+     * Method to get the reason of an error response
+     *
+     * @param errorContent: the content of the error response
+     * @return the reason of the first error indicated as {@link String}, null if the content is not a JSON error or
+     * does not indicate any reason
+     * @apiNote the content has the format of the Google APIs errors, for example:
+     * <pre>
+     *     {@code
+     *        {"error": {"code": 403, "errors": [{"domain": "usageLimits", "reason": "userRateLimitExceeded"}]}}
+     *     }
+     * </pre>
+     **/
+    public static String getErrorReason(String errorContent) {
+        if (errorContent == null)
+            return null;
+        try {
+            JSONObject error = new JSONObject(errorContent).optJSONObject("error");
+            JSONArray errors = error != null ? error.optJSONArray("errors") : null;
+            if (errors != null) {
+                for (int j = 0; j < errors.length(); j++) {
+                    JSONObject details = errors.optJSONObject(j);
+                    if (details != null && details.has("reason"))
+                        return details.getString("reason");
+                }
+            }
+        } catch (JSONException ignored) {
+        }
+        return null;
+    }
+
+    /**
+     * Method to get the reason of an error response without consuming its content
+     *
+     * @param response: the error response
+     * @return the reason as {@link String}, null if not indicated or if the content cannot be read again
+     * @throws IOException when the content cannot be read
+     * @apiNote the content is read only when it can be reset, so the exception thrown for the response keeps its
+     * details
+     **/
+    private static String getErrorReason(HttpResponse response) throws IOException {
+        InputStream content = response.getContent();
+        if (content == null || !content.markSupported())
+            return null;
+        content.mark(MAX_ERROR_LENGTH);
+        byte[] errorContent = content.readNBytes(MAX_ERROR_LENGTH);
+        content.reset();
+        return getErrorReason(new String(errorContent, UTF_8));
+    }
+
+    /**
+     * Method to get the delay before a retry
+     *
+     * @param attempt: the number of the attempt just failed, starting from 1
+     * @return the delay, in milliseconds, as long, chosen randomly between 0 and the exponential backoff
+     **/
+    public long getBackOffDelay(int attempt) {
+        long backOff = Math.min(maxDelay, baseDelay << Math.min(attempt - 1, 30));
+        return ThreadLocalRandom.current().nextLong(backOff + 1);
+    }
+
+    /**
+     * Method to get the delay indicated by the {@code "Retry-After"} header of a response
+     *
+     * @param headers: the headers of the response
+     * @return the delay, in milliseconds, as long, -1 if the header is missing or not valid
+     **/
+    public static long getRetryAfter(HttpHeaders headers) {
+        String retryAfter = headers.getFirstHeaderStringValue("Retry-After");
+        if (retryAfter == null)
+            return -1;
+        retryAfter = retryAfter.trim();
+        try {
+            return SECONDS.toMillis(Long.parseLong(retryAfter));
+        } catch (NumberFormatException e) {
+            try {
+                long date = ZonedDateTime.parse(retryAfter, RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+                return Math.max(0, date - System.currentTimeMillis());
+            } catch (DateTimeParseException exception) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Method to install the policy on a request
+     *
+     * @param request: the request where install the policy
+     * @apiNote the handlers already installed, like the one that refreshes the credentials, keep priority
+     **/
+    public void install(HttpRequest request) {
+        request.setNumberOfRetries(maxAttempts - 1);
+        new RequestRetry(request);
+    }
+
+    /**
+     * The {@code RequestRetry} class is useful to retry a single request
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private final class RequestRetry implements HttpExecuteInterceptor, HttpUnsuccessfulResponseHandler,
+            HttpIOExceptionHandler, HttpResponseInterceptor {
+
+        /**
+         * {@code executeInterceptor} the interceptor installed before the policy
+         **/
+        private final HttpExecuteInterceptor executeInterceptor;
+
+        /**
+         * {@code unsuccessfulResponseHandler} the handler installed before the policy
+         **/
+        private final HttpUnsuccessfulResponseHandler unsuccessfulResponseHandler;
+
+        /**
+         * {@code ioExceptionHandler} the handler installed before the policy
+         **/
+        private final HttpIOExceptionHandler ioExceptionHandler;
+
+        /**
+         * {@code responseInterceptor} the interceptor installed before the policy
+         **/
+        private final HttpResponseInterceptor responseInterceptor;
+
+        /**
+         * {@code attempt} the number of the current attempt
+         **/
+        private int attempt;
+
+        /**
+         * {@code content} the content of the request, tracked to know whether the current attempt has sent it
+         **/
+        private TrackedContent content;
+
+        /**
+         * Constructor to init a {@link RequestRetry}
+         *
+         * @param request: the request to retry
+         **/
+        private RequestRetry(HttpRequest request) {
+            executeInterceptor = request.getInterceptor();
+            unsuccessfulResponseHandler = request.getUnsuccessfulResponseHandler();
+            ioExceptionHandler = request.getIOExceptionHandler();
+            responseInterceptor = request.getResponseInterceptor();
+            attempt = 1;
+            request.setInterceptor(this);
+            request.setUnsuccessfulResponseHandler(this);
+            request.setIOExceptionHandler(this);
+            request.setResponseInterceptor(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @apiNote the content of the request is set only after the policy is installed, so it is tracked before
+         * each attempt
+         **/
+        @Override
+        public void intercept(HttpRequest request) throws IOException {
+            if (executeInterceptor != null)
+                executeInterceptor.intercept(request);
+            HttpContent requestContent = request.getContent();
+            if (requestContent != null && requestContent != content) {
+                content = new TrackedContent(requestContent);
+                request.setContent(content);
+            }
+            if (content != null)
+                content.sent = false;
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public boolean handleResponse(HttpRequest request, HttpResponse response,
+                                      boolean supportsRetry) throws IOException {
+            if (unsuccessfulResponseHandler != null
+                    && unsuccessfulResponseHandler.handleResponse(request, response, supportsRetry)) {
+                attempt++;
+                return true;
+            }
+            int statusCode = response.getStatusCode();
+            if (!isRetryable(statusCode, statusCode == 403 ? getErrorReason(response) : null))
+                return false;
+            long retryAfter = getRetryAfter(response.getHeaders());
+            boolean rateLimited = statusCode == 429 || statusCode == 403;
+            if (!rateLimited && !isRetrySafe(request) && !(statusCode == 503 && retryAfter >= 0))
+                return false;
+            return retry(supportsRetry, retryAfter);
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public boolean handleIOException(HttpRequest request, boolean supportsRetry) throws IOException {
+            if (ioExceptionHandler != null && ioExceptionHandler.handleIOException(request, supportsRetry)) {
+                attempt++;
+                return true;
+            }
+            if (Thread.currentThread().isInterrupted())
+                return false;
+            if (!isRetrySafe(request) && (content == null || content.sent))
+                return false;
+            return retry(supportsRetry, -1);
+        }
+
+        /**
+         * Method to get whether a request can be sent more times with the same effect
+         *
+         * @param request: the request to check
+         * @return {@code "true"} if the request can be sent again, {@code "false"} if not
+         **/
+        private boolean isRetrySafe(HttpRequest request) {
+            return GmailRetryPolicy.isRetrySafe(request.getRequestMethod(), request.getUrl().getRawPath());
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public void interceptResponse(HttpResponse response) throws IOException {
+            if (responseInterceptor != null)
+                responseInterceptor.interceptResponse(response);
+            if (attempt > 1 && response.isSuccessStatusCode())
+                recovered.incrementAndGet();
+        }
+
+        /**
+         * Method to wait before retrying the request
+         *
+         * @param supportsRetry: whether the request can be sent again
+         * @param retryAfter:    the delay, in milliseconds, indicated by the server, -1 if not indicated
+         * @return {@code "true"} if the request has to be sent again, {@code "false"} if not
+         **/
+        private boolean retry(boolean supportsRetry, long retryAfter) {
+            long delay = retryAfter >= 0 ? retryAfter : getBackOffDelay(attempt);
+            if (!supportsRetry || attempt >= maxAttempts || delay > maxDelay) {
+                exhausted.incrementAndGet();
+                return false;
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            attempt++;
+            retries.incrementAndGet();
+            return true;
+        }
+
+    }
+
+    /**
+     * The {@code TrackedContent} class is useful to know whether the content of a request has started to be sent
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class TrackedContent implements HttpContent {
+
+        /**
+         * {@code content} the content of the request
+         **/
+        private final HttpContent content;
+
+        /**
+         * {@code sent} whether the current attempt has started to send the content, so the request could have
+         * reached the server
+         **/
+        private volatile boolean sent;
+
+        /**
+         * Constructor to init a {@link TrackedContent}
+         *
+         * @param content: the content of the request
+         **/
+        private TrackedContent(HttpContent content) {
+            this.content = content;
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public long getLength() throws IOException {
+            return content.getLength();
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public String getType() {
+            return content.getType();
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public boolean retrySupported() {
+            return content.retrySupported();
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            sent = true;
+            content.writeTo(out);
+        }
+
+    }
+
+}
\ No newline at end of file
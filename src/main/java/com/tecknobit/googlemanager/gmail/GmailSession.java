@@ -0,0 +1,283 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.tecknobit.googlemanager.GoogleConfig;
+import com.tecknobit.googlemanager.auth.ServiceAccountDelegation;
+import com.tecknobit.googlemanager.gmail.drafts.GmailDraftsManager;
+import com.tecknobit.googlemanager.gmail.history.GmailHistoryManager;
+import com.tecknobit.googlemanager.gmail.labels.GmailLabelsManager;
+import com.tecknobit.googlemanager.gmail.messages.GmailMessagesManager;
+import com.tecknobit.googlemanager.gmail.settings.GmailSettingsManager;
+import com.tecknobit.googlemanager.gmail.threads.GmailThreadsManager;
+import com.tecknobit.googlemanager.gmail.users.GmailUsersManager;
+
+import java.io.IOException;
+
+/**
+ * The {@code GmailSession} class is useful to authorize once an account and share the same authorization, the same
+ * transport and the same {@link com.google.api.services.gmail.Gmail}'s service between all the Gmail's managers
+ * of that account
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the managers returned by this session are lightweight views, they do not perform any auth request:
+ * <pre>
+ *     {@code
+ *        //only one auth request is performed
+ *        GmailSession session = new GmailSession(CLIENT_ID, CLIENT_SECRET, "email@gmail.com",
+ *                 ACCESS_TYPE, APPROVAL_PROMPT, port, "host", "callback_path", "application_name");
+ *        GmailMessagesManager messagesManager = session.getMessagesManager();
+ *        GmailLabelsManager labelsManager = session.getLabelsManager();
+ *     }
+ * </pre>
+ **/
+public class GmailSession extends GmailManager {
+
+    /**
+     * {@code messagesManager} is the view for the messages' endpoints
+     **/
+    private GmailMessagesManager messagesManager;
+
+    /**
+     * {@code threadsManager} is the view for the threads' endpoints
+     **/
+    private GmailThreadsManager threadsManager;
+
+    /**
+     * {@code labelsManager} is the view for the labels' endpoints
+     **/
+    private GmailLabelsManager labelsManager;
+
+    /**
+     * {@code draftsManager} is the view for the drafts' endpoints
+     **/
+    private GmailDraftsManager draftsManager;
+
+    /**
+     * {@code historyManager} is the view for the history's endpoints
+     **/
+    private GmailHistoryManager historyManager;
+
+    /**
+     * {@code settingsManager} is the view for the settings' endpoints
+     **/
+    private GmailSettingsManager settingsManager;
+
+    /**
+     * {@code usersManager} is the view for the users' endpoints
+     **/
+    private GmailUsersManager usersManager;
+
+    /**
+     * Constructor to init a {@link GmailSession}
+     *
+     * @param clientId:        client identifier value
+     * @param clientSecret:    client secret value
+     * @param userId:          used to identifier a user -> me to use an authenticated user
+     * @param accessType:      access type used in the auth operations
+     * @param approvalPrompt:  approval prompt type used in the auth operations
+     * @param port:            port used in the auth operations
+     * @param host:            host used in the auth operations
+     * @param callBackPath:    callback path used in the auth operations
+     * @param applicationName: name of application to give at the project
+     * @throws IOException when auth request has been go wrong
+     **/
+    public GmailSession(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
+                        int port, String host, String callBackPath, String applicationName) throws IOException {
+        super(clientId, clientSecret, userId, accessType, approvalPrompt, port, host, callBackPath, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailSession}
+     *
+     * @param clientId:        client identifier value
+     * @param clientSecret:    client secret value
+     * @param userId:          used to identifier a user -> me to use an authenticated user
+     * @param accessType:      access type used in the auth operations
+     * @param approvalPrompt:  approval prompt type used in the auth operations
+     * @param applicationName: name of application to give at the project
+     * @throws IOException when auth request has been go wrong
+     **/
+    public GmailSession(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
+                        String applicationName) throws IOException {
+        super(clientId, clientSecret, userId, accessType, approvalPrompt, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailSession}
+     *
+     * @param clientId:        client identifier value
+     * @param clientSecret:    client secret value
+     * @param userId:          used to identifier a user -> me to use an authenticated user
+     * @param accessType:      access type used in the auth operations
+     * @param approvalPrompt:  approval prompt type used in the auth operations
+     * @param port:            port used in the auth operations
+     * @param applicationName: name of application to give at the project
+     * @throws IOException when auth request has been go wrong
+     **/
+    public GmailSession(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
+                        int port, String applicationName) throws IOException {
+        super(clientId, clientSecret, userId, accessType, approvalPrompt, port, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailSession}
+     *
+     * @param clientId:        client identifier value
+     * @param clientSecret:    client secret value
+     * @param userId:          used to identifier a user -> me to use an authenticated user
+     * @param accessType:      access type used in the auth operations
+     * @param approvalPrompt:  approval prompt type used in the auth operations
+     * @param port:            port used in the auth operations
+     * @param callBackPath:    callback path used in the auth operations
+     * @param applicationName: name of application to give at the project
+     * @throws IOException when auth request has been go wrong
+     **/
+    public GmailSession(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
+                        int port, String callBackPath, String applicationName) throws IOException {
+        super(clientId, clientSecret, userId, accessType, approvalPrompt, port, callBackPath, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailSession}
+     *
+     * @param clientId:        client identifier value
+     * @param clientSecret:    client secret value
+     * @param userId:          used to identifier a user -> me to use an authenticated user
+     * @param accessType:      access type used in the auth operations
+     * @param approvalPrompt:  approval prompt type used in the auth operations
+     * @param port:            port used in the auth operations
+     * @param host:            host used in the auth operations
+     * @param applicationName: name of application to give at the project
+     * @throws IOException when auth request has been go wrong
+     **/
+    public GmailSession(String clientId, String clientSecret, String userId, String accessType, String approvalPrompt,
+                        String host, int port, String applicationName) throws IOException {
+        super(clientId, clientSecret, userId, accessType, approvalPrompt, host, port, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailSession} <br>
+     * Any params required
+     *
+     * @apiNote this constructor is useful to instantiate a new {@link GmailSession} without reinsert
+     * credentials, the same credentials of the last manager created will be used
+     **/
+    public GmailSession() throws IOException {
+        super();
+    }
+
+    /**
+     * Constructor to init a {@link GmailSession}
+     *
+     * @param config: configuration of the manager
+     * @throws IOException when auth request has been go wrong
+     * @apiNote see {@link GmailManager#GmailManager(GoogleConfig)}
+     **/
+    public GmailSession(GoogleConfig config) throws IOException {
+        super(config);
+    }
+
+    /**
+     * Constructor to init a {@link GmailSession} impersonating a user with a service account
+     *
+     * @param delegation:      the service account with the domain-wide delegation enabled
+     * @param userId:          the email of the user to impersonate
+     * @param applicationName: name of application to give at the project
+     **/
+    public GmailSession(ServiceAccountDelegation delegation, String userId, String applicationName) {
+        super(delegation, userId, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailSession} from a manager already authorized
+     *
+     * @param manager: manager already authorized from which share the authorization and the Gmail's service
+     **/
+    public GmailSession(GmailManager manager) {
+        super(manager);
+    }
+
+    /**
+     * Method to get {@link #messagesManager} instance <br>
+     * Any params required
+     *
+     * @return {@link #messagesManager} instance as {@link GmailMessagesManager}
+     **/
+    public synchronized GmailMessagesManager getMessagesManager() {
+        if (messagesManager == null)
+            messagesManager = new GmailMessagesManager(this);
+        return messagesManager;
+    }
+
+    /**
+     * Method to get {@link #threadsManager} instance <br>
+     * Any params required
+     *
+     * @return {@link #threadsManager} instance as {@link GmailThreadsManager}
+     **/
+    public synchronized GmailThreadsManager getThreadsManager() {
+        if (threadsManager == null)
+            threadsManager = new GmailThreadsManager(this);
+        return threadsManager;
+    }
+
+    /**
+     * Method to get {@link #labelsManager} instance <br>
+     * Any params required
+     *
+     * @return {@link #labelsManager} instance as {@link GmailLabelsManager}
+     **/
+    public synchronized GmailLabelsManager getLabelsManager() {
+        if (labelsManager == null)
+            labelsManager = new GmailLabelsManager(this);
+        return labelsManager;
+    }
+
+    /**
+     * Method to get {@link #draftsManager} instance <br>
+     * Any params required
+     *
+     * @return {@link #draftsManager} instance as {@link GmailDraftsManager}
+     **/
+    public synchronized GmailDraftsManager getDraftsManager() {
+        if (draftsManager == null)
+            draftsManager = new GmailDraftsManager(this);
+        return draftsManager;
+    }
+
+    /**
+     * Method to get {@link #historyManager} instance <br>
+     * Any params required
+     *
+     * @return {@link #historyManager} instance as {@link GmailHistoryManager}
+     **/
+    public synchronized GmailHistoryManager getHistoryManager() {
+        if (historyManager == null)
+            historyManager = new GmailHistoryManager(this);
+        return historyManager;
+    }
+
+    /**
+     * Method to get {@link #settingsManager} instance <br>
+     * Any params required
+     *
+     * @return {@link #settingsManager} instance as {@link GmailSettingsManager}
+     **/
+    public synchronized GmailSettingsManager getSettingsManager() {
+        if (settingsManager == null)
+            settingsManager = new GmailSettingsManager(this);
+        return settingsManager;
+    }
+
+    /**
+     * Method to get {@link #usersManager} instance <br>
+     * Any params required
+     *
+     * @return {@link #usersManager} instance as {@link GmailUsersManager}
+     **/
+    public synchronized GmailUsersManager getUsersManager() {
+        if (usersManager == null)
+            usersManager = new GmailUsersManager(this);
+        return usersManager;
+    }
+
+}
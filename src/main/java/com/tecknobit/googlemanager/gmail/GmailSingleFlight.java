@@ -0,0 +1,216 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.util.GenericData;
+import com.google.api.services.gmail.GmailRequest;
+import com.tecknobit.googlemanager.gmail.GmailManager.GmailRequestCall;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code GmailSingleFlight} class is useful to execute only once the identical {@code "GET"} requests made at the
+ * same time
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the requests are identical when have the same endpoint, the same parameters, like the format of a message,
+ * and the same type of response. A request made while an identical one is in flight is not sent, but waits the response
+ * of the request in flight, so many components that ask the same resource at the same time spend the quota of a single
+ * request. Each caller receives its own copy of the response, so can modify it without affecting the other callers
+ **/
+public final class GmailSingleFlight {
+
+    /**
+     * {@code inFlight} are the requests in flight, indexed by their key
+     **/
+    private final ConcurrentHashMap<String, Flight> inFlight;
+
+    /**
+     * {@code requests} is the number of requests executed
+     **/
+    private final AtomicLong requests;
+
+    /**
+     * {@code deduplicated} is the number of requests that have waited an identical request instead of being sent
+     **/
+    private final AtomicLong deduplicated;
+
+    /**
+     * Constructor to init a {@link GmailSingleFlight} <br>
+     * Any params required
+     **/
+    public GmailSingleFlight() {
+        inFlight = new ConcurrentHashMap<>();
+        requests = new AtomicLong();
+        deduplicated = new AtomicLong();
+    }
+
+    /**
+     * Method to get {@link #requests} instance <br>
+     * Any params required
+     *
+     * @return {@link #requests} instance as long
+     **/
+    public long getRequestsCount() {
+        return requests.get();
+    }
+
+    /**
+     * Method to get {@link #deduplicated} instance <br>
+     * Any params required
+     *
+     * @return {@link #deduplicated} instance as long
+     **/
+    public long getDeduplicatedCount() {
+        return deduplicated.get();
+    }
+
+    /**
+     * Method to get the number of requests in flight <br>
+     * Any params required
+     *
+     * @return the number of requests in flight as int
+     **/
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Method to execute a request, or to wait the response of an identical request in flight
+     *
+     * @param request: the request to execute, must be idempotent
+     * @param call:    the call that sends the request
+     * @return the response of the request as {@link M}
+     * @throws IOException when the request has been go wrong, the callers that have waited an identical request
+     *                     receive the same exception
+     **/
+    public <M> M execute(GmailRequest<M> request, GmailRequestCall<M> call) throws IOException {
+        requests.incrementAndGet();
+        String key = getKey(request);
+        Flight flight = new Flight();
+        Flight leader;
+        while ((leader = inFlight.putIfAbsent(key, flight)) != null) {
+            if (leader.attach()) {
+                deduplicated.incrementAndGet();
+                return copy((M) leader.await());
+            }
+            inFlight.remove(key, leader);
+        }
+        M response;
+        try {
+            response = call.call();
+        } catch (IOException | RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.response.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, flight);
+        flight.response.complete(response);
+        return flight.close() > 0 ? copy(response) : response;
+    }
+
+    /**
+     * Method to get the key of a request
+     *
+     * @param request: the request of which get the key
+     * @return the key of the request as {@link String}
+     **/
+    private static String getKey(GmailRequest<?> request) {
+        return request.getRequestMethod() + " " + request.buildHttpRequestUrl().build() + " "
+                + request.getResponseClass().getName();
+    }
+
+    /**
+     * Method to copy a response
+     *
+     * @param response: the response to copy
+     * @return the copy of the response as {@link M}
+     **/
+    private static <M> M copy(M response) {
+        if (response instanceof GenericData)
+            return (M) ((GenericData) response).clone();
+        return response;
+    }
+
+    /**
+     * The {@code Flight} class is useful to share the response of a request in flight
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class Flight {
+
+        /**
+         * {@code response} the response of the request
+         **/
+        private final CompletableFuture<Object> response;
+
+        /**
+         * {@code followers} the number of callers that wait the response, -1 when the flight is closed
+         **/
+        private final AtomicInteger followers;
+
+        /**
+         * Constructor to init a {@link Flight} <br>
+         * Any params required
+         **/
+        private Flight() {
+            response = new CompletableFuture<>();
+            followers = new AtomicInteger();
+        }
+
+        /**
+         * Method to attach a caller to the flight <br>
+         * Any params required
+         *
+         * @return whether the caller has been attached, {@code "false"} if the flight is already closed
+         **/
+        private boolean attach() {
+            int current;
+            do {
+                current = followers.get();
+                if (current < 0)
+                    return false;
+            } while (!followers.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        /**
+         * Method to close the flight <br>
+         * Any params required
+         *
+         * @return the number of callers attached as int
+         **/
+        private int close() {
+            return followers.getAndSet(-1);
+        }
+
+        /**
+         * Method to wait the response of the flight <br>
+         * Any params required
+         *
+         * @return the response as {@link Object}
+         * @throws IOException when the request has been go wrong
+         **/
+        private Object await() throws IOException {
+            try {
+                return response.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException)
+                    throw (IOException) cause;
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                throw new IOException(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting the response");
+            }
+        }
+
+    }
+
+}
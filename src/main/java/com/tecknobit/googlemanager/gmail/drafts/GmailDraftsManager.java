@@ -6,7 +6,12 @@ import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.annotations.WrappedRequest;
 import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.googlemanager.GoogleConfig;
+import com.tecknobit.googlemanager.auth.ServiceAccountDelegation;
 import com.tecknobit.googlemanager.gmail.GmailManager;
+import com.tecknobit.googlemanager.gmail.GmailPager;
+import com.tecknobit.googlemanager.gmail.GmailPager.Page;
+import com.tecknobit.googlemanager.gmail.GmailSession;
 import com.tecknobit.googlemanager.gmail.drafts.records.Draft;
 import com.tecknobit.googlemanager.gmail.drafts.records.Drafts;
 import com.tecknobit.googlemanager.gmail.messages.GmailMessagesManager;
@@ -17,9 +22,13 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.googlemanager.gmail.GmailRecordsMapper.*;
+import static com.tecknobit.googlemanager.gmail.GmailPager.DEFAULT_PREFETCH_DEPTH;
 
 /**
  * The {@code GmailDraftsManager} class is useful to manage all Gmail's drafts endpoints
@@ -142,6 +151,38 @@ public class GmailDraftsManager extends GmailManager {
         super();
     }
 
+    /**
+     * Constructor to init a {@link GmailDraftsManager}
+     *
+     * @param config: configuration of the manager
+     * @throws IOException when auth request has been go wrong
+     * @apiNote see {@link GmailManager#GmailManager(GoogleConfig)}
+     **/
+    public GmailDraftsManager(GoogleConfig config) throws IOException {
+        super(config);
+    }
+
+    /**
+     * Constructor to init a {@link GmailDraftsManager} impersonating a user with a service account
+     *
+     * @param delegation:      the service account with the domain-wide delegation enabled
+     * @param userId:          the email of the user to impersonate
+     * @param applicationName: name of application to give at the project
+     **/
+    public GmailDraftsManager(ServiceAccountDelegation delegation, String userId, String applicationName) {
+        super(delegation, userId, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailDraftsManager} as view of another manager
+     *
+     * @param manager: manager already authorized from which share the authorization and the Gmail's service
+     * @apiNote this constructor does not perform any auth request, see {@link GmailSession}
+     **/
+    public GmailDraftsManager(GmailManager manager) {
+        super(manager);
+    }
+
     /**
      * Method to create a draft
      *
@@ -1713,7 +1754,7 @@ public class GmailDraftsManager extends GmailManager {
                               boolean sendCreateResponse) throws Exception {
         com.google.api.services.gmail.model.Draft draft = new com.google.api.services.gmail.model.Draft().setMessage(message);
         if (sendCreateResponse)
-            return returnDraft(drafts.create(userId, draft).execute(), format);
+            return execute(drafts.create(userId, draft), format, this::returnDraft);
         return (T) draft;
     }
 
@@ -1769,6 +1810,22 @@ public class GmailDraftsManager extends GmailManager {
         return getDraft(draftId, LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to get asynchronously the specified draft
+     *
+     * @param draftId: identifier of the draft to get
+     * @return draft requested as {@link CompletableFuture} of {@link Draft} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.drafts/get">
+     * users.drafts.get</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getDraft(String)}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts/{id}")
+    public CompletableFuture<Draft> getDraftAsync(String draftId) {
+        return async(() -> getDraft(draftId));
+    }
+
     /**
      * Method to get a draft
      *
@@ -1819,7 +1876,7 @@ public class GmailDraftsManager extends GmailManager {
         Gmail.Users.Drafts.Get getDraft = drafts.get(userId, draftId);
         if (responseFormat != null)
             getDraft.setFormat(responseFormat.toString());
-        return returnDraft(getDraft.execute(), format);
+        return execute(getDraft, format, this::returnDraft);
     }
 
     /**
@@ -1851,7 +1908,7 @@ public class GmailDraftsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
     public <T> T getDraftsList(boolean includeSpamTrash, ReturnFormat format) throws IOException {
-        return returnDraftsList(drafts.list(userId).setIncludeSpamTrash(includeSpamTrash).execute(), format);
+        return execute(drafts.list(userId).setIncludeSpamTrash(includeSpamTrash), format, this::returnDraftsList);
     }
 
     /**
@@ -1887,9 +1944,8 @@ public class GmailDraftsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
     public <T> T getDraftsList(boolean includeSpamTrash, int maxResults, ReturnFormat format) throws IOException {
-        return returnDraftsList(drafts.list(userId).setIncludeSpamTrash(includeSpamTrash)
-                .setMaxResults((long) maxResults)
-                .execute(), format);
+        return execute(drafts.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                .setMaxResults((long) maxResults), format, this::returnDraftsList);
     }
 
     /**
@@ -1925,10 +1981,9 @@ public class GmailDraftsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
     public <T> T getDraftsList(boolean includeSpamTrash, String pageToken, ReturnFormat format) throws IOException {
-        return returnDraftsList(drafts.list(userId)
+        return execute(drafts.list(userId)
                 .setIncludeSpamTrash(includeSpamTrash)
-                .setPageToken(pageToken)
-                .execute(), format);
+                .setPageToken(pageToken), format, this::returnDraftsList);
     }
 
     /**
@@ -1966,10 +2021,9 @@ public class GmailDraftsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
     public <T> T getDraftsList(String q, boolean includeSpamTrash, ReturnFormat format) throws IOException {
-        return returnDraftsList(drafts.list(userId)
+        return execute(drafts.list(userId)
                 .setQ(q)
-                .setIncludeSpamTrash(includeSpamTrash)
-                .execute(), format);
+                .setIncludeSpamTrash(includeSpamTrash), format, this::returnDraftsList);
     }
 
     /**
@@ -2008,10 +2062,9 @@ public class GmailDraftsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
     public <T> T getDraftsList(boolean includeSpamTrash, int maxResults, String pageToken,
                                ReturnFormat format) throws IOException {
-        return returnDraftsList(drafts.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(drafts.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
-                .setPageToken(pageToken)
-                .execute(), format);
+                .setPageToken(pageToken), format, this::returnDraftsList);
     }
 
     /**
@@ -2052,10 +2105,9 @@ public class GmailDraftsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
     public <T> T getDraftsList(boolean includeSpamTrash, String q, int maxResults,
                                ReturnFormat format) throws IOException {
-        return returnDraftsList(drafts.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(drafts.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setQ(q)
-                .setMaxResults((long) maxResults)
-                .execute(), format);
+                .setMaxResults((long) maxResults), format, this::returnDraftsList);
     }
 
     /**
@@ -2096,10 +2148,9 @@ public class GmailDraftsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
     public <T> T getDraftsList(boolean includeSpamTrash, String pageToken, String q,
                                ReturnFormat format) throws IOException {
-        return returnDraftsList(drafts.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(drafts.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setPageToken(pageToken)
-                .setQ(q)
-                .execute(), format);
+                .setQ(q), format, this::returnDraftsList);
     }
 
     /**
@@ -2143,11 +2194,111 @@ public class GmailDraftsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
     public <T> T getDraftsList(boolean includeSpamTrash, int maxResults, String pageToken,
                                String q, ReturnFormat format) throws IOException {
-        return returnDraftsList(drafts.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(drafts.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setPageToken(pageToken)
-                .setQ(q)
-                .execute(), format);
+                .setQ(q), format, this::returnDraftsList);
+    }
+
+    /**
+     * Method to iterate all the drafts in the user's mailbox
+     *
+     * @param includeSpamTrash: include drafts from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @return drafts as {@link Stream} of {@link Draft} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.drafts/list">
+     * users.drafts.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the stream is consumed, the stream must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
+    public Stream<Draft> streamDrafts(boolean includeSpamTrash) {
+        return streamDrafts(includeSpamTrash, 0, null);
+    }
+
+    /**
+     * Method to iterate all the drafts in the user's mailbox
+     *
+     * @param includeSpamTrash: include drafts from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param q:                only return drafts matching the specified query, null to not filter
+     * @return drafts as {@link Stream} of {@link Draft} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.drafts/list">
+     * users.drafts.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the stream is consumed, the stream must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
+    public Stream<Draft> streamDrafts(boolean includeSpamTrash, String q) {
+        return streamDrafts(includeSpamTrash, 0, q);
+    }
+
+    /**
+     * Method to iterate all the drafts in the user's mailbox
+     *
+     * @param includeSpamTrash: include drafts from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param maxResults:       maximum number of drafts to return for each page, 0 to use the default value
+     * @param q:                only return drafts matching the specified query, null to not filter
+     * @return drafts as {@link Stream} of {@link Draft} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.drafts/list">
+     * users.drafts.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the stream is consumed, the stream must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
+    public Stream<Draft> streamDrafts(boolean includeSpamTrash, int maxResults, String q) {
+        return getDraftsPager(includeSpamTrash, maxResults, q).stream();
+    }
+
+    /**
+     * Method to iterate all the drafts in the user's mailbox
+     *
+     * @param includeSpamTrash: include drafts from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param maxResults:       maximum number of drafts to return for each page, 0 to use the default value
+     * @param q:                only return drafts matching the specified query, null to not filter
+     * @return drafts as {@link GmailPager} of {@link Draft} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.drafts/list">
+     * users.drafts.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the pager is consumed, the pager must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
+    public GmailPager<Draft> getDraftsPager(boolean includeSpamTrash, int maxResults, String q) {
+        return getDraftsPager(includeSpamTrash, maxResults, q, DEFAULT_PREFETCH_DEPTH);
+    }
+
+    /**
+     * Method to iterate all the drafts in the user's mailbox
+     *
+     * @param includeSpamTrash: include drafts from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param maxResults:       maximum number of drafts to return for each page, 0 to use the default value
+     * @param q:                only return drafts matching the specified query, null to not filter
+     * @param prefetchDepth:    number of pages fetched in background while a page is consumed
+     * @return drafts as {@link GmailPager} of {@link Draft} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.drafts/list">
+     * users.drafts.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the pager is consumed, the pager must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/drafts")
+    public GmailPager<Draft> getDraftsPager(boolean includeSpamTrash, int maxResults, String q, int prefetchDepth) {
+        return new GmailPager<>(pageToken -> {
+            Gmail.Users.Drafts.List list = drafts.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                    .setPageToken(pageToken);
+            if (maxResults > 0)
+                list.setMaxResults((long) maxResults);
+            if (q != null)
+                list.setQ(q);
+            ListDraftsResponse response = list.execute();
+            return new Page<>(toDrafts(response).getDrafts(), response.getNextPageToken());
+        }, prefetchDepth);
     }
 
     /**
@@ -2163,7 +2314,7 @@ public class GmailDraftsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(drafts);
             case LIBRARY_OBJECT:
-                return (T) new Drafts(new JSONObject(drafts));
+                return (T) toDrafts(drafts);
             default:
                 return (T) drafts.toString();
         }
@@ -2232,8 +2383,8 @@ public class GmailDraftsManager extends GmailManager {
      **/
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/drafts/send")
     public <T> T sendDraft(String draftId, ReturnFormat format) throws IOException {
-        return GmailMessagesManager.returnMessage(drafts.send(userId, drafts.get(userId, draftId).execute()).execute(),
-                format);
+        return execute(drafts.send(userId, drafts.get(userId, draftId).execute()),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5540,8 +5691,7 @@ public class GmailDraftsManager extends GmailManager {
     @Returner
     private <T> T executeDraftUpdate(String draftId, com.google.api.services.gmail.model.Message message,
                                      ReturnFormat format) throws Exception {
-        return returnDraft(drafts.update(userId, draftId, createDraft(message, null, false))
-                .execute(), format);
+        return execute(drafts.update(userId, draftId, createDraft(message, null, false)), format, this::returnDraft);
     }
 
     /**
@@ -5557,7 +5707,7 @@ public class GmailDraftsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(draft);
             case LIBRARY_OBJECT:
-                return (T) new Draft(new JSONObject(draft));
+                return (T) toDraft(draft);
             default:
                 return (T) draft.toString();
         }
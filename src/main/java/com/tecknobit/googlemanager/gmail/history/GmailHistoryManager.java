@@ -6,7 +6,10 @@ import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.annotations.WrappedRequest;
 import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.googlemanager.GoogleConfig;
+import com.tecknobit.googlemanager.auth.ServiceAccountDelegation;
 import com.tecknobit.googlemanager.gmail.GmailManager;
+import com.tecknobit.googlemanager.gmail.GmailSession;
 import com.tecknobit.googlemanager.gmail.history.records.HistoryList;
 import com.tecknobit.googlemanager.gmail.labels.records.Label;
 import org.json.JSONObject;
@@ -15,9 +18,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.googlemanager.gmail.GmailRecordsMapper.*;
 import static java.math.BigInteger.valueOf;
 
 /**
@@ -44,6 +49,22 @@ public class GmailHistoryManager extends GmailManager {
         return getHistoryList(startHistoryId, LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to get asynchronously a history list
+     *
+     * @param startHistoryId: start history id to return history records after that specified
+     * @return history list response as {@link CompletableFuture} of {@link HistoryList} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.history/list">
+     * users.history.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getHistoryList(long)}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
+    public CompletableFuture<HistoryList> getHistoryListAsync(long startHistoryId) {
+        return async(() -> getHistoryList(startHistoryId));
+    }
+
     /**
      * {@code history} is the instance for {@link Gmail.Users.History}'s service
      **/
@@ -157,6 +178,38 @@ public class GmailHistoryManager extends GmailManager {
         super();
     }
 
+    /**
+     * Constructor to init a {@link GmailHistoryManager}
+     *
+     * @param config: configuration of the manager
+     * @throws IOException when auth request has been go wrong
+     * @apiNote see {@link GmailManager#GmailManager(GoogleConfig)}
+     **/
+    public GmailHistoryManager(GoogleConfig config) throws IOException {
+        super(config);
+    }
+
+    /**
+     * Constructor to init a {@link GmailHistoryManager} impersonating a user with a service account
+     *
+     * @param delegation:      the service account with the domain-wide delegation enabled
+     * @param userId:          the email of the user to impersonate
+     * @param applicationName: name of application to give at the project
+     **/
+    public GmailHistoryManager(ServiceAccountDelegation delegation, String userId, String applicationName) {
+        super(delegation, userId, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailHistoryManager} as view of another manager
+     *
+     * @param manager: manager already authorized from which share the authorization and the Gmail's service
+     * @apiNote this constructor does not perform any auth request, see {@link GmailSession}
+     **/
+    public GmailHistoryManager(GmailManager manager) {
+        super(manager);
+    }
+
     /**
      * Method to get a history list
      *
@@ -170,7 +223,8 @@ public class GmailHistoryManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, ReturnFormat format) throws IOException {
-        return returnHistoryList(history.list(userId).setStartHistoryId(valueOf(startHistoryId)).execute(), format);
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId)),
+                format, this::returnHistoryList);
     }
 
     /**
@@ -206,10 +260,8 @@ public class GmailHistoryManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, int maxResults, ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
-                .setMaxResults((long) maxResults)
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+                .setMaxResults((long) maxResults), format, this::returnHistoryList);
     }
 
     /**
@@ -230,6 +282,23 @@ public class GmailHistoryManager extends GmailManager {
         return getHistoryList(startHistoryId, pageToken, LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to get asynchronously a history list
+     *
+     * @param startHistoryId: start history id to return history records after that specified
+     * @param pageToken:      page token to retrieve a specific page of results in the list
+     * @return history list response as {@link CompletableFuture} of {@link HistoryList} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.history/list">
+     * users.history.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getHistoryList(long, String)}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
+    public CompletableFuture<HistoryList> getHistoryListAsync(long startHistoryId, String pageToken) {
+        return async(() -> getHistoryList(startHistoryId, pageToken));
+    }
+
     /**
      * Method to get a history list
      *
@@ -245,10 +314,8 @@ public class GmailHistoryManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, String pageToken, ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
-                .setPageToken(pageToken)
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+                .setPageToken(pageToken), format, this::returnHistoryList);
     }
 
     /**
@@ -320,10 +387,8 @@ public class GmailHistoryManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(String labelId, long startHistoryId, ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
-                .setLabelId(labelId)
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+                .setLabelId(labelId), format, this::returnHistoryList);
     }
 
     /**
@@ -359,10 +424,8 @@ public class GmailHistoryManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, HistoryType[] historyTypes, ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
-                .setHistoryTypes(returnHistoryTypesList(historyTypes))
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+                .setHistoryTypes(returnHistoryTypesList(historyTypes)), format, this::returnHistoryList);
     }
 
     /**
@@ -399,10 +462,8 @@ public class GmailHistoryManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, Collection<HistoryType> historyTypes,
                                 ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
-                .setHistoryTypes(returnHistoryTypesList(historyTypes))
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+                .setHistoryTypes(returnHistoryTypesList(historyTypes)), format, this::returnHistoryList);
     }
 
     /**
@@ -441,11 +502,9 @@ public class GmailHistoryManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, int maxResults, String pageToken,
                                 ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
                 .setMaxResults((long) maxResults)
-                .setPageToken(pageToken)
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+                .setPageToken(pageToken), format, this::returnHistoryList);
     }
 
     /**
@@ -523,11 +582,9 @@ public class GmailHistoryManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, String labelId, int maxResults,
                                 ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
                 .setMaxResults((long) maxResults)
-                .setLabelId(labelId)
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+                .setLabelId(labelId), format, this::returnHistoryList);
     }
 
     /**
@@ -566,11 +623,9 @@ public class GmailHistoryManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, int maxResults, HistoryType[] historyTypes,
                                 ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
                 .setMaxResults((long) maxResults)
-                .setHistoryTypes(returnHistoryTypesList(historyTypes))
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+                .setHistoryTypes(returnHistoryTypesList(historyTypes)), format, this::returnHistoryList);
     }
 
     /**
@@ -610,11 +665,9 @@ public class GmailHistoryManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, int maxResults, Collection<HistoryType> historyTypes,
                                 ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
                 .setMaxResults((long) maxResults)
-                .setHistoryTypes(returnHistoryTypesList(historyTypes))
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+                .setHistoryTypes(returnHistoryTypesList(historyTypes)), format, this::returnHistoryList);
     }
 
     /**
@@ -692,11 +745,9 @@ public class GmailHistoryManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, String pageToken, String labelId,
                                 ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
                 .setPageToken(pageToken)
-                .setLabelId(labelId)
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+                .setLabelId(labelId), format, this::returnHistoryList);
     }
 
     /**
@@ -735,11 +786,9 @@ public class GmailHistoryManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, String pageToken, HistoryType[] historyTypes,
                                 ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
                 .setPageToken(pageToken)
-                .setHistoryTypes(returnHistoryTypesList(historyTypes))
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+                .setHistoryTypes(returnHistoryTypesList(historyTypes)), format, this::returnHistoryList);
     }
 
     /**
@@ -779,11 +828,9 @@ public class GmailHistoryManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, String pageToken, Collection<HistoryType> historyTypes,
                                 ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
                 .setPageToken(pageToken)
-                .setHistoryTypes(returnHistoryTypesList(historyTypes))
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+                .setHistoryTypes(returnHistoryTypesList(historyTypes)), format, this::returnHistoryList);
     }
 
     /**
@@ -861,11 +908,9 @@ public class GmailHistoryManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(String labelId, long startHistoryId, HistoryType[] historyTypes,
                                 ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
                 .setLabelId(labelId)
-                .setHistoryTypes(returnHistoryTypesList(historyTypes))
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+                .setHistoryTypes(returnHistoryTypesList(historyTypes)), format, this::returnHistoryList);
     }
 
     /**
@@ -943,11 +988,9 @@ public class GmailHistoryManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(String labelId, long startHistoryId, Collection<HistoryType> historyTypes,
                                 ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
                 .setLabelId(labelId)
-                .setHistoryTypes(returnHistoryTypesList(historyTypes))
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+                .setHistoryTypes(returnHistoryTypesList(historyTypes)), format, this::returnHistoryList);
     }
 
     /**
@@ -1035,13 +1078,11 @@ public class GmailHistoryManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, int maxResults, String pageToken, String labelId,
                                 HistoryType[] historyTypes, ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
                 .setMaxResults((long) maxResults)
                 .setPageToken(pageToken)
                 .setLabelId(labelId)
-                .setHistoryTypes(returnHistoryTypesList(historyTypes))
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+                .setHistoryTypes(returnHistoryTypesList(historyTypes)), format, this::returnHistoryList);
     }
 
     /**
@@ -1129,13 +1170,11 @@ public class GmailHistoryManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/history")
     public <T> T getHistoryList(long startHistoryId, int maxResults, String pageToken, String labelId,
                                 Collection<HistoryType> historyTypes, ReturnFormat format) throws IOException {
-        ListHistoryResponse listHistoryResponse = history.list(userId).setStartHistoryId(valueOf(startHistoryId))
+        return execute(history.list(userId).setStartHistoryId(valueOf(startHistoryId))
                 .setMaxResults((long) maxResults)
                 .setPageToken(pageToken)
                 .setLabelId(labelId)
-                .setHistoryTypes(returnHistoryTypesList(historyTypes))
-                .execute();
-        return returnHistoryList(listHistoryResponse, format);
+                .setHistoryTypes(returnHistoryTypesList(historyTypes)), format, this::returnHistoryList);
     }
 
     /**
@@ -1171,7 +1210,7 @@ public class GmailHistoryManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(listHistoryResponse);
             case LIBRARY_OBJECT:
-                return (T) new HistoryList(new JSONObject(listHistoryResponse.toString()));
+                return (T) toHistoryList(listHistoryResponse);
             default:
                 return (T) listHistoryResponse.toString();
         }
@@ -7,7 +7,10 @@ import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.annotations.WrappedRequest;
 import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.googlemanager.GoogleConfig;
+import com.tecknobit.googlemanager.auth.ServiceAccountDelegation;
 import com.tecknobit.googlemanager.gmail.GmailManager;
+import com.tecknobit.googlemanager.gmail.GmailSession;
 import com.tecknobit.googlemanager.gmail.labels.records.Label;
 import com.tecknobit.googlemanager.gmail.labels.records.Label.LabelListVisibility;
 import com.tecknobit.googlemanager.gmail.labels.records.Label.MessageListVisibility;
@@ -17,9 +20,12 @@ import org.json.JSONObject;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.RAW;
+import static com.tecknobit.googlemanager.gmail.GmailRecordsMapper.*;
 import static com.tecknobit.googlemanager.gmail.labels.records.Label.LabelColor.AllowedColor;
 
 /**
@@ -143,6 +149,38 @@ public class GmailLabelsManager extends GmailManager {
         super();
     }
 
+    /**
+     * Constructor to init a {@link GmailLabelsManager}
+     *
+     * @param config: configuration of the manager
+     * @throws IOException when auth request has been go wrong
+     * @apiNote see {@link GmailManager#GmailManager(GoogleConfig)}
+     **/
+    public GmailLabelsManager(GoogleConfig config) throws IOException {
+        super(config);
+    }
+
+    /**
+     * Constructor to init a {@link GmailLabelsManager} impersonating a user with a service account
+     *
+     * @param delegation:      the service account with the domain-wide delegation enabled
+     * @param userId:          the email of the user to impersonate
+     * @param applicationName: name of application to give at the project
+     **/
+    public GmailLabelsManager(ServiceAccountDelegation delegation, String userId, String applicationName) {
+        super(delegation, userId, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailLabelsManager} as view of another manager
+     *
+     * @param manager: manager already authorized from which share the authorization and the Gmail's service
+     * @apiNote this constructor does not perform any auth request, see {@link GmailSession}
+     **/
+    public GmailLabelsManager(GmailManager manager) {
+        super(manager);
+    }
+
     /**
      * Method to create a new label
      *
@@ -213,8 +251,8 @@ public class GmailLabelsManager extends GmailManager {
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/labels")
     public <T> T createLabel(String name, MessageListVisibility messageListVisibility,
                              LabelListVisibility labelListVisibility, ReturnFormat format) throws IOException {
-        return returnLabel(labels.create(userId, assembleLabel(name, messageListVisibility, labelListVisibility)).execute(),
-                format);
+        return execute(labels.create(userId, assembleLabel(name, messageListVisibility, labelListVisibility)),
+                format, this::returnLabel);
     }
 
     /**
@@ -302,7 +340,7 @@ public class GmailLabelsManager extends GmailManager {
                 labelListVisibility);
         requestLabel.setColor(new LabelColor().setTextColor(textColor.toString())
                 .setBackgroundColor(backgroundColor.toString()));
-        return returnLabel(labels.create(userId, requestLabel).execute(), format);
+        return execute(labels.create(userId, requestLabel), format, this::returnLabel);
     }
 
     /**
@@ -350,7 +388,7 @@ public class GmailLabelsManager extends GmailManager {
     @RequestPath(method = DELETE, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/labels/{id}")
     public boolean deleteLabel(String labelId) {
         try {
-            labels.delete(userId, labelId).execute();
+            execute(labels.delete(userId, labelId));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -374,6 +412,22 @@ public class GmailLabelsManager extends GmailManager {
         return getLabel(labelId, LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to get asynchronously a label
+     *
+     * @param labelId: label identifier to get
+     * @return label requested as {@link CompletableFuture} of {@link Label} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.labels/get">
+     * users.labels.get</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getLabel(String)}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/labels/{id}")
+    public CompletableFuture<Label> getLabelAsync(String labelId) {
+        return async(() -> getLabel(labelId));
+    }
+
     /**
      * Method to get a label
      *
@@ -388,7 +442,7 @@ public class GmailLabelsManager extends GmailManager {
     @Returner
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/labels/{id}")
     public <T> T getLabel(String labelId, ReturnFormat format) throws IOException {
-        return returnLabel(labels.get(userId, labelId).execute(), format);
+        return execute(labels.get(userId, labelId), format, this::returnLabel);
     }
 
     /**
@@ -420,14 +474,16 @@ public class GmailLabelsManager extends GmailManager {
     @Returner
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/labels")
     public <T> T getLabelsList(ReturnFormat format) throws IOException {
-        ListLabelsResponse list = labels.list(userId).execute();
+        if (format == RAW)
+            return (T) labels.list(userId).executeAsInputStream();
+        ListLabelsResponse list = execute(labels.list(userId));
         switch (format) {
             case JSON:
                 return (T) new JSONArray(list.getLabels());
             case LIBRARY_OBJECT:
                 ArrayList<Label> labels = new ArrayList<>();
                 for (com.google.api.services.gmail.model.Label label : list.getLabels())
-                    labels.add(new Label(new JSONObject(label)));
+                    labels.add(toLabel(label));
                 return (T) labels;
             default:
                 return (T) list.toString();
@@ -1156,7 +1212,7 @@ public class GmailLabelsManager extends GmailManager {
     @Returner
     private <T> T changeLabel(String labelId, com.google.api.services.gmail.model.Label label,
                               ReturnFormat format) throws IOException {
-        return returnLabel(labels.patch(userId, labelId, label).execute(), format);
+        return execute(labels.patch(userId, labelId, label), format, this::returnLabel);
     }
 
     /**
@@ -1172,7 +1228,7 @@ public class GmailLabelsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(labelResponse);
             case LIBRARY_OBJECT:
-                return (T) new Label(new JSONObject(labelResponse));
+                return (T) toLabel(labelResponse);
             default:
                 return (T) labelResponse.toString();
         }
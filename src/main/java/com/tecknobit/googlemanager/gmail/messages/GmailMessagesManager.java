@@ -1,25 +1,47 @@
 package com.tecknobit.googlemanager.gmail.messages;
 
 import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.GmailRequest;
 import com.google.api.services.gmail.model.*;
 import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.annotations.WrappedRequest;
 import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.googlemanager.GoogleConfig;
+import com.tecknobit.googlemanager.auth.ServiceAccountDelegation;
+import com.tecknobit.googlemanager.gmail.GmailLabelDirectory;
 import com.tecknobit.googlemanager.gmail.GmailManager;
+import com.tecknobit.googlemanager.gmail.GmailPager;
+import com.tecknobit.googlemanager.gmail.GmailPager.Page;
+import com.tecknobit.googlemanager.gmail.GmailPipeline;
+import com.tecknobit.googlemanager.gmail.GmailRetryPolicy;
+import com.tecknobit.googlemanager.gmail.GmailSession;
+import com.tecknobit.googlemanager.gmail.messages.records.BulkResult;
+import com.tecknobit.googlemanager.gmail.messages.records.BulkResult.ChunkResult;
 import com.tecknobit.googlemanager.gmail.messages.records.Messages;
+import com.tecknobit.googlemanager.gmail.records.BatchResult;
 import com.tecknobit.googlemanager.gmail.records.Message;
 import com.tecknobit.googlemanager.gmail.records.Message.MessageBody;
 import org.json.JSONObject;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.RAW;
+import static com.tecknobit.googlemanager.gmail.GmailRecordsMapper.*;
 import static com.tecknobit.googlemanager.gmail.GmailManager.ResponseFormat.METADATA_FORMAT;
+import static com.tecknobit.googlemanager.gmail.GmailPager.DEFAULT_PREFETCH_DEPTH;
+import static com.tecknobit.googlemanager.gmail.GmailPipeline.DEFAULT_BATCH_SIZE;
+import static com.tecknobit.googlemanager.gmail.GmailPipeline.DEFAULT_BUFFER_SIZE;
 import static java.util.Arrays.stream;
 
 /**
@@ -40,6 +62,16 @@ import static java.util.Arrays.stream;
  **/
 public class GmailMessagesManager extends GmailManager {
 
+    /**
+     * {@code MAX_IDS_PER_REQUEST} is a constant for the max number of ids of a batchDelete or batchModify request
+     **/
+    public static final int MAX_IDS_PER_REQUEST = 1000;
+
+    /**
+     * {@code MAX_LIST_RESULTS} is a constant for the max number of messages that can be listed in a single page
+     **/
+    public static final int MAX_LIST_RESULTS = 500;
+
     /**
      * {@code messages} is the instance for {@link Gmail.Users.Messages}'s service
      **/
@@ -153,6 +185,38 @@ public class GmailMessagesManager extends GmailManager {
         super();
     }
 
+    /**
+     * Constructor to init a {@link GmailMessagesManager}
+     *
+     * @param config: configuration of the manager
+     * @throws IOException when auth request has been go wrong
+     * @apiNote see {@link GmailManager#GmailManager(GoogleConfig)}
+     **/
+    public GmailMessagesManager(GoogleConfig config) throws IOException {
+        super(config);
+    }
+
+    /**
+     * Constructor to init a {@link GmailMessagesManager} impersonating a user with a service account
+     *
+     * @param delegation:      the service account with the domain-wide delegation enabled
+     * @param userId:          the email of the user to impersonate
+     * @param applicationName: name of application to give at the project
+     **/
+    public GmailMessagesManager(ServiceAccountDelegation delegation, String userId, String applicationName) {
+        super(delegation, userId, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailMessagesManager} as view of another manager
+     *
+     * @param manager: manager already authorized from which share the authorization and the Gmail's service
+     * @apiNote this constructor does not perform any auth request, see {@link GmailSession}
+     **/
+    public GmailMessagesManager(GmailManager manager) {
+        super(manager);
+    }
+
     /**
      * Method to create a message object
      *
@@ -166,7 +230,7 @@ public class GmailMessagesManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(message);
             case LIBRARY_OBJECT:
-                return (T) new Message(new JSONObject(message));
+                return (T) toMessage(message);
             default:
                 return (T) message.toString();
         }
@@ -200,7 +264,7 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/batchDelete")
     public boolean batchDelete(String[] idsToDelete) {
         try {
-            messages.batchDelete(userId, new BatchDeleteMessagesRequest().setIds(stream(idsToDelete).toList())).execute();
+            execute(messages.batchDelete(userId, new BatchDeleteMessagesRequest().setIds(stream(idsToDelete).toList())));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -240,9 +304,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/batchModify")
     public boolean batchModify(String[] idsToModify, String[] labelIdsToAdd, String[] labelIdsToRemove) {
         try {
-            messages.batchModify(userId, new BatchModifyMessagesRequest().setIds(stream(idsToModify).toList())
+            execute(messages.batchModify(userId, new BatchModifyMessagesRequest().setIds(stream(idsToModify).toList())
                     .setAddLabelIds(stream(labelIdsToAdd).toList())
-                    .setRemoveLabelIds(stream(labelIdsToRemove).toList())).execute();
+                    .setRemoveLabelIds(stream(labelIdsToRemove).toList())));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -250,6 +314,134 @@ public class GmailMessagesManager extends GmailManager {
         }
     }
 
+    /**
+     * Method to delete any number of messages by message ID, provides no guarantees that messages were not already
+     * deleted or even existed at all.
+     *
+     * @param idsToDelete: the IDs of the messages to delete in {@link Collection} of {@link String} format
+     * @return result of each chunk of the operation as {@link BulkResult} custom object
+     * @throws IOException when the thread has been interrupted while waiting the chunks
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/batchDelete">
+     * users.messages.batchDelete</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the ids are split in chunks of {@link #MAX_IDS_PER_REQUEST} ids sent in parallel, each chunk is retried by the
+     * {@link #getRetryPolicy()} for a rate limit, a server error or a network error
+     **/
+    @Wrapper
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/batchDelete")
+    public BulkResult bulkDelete(Collection<String> idsToDelete) throws IOException {
+        return bulkDelete(idsToDelete, DEFAULT_BATCH_PARALLELISM);
+    }
+
+    /**
+     * Method to delete any number of messages by message ID, provides no guarantees that messages were not already
+     * deleted or even existed at all.
+     *
+     * @param idsToDelete: the IDs of the messages to delete in {@link Collection} of {@link String} format
+     * @param parallelism: max number of chunks sent at the same time
+     * @return result of each chunk of the operation as {@link BulkResult} custom object
+     * @throws IOException when the thread has been interrupted while waiting the chunks
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/batchDelete">
+     * users.messages.batchDelete</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the ids are split in chunks of {@link #MAX_IDS_PER_REQUEST} ids sent in parallel, each chunk is retried by the
+     * {@link #getRetryPolicy()} for a rate limit, a server error or a network error
+     **/
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/batchDelete")
+    public BulkResult bulkDelete(Collection<String> idsToDelete, int parallelism) throws IOException {
+        return executeBulk(idsToDelete, parallelism,
+                ids -> messages.batchDelete(userId, new BatchDeleteMessagesRequest().setIds(ids)));
+    }
+
+    /**
+     * Method to modifies the labels on any number of messages
+     *
+     * @param idsToModify:      the IDs of the messages to modify in {@link Collection} of {@link String} format
+     * @param labelIdsToAdd:    a list of label IDs to add to messages in {@link Collection} of {@link String} format
+     * @param labelIdsToRemove: a list of label IDs to remove from messages in {@link Collection} of {@link String} format
+     * @return result of each chunk of the operation as {@link BulkResult} custom object
+     * @throws IOException when the thread has been interrupted while waiting the chunks
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/batchModify">
+     * users.messages.batchModify</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the ids are split in chunks of {@link #MAX_IDS_PER_REQUEST} ids sent in parallel, each chunk is retried by the
+     * {@link #getRetryPolicy()} for a rate limit, a server error or a network error
+     **/
+    @Wrapper
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/batchModify")
+    public BulkResult bulkModify(Collection<String> idsToModify, Collection<String> labelIdsToAdd,
+                                 Collection<String> labelIdsToRemove) throws IOException {
+        return bulkModify(idsToModify, labelIdsToAdd, labelIdsToRemove, DEFAULT_BATCH_PARALLELISM);
+    }
+
+    /**
+     * Method to modifies the labels on any number of messages
+     *
+     * @param idsToModify:      the IDs of the messages to modify in {@link Collection} of {@link String} format
+     * @param labelIdsToAdd:    a list of label IDs to add to messages in {@link Collection} of {@link String} format
+     * @param labelIdsToRemove: a list of label IDs to remove from messages in {@link Collection} of {@link String} format
+     * @param parallelism:      max number of chunks sent at the same time
+     * @return result of each chunk of the operation as {@link BulkResult} custom object
+     * @throws IOException when the thread has been interrupted while waiting the chunks
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/batchModify">
+     * users.messages.batchModify</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the ids are split in chunks of {@link #MAX_IDS_PER_REQUEST} ids sent in parallel, each chunk is retried by the
+     * {@link #getRetryPolicy()} for a rate limit, a server error or a network error
+     **/
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/batchModify")
+    public BulkResult bulkModify(Collection<String> idsToModify, Collection<String> labelIdsToAdd,
+                                 Collection<String> labelIdsToRemove, int parallelism) throws IOException {
+        List<String> addLabelIds = labelIdsToAdd != null ? List.copyOf(labelIdsToAdd) : null;
+        List<String> removeLabelIds = labelIdsToRemove != null ? List.copyOf(labelIdsToRemove) : null;
+        return executeBulk(idsToModify, parallelism,
+                ids -> messages.batchModify(userId, new BatchModifyMessagesRequest().setIds(ids)
+                        .setAddLabelIds(addLabelIds)
+                        .setRemoveLabelIds(removeLabelIds)));
+    }
+
+    /**
+     * Method to execute a bulk operation splitting the ids in chunks
+     *
+     * @param ids:            the IDs of the messages of the operation
+     * @param parallelism:    max number of chunks sent at the same time
+     * @param requestCreator: the function to create the request of a chunk
+     * @return result of each chunk of the operation as {@link BulkResult} custom object
+     * @throws IOException when the thread has been interrupted while waiting the chunks
+     **/
+    private BulkResult executeBulk(Collection<String> ids, int parallelism,
+                                   ChunkRequestCreator requestCreator) throws IOException {
+        List<String> idsList = List.copyOf(ids);
+        int chunksCount = (idsList.size() + MAX_IDS_PER_REQUEST - 1) / MAX_IDS_PER_REQUEST;
+        ChunkResult[] chunks = new ChunkResult[chunksCount];
+        dispatch(chunksCount, parallelism, chunkIndex -> {
+            int from = chunkIndex * MAX_IDS_PER_REQUEST;
+            List<String> chunk = idsList.subList(from, Math.min(from + MAX_IDS_PER_REQUEST, idsList.size()));
+            chunks[chunkIndex] = sendChunk(chunkIndex, chunk, requestCreator);
+        });
+        return new BulkResult(new ArrayList<>(Arrays.asList(chunks)));
+    }
+
+    /**
+     * Method to send the request of a chunk
+     *
+     * @param chunkIndex:     the index of the chunk in the operation
+     * @param ids:            the IDs of the messages of the chunk
+     * @param requestCreator: the function to create the request of the chunk
+     * @return result of the chunk as {@link ChunkResult} custom object
+     * @apiNote the request sets a state, so the {@link #getRetryPolicy()} retries it for a rate limit, a server error or
+     * a network error, see {@link GmailRetryPolicy#isRetrySafe(String, String)}. It is not retried also here, so its
+     * attempts are not multiplied, and its messages kept by the {@link #getMessageCache()} are updated
+     **/
+    private ChunkResult sendChunk(int chunkIndex, List<String> ids, ChunkRequestCreator requestCreator) {
+        try {
+            execute(requestCreator.create(ids));
+            return new ChunkResult(chunkIndex, ids, null);
+        } catch (IOException e) {
+            return new ChunkResult(chunkIndex, ids, e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+    }
+
     /**
      * Method to immediately and permanently deletes the specified message. This operation cannot be undone.
      *
@@ -280,7 +472,7 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = DELETE, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}")
     public boolean deleteMessage(String messageIdToDelete) {
         try {
-            messages.delete(userId, messageIdToDelete).execute();
+            execute(messages.delete(userId, messageIdToDelete));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -317,7 +509,7 @@ public class GmailMessagesManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}")
     public <T> T getMessage(String messageId, ReturnFormat format) throws IOException {
-        return returnMessage(messages.get(userId, messageId).execute(), format);
+        return execute(messages.get(userId, messageId), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -337,6 +529,39 @@ public class GmailMessagesManager extends GmailManager {
         return getMessage(messageId, responseFormat, LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to get asynchronously the specified message
+     *
+     * @param messageId: id of the message to get
+     * @return message requested as {@link CompletableFuture} of {@link Message} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/get">
+     * users.messages.get</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getMessage(String)}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}")
+    public CompletableFuture<Message> getMessageAsync(String messageId) {
+        return async(() -> getMessage(messageId));
+    }
+
+    /**
+     * Method to get asynchronously the specified message
+     *
+     * @param messageId:      id of the message to get
+     * @param responseFormat: the format to return the message in -> constants available at {@link ResponseFormat}
+     * @return message requested as {@link CompletableFuture} of {@link Message} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/get">
+     * users.messages.get</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getMessage(String, ResponseFormat)}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}")
+    public CompletableFuture<Message> getMessageAsync(String messageId, ResponseFormat responseFormat) {
+        return async(() -> getMessage(messageId, responseFormat));
+    }
+
     /**
      * Method to get the specified message
      *
@@ -351,7 +576,8 @@ public class GmailMessagesManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}")
     public <T> T getMessage(String messageId, ResponseFormat responseFormat, ReturnFormat format) throws IOException {
-        return returnMessage(messages.get(userId, messageId).setFormat(responseFormat.toString()).execute(), format);
+        return execute(messages.get(userId, messageId).setFormat(responseFormat.toString()),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -385,9 +611,8 @@ public class GmailMessagesManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}")
     public <T> T getMessage(String messageId, String[] metadataHeaders, ReturnFormat format) throws IOException {
-        return returnMessage(messages.get(userId, messageId).setFormat(METADATA_FORMAT.toString())
-                .setMetadataHeaders(stream(metadataHeaders).toList())
-                .execute(), format);
+        return execute(messages.get(userId, messageId).setFormat(METADATA_FORMAT.toString())
+                .setMetadataHeaders(stream(metadataHeaders).toList()), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -424,10 +649,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}")
     public <T> T getMessage(String messageId, String[] metadataHeaders, ResponseFormat responseFormat,
                             ReturnFormat format) throws IOException {
-        return returnMessage(messages.get(userId, messageId).setFormat(METADATA_FORMAT.toString())
+        return execute(messages.get(userId, messageId).setFormat(METADATA_FORMAT.toString())
                 .setMetadataHeaders(stream(metadataHeaders).toList())
-                .setFormat(responseFormat.toString())
-                .execute(), format);
+                .setFormat(responseFormat.toString()), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -461,9 +685,8 @@ public class GmailMessagesManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}")
     public <T> T getMessage(String messageId, Collection<String> metadataHeaders, ReturnFormat format) throws IOException {
-        return returnMessage(messages.get(userId, messageId).setFormat(METADATA_FORMAT.toString())
-                .setMetadataHeaders(metadataHeaders.stream().toList())
-                .execute(), format);
+        return execute(messages.get(userId, messageId).setFormat(METADATA_FORMAT.toString())
+                .setMetadataHeaders(metadataHeaders.stream().toList()), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -501,10 +724,129 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}")
     public <T> T getMessage(String messageId, Collection<String> metadataHeaders, ResponseFormat responseFormat,
                             ReturnFormat format) throws IOException {
-        return returnMessage(messages.get(userId, messageId).setFormat(METADATA_FORMAT.toString())
+        return execute(messages.get(userId, messageId).setFormat(METADATA_FORMAT.toString())
                 .setMetadataHeaders(metadataHeaders.stream().toList())
-                .setFormat(responseFormat.toString())
-                .execute(), format);
+                .setFormat(responseFormat.toString()), format, GmailMessagesManager::returnMessage);
+    }
+
+    /**
+     * Method to get many messages in a single round trip
+     *
+     * @param messageIds:      ids of the messages to get
+     * @return messages requested as {@link BatchResult} of {@link Message} custom object keyed by id
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the messages are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @Wrapper
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public BatchResult<Message> getMessages(Collection<String> messageIds) throws IOException {
+        return getMessages(messageIds, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to get many messages in a single round trip
+     *
+     * @param messageIds:      ids of the messages to get
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return messages as {@link BatchResult} keyed by id, each message as {@code "format"} defines
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the messages are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public <T> BatchResult<T> getMessages(Collection<String> messageIds, ReturnFormat format) throws IOException {
+        return getMessages(messageIds, null, null, format);
+    }
+
+    /**
+     * Method to get many messages in a single round trip
+     *
+     * @param messageIds:      ids of the messages to get
+     * @param responseFormat:  the format to return the messages in -> constants available at {@link ResponseFormat}
+     * @return messages requested as {@link BatchResult} of {@link Message} custom object keyed by id
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the messages are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @Wrapper
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public BatchResult<Message> getMessages(Collection<String> messageIds, ResponseFormat responseFormat) throws IOException {
+        return getMessages(messageIds, responseFormat, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to get many messages in a single round trip
+     *
+     * @param messageIds:      ids of the messages to get
+     * @param responseFormat:  the format to return the messages in -> constants available at {@link ResponseFormat}
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return messages as {@link BatchResult} keyed by id, each message as {@code "format"} defines
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the messages are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public <T> BatchResult<T> getMessages(Collection<String> messageIds, ResponseFormat responseFormat,
+                                          ReturnFormat format) throws IOException {
+        return getMessages(messageIds, responseFormat, null, format);
+    }
+
+    /**
+     * Method to get many messages in a single round trip
+     *
+     * @param messageIds:      ids of the messages to get
+     * @param responseFormat:  the format to return the messages in -> constants available at {@link ResponseFormat}
+     * @param metadataHeaders: when given and format is {@code "METADATA"}, only include headers specified in {@link Collection} of {@link String} format
+     * @return messages requested as {@link BatchResult} of {@link Message} custom object keyed by id
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the messages are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @Wrapper
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public BatchResult<Message> getMessages(Collection<String> messageIds, ResponseFormat responseFormat,
+                                            Collection<String> metadataHeaders) throws IOException {
+        return getMessages(messageIds, responseFormat, metadataHeaders, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to get many messages in a single round trip
+     *
+     * @param messageIds:      ids of the messages to get
+     * @param responseFormat:  the format to return the messages in -> constants available at {@link ResponseFormat}
+     * @param metadataHeaders: when given and format is {@code "METADATA"}, only include headers specified in {@link Collection} of {@link String} format
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return messages as {@link BatchResult} keyed by id, each message as {@code "format"} defines
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the messages are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public <T> BatchResult<T> getMessages(Collection<String> messageIds, ResponseFormat responseFormat,
+                                          Collection<String> metadataHeaders, ReturnFormat format) throws IOException {
+        LinkedHashMap<String, Gmail.Users.Messages.Get> requests = new LinkedHashMap<>();
+        for (String messageId : messageIds) {
+            Gmail.Users.Messages.Get request = messages.get(userId, messageId);
+            if (responseFormat != null)
+                request.setFormat(responseFormat.toString());
+            if (metadataHeaders != null)
+                request.setMetadataHeaders(metadataHeaders.stream().toList());
+            requests.put(messageId, request);
+        }
+        return executeBatch(requests, format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -551,11 +893,10 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/import")
     public <T> T importMessage(String toEmailAddress, String subject, String contentMessage, boolean neverMarkSpam,
                                boolean processForCalendar, boolean deleted, ReturnFormat format) throws Exception {
-        return returnMessage(messages.gmailImport(userId, createSimpleMessage(toEmailAddress, subject, contentMessage))
+        return execute(messages.gmailImport(userId, createSimpleMessage(toEmailAddress, subject, contentMessage))
                 .setNeverMarkSpam(neverMarkSpam)
                 .setProcessForCalendar(processForCalendar)
-                .setDeleted(deleted)
-                .execute(), format);
+                .setDeleted(deleted), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -606,12 +947,11 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T importMessage(String toEmailAddress, String subject, String contentMessage, boolean neverMarkSpam,
                                boolean processForCalendar, boolean deleted, InternalDateSource internalDateSource,
                                ReturnFormat format) throws Exception {
-        return returnMessage(messages.gmailImport(userId, createSimpleMessage(toEmailAddress, subject, contentMessage))
+        return execute(messages.gmailImport(userId, createSimpleMessage(toEmailAddress, subject, contentMessage))
                 .setNeverMarkSpam(neverMarkSpam)
                 .setProcessForCalendar(processForCalendar)
                 .setDeleted(deleted)
-                .setInternalDateSource(internalDateSource.name())
-                .execute(), format);
+                .setInternalDateSource(internalDateSource.name()), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -664,12 +1004,11 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T importMessageWithFile(String toEmailAddress, String subject, String contentMessage,
                                        boolean neverMarkSpam, boolean processForCalendar, boolean deleted, File file,
                                        ReturnFormat format) throws Exception {
-        return returnMessage(messages.gmailImport(userId, createSimpleMessageWithFile(toEmailAddress, subject,
+        return execute(messages.gmailImport(userId, createSimpleMessageWithFile(toEmailAddress, subject,
                         contentMessage, file, TEXT_PLAIN_MIME_TYPE))
                 .setNeverMarkSpam(neverMarkSpam)
                 .setProcessForCalendar(processForCalendar)
-                .setDeleted(deleted)
-                .execute(), format);
+                .setDeleted(deleted), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -724,13 +1063,12 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T importMessageWithFile(String toEmailAddress, String subject, String contentMessage, boolean neverMarkSpam,
                                        boolean processForCalendar, boolean deleted, File file,
                                        InternalDateSource internalDateSource, ReturnFormat format) throws Exception {
-        return returnMessage(messages.gmailImport(userId, createSimpleMessageWithFile(toEmailAddress, subject,
+        return execute(messages.gmailImport(userId, createSimpleMessageWithFile(toEmailAddress, subject,
                         contentMessage, file, TEXT_PLAIN_MIME_TYPE))
                 .setInternalDateSource(internalDateSource.name())
                 .setNeverMarkSpam(neverMarkSpam)
                 .setProcessForCalendar(processForCalendar)
-                .setDeleted(deleted)
-                .execute(), format);
+                .setDeleted(deleted), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -782,12 +1120,11 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T importMessageWithFiles(String toEmailAddress, String subject, String contentMessage, boolean neverMarkSpam,
                                         boolean processForCalendar, boolean deleted, File[] files,
                                         ReturnFormat format) throws Exception {
-        return returnMessage(messages.gmailImport(userId, createMessageWithFiles(toEmailAddress, subject, contentMessage,
+        return execute(messages.gmailImport(userId, createMessageWithFiles(toEmailAddress, subject, contentMessage,
                         files, TEXT_PLAIN_MIME_TYPE))
                 .setNeverMarkSpam(neverMarkSpam)
                 .setProcessForCalendar(processForCalendar)
-                .setDeleted(deleted)
-                .execute(), format);
+                .setDeleted(deleted), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -842,13 +1179,12 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T importMessageWithFiles(String toEmailAddress, String subject, String contentMessage,
                                         boolean neverMarkSpam, boolean processForCalendar, boolean deleted, File[] files,
                                         InternalDateSource internalDateSource, ReturnFormat format) throws Exception {
-        return returnMessage(messages.gmailImport(userId, createMessageWithFiles(toEmailAddress, subject, contentMessage,
+        return execute(messages.gmailImport(userId, createMessageWithFiles(toEmailAddress, subject, contentMessage,
                         files, TEXT_PLAIN_MIME_TYPE))
                 .setInternalDateSource(internalDateSource.name())
                 .setNeverMarkSpam(neverMarkSpam)
                 .setProcessForCalendar(processForCalendar)
-                .setDeleted(deleted)
-                .execute(), format);
+                .setDeleted(deleted), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -1003,8 +1339,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages")
     public <T> T insertMessage(String toEmailAddress, String subject, String contentMessage, boolean deleted,
                                ReturnFormat format) throws Exception {
-        return returnMessage(messages.insert(userId, createSimpleMessage(toEmailAddress, subject, contentMessage))
-                .setDeleted(deleted).execute(), format);
+        return execute(messages.insert(userId, createSimpleMessage(toEmailAddress, subject, contentMessage))
+                .setDeleted(deleted), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -1050,8 +1386,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages")
     public <T> T insertMessage(String toEmailAddress, String subject, String contentMessage, boolean deleted,
                                InternalDateSource internalDateSource, ReturnFormat format) throws Exception {
-        return returnMessage(messages.insert(userId, createSimpleMessage(toEmailAddress, subject, contentMessage))
-                .setDeleted(deleted).setInternalDateSource(internalDateSource.name()).execute(), format);
+        return execute(messages.insert(userId, createSimpleMessage(toEmailAddress, subject, contentMessage))
+                .setDeleted(deleted).setInternalDateSource(internalDateSource.name()),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -1097,8 +1434,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages")
     public <T> T insertMessageWithFile(String toEmailAddress, String subject, String contentMessage, boolean deleted,
                                        File file, ReturnFormat format) throws Exception {
-        return returnMessage(messages.insert(userId, createSimpleMessageWithFile(toEmailAddress, subject, contentMessage, file,
-                TEXT_PLAIN_MIME_TYPE)).setDeleted(deleted).execute(), format);
+        return execute(messages.insert(userId, createSimpleMessageWithFile(toEmailAddress, subject, contentMessage, file,
+                TEXT_PLAIN_MIME_TYPE)).setDeleted(deleted), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -1147,9 +1484,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages")
     public <T> T insertMessageWithFile(String toEmailAddress, String subject, String contentMessage, boolean deleted,
                                        InternalDateSource internalDateSource, File file, ReturnFormat format) throws Exception {
-        return returnMessage(messages.insert(userId, createSimpleMessageWithFile(toEmailAddress, subject, contentMessage, file,
-                        TEXT_PLAIN_MIME_TYPE)).setDeleted(deleted).setInternalDateSource(internalDateSource.name()).execute(),
-                format);
+        return execute(messages.insert(userId, createSimpleMessageWithFile(toEmailAddress, subject, contentMessage, file,
+                        TEXT_PLAIN_MIME_TYPE)).setDeleted(deleted).setInternalDateSource(internalDateSource.name()),
+                        format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -1195,8 +1532,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages")
     public <T> T insertMessageWithFiles(String toEmailAddress, String subject, String contentMessage, boolean deleted,
                                         File[] files, ReturnFormat format) throws Exception {
-        return returnMessage(messages.insert(userId, createMessageWithFiles(toEmailAddress, subject, contentMessage, files,
-                TEXT_PLAIN_MIME_TYPE)).setDeleted(deleted).execute(), format);
+        return execute(messages.insert(userId, createMessageWithFiles(toEmailAddress, subject, contentMessage, files,
+                TEXT_PLAIN_MIME_TYPE)).setDeleted(deleted), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -1246,9 +1583,9 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T insertMessageWithFiles(String toEmailAddress, String subject, String contentMessage, boolean deleted,
                                         InternalDateSource internalDateSource, File[] files,
                                         ReturnFormat format) throws Exception {
-        return returnMessage(messages.insert(userId, createMessageWithFiles(toEmailAddress, subject, contentMessage, files,
-                        TEXT_PLAIN_MIME_TYPE)).setDeleted(deleted).setInternalDateSource(internalDateSource.name())
-                .execute(), format);
+        return execute(messages.insert(userId, createMessageWithFiles(toEmailAddress, subject, contentMessage, files,
+                        TEXT_PLAIN_MIME_TYPE)).setDeleted(deleted).setInternalDateSource(internalDateSource.name()),
+                        format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -1380,7 +1717,7 @@ public class GmailMessagesManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash).execute(), format);
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash), format, this::returnMessagesList);
     }
 
     /**
@@ -1416,8 +1753,8 @@ public class GmailMessagesManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, int maxResults, ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
-                .setMaxResults((long) maxResults).execute(), format);
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                .setMaxResults((long) maxResults), format, this::returnMessagesList);
     }
 
     /**
@@ -1453,8 +1790,8 @@ public class GmailMessagesManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, String pageToken, ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
-                .setPageToken(pageToken).execute(), format);
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                .setPageToken(pageToken), format, this::returnMessagesList);
     }
 
     /**
@@ -1492,8 +1829,8 @@ public class GmailMessagesManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(String q, boolean includeSpamTrash, ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
-                .setQ(q).execute(), format);
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                .setQ(q), format, this::returnMessagesList);
     }
 
     /**
@@ -1529,8 +1866,8 @@ public class GmailMessagesManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, String[] labelIds, ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                .setLabelIds(stream(labelIds).toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -1567,8 +1904,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, Collection<String> labelIds,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                .setLabelIds(labelIds.stream().toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -1607,10 +1944,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, int maxResults, String pageToken,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
-                .setPageToken(pageToken)
-                .execute(), format);
+                .setPageToken(pageToken), format, this::returnMessagesList);
     }
 
     /**
@@ -1651,10 +1987,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, String q, int maxResults,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
-                .setQ(q)
-                .execute(), format);
+                .setQ(q), format, this::returnMessagesList);
     }
 
     /**
@@ -1693,9 +2028,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, int maxResults, String[] labelIds,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -1735,9 +2070,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, int maxResults, Collection<String> labelIds,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -1779,10 +2114,10 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, int maxResults, String pageToken, String[] labelIds,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setPageToken(pageToken)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -1824,10 +2159,10 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, int maxResults, String pageToken, Collection<String> labelIds,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setPageToken(pageToken)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -1871,10 +2206,10 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, int maxResults, String[] labelIds,
                                  String q, ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setQ(q)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -1918,10 +2253,10 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, int maxResults, Collection<String> labelIds, String q,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setQ(q)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -1962,10 +2297,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, String pageToken, String q,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setPageToken(pageToken)
-                .setQ(q)
-                .execute(), format);
+                .setQ(q), format, this::returnMessagesList);
     }
 
     /**
@@ -2004,9 +2338,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, String pageToken, String[] labelIds,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setPageToken(pageToken)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -2046,9 +2380,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, String pageToken, Collection<String> labelIds,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setPageToken(pageToken)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -2092,10 +2426,10 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, String pageToken, String q, String[] labelIds,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setPageToken(pageToken)
                 .setQ(q)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -2139,10 +2473,10 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, String pageToken, String q, Collection<String> labelIds,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setPageToken(pageToken)
                 .setQ(q)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -2183,9 +2517,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, String[] labelIds, String q,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setQ(q)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -2226,9 +2560,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, Collection<String> labelIds, String q,
                                  ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setQ(q)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -2274,12 +2608,11 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, int maxResults, String pageToken, String q,
                                  String[] labelIds, ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setPageToken(pageToken)
                 .setQ(q)
-                .setLabelIds(stream(labelIds).toList())
-                .execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -2305,6 +2638,221 @@ public class GmailMessagesManager extends GmailManager {
         return getMessagesList(includeSpamTrash, maxResults, pageToken, q, labelIds, LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to iterate all the messages in the user's mailbox
+     *
+     * @param includeSpamTrash: include messages from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @return messages as {@link Stream} of {@link Message} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/list">
+     * users.messages.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the stream is consumed, the stream must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
+    public Stream<Message> streamMessages(boolean includeSpamTrash) {
+        return streamMessages(includeSpamTrash, 0, null, null);
+    }
+
+    /**
+     * Method to iterate all the messages in the user's mailbox
+     *
+     * @param includeSpamTrash: include messages from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param q:                only return messages matching the specified query, null to not filter
+     * @return messages as {@link Stream} of {@link Message} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/list">
+     * users.messages.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the stream is consumed, the stream must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
+    public Stream<Message> streamMessages(boolean includeSpamTrash, String q) {
+        return streamMessages(includeSpamTrash, 0, q, null);
+    }
+
+    /**
+     * Method to iterate all the messages in the user's mailbox
+     *
+     * @param includeSpamTrash: include messages from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param labelIds:         only return messages with labels that match all of the specified label IDs, null to not filter
+     * @return messages as {@link Stream} of {@link Message} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/list">
+     * users.messages.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the stream is consumed, the stream must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
+    public Stream<Message> streamMessages(boolean includeSpamTrash, Collection<String> labelIds) {
+        return streamMessages(includeSpamTrash, 0, null, labelIds);
+    }
+
+    /**
+     * Method to iterate all the messages in the user's mailbox
+     *
+     * @param includeSpamTrash: include messages from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param maxResults:       maximum number of messages to return for each page, 0 to use the default value
+     * @param q:                only return messages matching the specified query, null to not filter
+     * @param labelIds:         only return messages with labels that match all of the specified label IDs, null to not filter
+     * @return messages as {@link Stream} of {@link Message} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/list">
+     * users.messages.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the stream is consumed, the stream must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
+    public Stream<Message> streamMessages(boolean includeSpamTrash, int maxResults, String q,
+                                          Collection<String> labelIds) {
+        return getMessagesPager(includeSpamTrash, maxResults, q, labelIds).stream();
+    }
+
+    /**
+     * Method to iterate all the messages in the user's mailbox
+     *
+     * @param includeSpamTrash: include messages from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param maxResults:       maximum number of messages to return for each page, 0 to use the default value
+     * @param q:                only return messages matching the specified query, null to not filter
+     * @param labelIds:         only return messages with labels that match all of the specified label IDs, null to not filter
+     * @return messages as {@link GmailPager} of {@link Message} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/list">
+     * users.messages.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the pager is consumed, the pager must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
+    public GmailPager<Message> getMessagesPager(boolean includeSpamTrash, int maxResults, String q,
+                                                Collection<String> labelIds) {
+        return getMessagesPager(includeSpamTrash, maxResults, q, labelIds, DEFAULT_PREFETCH_DEPTH);
+    }
+
+    /**
+     * Method to iterate all the messages in the user's mailbox
+     *
+     * @param includeSpamTrash: include messages from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param maxResults:       maximum number of messages to return for each page, 0 to use the default value
+     * @param q:                only return messages matching the specified query, null to not filter
+     * @param labelIds:         only return messages with labels that match all of the specified label IDs, null to not filter
+     * @param prefetchDepth:    number of pages fetched in background while a page is consumed
+     * @return messages as {@link GmailPager} of {@link Message} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/list">
+     * users.messages.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the pager is consumed, the pager must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
+    public GmailPager<Message> getMessagesPager(boolean includeSpamTrash, int maxResults, String q,
+                                                Collection<String> labelIds, int prefetchDepth) {
+        List<String> labelIdsList = labelIds != null ? List.copyOf(labelIds) : null;
+        return new GmailPager<>(pageToken -> getMessagesPage(includeSpamTrash, maxResults, q, labelIdsList,
+                pageToken), prefetchDepth);
+    }
+
+    /**
+     * Method to hydrate all the messages in the user's mailbox while they are listed
+     *
+     * @param includeSpamTrash: include messages from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param q:                only return messages matching the specified query, null to not filter
+     * @param responseFormat:   the format to return the messages in, null to use the default format
+     * @return messages as {@link GmailPipeline} of {@link Message} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/list">
+     * users.messages.list</a> and <a href="https://developers.google.com/gmail/api/guides/batch">Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pipeline must be closed when it is not consumed until the end, see {@link GmailPipeline}
+     **/
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public GmailPipeline<Message> hydrateMessages(boolean includeSpamTrash, String q, ResponseFormat responseFormat) {
+        return hydrateMessages(includeSpamTrash, q, null, responseFormat, null);
+    }
+
+    /**
+     * Method to hydrate all the messages in the user's mailbox while they are listed
+     *
+     * @param includeSpamTrash: include messages from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param q:                only return messages matching the specified query, null to not filter
+     * @param labelIds:         only return messages with labels that match all of the specified label IDs, null to not filter
+     * @param responseFormat:   the format to return the messages in, null to use the default format
+     * @param metadataHeaders:  when given and format is {@code "METADATA"}, only include headers specified, null to include all
+     * @return messages as {@link GmailPipeline} of {@link Message} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/list">
+     * users.messages.list</a> and <a href="https://developers.google.com/gmail/api/guides/batch">Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pipeline must be closed when it is not consumed until the end, see {@link GmailPipeline}
+     **/
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public GmailPipeline<Message> hydrateMessages(boolean includeSpamTrash, String q, Collection<String> labelIds,
+                                                  ResponseFormat responseFormat, Collection<String> metadataHeaders) {
+        return hydrateMessages(includeSpamTrash, q, labelIds, responseFormat, metadataHeaders,
+                DEFAULT_BATCH_PARALLELISM, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Method to hydrate all the messages in the user's mailbox while they are listed
+     *
+     * @param includeSpamTrash: include messages from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param q:                only return messages matching the specified query, null to not filter
+     * @param labelIds:         only return messages with labels that match all of the specified label IDs, null to not filter
+     * @param responseFormat:   the format to return the messages in, null to use the default format
+     * @param metadataHeaders:  when given and format is {@code "METADATA"}, only include headers specified, null to include all
+     * @param concurrency:      max number of batch requests sent at the same time
+     * @param bufferSize:       max number of messages hydrated and not consumed yet
+     * @return messages as {@link GmailPipeline} of {@link Message} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/list">
+     * users.messages.list</a> and <a href="https://developers.google.com/gmail/api/guides/batch">Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the ids are listed with pages of {@link #MAX_LIST_RESULTS} ids and hydrated with batch requests of
+     * {@link GmailPipeline#DEFAULT_BATCH_SIZE} ids, the pipeline must be closed when it is not consumed until the end,
+     * see {@link GmailPipeline}
+     **/
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public GmailPipeline<Message> hydrateMessages(boolean includeSpamTrash, String q, Collection<String> labelIds,
+                                                  ResponseFormat responseFormat, Collection<String> metadataHeaders,
+                                                  int concurrency, int bufferSize) {
+        List<String> labelIdsList = labelIds != null ? List.copyOf(labelIds) : null;
+        List<String> headers = metadataHeaders != null ? List.copyOf(metadataHeaders) : null;
+        GmailPager<String> ids = new GmailPager<>(pageToken -> {
+            Page<Message> page = getMessagesPage(includeSpamTrash, MAX_LIST_RESULTS, q, labelIdsList, pageToken);
+            return new Page<>(page.getItems().stream().map(Message::getId).toList(), page.getNextPageToken());
+        });
+        return new GmailPipeline<>(ids, batch -> getMessages(batch, responseFormat, headers, LIBRARY_OBJECT),
+                DEFAULT_BATCH_SIZE, concurrency, bufferSize);
+    }
+
+    /**
+     * Method to get a single page of the messages in the user's mailbox
+     *
+     * @param includeSpamTrash: include messages from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param maxResults:       maximum number of messages to return, 0 to use the default value
+     * @param q:                only return messages matching the specified query, null to not filter
+     * @param labelIds:         only return messages with labels that match all of the specified label IDs, null to not filter
+     * @param pageToken:        page token to retrieve, null for the first page
+     * @return the page as {@link Page} of {@link Message} custom object
+     * @throws IOException when the request has been go wrong
+     **/
+    private Page<Message> getMessagesPage(boolean includeSpamTrash, int maxResults, String q, List<String> labelIds,
+                                          String pageToken) throws IOException {
+        Gmail.Users.Messages.List list = messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                .setPageToken(pageToken);
+        if (maxResults > 0)
+            list.setMaxResults((long) maxResults);
+        if (q != null)
+            list.setQ(q);
+        if (labelIds != null)
+            list.setLabelIds(labelIds);
+        ListMessagesResponse response = list.execute();
+        return new Page<>(toMessages(response).getMessages(), response.getNextPageToken());
+    }
+
     /**
      * Method to get list of the messages in the user's mailbox
      *
@@ -2318,7 +2866,7 @@ public class GmailMessagesManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(listMessagesResponse);
             case LIBRARY_OBJECT:
-                return (T) new Messages(new JSONObject(listMessagesResponse));
+                return (T) toMessages(listMessagesResponse);
             default:
                 return (T) listMessagesResponse.toString();
         }
@@ -2344,12 +2892,11 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages")
     public <T> T getMessagesList(boolean includeSpamTrash, int maxResults, String pageToken, String q,
                                  Collection<String> labelIds, ReturnFormat format) throws IOException {
-        return returnMessagesList(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(messages.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setPageToken(pageToken)
                 .setQ(q)
-                .setLabelIds(labelIds.stream().toList())
-                .execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnMessagesList);
     }
 
     /**
@@ -2421,8 +2968,9 @@ public class GmailMessagesManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/modify")
     public <T> T modifyAddLabelsIds(String messageId, String[] addLabelIds, ReturnFormat format) throws IOException {
-        return returnMessage(messages.modify(userId, messageId, new ModifyMessageRequest()
-                .setAddLabelIds(stream(addLabelIds).toList()).setRemoveLabelIds(null)).execute(), format);
+        return execute(messages.modify(userId, messageId, new ModifyMessageRequest()
+                .setAddLabelIds(stream(addLabelIds).toList()).setRemoveLabelIds(null)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -2494,8 +3042,9 @@ public class GmailMessagesManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/modify")
     public <T> T modifyAddLabelsIds(String messageId, Collection<String> addLabelIds, ReturnFormat format) throws IOException {
-        return returnMessage(messages.modify(userId, messageId, new ModifyMessageRequest()
-                .setAddLabelIds(addLabelIds.stream().toList()).setRemoveLabelIds(null)).execute(), format);
+        return execute(messages.modify(userId, messageId, new ModifyMessageRequest()
+                .setAddLabelIds(addLabelIds.stream().toList()).setRemoveLabelIds(null)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -2567,8 +3116,8 @@ public class GmailMessagesManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/modify")
     public <T> T modifyRemoveLabelsIds(String messageId, String[] removeLabelIds, ReturnFormat format) throws IOException {
-        return returnMessage(messages.modify(userId, messageId, new ModifyMessageRequest().setAddLabelIds(null)
-                .setRemoveLabelIds(stream(removeLabelIds).toList())).execute(), format);
+        return execute(messages.modify(userId, messageId, new ModifyMessageRequest().setAddLabelIds(null)
+                .setRemoveLabelIds(stream(removeLabelIds).toList())), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -2641,8 +3190,8 @@ public class GmailMessagesManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/modify")
     public <T> T modifyRemoveLabelsIds(String messageId, Collection<String> removeLabelIds, ReturnFormat format) throws IOException {
-        return returnMessage(messages.modify(userId, messageId, new ModifyMessageRequest().setAddLabelIds(null)
-                .setRemoveLabelIds(removeLabelIds.stream().toList())).execute(), format);
+        return execute(messages.modify(userId, messageId, new ModifyMessageRequest().setAddLabelIds(null)
+                .setRemoveLabelIds(removeLabelIds.stream().toList())), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -2716,9 +3265,9 @@ public class GmailMessagesManager extends GmailManager {
      **/
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/modify")
     public <T> T modify(String messageId, String[] addLabelIds, String[] removeLabelIds, ReturnFormat format) throws IOException {
-        return returnMessage(messages.modify(userId, messageId, new ModifyMessageRequest()
+        return execute(messages.modify(userId, messageId, new ModifyMessageRequest()
                 .setAddLabelIds(stream(addLabelIds).toList())
-                .setRemoveLabelIds(stream(removeLabelIds).toList())).execute(), format);
+                .setRemoveLabelIds(stream(removeLabelIds).toList())), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -2795,9 +3344,101 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/modify")
     public <T> T modify(String messageId, Collection<String> addLabelIds, Collection<String> removeLabelIds,
                         ReturnFormat format) throws IOException {
-        return returnMessage(messages.modify(userId, messageId, new ModifyMessageRequest()
+        return execute(messages.modify(userId, messageId, new ModifyMessageRequest()
                 .setAddLabelIds(addLabelIds.stream().toList())
-                .setRemoveLabelIds(removeLabelIds.stream().toList())).execute(), format);
+                .setRemoveLabelIds(removeLabelIds.stream().toList())), format, GmailMessagesManager::returnMessage);
+    }
+
+    /**
+     * Method to modify the labels on the specified message,
+     * using the names of the labels resolved with the {@link #getLabelDirectory()}
+     *
+     * @param message:          the message to modify
+     * @param addLabelNames:    names of the labels to add to this message, ignoring the case, in {@link Collection} of {@link String} format
+     * @param removeLabelNames: names of the labels to remove from this message, ignoring the case, in {@link Collection} of {@link String} format
+     * @return message modified as {@link Message} custom object
+     * @throws IOException when the request has been go wrong
+     * @throws IllegalArgumentException when a label does not exist
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/modify">
+     * users.messages.modify</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * once the directory is loaded the labels are resolved without requesting the list of the labels
+     **/
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/modify")
+    public Message modifyByLabelNames(Message message, Collection<String> addLabelNames,
+                                      Collection<String> removeLabelNames) throws IOException {
+        return modifyByLabelNames(message.getId(), addLabelNames, removeLabelNames, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to modify the labels on the specified message,
+     * using the names of the labels resolved with the {@link #getLabelDirectory()}
+     *
+     * @param message:          the message to modify
+     * @param addLabelNames:    names of the labels to add to this message, ignoring the case, in {@link Collection} of {@link String} format
+     * @param removeLabelNames: names of the labels to remove from this message, ignoring the case, in {@link Collection} of {@link String} format
+     * @param format:           return type formatter -> {@link ReturnFormat}
+     * @return message modified as {@code "format"} defines
+     * @throws IOException when the request has been go wrong
+     * @throws IllegalArgumentException when a label does not exist
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/modify">
+     * users.messages.modify</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * once the directory is loaded the labels are resolved without requesting the list of the labels
+     **/
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/modify")
+    public <T> T modifyByLabelNames(Message message, Collection<String> addLabelNames,
+                                    Collection<String> removeLabelNames, ReturnFormat format) throws IOException {
+        return modifyByLabelNames(message.getId(), addLabelNames, removeLabelNames, format);
+    }
+
+    /**
+     * Method to modify the labels on the specified message,
+     * using the names of the labels resolved with the {@link #getLabelDirectory()}
+     *
+     * @param messageId:        the {@code "ID"} of the message to modify
+     * @param addLabelNames:    names of the labels to add to this message, ignoring the case, in {@link Collection} of {@link String} format
+     * @param removeLabelNames: names of the labels to remove from this message, ignoring the case, in {@link Collection} of {@link String} format
+     * @return message modified as {@link Message} custom object
+     * @throws IOException when the request has been go wrong
+     * @throws IllegalArgumentException when a label does not exist
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/modify">
+     * users.messages.modify</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * once the directory is loaded the labels are resolved without requesting the list of the labels
+     **/
+    @Wrapper
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/modify")
+    public Message modifyByLabelNames(String messageId, Collection<String> addLabelNames,
+                                      Collection<String> removeLabelNames) throws IOException {
+        return modifyByLabelNames(messageId, addLabelNames, removeLabelNames, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to modify the labels on the specified message,
+     * using the names of the labels resolved with the {@link #getLabelDirectory()}
+     *
+     * @param messageId:        the {@code "ID"} of the message to modify
+     * @param addLabelNames:    names of the labels to add to this message, ignoring the case, in {@link Collection} of {@link String} format
+     * @param removeLabelNames: names of the labels to remove from this message, ignoring the case, in {@link Collection} of {@link String} format
+     * @param format:           return type formatter -> {@link ReturnFormat}
+     * @return message modified as {@code "format"} defines
+     * @throws IOException when the request has been go wrong
+     * @throws IllegalArgumentException when a label does not exist
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/modify">
+     * users.messages.modify</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * once the directory is loaded the labels are resolved without requesting the list of the labels
+     **/
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/modify")
+    public <T> T modifyByLabelNames(String messageId, Collection<String> addLabelNames,
+                                    Collection<String> removeLabelNames, ReturnFormat format) throws IOException {
+        GmailLabelDirectory labelDirectory = getLabelDirectory();
+        return modify(messageId, labelDirectory.getLabelIds(addLabelNames), labelDirectory.getLabelIds(removeLabelNames),
+                format);
     }
 
     /**
@@ -2835,8 +3476,8 @@ public class GmailMessagesManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T send(String toEmailAddress, String subject, String messageText, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createSimpleMessage(toEmailAddress, subject, messageText)).execute(),
-                format);
+        return execute(messages.send(userId, createSimpleMessage(toEmailAddress, subject, messageText)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -2877,8 +3518,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendWithCc(String toEmailAddress, String subject, String Cc, String messageText,
                             ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessage(toEmailAddress, subject, Cc, messageText)).execute(),
-                format);
+        return execute(messages.send(userId, createCcMessage(toEmailAddress, subject, Cc, messageText)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -2920,8 +3561,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendWithMultipleCc(String toEmailAddress, String subject, String messageText,
                                     ReturnFormat format, String... Cc) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessage(toEmailAddress, subject, Arrays.toString(Cc),
-                messageText)).execute(), format);
+        return execute(messages.send(userId, createCcMessage(toEmailAddress, subject, Arrays.toString(Cc),
+                messageText)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -2962,8 +3603,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendWithBcc(String toEmailAddress, String subject, String Bcc, String messageText,
                              ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessage(toEmailAddress, subject, Bcc, messageText)).execute(),
-                format);
+        return execute(messages.send(userId, createBccMessage(toEmailAddress, subject, Bcc, messageText)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3005,8 +3646,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendWithMultipleBcc(String toEmailAddress, String subject, String messageText,
                                      ReturnFormat format, String... Bcc) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessage(toEmailAddress, subject, Arrays.toString(Bcc),
-                messageText)).execute(), format);
+        return execute(messages.send(userId, createBccMessage(toEmailAddress, subject, Arrays.toString(Bcc),
+                messageText)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3050,8 +3691,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCompleteMessage(String toEmailAddress, String subject, String Cc, String Bcc, String messageText,
                                      ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompleteMessage(toEmailAddress, subject, Cc, Bcc,
-                messageText)).execute(), format);
+        return execute(messages.send(userId, createCompleteMessage(toEmailAddress, subject, Cc, Bcc,
+                messageText)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3095,8 +3736,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCompleteMessage(String toEmailAddress, String subject, String[] Cc, String[] Bcc, String messageText,
                                      ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompleteMessage(toEmailAddress, subject,
-                Arrays.toString(Cc), Arrays.toString(Bcc), messageText)).execute(), format);
+        return execute(messages.send(userId, createCompleteMessage(toEmailAddress, subject,
+                Arrays.toString(Cc), Arrays.toString(Bcc), messageText)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3140,8 +3781,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCompleteMessage(String toEmailAddress, String subject, Collection<String> Cc,
                                      Collection<String> Bcc, String messageText, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompleteMessage(toEmailAddress, subject,
-                Arrays.toString(Cc.toArray()), Arrays.toString(Bcc.toArray()), messageText)).execute(), format);
+        return execute(messages.send(userId, createCompleteMessage(toEmailAddress, subject,
+                Arrays.toString(Cc.toArray()), Arrays.toString(Bcc.toArray()), messageText)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3182,8 +3824,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendWithFile(String toEmailAddress, String subject, String messageText, File file,
                               ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createSimpleMessageWithFile(toEmailAddress, subject, messageText,
-                file, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createSimpleMessageWithFile(toEmailAddress, subject, messageText,
+                file, TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3227,8 +3869,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCcWithFile(String toEmailAddress, String subject, String Cc, String messageText, File file,
                                 ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessageWithFile(toEmailAddress, subject, Cc, messageText,
-                file, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createCcMessageWithFile(toEmailAddress, subject, Cc, messageText,
+                file, TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3272,8 +3914,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendMultipleCcWithFile(String toEmailAddress, String subject, String messageText, File file,
                                         ReturnFormat format, String... Cc) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessageWithFile(toEmailAddress, subject, Arrays.toString(Cc),
-                messageText, file, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createCcMessageWithFile(toEmailAddress, subject, Arrays.toString(Cc),
+                messageText, file, TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3317,8 +3959,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendBccWithFile(String toEmailAddress, String subject, String Bcc, String messageText, File file,
                                  ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessageWithFile(toEmailAddress, subject, Bcc, messageText,
-                file, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createBccMessageWithFile(toEmailAddress, subject, Bcc, messageText,
+                file, TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3362,8 +4004,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendMultipleBccWithFile(String toEmailAddress, String subject, String messageText, File file,
                                          ReturnFormat format, String... Bcc) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessageWithFile(toEmailAddress, subject, Arrays.toString(Bcc),
-                messageText, file, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createBccMessageWithFile(toEmailAddress, subject, Arrays.toString(Bcc),
+                messageText, file, TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3409,8 +4051,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCompleteMessageWithFile(String toEmailAddress, String subject, String Cc, String Bcc,
                                              String messageText, File file, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompleteMessageWithFile(toEmailAddress, subject, Cc, Bcc,
-                messageText, file, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createCompleteMessageWithFile(toEmailAddress, subject, Cc, Bcc,
+                messageText, file, TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3456,8 +4098,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCompleteMessageWithFile(String toEmailAddress, String subject, String[] Cc, String[] Bcc,
                                              String messageText, File file, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompleteMessageWithFile(toEmailAddress, subject,
-                Arrays.toString(Cc), Arrays.toString(Bcc), messageText, file, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createCompleteMessageWithFile(toEmailAddress, subject,
+                Arrays.toString(Cc), Arrays.toString(Bcc), messageText, file, TEXT_PLAIN_MIME_TYPE)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3504,9 +4147,9 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T sendCompleteMessageWithFile(String toEmailAddress, String subject, Collection<String> Cc,
                                              Collection<String> Bcc, String messageText, File file,
                                              ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompleteMessageWithFile(toEmailAddress, subject,
+        return execute(messages.send(userId, createCompleteMessageWithFile(toEmailAddress, subject,
                 Arrays.toString(Cc.toArray()), Arrays.toString(Bcc.toArray()), messageText, file,
-                TEXT_PLAIN_MIME_TYPE)).execute(), format);
+                TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3550,8 +4193,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendWithFile(String toEmailAddress, String subject, String messageText, File file, String mimeType,
                               ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createSimpleMessageWithFile(toEmailAddress, subject, messageText,
-                file, mimeType)).execute(), format);
+        return execute(messages.send(userId, createSimpleMessageWithFile(toEmailAddress, subject, messageText,
+                file, mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3597,8 +4240,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCcWithFile(String toEmailAddress, String subject, String Cc, String messageText, File file,
                                 String mimeType, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessageWithFile(toEmailAddress, subject, Cc, messageText,
-                file, mimeType)).execute(), format);
+        return execute(messages.send(userId, createCcMessageWithFile(toEmailAddress, subject, Cc, messageText,
+                file, mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3644,8 +4287,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendMultipleCcWithFile(String toEmailAddress, String subject, String messageText, File file,
                                         String mimeType, ReturnFormat format, String... Cc) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessageWithFile(toEmailAddress, subject, Arrays.toString(Cc),
-                messageText, file, mimeType)).execute(), format);
+        return execute(messages.send(userId, createCcMessageWithFile(toEmailAddress, subject, Arrays.toString(Cc),
+                messageText, file, mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3691,8 +4334,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendBccWithFile(String toEmailAddress, String subject, String Bcc, String messageText, File file,
                                  String mimeType, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessageWithFile(toEmailAddress, subject, Bcc, messageText,
-                file, mimeType)).execute(), format);
+        return execute(messages.send(userId, createBccMessageWithFile(toEmailAddress, subject, Bcc, messageText,
+                file, mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3738,8 +4381,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendMultipleBccWithFile(String toEmailAddress, String subject, String messageText, File file,
                                          String mimeType, ReturnFormat format, String... Bcc) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessageWithFile(toEmailAddress, subject, Arrays.toString(Bcc),
-                messageText, file, mimeType)).execute(), format);
+        return execute(messages.send(userId, createBccMessageWithFile(toEmailAddress, subject, Arrays.toString(Bcc),
+                messageText, file, mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3787,8 +4430,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCompleteMessageWithFile(String toEmailAddress, String subject, String Cc, String Bcc, String messageText,
                                              File file, String mimeType, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompleteMessageWithFile(toEmailAddress, subject, Cc, Bcc,
-                messageText, file, mimeType)).execute(), format);
+        return execute(messages.send(userId, createCompleteMessageWithFile(toEmailAddress, subject, Cc, Bcc,
+                messageText, file, mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3837,8 +4480,9 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T sendCompleteMessageWithFile(String toEmailAddress, String subject, String[] Cc, String[] Bcc,
                                              String messageText, File file, String mimeType,
                                              ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompleteMessageWithFile(toEmailAddress, subject,
-                Arrays.toString(Cc), Arrays.toString(Bcc), messageText, file, mimeType)).execute(), format);
+        return execute(messages.send(userId, createCompleteMessageWithFile(toEmailAddress, subject,
+                Arrays.toString(Cc), Arrays.toString(Bcc), messageText, file, mimeType)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3888,9 +4532,9 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T sendCompleteMessageWithFile(String toEmailAddress, String subject, Collection<String> Cc,
                                              Collection<String> Bcc, String messageText, File file, String mimeType,
                                              ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompleteMessageWithFile(toEmailAddress, subject,
+        return execute(messages.send(userId, createCompleteMessageWithFile(toEmailAddress, subject,
                 Arrays.toString(Cc.toArray()), Arrays.toString(Bcc.toArray()), messageText, file,
-                mimeType)).execute(), format);
+                mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3931,8 +4575,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendWithFiles(String toEmailAddress, String subject, String messageText, File[] files,
                                ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createMessageWithFiles(toEmailAddress, subject, messageText,
-                files, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createMessageWithFiles(toEmailAddress, subject, messageText,
+                files, TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -3976,8 +4620,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCcWithFiles(String toEmailAddress, String subject, String Cc, String messageText, File[] files,
                                  ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Cc, messageText,
-                files, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Cc, messageText,
+                files, TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4021,8 +4665,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendMultipleCcWithFiles(String toEmailAddress, String subject, String messageText, File[] files,
                                          ReturnFormat format, String... Cc) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Arrays.toString(Cc),
-                messageText, files, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Arrays.toString(Cc),
+                messageText, files, TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4066,8 +4710,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendBccWithFiles(String toEmailAddress, String subject, String Bcc, String messageText, File[] files,
                                   ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Bcc, messageText,
-                files, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Bcc, messageText,
+                files, TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4111,8 +4755,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendMultipleBccWithFiles(String toEmailAddress, String subject, String messageText, File[] files,
                                           ReturnFormat format, String... Bcc) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Arrays.toString(Bcc),
-                messageText, files, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Arrays.toString(Bcc),
+                messageText, files, TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4158,8 +4802,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCompleteMessageWithFiles(String toEmailAddress, String subject, String Cc, String Bcc,
                                               String messageText, File[] files, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject, Cc, Bcc,
-                messageText, files, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject, Cc, Bcc,
+                messageText, files, TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4205,8 +4849,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCompleteMessageWithFiles(String toEmailAddress, String subject, String[] Cc, String[] Bcc,
                                               String messageText, File[] files, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
-                Arrays.toString(Cc), Arrays.toString(Bcc), messageText, files, TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
+                Arrays.toString(Cc), Arrays.toString(Bcc), messageText, files, TEXT_PLAIN_MIME_TYPE)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4253,9 +4898,9 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T sendCompleteMessageWithFiles(String toEmailAddress, String subject, Collection<String> Cc,
                                               Collection<String> Bcc, String messageText, File[] files,
                                               ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
+        return execute(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
                 Arrays.toString(Cc.toArray()), Arrays.toString(Bcc.toArray()), messageText, files,
-                TEXT_PLAIN_MIME_TYPE)).execute(), format);
+                TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4296,8 +4941,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendWithFiles(String toEmailAddress, String subject, String messageText, Collection<File> files,
                                ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createMessageWithFiles(toEmailAddress, subject, messageText,
-                files.toArray(new File[0]), TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createMessageWithFiles(toEmailAddress, subject, messageText,
+                files.toArray(new File[0]), TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4341,8 +4986,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCcWithFiles(String toEmailAddress, String subject, String Cc, String messageText,
                                  Collection<File> files, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Cc, messageText,
-                files.toArray(new File[0]), TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Cc, messageText,
+                files.toArray(new File[0]), TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4386,8 +5031,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendMultipleCcWithFiles(String toEmailAddress, String subject, String messageText,
                                          Collection<File> files, ReturnFormat format, String... Cc) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Arrays.toString(Cc),
-                messageText, files.toArray(new File[0]), TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Arrays.toString(Cc),
+                messageText, files.toArray(new File[0]), TEXT_PLAIN_MIME_TYPE)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4431,8 +5077,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendBccWithFiles(String toEmailAddress, String subject, String Bcc, String messageText,
                                   Collection<File> files, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Bcc, messageText,
-                files.toArray(new File[0]), TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Bcc, messageText,
+                files.toArray(new File[0]), TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4476,8 +5122,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendMultipleBccWithFiles(String toEmailAddress, String subject, String messageText,
                                           Collection<File> files, ReturnFormat format, String... Bcc) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Arrays.toString(Bcc),
-                messageText, files.toArray(new File[0]), TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Arrays.toString(Bcc),
+                messageText, files.toArray(new File[0]), TEXT_PLAIN_MIME_TYPE)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4523,8 +5170,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCompleteMessageWithFiles(String toEmailAddress, String subject, String Cc, String Bcc,
                                               String messageText, Collection<File> files, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject, Cc, Bcc,
-                messageText, files.toArray(new File[0]), TEXT_PLAIN_MIME_TYPE)).execute(), format);
+        return execute(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject, Cc, Bcc,
+                messageText, files.toArray(new File[0]), TEXT_PLAIN_MIME_TYPE)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4570,9 +5218,9 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCompleteMessageWithFiles(String toEmailAddress, String subject, String[] Cc, String[] Bcc,
                                               String messageText, Collection<File> files, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
+        return execute(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
                 Arrays.toString(Cc), Arrays.toString(Bcc), messageText, files.toArray(new File[0]),
-                TEXT_PLAIN_MIME_TYPE)).execute(), format);
+                TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4620,9 +5268,9 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T sendCompleteMessageWithFiles(String toEmailAddress, String subject, Collection<String> Cc,
                                               Collection<String> Bcc, String messageText, Collection<File> files,
                                               ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
+        return execute(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
                 Arrays.toString(Cc.toArray()), Arrays.toString(Bcc.toArray()), messageText, files.toArray(new File[0]),
-                TEXT_PLAIN_MIME_TYPE)).execute(), format);
+                TEXT_PLAIN_MIME_TYPE)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4666,8 +5314,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendWithFiles(String toEmailAddress, String subject, String messageText, File[] files,
                                String mimeType, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createMessageWithFiles(toEmailAddress, subject, messageText,
-                files, mimeType)).execute(), format);
+        return execute(messages.send(userId, createMessageWithFiles(toEmailAddress, subject, messageText,
+                files, mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4713,8 +5361,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCcWithFiles(String toEmailAddress, String subject, String Cc, String messageText, File[] files,
                                  String mimeType, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Cc, messageText,
-                files, mimeType)).execute(), format);
+        return execute(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Cc, messageText,
+                files, mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4760,8 +5408,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendMultipleCcWithFiles(String toEmailAddress, String subject, String messageText, File[] files,
                                          String mimeType, ReturnFormat format, String... Cc) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Arrays.toString(Cc),
-                messageText, files, mimeType)).execute(), format);
+        return execute(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Arrays.toString(Cc),
+                messageText, files, mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4807,8 +5455,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendBccWithFiles(String toEmailAddress, String subject, String Bcc, String messageText, File[] files,
                                   String mimeType, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Bcc, messageText,
-                files, mimeType)).execute(), format);
+        return execute(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Bcc, messageText,
+                files, mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4854,8 +5502,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendMultipleBccWithFiles(String toEmailAddress, String subject, String messageText, File[] files,
                                           String mimeType, ReturnFormat format, String... Bcc) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Arrays.toString(Bcc),
-                messageText, files, mimeType)).execute(), format);
+        return execute(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Arrays.toString(Bcc),
+                messageText, files, mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4904,8 +5552,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCompleteMessageWithFiles(String toEmailAddress, String subject, String Cc, String Bcc, String messageText,
                                               File[] files, String mimeType, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject, Cc, Bcc,
-                messageText, files, mimeType)).execute(), format);
+        return execute(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject, Cc, Bcc,
+                messageText, files, mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -4955,8 +5603,9 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T sendCompleteMessageWithFiles(String toEmailAddress, String subject, String[] Cc, String[] Bcc,
                                               String messageText, File[] files, String mimeType,
                                               ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
-                Arrays.toString(Cc), Arrays.toString(Bcc), messageText, files, mimeType)).execute(), format);
+        return execute(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
+                Arrays.toString(Cc), Arrays.toString(Bcc), messageText, files, mimeType)),
+                format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5007,9 +5656,9 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T sendCompleteMessageWithFiles(String toEmailAddress, String subject, Collection<String> Cc,
                                               Collection<String> Bcc, String messageText, File[] files, String mimeType,
                                               ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
+        return execute(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
                 Arrays.toString(Cc.toArray()), Arrays.toString(Bcc.toArray()), messageText, files,
-                mimeType)).execute(), format);
+                mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5053,8 +5702,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendWithFiles(String toEmailAddress, String subject, String messageText, Collection<File> files,
                                String mimeType, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createMessageWithFiles(toEmailAddress, subject, messageText,
-                files.toArray(new File[0]), mimeType)).execute(), format);
+        return execute(messages.send(userId, createMessageWithFiles(toEmailAddress, subject, messageText,
+                files.toArray(new File[0]), mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5100,8 +5749,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCcWithFiles(String toEmailAddress, String subject, String Cc, String messageText,
                                  Collection<File> files, String mimeType, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Cc, messageText,
-                files.toArray(new File[0]), mimeType)).execute(), format);
+        return execute(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Cc, messageText,
+                files.toArray(new File[0]), mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5147,8 +5796,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendMultipleCcWithFiles(String toEmailAddress, String subject, String messageText, Collection<File> files,
                                          String mimeType, ReturnFormat format, String... Cc) throws Exception {
-        return returnMessage(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Arrays.toString(Cc),
-                messageText, files.toArray(new File[0]), mimeType)).execute(), format);
+        return execute(messages.send(userId, createCcMessageWithFiles(toEmailAddress, subject, Arrays.toString(Cc),
+                messageText, files.toArray(new File[0]), mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5194,8 +5843,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendBccWithFiles(String toEmailAddress, String subject, String Bcc, String messageText,
                                   Collection<File> files, String mimeType, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Bcc, messageText,
-                files.toArray(new File[0]), mimeType)).execute(), format);
+        return execute(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Bcc, messageText,
+                files.toArray(new File[0]), mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5241,8 +5890,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendMultipleBccWithFiles(String toEmailAddress, String subject, String messageText, Collection<File> files,
                                           String mimeType, ReturnFormat format, String... Bcc) throws Exception {
-        return returnMessage(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Arrays.toString(Bcc),
-                messageText, files.toArray(new File[0]), mimeType)).execute(), format);
+        return execute(messages.send(userId, createBccMessageWithFiles(toEmailAddress, subject, Arrays.toString(Bcc),
+                messageText, files.toArray(new File[0]), mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5290,8 +5939,8 @@ public class GmailMessagesManager extends GmailManager {
     @RequestPath(method = POST, path = "/gmail/v1/users/{userId}/messages/send")
     public <T> T sendCompleteMessageWithFiles(String toEmailAddress, String subject, String Cc, String Bcc, String messageText,
                                               Collection<File> files, String mimeType, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject, Cc, Bcc,
-                messageText, files.toArray(new File[0]), mimeType)).execute(), format);
+        return execute(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject, Cc, Bcc,
+                messageText, files.toArray(new File[0]), mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5340,9 +5989,9 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T sendCompleteMessageWithFiles(String toEmailAddress, String subject, String[] Cc, String[] Bcc,
                                               String messageText, Collection<File> files, String mimeType,
                                               ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
+        return execute(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
                 Arrays.toString(Cc), Arrays.toString(Bcc), messageText, files.toArray(new File[0]),
-                mimeType)).execute(), format);
+                mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5392,9 +6041,9 @@ public class GmailMessagesManager extends GmailManager {
     public <T> T sendCompleteMessageWithFiles(String toEmailAddress, String subject, Collection<String> Cc,
                                               Collection<String> Bcc, String messageText, Collection<File> files,
                                               String mimeType, ReturnFormat format) throws Exception {
-        return returnMessage(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
+        return execute(messages.send(userId, createCompletedMessageWithFiles(toEmailAddress, subject,
                 Arrays.toString(Cc.toArray()), Arrays.toString(Bcc.toArray()), messageText, files.toArray(new File[0]),
-                mimeType)).execute(), format);
+                mimeType)), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5428,7 +6077,7 @@ public class GmailMessagesManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/trash")
     public <T> T trash(Message message, ReturnFormat format) throws IOException {
-        return returnMessage(messages.trash(userId, message.getId()).execute(), format);
+        return execute(messages.trash(userId, message.getId()), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5460,7 +6109,7 @@ public class GmailMessagesManager extends GmailManager {
      **/
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/trash")
     public <T> T trash(String messageIdToTrash, ReturnFormat format) throws IOException {
-        return returnMessage(messages.trash(userId, messageIdToTrash).execute(), format);
+        return execute(messages.trash(userId, messageIdToTrash), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5494,7 +6143,7 @@ public class GmailMessagesManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/untrash")
     public <T> T untrash(Message message, ReturnFormat format) throws IOException {
-        return returnMessage(messages.untrash(userId, message.getId()).execute(), format);
+        return execute(messages.untrash(userId, message.getId()), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5526,7 +6175,7 @@ public class GmailMessagesManager extends GmailManager {
      **/
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{id}/untrash")
     public <T> T untrash(String messageIdToUntrash, ReturnFormat format) throws IOException {
-        return returnMessage(messages.untrash(userId, messageIdToUntrash).execute(), format);
+        return execute(messages.untrash(userId, messageIdToUntrash), format, GmailMessagesManager::returnMessage);
     }
 
     /**
@@ -5597,17 +6246,38 @@ public class GmailMessagesManager extends GmailManager {
     @Returner
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/messages/{messageId}/attachments/{id}")
     public <T> T getAttachment(String messageId, String attachmentId, ReturnFormat format) throws IOException {
-        MessagePartBody messagePartBody = messages.attachments().get(userId, messageId, attachmentId).execute();
+        if (format == RAW)
+            return (T) messages.attachments().get(userId, messageId, attachmentId).executeAsInputStream();
+        MessagePartBody messagePartBody = execute(messages.attachments().get(userId, messageId, attachmentId));
         switch (format) {
             case JSON:
                 return (T) new JSONObject(messagePartBody);
             case LIBRARY_OBJECT:
-                return (T) new MessageBody(new JSONObject(messagePartBody));
+                return (T) toMessageBody(messagePartBody);
             default:
                 return (T) messagePartBody.toString();
         }
     }
 
+    /**
+     * The {@code ChunkRequestCreator} interface is useful to create the request of a chunk of a bulk operation
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    @FunctionalInterface
+    private interface ChunkRequestCreator {
+
+        /**
+         * Method to create the request of a chunk
+         *
+         * @param ids: the IDs of the messages of the chunk
+         * @return the request of the chunk as {@link GmailRequest}
+         * @throws IOException when the request cannot be created
+         **/
+        GmailRequest<Void> create(List<String> ids) throws IOException;
+
+    }
+
     /**
      * {@code InternalDateSource} the list of internal date source available
      *
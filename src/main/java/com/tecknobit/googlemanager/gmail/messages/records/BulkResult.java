@@ -0,0 +1,204 @@
+package com.tecknobit.googlemanager.gmail.messages.records;
+
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@code BulkResult} class is useful to format the result of a bulk operation on many messages split in chunks
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at:
+ * <ul>
+ *     <li>
+ *         <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/batchDelete">users.messages.batchDelete</a>
+ *     </li>
+ *     <li>
+ *         <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.messages/batchModify">users.messages.batchModify</a>
+ *     </li>
+ * </ul>
+ **/
+public class BulkResult {
+
+    /**
+     * {@code chunks} results of each chunk of the operation
+     **/
+    private final ArrayList<ChunkResult> chunks;
+
+    /**
+     * Constructor to init a {@link BulkResult}
+     *
+     * @param chunks: results of each chunk of the operation
+     **/
+    public BulkResult(ArrayList<ChunkResult> chunks) {
+        this.chunks = chunks;
+    }
+
+    /**
+     * Method to get {@link #chunks} instance <br>
+     * Any params required
+     *
+     * @return {@link #chunks} instance as {@link Collection} of {@link ChunkResult}
+     **/
+    public Collection<ChunkResult> getChunks() {
+        return Collections.unmodifiableList(chunks);
+    }
+
+    /**
+     * Method to get the chunks not successfully executed <br>
+     * Any params required
+     *
+     * @return chunks not successfully executed as {@link Collection} of {@link ChunkResult}
+     **/
+    public Collection<ChunkResult> getFailedChunks() {
+        ArrayList<ChunkResult> failedChunks = new ArrayList<>();
+        for (ChunkResult chunk : chunks)
+            if (!chunk.isSuccessful())
+                failedChunks.add(chunk);
+        return failedChunks;
+    }
+
+    /**
+     * Method to get the ids of the messages of the chunks not successfully executed <br>
+     * Any params required
+     *
+     * @return ids of the messages not processed as {@link Collection} of {@link String}
+     **/
+    public Collection<String> getFailedIds() {
+        ArrayList<String> failedIds = new ArrayList<>();
+        for (ChunkResult chunk : chunks)
+            if (!chunk.isSuccessful())
+                failedIds.addAll(chunk.getIds());
+        return failedIds;
+    }
+
+    /**
+     * Method to get the number of the messages successfully processed <br>
+     * Any params required
+     *
+     * @return number of the messages successfully processed as int
+     **/
+    public int getProcessedCount() {
+        int processed = 0;
+        for (ChunkResult chunk : chunks)
+            if (chunk.isSuccessful())
+                processed += chunk.getIds().size();
+        return processed;
+    }
+
+    /**
+     * Method to get whether all the chunks have been successfully executed <br>
+     * Any params required
+     *
+     * @return {@code "true"} if all the chunks have been successfully executed, {@code "false"} if not
+     **/
+    public boolean isSuccessful() {
+        for (ChunkResult chunk : chunks)
+            if (!chunk.isSuccessful())
+                return false;
+        return true;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * Any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject(this).toString();
+    }
+
+    /**
+     * The {@code ChunkResult} class is useful to format the result of a single chunk of a bulk operation
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    public static class ChunkResult {
+
+        /**
+         * {@code index} the index of the chunk in the operation
+         **/
+        private final int index;
+
+        /**
+         * {@code ids} the ids of the messages of the chunk
+         **/
+        private final List<String> ids;
+
+        /**
+         * {@code error} the error of the request sent for the chunk, null if successful
+         **/
+        private final String error;
+
+        /**
+         * Constructor to init a {@link ChunkResult}
+         *
+         * @param index: the index of the chunk in the operation
+         * @param ids:   the ids of the messages of the chunk
+         * @param error: the error of the request sent for the chunk, null if successful
+         **/
+        public ChunkResult(int index, List<String> ids, String error) {
+            this.index = index;
+            this.ids = ids;
+            this.error = error;
+        }
+
+        /**
+         * Method to get {@link #index} instance <br>
+         * Any params required
+         *
+         * @return {@link #index} instance as int
+         **/
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Method to get {@link #ids} instance <br>
+         * Any params required
+         *
+         * @return {@link #ids} instance as {@link List} of {@link String}
+         **/
+        public List<String> getIds() {
+            return Collections.unmodifiableList(ids);
+        }
+
+        /**
+         * Method to get {@link #error} instance <br>
+         * Any params required
+         *
+         * @return {@link #error} instance as {@link String}
+         **/
+        public String getError() {
+            return error;
+        }
+
+        /**
+         * Method to get whether the chunk has been successfully executed <br>
+         * Any params required
+         *
+         * @return {@code "true"} if the chunk has been successfully executed, {@code "false"} if not
+         **/
+        public boolean isSuccessful() {
+            return error == null;
+        }
+
+        /**
+         * Returns a string representation of the object <br>
+         * Any params required
+         *
+         * @return a string representation of the object as {@link String}
+         */
+        @Override
+        public String toString() {
+            return new JSONObject(this).toString();
+        }
+
+    }
+
+}
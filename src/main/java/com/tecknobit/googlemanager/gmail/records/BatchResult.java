@@ -0,0 +1,219 @@
+package com.tecknobit.googlemanager.gmail.records;
+
+import org.json.JSONObject;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code BatchResult} class is useful to format the responses of a Gmail's batch request
+ *
+ * @param <T> type of the results as the {@code "format"} of the request defines
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+ * Batching requests</a>
+ **/
+public class BatchResult<T> {
+
+    /**
+     * {@code results} results of the calls successfully executed keyed by the id of the resource requested
+     **/
+    private final LinkedHashMap<String, T> results;
+
+    /**
+     * {@code failures} failures of the calls not successfully executed keyed by the id of the resource requested
+     **/
+    private final LinkedHashMap<String, Failure> failures;
+
+    /**
+     * Constructor to init a {@link BatchResult} <br>
+     * Any params required
+     **/
+    public BatchResult() {
+        this(new LinkedHashMap<>(), new LinkedHashMap<>());
+    }
+
+    /**
+     * Constructor to init a {@link BatchResult}
+     *
+     * @param results:  results of the calls successfully executed keyed by the id of the resource requested
+     * @param failures: failures of the calls not successfully executed keyed by the id of the resource requested
+     **/
+    public BatchResult(LinkedHashMap<String, T> results, LinkedHashMap<String, Failure> failures) {
+        this.results = results;
+        this.failures = failures;
+    }
+
+    /**
+     * Method to get {@link #results} instance <br>
+     * Any params required
+     *
+     * @return {@link #results} instance as {@link Map} of {@link String} and {@link T}
+     **/
+    public Map<String, T> getResults() {
+        return Collections.unmodifiableMap(results);
+    }
+
+    /**
+     * Method to get a result
+     *
+     * @param id: id of the resource requested
+     * @return result as {@link T}, null if the call of the resource has failed
+     **/
+    public T getResult(String id) {
+        return results.get(id);
+    }
+
+    /**
+     * Method to get {@link #failures} instance <br>
+     * Any params required
+     *
+     * @return {@link #failures} instance as {@link Map} of {@link String} and {@link Failure}
+     **/
+    public Map<String, Failure> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Method to get a failure
+     *
+     * @param id: id of the resource requested
+     * @return failure as {@link Failure}, null if the call of the resource has been successful
+     **/
+    public Failure getFailure(String id) {
+        return failures.get(id);
+    }
+
+    /**
+     * Method to get the ids of the resources not successfully fetched <br>
+     * Any params required
+     *
+     * @return ids of the resources not successfully fetched as {@link Collection} of {@link String}
+     **/
+    public Collection<String> getFailedIds() {
+        return Collections.unmodifiableSet(failures.keySet());
+    }
+
+    /**
+     * Method to add at the {@link #results} instance another one result
+     *
+     * @param id:     id of the resource requested
+     * @param result: result to add
+     **/
+    public void addResult(String id, T result) {
+        failures.remove(id);
+        results.put(id, result);
+    }
+
+    /**
+     * Method to add at the {@link #failures} instance another one failure
+     *
+     * @param id:      id of the resource requested
+     * @param failure: failure to add
+     **/
+    public void addFailure(String id, Failure failure) {
+        failures.put(id, failure);
+    }
+
+    /**
+     * Method to get whether all the calls have been successfully executed <br>
+     * Any params required
+     *
+     * @return {@code "true"} if all the calls have been successfully executed, {@code "false"} if not
+     **/
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * Any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject(this).toString();
+    }
+
+    /**
+     * The {@code Failure} class is useful to format the failure of a single call of a batch request
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    public static class Failure {
+
+        /**
+         * {@code code} the HTTP status code of the call
+         **/
+        private final int code;
+
+        /**
+         * {@code message} the message of the error
+         **/
+        private final String message;
+
+        /**
+         * {@code reason} the reason of the error
+         **/
+        private final String reason;
+
+        /**
+         * Constructor to init a {@link Failure}
+         *
+         * @param code:    the HTTP status code of the call
+         * @param message: the message of the error
+         * @param reason:  the reason of the error
+         **/
+        public Failure(int code, String message, String reason) {
+            this.code = code;
+            this.message = message;
+            this.reason = reason;
+        }
+
+        /**
+         * Method to get {@link #code} instance <br>
+         * Any params required
+         *
+         * @return {@link #code} instance as int
+         **/
+        public int getCode() {
+            return code;
+        }
+
+        /**
+         * Method to get {@link #message} instance <br>
+         * Any params required
+         *
+         * @return {@link #message} instance as {@link String}
+         **/
+        public String getMessage() {
+            return message;
+        }
+
+        /**
+         * Method to get {@link #reason} instance <br>
+         * Any params required
+         *
+         * @return {@link #reason} instance as {@link String}
+         **/
+        public String getReason() {
+            return reason;
+        }
+
+        /**
+         * Returns a string representation of the object <br>
+         * Any params required
+         *
+         * @return a string representation of the object as {@link String}
+         */
+        @Override
+        public String toString() {
+            return new JSONObject(this).toString();
+        }
+
+    }
+
+}
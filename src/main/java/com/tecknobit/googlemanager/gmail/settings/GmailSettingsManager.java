@@ -1,13 +1,17 @@
 package com.tecknobit.googlemanager.gmail.settings;
 
 import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.GmailRequest;
 import com.google.api.services.gmail.model.*;
 import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.annotations.WrappedRequest;
 import com.tecknobit.apimanager.annotations.Wrapper;
 import com.tecknobit.apimanager.formatters.JsonHelper;
+import com.tecknobit.googlemanager.GoogleConfig;
+import com.tecknobit.googlemanager.auth.ServiceAccountDelegation;
 import com.tecknobit.googlemanager.gmail.GmailManager;
+import com.tecknobit.googlemanager.gmail.GmailSession;
 import com.tecknobit.googlemanager.gmail.settings.records.AutoForwarding;
 import com.tecknobit.googlemanager.gmail.settings.records.AutoForwarding.Disposition;
 import com.tecknobit.googlemanager.gmail.settings.records.Delegate;
@@ -27,9 +31,13 @@ import org.json.JSONObject;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.RAW;
+import static com.tecknobit.googlemanager.gmail.GmailRecordsMapper.*;
 import static com.tecknobit.googlemanager.gmail.settings.records.ImapSettings.ExpungeBehavior;
 
 /**
@@ -90,6 +98,12 @@ public class GmailSettingsManager extends GmailManager {
      **/
     protected final Gmail.Users.Settings.SendAs.SmimeInfo smimeInfo = settings.sendAs().smimeInfo();
 
+    /**
+     * {@code settingsSnapshot} is the last known state of the settings, used by the methods that update only some params
+     * of a setting
+     **/
+    private final GmailSettingsSnapshot settingsSnapshot = new GmailSettingsSnapshot();
+
     /**
      * {@code currentUsername} the username used for authentication with the {@code "SMTP"} service
      *
@@ -219,6 +233,97 @@ public class GmailSettingsManager extends GmailManager {
         super();
     }
 
+    /**
+     * Constructor to init a {@link GmailSettingsManager}
+     *
+     * @param config: configuration of the manager
+     * @throws IOException when auth request has been go wrong
+     * @apiNote see {@link GmailManager#GmailManager(GoogleConfig)}
+     **/
+    public GmailSettingsManager(GoogleConfig config) throws IOException {
+        super(config);
+    }
+
+    /**
+     * Constructor to init a {@link GmailSettingsManager} impersonating a user with a service account
+     *
+     * @param delegation:      the service account with the domain-wide delegation enabled
+     * @param userId:          the email of the user to impersonate
+     * @param applicationName: name of application to give at the project
+     **/
+    public GmailSettingsManager(ServiceAccountDelegation delegation, String userId, String applicationName) {
+        super(delegation, userId, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailSettingsManager} as view of another manager
+     *
+     * @param manager: manager already authorized from which share the authorization and the Gmail's service
+     * @apiNote this constructor does not perform any auth request, see {@link GmailSession}
+     **/
+    public GmailSettingsManager(GmailManager manager) {
+        super(manager);
+    }
+
+    /**
+     * Method to get {@link #settingsSnapshot} instance <br>
+     * Any params required
+     *
+     * @return {@link #settingsSnapshot} instance as {@link GmailSettingsSnapshot}
+     * @apiNote the methods that update only some params of a setting merge them with the last known state of the
+     * setting, so each update is a single request, see {@link GmailSettingsSnapshot}
+     **/
+    public GmailSettingsSnapshot getSettingsSnapshot() {
+        return settingsSnapshot;
+    }
+
+    /**
+     * Method to execute a request
+     *
+     * @param request: the request to execute
+     * @return the parsed response as {@link M}
+     * @throws IOException when the request has been go wrong
+     * @apiNote the responses keep updated the {@link #getSettingsSnapshot()}, see {@link GmailManager#execute(GmailRequest)}
+     **/
+    @Override
+    protected <M> M execute(GmailRequest<M> request) throws IOException {
+        M response = super.execute(request);
+        settingsSnapshot.update(request, response);
+        return response;
+    }
+
+    /**
+     * Method to execute a request and format its response
+     *
+     * @param request:  the request to execute
+     * @param format:   return type formatter -> {@link ReturnFormat}
+     * @param returner: the method used to format the parsed response
+     * @return response as {@code "format"} defines
+     * @throws IOException when the request has been go wrong
+     * @apiNote with the {@link ReturnFormat#RAW} format the response is not parsed, so the state of the setting changed is
+     * removed from the {@link #getSettingsSnapshot()}
+     **/
+    @Override
+    protected <M, T> T execute(GmailRequest<M> request, ReturnFormat format,
+                               BiFunction<M, ReturnFormat, T> returner) throws IOException {
+        T response = super.execute(request, format, returner);
+        if (format == RAW)
+            settingsSnapshot.update(request, null);
+        return response;
+    }
+
+    /**
+     * Method to get the current state of a setting from the {@link #getSettingsSnapshot()}, requesting it only when it
+     * is not known or is stale
+     *
+     * @param request: the request that gets the setting
+     * @return the current state of the setting as {@link M}
+     * @throws IOException when the request has been go wrong
+     **/
+    private <M> M getCurrent(GmailRequest<M> request) throws IOException {
+        return settingsSnapshot.get(request, () -> execute(request));
+    }
+
     /**
      * Method to get the auto-forwarding setting for the specified account <br>
      * Any params required
@@ -235,6 +340,22 @@ public class GmailSettingsManager extends GmailManager {
         return getAutoForwarding(LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to get asynchronously the auto-forwarding setting for the specified account <br>
+     * Any params required
+     *
+     * @return auto-forwarding setting as {@link CompletableFuture} of {@link AutoForwarding} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.settings/getAutoForwarding">
+     * users.settings.getAutoForwarding</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getAutoForwarding()}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/autoForwarding")
+    public CompletableFuture<AutoForwarding> getAutoForwardingAsync() {
+        return async(this::getAutoForwarding);
+    }
+
     /**
      * Method to get the auto-forwarding setting for the specified account
      *
@@ -247,7 +368,7 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/autoForwarding")
     public <T> T getAutoForwarding(ReturnFormat format) throws IOException {
-        return returnAutoForwarding(settings.getAutoForwarding(userId).execute(), format);
+        return execute(settings.getAutoForwarding(userId), format, this::returnAutoForwarding);
     }
 
     /**
@@ -266,6 +387,22 @@ public class GmailSettingsManager extends GmailManager {
         return getImap(LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to get asynchronously {@code "IMAP"} settings <br>
+     * Any params required
+     *
+     * @return {@code "IMAP"} settings as {@link CompletableFuture} of {@link ImapSettings} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.settings/getImap">
+     * users.settings.getImap</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getImap()}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/imap")
+    public CompletableFuture<ImapSettings> getImapAsync() {
+        return async(this::getImap);
+    }
+
     /**
      * Method to get {@code "IMAP"} settings
      *
@@ -278,7 +415,7 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/imap")
     public <T> T getImap(ReturnFormat format) throws IOException {
-        return returnImap(settings.getImap(userId).execute(), format);
+        return execute(settings.getImap(userId), format, this::returnImap);
     }
 
     /**
@@ -293,7 +430,7 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/language")
     public <T> T getLanguage(ReturnFormat format) throws IOException {
-        return returnLanguage(settings.getLanguage(userId).execute(), format);
+        return execute(settings.getLanguage(userId), format, this::returnLanguage);
     }
 
     /**
@@ -312,6 +449,22 @@ public class GmailSettingsManager extends GmailManager {
         return getPopSettings(LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to get asynchronously {@code "POP"} settings <br>
+     * Any params required
+     *
+     * @return {@code "POP"} settings as {@link CompletableFuture} of {@link PopSettings} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.settings/getPop">
+     * users.settings.getPop</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getPopSettings()}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/pop")
+    public CompletableFuture<PopSettings> getPopSettingsAsync() {
+        return async(this::getPopSettings);
+    }
+
     /**
      * Method to get {@code "POP"} settings
      *
@@ -324,7 +477,7 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/pop")
     public <T> T getPopSettings(ReturnFormat format) throws IOException {
-        return returnPopSettings(settings.getPop(userId).execute(), format);
+        return execute(settings.getPop(userId), format, this::returnPopSettings);
     }
 
     /**
@@ -343,6 +496,22 @@ public class GmailSettingsManager extends GmailManager {
         return getVacationSettings(LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to get asynchronously vacation responder settings <br>
+     * Any params required
+     *
+     * @return vacation responder settings as {@link CompletableFuture} of {@link VacationSettings} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.settings/getVacation">
+     * users.settings.getVacation</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getVacationSettings()}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
+    public CompletableFuture<VacationSettings> getVacationSettingsAsync() {
+        return async(this::getVacationSettings);
+    }
+
     /**
      * Method to get vacation responder settings
      *
@@ -355,7 +524,7 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T getVacationSettings(ReturnFormat format) throws IOException {
-        return returnVacationSettings(settings.getVacation(userId).execute(), format);
+        return execute(settings.getVacation(userId), format, this::returnVacationSettings);
     }
 
     /**
@@ -395,7 +564,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/autoForwarding")
     public <T> T updateAutoForwardingEnabled(boolean enabled, ReturnFormat format) throws IOException {
-        AutoForwarding actualAutoForwarding = getAutoForwarding();
+        AutoForwarding actualAutoForwarding = returnAutoForwarding(getCurrent(settings.getAutoForwarding(userId)),
+                LIBRARY_OBJECT);
         if (enabled)
             actualAutoForwarding.enable();
         else
@@ -440,7 +610,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/autoForwarding")
     public <T> T updateAutoForwardingEmailAddress(String emailAddress, ReturnFormat format) throws IOException {
-        AutoForwarding actualAutoForwarding = getAutoForwarding();
+        AutoForwarding actualAutoForwarding = returnAutoForwarding(getCurrent(settings.getAutoForwarding(userId)),
+                LIBRARY_OBJECT);
         actualAutoForwarding.setEmailAddress(emailAddress);
         return updateAutoForwarding(actualAutoForwarding, format);
     }
@@ -482,7 +653,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/autoForwarding")
     public <T> T updateAutoForwardingDisposition(Disposition disposition, ReturnFormat format) throws IOException {
-        AutoForwarding actualAutoForwarding = getAutoForwarding();
+        AutoForwarding actualAutoForwarding = returnAutoForwarding(getCurrent(settings.getAutoForwarding(userId)),
+                LIBRARY_OBJECT);
         actualAutoForwarding.setDisposition(disposition);
         return updateAutoForwarding(actualAutoForwarding, format);
     }
@@ -526,7 +698,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/autoForwarding")
     public <T> T updateAutoForwarding(boolean enabled, String emailAddress, ReturnFormat format) throws IOException {
-        AutoForwarding actualAutoForwarding = getAutoForwarding();
+        AutoForwarding actualAutoForwarding = returnAutoForwarding(getCurrent(settings.getAutoForwarding(userId)),
+                LIBRARY_OBJECT);
         if (enabled)
             actualAutoForwarding.enable();
         else
@@ -574,7 +747,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/autoForwarding")
     public <T> T updateAutoForwarding(boolean enabled, Disposition disposition, ReturnFormat format) throws IOException {
-        AutoForwarding actualAutoForwarding = getAutoForwarding();
+        AutoForwarding actualAutoForwarding = returnAutoForwarding(getCurrent(settings.getAutoForwarding(userId)),
+                LIBRARY_OBJECT);
         if (enabled)
             actualAutoForwarding.enable();
         else
@@ -622,7 +796,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/autoForwarding")
     public <T> T updateAutoForwarding(String emailAddress, Disposition disposition, ReturnFormat format) throws IOException {
-        AutoForwarding actualAutoForwarding = getAutoForwarding();
+        AutoForwarding actualAutoForwarding = returnAutoForwarding(getCurrent(settings.getAutoForwarding(userId)),
+                LIBRARY_OBJECT);
         actualAutoForwarding.setEmailAddress(emailAddress);
         actualAutoForwarding.setDisposition(disposition);
         return updateAutoForwarding(actualAutoForwarding, format);
@@ -667,7 +842,7 @@ public class GmailSettingsManager extends GmailManager {
         autoForwarding.setEnabled(autoForwardingUpdated.isEnabled());
         autoForwarding.setEmailAddress(autoForwardingUpdated.getEmailAddress());
         autoForwarding.setDisposition(autoForwardingUpdated.getDisposition().toString());
-        return returnAutoForwarding(settings.updateAutoForwarding(userId, autoForwarding).execute(), format);
+        return execute(settings.updateAutoForwarding(userId, autoForwarding), format, this::returnAutoForwarding);
     }
 
     /**
@@ -715,7 +890,7 @@ public class GmailSettingsManager extends GmailManager {
         autoForwarding.setEnabled(enabled);
         autoForwarding.setEmailAddress(emailAddress);
         autoForwarding.setDisposition(disposition.name());
-        return returnAutoForwarding(settings.updateAutoForwarding(userId, autoForwarding).execute(), format);
+        return execute(settings.updateAutoForwarding(userId, autoForwarding), format, this::returnAutoForwarding);
     }
 
     /**
@@ -732,7 +907,7 @@ public class GmailSettingsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(autoForwarding);
             case LIBRARY_OBJECT:
-                return (T) new AutoForwarding(new JSONObject(autoForwarding));
+                return (T) toAutoForwarding(autoForwarding);
             default:
                 return (T) autoForwarding.toString();
         }
@@ -770,7 +945,7 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/imap")
     public <T> T enableImap(ReturnFormat format) throws IOException {
-        ImapSettings actualImap = getImap();
+        ImapSettings actualImap = returnImap(getCurrent(settings.getImap(userId)), LIBRARY_OBJECT);
         actualImap.enable();
         return updateImap(actualImap, format);
     }
@@ -807,7 +982,7 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/imap")
     public <T> T disableImap(ReturnFormat format) throws IOException {
-        ImapSettings actualImap = getImap();
+        ImapSettings actualImap = returnImap(getCurrent(settings.getImap(userId)), LIBRARY_OBJECT);
         actualImap.disable();
         return updateImap(actualImap, format);
     }
@@ -844,7 +1019,7 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/imap")
     public <T> T enableImapAutoExpunge(ReturnFormat format) throws IOException {
-        ImapSettings actualImap = getImap();
+        ImapSettings actualImap = returnImap(getCurrent(settings.getImap(userId)), LIBRARY_OBJECT);
         actualImap.enableAutoExpunge();
         return updateImap(actualImap, format);
     }
@@ -881,7 +1056,7 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/imap")
     public <T> T disableImapAutoExpunge(ReturnFormat format) throws IOException {
-        ImapSettings actualImap = getImap();
+        ImapSettings actualImap = returnImap(getCurrent(settings.getImap(userId)), LIBRARY_OBJECT);
         actualImap.disableAutoExpunge();
         return updateImap(actualImap, format);
     }
@@ -919,7 +1094,7 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/imap")
     public <T> T updateImapExpungeBehavior(ExpungeBehavior expungeBehavior, ReturnFormat format) throws IOException {
-        ImapSettings actualImap = getImap();
+        ImapSettings actualImap = returnImap(getCurrent(settings.getImap(userId)), LIBRARY_OBJECT);
         actualImap.setExpungeBehavior(expungeBehavior);
         return updateImap(actualImap, format);
     }
@@ -957,7 +1132,7 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/imap")
     public <T> T updateImapMaxFolderSize(int maxFolderSize, ReturnFormat format) throws IOException {
-        ImapSettings actualImap = getImap();
+        ImapSettings actualImap = returnImap(getCurrent(settings.getImap(userId)), LIBRARY_OBJECT);
         actualImap.setMaxFolderSize(maxFolderSize);
         return updateImap(actualImap, format);
     }
@@ -1039,7 +1214,7 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/imap")
     public final <T> T updateImap(ReturnFormat format, T... imapSettingsUpdated) throws IOException {
-        com.google.api.services.gmail.model.ImapSettings imapSettings = settings.getImap(userId).execute();
+        com.google.api.services.gmail.model.ImapSettings imapSettings = getCurrent(settings.getImap(userId));
         for (int j = 0; j < imapSettingsUpdated.length; j++) {
             if (j % 2 == 0 && imapSettingsUpdated[j].getClass().equals(Boolean.class))
                 imapSettings.setEnabled((boolean) imapSettingsUpdated[j]);
@@ -1050,7 +1225,7 @@ public class GmailSettingsManager extends GmailManager {
             else if (imapSettingsUpdated[j].getClass().equals(Integer.class))
                 imapSettings.setMaxFolderSize((int) imapSettingsUpdated[j]);
         }
-        return returnImap(settings.updateImap(userId, imapSettings).execute(), format);
+        return execute(settings.updateImap(userId, imapSettings), format, this::returnImap);
     }
 
     /**
@@ -1082,11 +1257,11 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/imap")
     public <T> T updateImap(ImapSettings imapSettingsUpdated, ReturnFormat format) throws IOException {
-        return returnImap(settings.updateImap(userId, new com.google.api.services.gmail.model.ImapSettings()
+        return execute(settings.updateImap(userId, new com.google.api.services.gmail.model.ImapSettings()
                 .setEnabled(imapSettingsUpdated.isEnabled())
                 .setAutoExpunge(imapSettingsUpdated.isAutoExpungeEnabled())
                 .setExpungeBehavior(imapSettingsUpdated.getExpungeBehavior().toString())
-                .setMaxFolderSize(imapSettingsUpdated.getMaxFolderSize())).execute(), format);
+                .setMaxFolderSize(imapSettingsUpdated.getMaxFolderSize())), format, this::returnImap);
     }
 
     /**
@@ -1128,11 +1303,11 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/imap")
     public <T> T updateImap(boolean enable, boolean autoExpunge, ExpungeBehavior expungeBehavior, int maxFolderSize,
                             ReturnFormat format) throws IOException {
-        return returnImap(settings.updateImap(userId, new com.google.api.services.gmail.model.ImapSettings()
+        return execute(settings.updateImap(userId, new com.google.api.services.gmail.model.ImapSettings()
                 .setEnabled(enable)
                 .setAutoExpunge(autoExpunge)
                 .setExpungeBehavior(expungeBehavior.name())
-                .setMaxFolderSize(maxFolderSize)).execute(), format);
+                .setMaxFolderSize(maxFolderSize)), format, this::returnImap);
     }
 
     /**
@@ -1148,7 +1323,7 @@ public class GmailSettingsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(imapSettings);
             case LIBRARY_OBJECT:
-                return (T) new ImapSettings(new JSONObject(imapSettings));
+                return (T) toImapSettings(imapSettings);
             default:
                 return (T) imapSettings.toString();
         }
@@ -1167,8 +1342,8 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/language")
     public <T> T updateLanguage(String languageUpdated, ReturnFormat format) throws IOException {
-        return returnLanguage(settings.updateLanguage(userId, new LanguageSettings()
-                .setDisplayLanguage(languageUpdated)).execute(), format);
+        return execute(settings.updateLanguage(userId, new LanguageSettings()
+                .setDisplayLanguage(languageUpdated)), format, this::returnLanguage);
     }
 
     /**
@@ -1223,7 +1398,7 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/pop")
     public <T> T updatePopAccessWindow(AccessWindow accessWindow, ReturnFormat format) throws IOException {
-        PopSettings actualPopSettings = getPopSettings();
+        PopSettings actualPopSettings = returnPopSettings(getCurrent(settings.getPop(userId)), LIBRARY_OBJECT);
         actualPopSettings.setAccessWindow(accessWindow);
         return updatePopSettings(actualPopSettings, format);
     }
@@ -1261,7 +1436,7 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/pop")
     public <T> T updatePopDisposition(Disposition disposition, ReturnFormat format) throws IOException {
-        PopSettings actualPopSettings = getPopSettings();
+        PopSettings actualPopSettings = returnPopSettings(getCurrent(settings.getPop(userId)), LIBRARY_OBJECT);
         actualPopSettings.setDisposition(disposition);
         return updatePopSettings(actualPopSettings, format);
     }
@@ -1297,9 +1472,9 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/pop")
     public <T> T updatePopSettings(PopSettings popSettingsUpdated, ReturnFormat format) throws IOException {
-        return returnPopSettings(settings.updatePop(userId, new com.google.api.services.gmail.model.PopSettings()
+        return execute(settings.updatePop(userId, new com.google.api.services.gmail.model.PopSettings()
                 .setAccessWindow(popSettingsUpdated.getAccessWindow().toString())
-                .setDisposition(popSettingsUpdated.getDisposition().toString())).execute(), format);
+                .setDisposition(popSettingsUpdated.getDisposition().toString())), format, this::returnPopSettings);
     }
 
     /**
@@ -1337,8 +1512,9 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/pop")
     public <T> T updatePopSettings(AccessWindow accessWindow, Disposition disposition, ReturnFormat format) throws IOException {
-        return returnPopSettings(settings.updatePop(userId, new com.google.api.services.gmail.model.PopSettings()
-                .setAccessWindow(accessWindow.name()).setDisposition(disposition.name())).execute(), format);
+        return execute(settings.updatePop(userId, new com.google.api.services.gmail.model.PopSettings()
+                .setAccessWindow(accessWindow.name()).setDisposition(disposition.name())),
+                format, this::returnPopSettings);
     }
 
     /**
@@ -1354,7 +1530,7 @@ public class GmailSettingsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(popSettings);
             case LIBRARY_OBJECT:
-                return (T) new PopSettings(new JSONObject(popSettings));
+                return (T) toPopSettings(popSettings);
             default:
                 return (T) popSettings.toString();
         }
@@ -1398,7 +1574,8 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T enableVacationPlainTextAutoReply(String responseSubject, String responsePlainText,
                                                   ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.enableAutoReply();
         actualVacationSettings.setResponseSubject(responseSubject);
         actualVacationSettings.setResponseBodyPlainText(responsePlainText);
@@ -1442,7 +1619,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T enableVacationHtmlAutoReply(String responseSubject, String responseHtml, ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.enableAutoReply();
         actualVacationSettings.setResponseSubject(responseSubject);
         actualVacationSettings.setResponseBodyHtml(responseHtml);
@@ -1492,7 +1670,8 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T enableVacationAutoReply(String responseSubject, String responsePlainText, String responseHtml,
                                          ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.enableAutoReply();
         actualVacationSettings.setResponseSubject(responseSubject);
         actualVacationSettings.setResponseBodyPlainText(responsePlainText);
@@ -1533,7 +1712,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T updateVacationResponseSubject(String responseSubject, ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.setResponseSubject(responseSubject);
         return updateVacationSettings(actualVacationSettings, format);
     }
@@ -1573,7 +1753,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T updateVacationResponsePlainText(String responsePlainText, ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.setResponseBodyPlainText(responsePlainText);
         return updateVacationSettings(actualVacationSettings, format);
     }
@@ -1616,7 +1797,8 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T updateVacationResponsePlainText(String responseSubject, String responsePlainText,
                                                  ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.setResponseSubject(responseSubject);
         actualVacationSettings.setResponseBodyPlainText(responsePlainText);
         return updateVacationSettings(actualVacationSettings, format);
@@ -1655,7 +1837,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T updateVacationResponseHtml(String responseHtml, ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.setResponseBodyHtml(responseHtml);
         return updateVacationSettings(actualVacationSettings, format);
     }
@@ -1695,7 +1878,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T updateVacationResponseHtml(String responseSubject, String responseHtml, ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.setResponseSubject(responseSubject);
         actualVacationSettings.setResponseBodyHtml(responseHtml);
         return updateVacationSettings(actualVacationSettings, format);
@@ -1744,13 +1928,11 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T updateVacationResponseDetails(String responseSubject, String responsePlainText, String responseHtml,
                                                ReturnFormat format) throws IOException {
-        com.google.api.services.gmail.model.VacationSettings vSettings = settings.getVacation(userId).execute();
-        settings.updateVacation(userId, vSettings.setResponseBodyHtml(responseHtml)).execute();
-        vSettings.setResponseBodyHtml(null);
-        return returnVacationSettings(settings.updateVacation(userId, vSettings
-                        .setResponseSubject(responseSubject)
-                        .setResponseBodyPlainText(responsePlainText))
-                .execute().setResponseBodyHtml(responseHtml), format);
+        com.google.api.services.gmail.model.VacationSettings vSettings = getCurrent(settings.getVacation(userId));
+        return execute(settings.updateVacation(userId, vSettings
+                .setResponseSubject(responseSubject)
+                .setResponseBodyPlainText(responsePlainText)
+                .setResponseBodyHtml(responseHtml)), format, this::returnVacationSettings);
     }
 
     /**
@@ -1784,8 +1966,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T disableVacationAutoReply(ReturnFormat format) throws IOException {
-        return returnVacationSettings(settings.updateVacation(userId, new com.google.api.services.gmail.model.VacationSettings()
-                .setEnableAutoReply(false)).execute(), format);
+        return execute(settings.updateVacation(userId, new com.google.api.services.gmail.model.VacationSettings()
+                .setEnableAutoReply(false)), format, this::returnVacationSettings);
     }
 
     /**
@@ -1820,7 +2002,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T enableRestrictToContacts(ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.enableRestrictToContacts();
         return updateVacationSettings(actualVacationSettings, format);
     }
@@ -1857,7 +2040,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T disableRestrictToContacts(ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.disableRestrictToContacts();
         return updateVacationSettings(actualVacationSettings, format);
     }
@@ -1894,7 +2078,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T enableRestrictToDomain(ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.enableRestrictToDomain();
         return updateVacationSettings(actualVacationSettings, format);
     }
@@ -1931,7 +2116,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T disableRestrictToDomain(ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.disableRestrictToDomain();
         return updateVacationSettings(actualVacationSettings, format);
     }
@@ -1973,7 +2159,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T updateVacationStartTime(long startTime, ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.setStartTime(startTime);
         return updateVacationSettings(actualVacationSettings, format);
     }
@@ -2015,7 +2202,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T updateVacationEndTime(long endTime, ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.setEndTime(endTime);
         return updateVacationSettings(actualVacationSettings, format);
     }
@@ -2063,7 +2251,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T updateVacationTime(long startTime, long endTime, ReturnFormat format) throws IOException {
-        VacationSettings actualVacationSettings = getVacationSettings();
+        VacationSettings actualVacationSettings = returnVacationSettings(getCurrent(settings.getVacation(userId)),
+                LIBRARY_OBJECT);
         actualVacationSettings.setStartTime(startTime);
         actualVacationSettings.setEndTime(endTime);
         return updateVacationSettings(actualVacationSettings, format);
@@ -2100,7 +2289,7 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PUT, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/vacation")
     public <T> T updateVacationSettings(VacationSettings vacationSettings, ReturnFormat format) throws IOException {
-        return returnVacationSettings(settings.updateVacation(userId, new com.google.api.services.gmail.model.VacationSettings()
+        return execute(settings.updateVacation(userId, new com.google.api.services.gmail.model.VacationSettings()
                 .setEnableAutoReply(vacationSettings.isEnableAutoReply())
                 .setResponseSubject(vacationSettings.getResponseSubject())
                 .setResponseBodyPlainText(vacationSettings.getResponseBodyPlainText())
@@ -2108,7 +2297,7 @@ public class GmailSettingsManager extends GmailManager {
                 .setRestrictToContacts(vacationSettings.isRestrictToContacts())
                 .setRestrictToDomain(vacationSettings.isRestrictToDomain())
                 .setStartTime(vacationSettings.getStartTime())
-                .setEndTime(vacationSettings.getEndTime())).execute(), format);
+                .setEndTime(vacationSettings.getEndTime())), format, this::returnVacationSettings);
     }
 
     /**
@@ -2173,7 +2362,7 @@ public class GmailSettingsManager extends GmailManager {
     public <T> T updateVacationSettings(boolean enableAutoReply, String responseSubject, String responsePlainText,
                                         String responseHtml, boolean restrictToContacts, boolean restrictToDomain,
                                         long startTime, long endTime, ReturnFormat format) throws IOException {
-        return returnVacationSettings(settings.updateVacation(userId, new com.google.api.services.gmail.model.VacationSettings()
+        return execute(settings.updateVacation(userId, new com.google.api.services.gmail.model.VacationSettings()
                 .setEnableAutoReply(enableAutoReply)
                 .setResponseSubject(responseSubject)
                 .setResponseBodyPlainText(responsePlainText)
@@ -2181,7 +2370,7 @@ public class GmailSettingsManager extends GmailManager {
                 .setRestrictToContacts(restrictToContacts)
                 .setRestrictToDomain(restrictToDomain)
                 .setStartTime(startTime)
-                .setEndTime(endTime)).execute(), format);
+                .setEndTime(endTime)), format, this::returnVacationSettings);
     }
 
     /**
@@ -2198,7 +2387,7 @@ public class GmailSettingsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(vacationSettings);
             case LIBRARY_OBJECT:
-                return (T) new VacationSettings(new JSONObject(vacationSettings));
+                return (T) toVacationSettings(vacationSettings);
             default:
                 return (T) vacationSettings.toString();
         }
@@ -2243,9 +2432,9 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/delegates")
     public <T> T createDelegate(Delegate delegate, ReturnFormat format) throws IOException {
-        return returnDelegate(delegates.create(userId, new com.google.api.services.gmail.model.Delegate()
+        return execute(delegates.create(userId, new com.google.api.services.gmail.model.Delegate()
                 .setDelegateEmail(delegate.getDelegateEmail())
-                .setVerificationStatus(delegate.getVerificationStatus().name())).execute(), format);
+                .setVerificationStatus(delegate.getVerificationStatus().name())), format, this::returnDelegate);
     }
 
     /**
@@ -2288,8 +2477,9 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/delegates")
     public <T> T createDelegate(String delegateEmail, VerificationStatus verificationStatus,
                                 ReturnFormat format) throws IOException {
-        return returnDelegate(delegates.create(userId, new com.google.api.services.gmail.model.Delegate()
-                .setDelegateEmail(delegateEmail).setVerificationStatus(verificationStatus.name())).execute(), format);
+        return execute(delegates.create(userId, new com.google.api.services.gmail.model.Delegate()
+                .setDelegateEmail(delegateEmail).setVerificationStatus(verificationStatus.name())),
+                format, this::returnDelegate);
     }
 
     /**
@@ -2324,7 +2514,7 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = DELETE, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/delegates")
     public boolean deleteDelegate(String delegateEmail) {
         try {
-            delegates.delete(userId, delegateEmail).execute();
+            execute(delegates.delete(userId, delegateEmail));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -2363,7 +2553,7 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/delegates/{delegateEmail}")
     public <T> T getDelegate(String delegateEmail, ReturnFormat format) throws IOException {
-        return returnDelegate(delegates.get(userId, delegateEmail).execute(), format);
+        return execute(delegates.get(userId, delegateEmail), format, this::returnDelegate);
     }
 
     /**
@@ -2379,7 +2569,7 @@ public class GmailSettingsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(delegate);
             case LIBRARY_OBJECT:
-                return (T) new Delegate(new JSONObject(delegate));
+                return (T) toDelegate(delegate);
             default:
                 return (T) delegate.toString();
         }
@@ -2414,7 +2604,9 @@ public class GmailSettingsManager extends GmailManager {
     @Returner
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/delegates")
     public <T> T getDelegatesList(ReturnFormat format) throws IOException {
-        ListDelegatesResponse delegates = this.delegates.list(userId).execute();
+        if (format == RAW)
+            return (T) this.delegates.list(userId).executeAsInputStream();
+        ListDelegatesResponse delegates = execute(this.delegates.list(userId));
         switch (format) {
             case JSON:
                 return (T) new JSONObject(delegates);
@@ -2422,7 +2614,7 @@ public class GmailSettingsManager extends GmailManager {
                 ArrayList<Delegate> delegatesList = new ArrayList<>();
                 if (delegates != null)
                     for (com.google.api.services.gmail.model.Delegate delegate : delegates.getDelegates())
-                        delegatesList.add(new Delegate(new JSONObject(delegate)));
+                        delegatesList.add(toDelegate(delegate));
                 return (T) delegatesList;
             default:
                 return (T) delegates.toString();
@@ -2513,7 +2705,7 @@ public class GmailSettingsManager extends GmailManager {
             } else
                 gFilter.set(key, value);
         }
-        return returnFilter(filters.create(userId, gFilter).execute(), format);
+        return execute(filters.create(userId, gFilter), format, this::returnFilter);
     }
 
     /**
@@ -2544,7 +2736,7 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = DELETE, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/filters/{id}")
     public boolean deleteFilter(String filterIdToDelete) {
         try {
-            filters.delete(userId, filterIdToDelete).execute();
+            execute(filters.delete(userId, filterIdToDelete));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -2581,7 +2773,7 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/filters/{id}")
     public <T> T getFilter(String filterId, ReturnFormat format) throws IOException {
-        return returnFilter(filters.get(userId, filterId).execute(), format);
+        return execute(filters.get(userId, filterId), format, this::returnFilter);
     }
 
     /**
@@ -2597,7 +2789,7 @@ public class GmailSettingsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(filter);
             case LIBRARY_OBJECT:
-                return (T) new Filter(new JSONObject(filter));
+                return (T) toFilter(filter);
             default:
                 return (T) filter.toString();
         }
@@ -2619,6 +2811,22 @@ public class GmailSettingsManager extends GmailManager {
         return getFiltersList(LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to get asynchronously a list of the message filters of a Gmail user <br>
+     * Any params required
+     *
+     * @return list of filters as {@link CompletableFuture} of {@link Collection} of {@link Filter} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.settings.filters/list">
+     * users.settings.filters.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getFiltersList()}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/filters")
+    public CompletableFuture<Collection<Filter>> getFiltersListAsync() {
+        return async(this::getFiltersList);
+    }
+
     /**
      * Method to get a list of the message filters of a Gmail user <br>
      *
@@ -2632,7 +2840,9 @@ public class GmailSettingsManager extends GmailManager {
     @Returner
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/filters")
     public <T> T getFiltersList(ReturnFormat format) throws IOException {
-        ListFiltersResponse filters = this.filters.list(userId).execute();
+        if (format == RAW)
+            return (T) this.filters.list(userId).executeAsInputStream();
+        ListFiltersResponse filters = execute(this.filters.list(userId));
         switch (format) {
             case JSON:
                 return (T) new JSONObject(filters);
@@ -2640,7 +2850,7 @@ public class GmailSettingsManager extends GmailManager {
                 ArrayList<Filter> filtersList = new ArrayList<>();
                 if (filters != null)
                     for (com.google.api.services.gmail.model.Filter filter : filters.getFilter())
-                        filtersList.add(new Filter(new JSONObject(filter)));
+                        filtersList.add(toFilter(filter));
                 return (T) filtersList;
             default:
                 return (T) filters.toString();
@@ -2684,9 +2894,10 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/forwardingAddresses")
     public <T> T createForwardingAddress(ForwardingAddress forwardingAddress, ReturnFormat format) throws IOException {
-        return returnForwardingAddress(forwardingAddresses.create(userId, new com.google.api.services.gmail.model.ForwardingAddress()
+        return execute(forwardingAddresses.create(userId, new com.google.api.services.gmail.model.ForwardingAddress()
                 .setForwardingEmail(forwardingAddress.getForwardingEmail())
-                .setVerificationStatus(forwardingAddress.getVerificationStatus().name())).execute(), format);
+                .setVerificationStatus(forwardingAddress.getVerificationStatus().name())),
+                format, this::returnForwardingAddress);
     }
 
     /**
@@ -2724,8 +2935,8 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/forwardingAddresses")
     public <T> T createForwardingAddress(String forwardingEmail, ReturnFormat format) throws IOException {
-        return returnForwardingAddress(forwardingAddresses.create(userId, new com.google.api.services.gmail.model.ForwardingAddress()
-                .setForwardingEmail(forwardingEmail)).execute(), format);
+        return execute(forwardingAddresses.create(userId, new com.google.api.services.gmail.model.ForwardingAddress()
+                .setForwardingEmail(forwardingEmail)), format, this::returnForwardingAddress);
     }
 
     /**
@@ -2758,7 +2969,7 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = DELETE, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/forwardingAddresses/{forwardingEmail}")
     public boolean deleteForwardingAddress(String forwardingEmailToDelete) {
         try {
-            forwardingAddresses.delete(userId, forwardingEmailToDelete).execute();
+            execute(forwardingAddresses.delete(userId, forwardingEmailToDelete));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -2795,7 +3006,7 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/forwardingAddresses/{forwardingEmail}")
     public <T> T getForwardingAddress(String forwardingEmail, ReturnFormat format) throws IOException {
-        return returnForwardingAddress(forwardingAddresses.get(userId, forwardingEmail).execute(), format);
+        return execute(forwardingAddresses.get(userId, forwardingEmail), format, this::returnForwardingAddress);
     }
 
     /**
@@ -2812,7 +3023,7 @@ public class GmailSettingsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(forwardingAddress);
             case LIBRARY_OBJECT:
-                return (T) new ForwardingAddress(new JSONObject(forwardingAddress));
+                return (T) toForwardingAddress(forwardingAddress);
             default:
                 return (T) forwardingAddress.toString();
         }
@@ -2848,7 +3059,9 @@ public class GmailSettingsManager extends GmailManager {
     @Returner
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/forwardingAddresses")
     public <T> T getForwardingAddressesList(ReturnFormat format) throws IOException {
-        ListForwardingAddressesResponse addresses = this.forwardingAddresses.list(userId).execute();
+        if (format == RAW)
+            return (T) this.forwardingAddresses.list(userId).executeAsInputStream();
+        ListForwardingAddressesResponse addresses = execute(this.forwardingAddresses.list(userId));
         switch (format) {
             case JSON:
                 return (T) new JSONObject(addresses);
@@ -2856,7 +3069,7 @@ public class GmailSettingsManager extends GmailManager {
                 ArrayList<ForwardingAddress> addressesList = new ArrayList<>();
                 if (addresses != null)
                     for (com.google.api.services.gmail.model.ForwardingAddress address : addresses.getForwardingAddresses())
-                        addressesList.add(new ForwardingAddress(new JSONObject(address)));
+                        addressesList.add(toForwardingAddress(address));
                 return (T) addressesList;
             default:
                 return (T) addresses.toString();
@@ -2921,7 +3134,7 @@ public class GmailSettingsManager extends GmailManager {
                     .setPassword(currentPassword)
                     .setSecurityMode(smtpMsaToCreate.getSecurityMode().name()));
         }
-        return returnSendAs(sendAs.create(userId, gSendAs).execute(), format);
+        return execute(sendAs.create(userId, gSendAs), format, this::returnSendAs);
     }
 
     /**
@@ -2954,7 +3167,7 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = DELETE, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public boolean deleteSendAs(String sendAsEmailToDelete) {
         try {
-            sendAs.delete(userId, sendAsEmailToDelete).execute();
+            execute(sendAs.delete(userId, sendAsEmailToDelete));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -2991,7 +3204,7 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T getSendAs(String sendAsEmailToGet, ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.get(userId, sendAsEmailToGet).execute(), format);
+        return execute(sendAs.get(userId, sendAsEmailToGet), format, this::returnSendAs);
     }
 
     /**
@@ -3011,6 +3224,23 @@ public class GmailSettingsManager extends GmailManager {
         return getSendAsList(LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to get asynchronously a list of the send-as aliases for the specified account. The result includes the primary send-as address
+     * associated with the account as well as any custom {@code "from"} aliases <br>
+     * Any params required
+     *
+     * @return send-as list as {@link CompletableFuture} of {@link Collection} of {@link SendAs} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.settings.sendAs/list">
+     * users.settings.sendAs.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getSendAsList()}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs")
+    public CompletableFuture<Collection<SendAs>> getSendAsListAsync() {
+        return async(this::getSendAsList);
+    }
+
     /**
      * Method to get a list of the send-as aliases for the specified account. The result includes the primary send-as address
      * associated with the account as well as any custom {@code "from"} aliases <br>
@@ -3025,7 +3255,9 @@ public class GmailSettingsManager extends GmailManager {
     @Returner
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs")
     public <T> T getSendAsList(ReturnFormat format) throws IOException {
-        ListSendAsResponse list = sendAs.list(userId).execute();
+        if (format == RAW)
+            return (T) sendAs.list(userId).executeAsInputStream();
+        ListSendAsResponse list = execute(sendAs.list(userId));
         switch (format) {
             case JSON:
                 return (T) new JSONObject(list);
@@ -3033,7 +3265,7 @@ public class GmailSettingsManager extends GmailManager {
                 ArrayList<SendAs> sendAsList = new ArrayList<>();
                 if (list != null)
                     for (com.google.api.services.gmail.model.SendAs sendAs : list.getSendAs())
-                        sendAsList.add(new SendAs(new JSONObject(sendAs)));
+                        sendAsList.add(toSendAs(sendAs));
                 return (T) sendAsList;
             default:
                 return (T) list.toString();
@@ -3123,8 +3355,8 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSendAsDisplayName(String sendAsEmail, String displayNameUpdated,
                                          ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                .setDisplayName(displayNameUpdated)).execute(), format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                .setDisplayName(displayNameUpdated)), format, this::returnSendAs);
     }
 
     /**
@@ -3210,8 +3442,8 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSendAsReplyToAddress(String sendAsEmail, String replyToAddressUpdated,
                                             ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                .setReplyToAddress(replyToAddressUpdated)).execute(), format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                .setReplyToAddress(replyToAddressUpdated)), format, this::returnSendAs);
     }
 
     /**
@@ -3295,8 +3527,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSendAsSignature(String sendAsEmail, String signatureUpdated, ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                .setSignature(signatureUpdated)).execute(), format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                .setSignature(signatureUpdated)), format, this::returnSendAs);
     }
 
     /**
@@ -3384,8 +3616,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSendAsDefault(String sendAsEmail, boolean defaultUpdated, ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                .setIsDefault(defaultUpdated)).execute(), format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                .setIsDefault(defaultUpdated)), format, this::returnSendAs);
     }
 
     /**
@@ -3471,8 +3703,8 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSendAsTreatAsAlias(String sendAsEmail, boolean treatAsAliasUpdated,
                                           ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                .setTreatAsAlias(treatAsAliasUpdated)).execute(), format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                .setTreatAsAlias(treatAsAliasUpdated)), format, this::returnSendAs);
     }
 
     /**
@@ -3556,8 +3788,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSmtpMsaHost(String sendAsEmail, String hostUpdated, ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                .setSmtpMsa(new SmtpMsa().setHost(hostUpdated))).execute(), format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                .setSmtpMsa(new SmtpMsa().setHost(hostUpdated))), format, this::returnSendAs);
     }
 
     /**
@@ -3641,8 +3873,8 @@ public class GmailSettingsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSmtpMsaPort(String sendAsEmail, int portUpdated, ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                .setSmtpMsa(new SmtpMsa().setPort(portUpdated))).execute(), format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                .setSmtpMsa(new SmtpMsa().setPort(portUpdated))), format, this::returnSendAs);
     }
 
     /**
@@ -3731,8 +3963,8 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSmtpMsaUsername(String sendAsEmail, String usernameUpdated, ReturnFormat format) throws IOException {
         currentUsername = usernameUpdated;
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                .setSmtpMsa(new SmtpMsa().setUsername(usernameUpdated))).execute(), format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                .setSmtpMsa(new SmtpMsa().setUsername(usernameUpdated))), format, this::returnSendAs);
     }
 
     /**
@@ -3821,8 +4053,8 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSmtpMsaPassword(String sendAsEmail, String passwordUpdated, ReturnFormat format) throws IOException {
         currentPassword = passwordUpdated;
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                .setSmtpMsa(new SmtpMsa().setPassword(passwordUpdated))).execute(), format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                .setSmtpMsa(new SmtpMsa().setPassword(passwordUpdated))), format, this::returnSendAs);
     }
 
     /**
@@ -3908,8 +4140,8 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSmtpMsaSecurityMode(String sendAsEmail, SecurityMode securityModeUpdated,
                                            ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                .setSmtpMsa(new SmtpMsa().setSecurityMode(securityModeUpdated.name()))).execute(), format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                .setSmtpMsa(new SmtpMsa().setSecurityMode(securityModeUpdated.name()))), format, this::returnSendAs);
     }
 
     /**
@@ -3999,8 +4231,8 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSmtpMsaDomainDetails(String sendAsEmail, String hostUpdated, int portUpdated,
                                             ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                .setSmtpMsa(new SmtpMsa().setHost(hostUpdated).setPort(portUpdated))).execute(), format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                .setSmtpMsa(new SmtpMsa().setHost(hostUpdated).setPort(portUpdated))), format, this::returnSendAs);
     }
 
     /**
@@ -4092,9 +4324,9 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSmtpMsaDomainDetails(String sendAsEmail, String hostUpdated, SecurityMode securityModeUpdated,
                                             ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                        .setSmtpMsa(new SmtpMsa().setHost(hostUpdated).setSecurityMode(securityModeUpdated.name()))).execute(),
-                format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                        .setSmtpMsa(new SmtpMsa().setHost(hostUpdated).setSecurityMode(securityModeUpdated.name()))),
+                        format, this::returnSendAs);
     }
 
     /**
@@ -4186,9 +4418,9 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSmtpMsaDomainDetails(String sendAsEmail, int portUpdated, SecurityMode securityModeUpdated,
                                             ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                        .setSmtpMsa(new SmtpMsa().setPort(portUpdated).setSecurityMode(securityModeUpdated.name()))).execute(),
-                format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                        .setSmtpMsa(new SmtpMsa().setPort(portUpdated).setSecurityMode(securityModeUpdated.name()))),
+                        format, this::returnSendAs);
     }
 
     /**
@@ -4285,9 +4517,9 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = PATCH, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}")
     public <T> T changeSmtpMsaDomainDetails(String sendAsEmail, String hostUpdated, int portUpdated,
                                             SecurityMode securityModeUpdated, ReturnFormat format) throws IOException {
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
                 .setSmtpMsa(new SmtpMsa().setHost(hostUpdated).setPort(portUpdated)
-                        .setSecurityMode(securityModeUpdated.name()))).execute(), format);
+                        .setSecurityMode(securityModeUpdated.name()))), format, this::returnSendAs);
     }
 
     /**
@@ -4389,8 +4621,9 @@ public class GmailSettingsManager extends GmailManager {
                                           ReturnFormat format) throws IOException {
         currentUsername = usernameUpdated;
         currentPassword = passwordUpdated;
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
-                .setSmtpMsa(new SmtpMsa().setUsername(usernameUpdated).setPassword(passwordUpdated))).execute(), format);
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+                .setSmtpMsa(new SmtpMsa().setUsername(usernameUpdated).setPassword(passwordUpdated))),
+                format, this::returnSendAs);
     }
 
     /**
@@ -4484,10 +4717,10 @@ public class GmailSettingsManager extends GmailManager {
     public <T> T changeSmtpMsa(String sendAsEmail, SendAs.SmtpMsa smtpMsaUpdated, ReturnFormat format) throws IOException {
         currentUsername = smtpMsaUpdated.getUsername();
         currentPassword = smtpMsaUpdated.getPassword();
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
                 .setSmtpMsa(new SmtpMsa().setHost(smtpMsaUpdated.getHost()).setPort(smtpMsaUpdated.getPort())
                         .setUsername(currentUsername).setPassword(currentPassword)
-                        .setSecurityMode(smtpMsaUpdated.getSecurityMode().name()))).execute(), format);
+                        .setSecurityMode(smtpMsaUpdated.getSecurityMode().name()))), format, this::returnSendAs);
     }
 
     /**
@@ -4606,9 +4839,10 @@ public class GmailSettingsManager extends GmailManager {
                                ReturnFormat format) throws IOException {
         currentUsername = usernameUpdated;
         currentPassword = passwordUpdated;
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
                 .setSmtpMsa(new SmtpMsa().setHost(hostUpdated).setPort(portUpdated).setUsername(usernameUpdated)
-                        .setPassword(passwordUpdated).setSecurityMode(securityModeUpdated.name()))).execute(), format);
+                        .setPassword(passwordUpdated).setSecurityMode(securityModeUpdated.name()))),
+                        format, this::returnSendAs);
     }
 
     /**
@@ -4666,7 +4900,7 @@ public class GmailSettingsManager extends GmailManager {
                     .setPassword(currentPassword)
                     .setSecurityMode(smtpMsaUpdated.getSecurityMode().name()));
         }
-        return returnSendAs(sendAs.patch(userId, sendAsUpdated.getSendAsEmail(), gSendAs).execute(), format);
+        return execute(sendAs.patch(userId, sendAsUpdated.getSendAsEmail(), gSendAs), format, this::returnSendAs);
     }
 
     /**
@@ -4738,7 +4972,7 @@ public class GmailSettingsManager extends GmailManager {
                               SecurityMode securityModeUpdated, ReturnFormat format) throws IOException {
         currentUsername = usernameUpdated;
         currentPassword = passwordUpdated;
-        return returnSendAs(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
+        return execute(sendAs.patch(userId, sendAsEmail, new com.google.api.services.gmail.model.SendAs()
                 .setDisplayName(displayNameUpdated)
                 .setReplyToAddress(replyToAddressUpdated)
                 .setSignature(signatureUpdated)
@@ -4748,7 +4982,7 @@ public class GmailSettingsManager extends GmailManager {
                         .setPort(portUpdated)
                         .setUsername(usernameUpdated)
                         .setPassword(passwordUpdated)
-                        .setSecurityMode(securityModeUpdated.name()))).execute(), format);
+                        .setSecurityMode(securityModeUpdated.name()))), format, this::returnSendAs);
     }
 
     /**
@@ -4767,7 +5001,7 @@ public class GmailSettingsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(sendAs);
             case LIBRARY_OBJECT:
-                return (T) new SendAs(new JSONObject(sendAs));
+                return (T) toSendAs(sendAs);
             default:
                 return (T) sendAs.toString();
         }
@@ -4803,7 +5037,7 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}/verify")
     public boolean verifySendAs(String sendAsEmailToVerify) {
         try {
-            sendAs.verify(userId, sendAsEmailToVerify).execute();
+            execute(sendAs.verify(userId, sendAsEmailToVerify));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -4874,7 +5108,7 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = DELETE, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}/smimeInfo/{id}")
     public boolean deleteSmimeInfo(String sendAsEmail, String idSmimeInfoToDelete) {
         try {
-            smimeInfo.delete(userId, sendAsEmail, idSmimeInfoToDelete).execute();
+            execute(smimeInfo.delete(userId, sendAsEmail, idSmimeInfoToDelete));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -4949,7 +5183,7 @@ public class GmailSettingsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}/smimeInfo/{id}")
     public <T> T getSmimeInfo(String sendAsEmail, String idSmimeInfoToGet, ReturnFormat format) throws IOException {
-        return returnSmimeInfo(smimeInfo.get(userId, sendAsEmail, idSmimeInfoToGet).execute(), format);
+        return execute(smimeInfo.get(userId, sendAsEmail, idSmimeInfoToGet), format, this::returnSmimeInfo);
     }
 
     /**
@@ -5132,7 +5366,7 @@ public class GmailSettingsManager extends GmailManager {
                 smimeInfoToInsert.encodePkcs12();
             gSmimeInfo.set(key, smimeInfoSource.get(key));
         }
-        return returnSmimeInfo(smimeInfo.insert(userId, sendAsEmail, gSmimeInfo).execute(), format);
+        return execute(smimeInfo.insert(userId, sendAsEmail, gSmimeInfo), format, this::returnSmimeInfo);
     }
 
     /**
@@ -5148,7 +5382,7 @@ public class GmailSettingsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(smimeInfo);
             case LIBRARY_OBJECT:
-                return (T) new SmimeInfo(new JSONObject(smimeInfo));
+                return (T) toSmimeInfo(smimeInfo);
             default:
                 return (T) smimeInfo.toString();
         }
@@ -5218,7 +5452,9 @@ public class GmailSettingsManager extends GmailManager {
     @Returner
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}/smimeInfo")
     public <T> T getSmimeInfoList(String sendAsEmail, ReturnFormat format) throws IOException {
-        ListSmimeInfoResponse list = smimeInfo.list(userId, sendAsEmail).execute();
+        if (format == RAW)
+            return (T) smimeInfo.list(userId, sendAsEmail).executeAsInputStream();
+        ListSmimeInfoResponse list = execute(smimeInfo.list(userId, sendAsEmail));
         switch (format) {
             case JSON:
                 return (T) new JSONObject(list);
@@ -5226,7 +5462,7 @@ public class GmailSettingsManager extends GmailManager {
                 ArrayList<SmimeInfo> smimeInfoList = new ArrayList<>();
                 if (list != null)
                     for (com.google.api.services.gmail.model.SmimeInfo smimeInfo : list.getSmimeInfo())
-                        smimeInfoList.add(new SmimeInfo(new JSONObject(smimeInfo)));
+                        smimeInfoList.add(toSmimeInfo(smimeInfo));
                 return (T) smimeInfoList;
             default:
                 return (T) list.toString();
@@ -5296,7 +5532,7 @@ public class GmailSettingsManager extends GmailManager {
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/settings/sendAs/{sendAsEmail}/smimeInfo/{id}/setDefault")
     public boolean setDefaultSmimeInfo(String sendAsEmail, String idDefaultSmimeInfo) {
         try {
-            smimeInfo.setDefault(userId, sendAsEmail, idDefaultSmimeInfo).execute();
+            execute(smimeInfo.setDefault(userId, sendAsEmail, idDefaultSmimeInfo));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -0,0 +1,239 @@
+package com.tecknobit.googlemanager.gmail.settings;
+
+import com.google.api.client.json.GenericJson;
+import com.google.api.services.gmail.GmailRequest;
+import com.tecknobit.googlemanager.gmail.GmailManager.GmailRequestCall;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.api.client.http.HttpMethods.*;
+
+/**
+ * The {@code GmailSettingsSnapshot} class is useful to keep the last known state of the settings of a mailbox, so the
+ * methods that update only some params of a setting do not request its current state before each update
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the snapshot keeps the responses of the requests of the {@code "settings"} endpoints, like {@code "IMAP"},
+ * {@code "POP"}, vacation responder, auto-forwarding, language, send-as aliases, filters and delegates, indexed by their
+ * path. The responses of the updates replace the state kept, while the creations and the deletions remove the state
+ * kept of the same resource, so it is requested again with the next update. The state kept older than
+ * {@link #getMaxStaleness()} is requested again before being used:
+ * <pre>
+ *     {@code
+ *        settingsManager.getSettingsSnapshot().setMaxStaleness(60000);
+ *        settingsManager.updateImapMaxFolderSize(1000); // requests the current state, then updates it
+ *        settingsManager.updateImapExpungeBehavior(trash); // only updates it
+ *        settingsManager.getSettingsSnapshot().invalidate(); // the settings have been changed by another client
+ *     }
+ * </pre>
+ **/
+public final class GmailSettingsSnapshot {
+
+    /**
+     * {@code UNBOUNDED_STALENESS} is a constant to keep the state without any limit of time
+     **/
+    public static final long UNBOUNDED_STALENESS = Long.MAX_VALUE;
+
+    /**
+     * {@code SETTINGS_PATH} is a constant for the segment of the path that precedes the resources of the settings
+     **/
+    private static final String SETTINGS_PATH = "/settings/";
+
+    /**
+     * {@code entries} are the states kept, indexed by their path
+     **/
+    private final ConcurrentHashMap<String, Entry> entries;
+
+    /**
+     * {@code hits} is the number of times the state kept has been used instead of requesting it
+     **/
+    private final AtomicLong hits;
+
+    /**
+     * {@code loads} is the number of times the state has been requested because not kept or stale
+     **/
+    private final AtomicLong loads;
+
+    /**
+     * {@code maxStaleness} is the max time, in milliseconds, from the last response after which the state kept is
+     * requested again
+     **/
+    private volatile long maxStaleness;
+
+    /**
+     * Constructor to init a {@link GmailSettingsSnapshot} without any limit of time for the state kept <br>
+     * Any params required
+     **/
+    public GmailSettingsSnapshot() {
+        this(UNBOUNDED_STALENESS);
+    }
+
+    /**
+     * Constructor to init a {@link GmailSettingsSnapshot}
+     *
+     * @param maxStaleness: the max time, in milliseconds, from the last response after which the state kept is
+     *                      requested again
+     **/
+    public GmailSettingsSnapshot(long maxStaleness) {
+        setMaxStaleness(maxStaleness);
+        entries = new ConcurrentHashMap<>();
+        hits = new AtomicLong();
+        loads = new AtomicLong();
+    }
+
+    /**
+     * Method to set {@link #maxStaleness} instance
+     *
+     * @param maxStaleness: the max time, in milliseconds, from the last response after which the state kept is
+     *                      requested again, {@link #UNBOUNDED_STALENESS} to not limit it
+     **/
+    public void setMaxStaleness(long maxStaleness) {
+        if (maxStaleness < 0)
+            throw new IllegalArgumentException("Max staleness cannot be negative");
+        this.maxStaleness = maxStaleness;
+    }
+
+    /**
+     * Method to get {@link #maxStaleness} instance <br>
+     * Any params required
+     *
+     * @return {@link #maxStaleness} instance as long
+     **/
+    public long getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    /**
+     * Method to get {@link #hits} instance <br>
+     * Any params required
+     *
+     * @return {@link #hits} instance as long
+     **/
+    public long getHitsCount() {
+        return hits.get();
+    }
+
+    /**
+     * Method to get {@link #loads} instance <br>
+     * Any params required
+     *
+     * @return {@link #loads} instance as long
+     **/
+    public long getLoadsCount() {
+        return loads.get();
+    }
+
+    /**
+     * Method to get the number of states kept <br>
+     * Any params required
+     *
+     * @return the number of states kept as int
+     **/
+    public int getEntriesCount() {
+        return entries.size();
+    }
+
+    /**
+     * Method to remove all the states kept, so they are requested again with the next update <br>
+     * Any params required
+     **/
+    public void invalidate() {
+        entries.clear();
+    }
+
+    /**
+     * Method to get the current state of a setting
+     *
+     * @param request: the request that gets the setting
+     * @param loader:  the call used to request the state when it is not kept or is stale
+     * @return a copy of the current state as {@link M}
+     * @throws IOException when the state has been requested and the request has been go wrong
+     **/
+    public <M> M get(GmailRequest<M> request, GmailRequestCall<M> loader) throws IOException {
+        String path = getPath(request);
+        if (path != null) {
+            Entry entry = entries.get(path);
+            if (entry != null && System.currentTimeMillis() - entry.timestamp <= maxStaleness) {
+                hits.incrementAndGet();
+                return (M) entry.state.clone();
+            }
+        }
+        loads.incrementAndGet();
+        return loader.call();
+    }
+
+    /**
+     * Method to update the states kept with the response of a request
+     *
+     * @param request:  the request executed
+     * @param response: the response of the request, null when not parsed
+     * @apiNote the requests that are not of the {@code "settings"} endpoints are ignored
+     **/
+    public <M> void update(GmailRequest<M> request, M response) {
+        String path = getPath(request);
+        if (path == null)
+            return;
+        String method = request.getRequestMethod();
+        if (!GET.equals(method)) {
+            String resource = getResource(path);
+            entries.keySet().removeIf(key -> key.equals(resource) || key.startsWith(resource + "/"));
+        }
+        if ((GET.equals(method) || PUT.equals(method) || PATCH.equals(method)) && response instanceof GenericJson)
+            entries.put(path, new Entry(((GenericJson) response).clone()));
+    }
+
+    /**
+     * Method to get the path of a request of the {@code "settings"} endpoints
+     *
+     * @param request: the request of which get the path
+     * @return the path as {@link String}, null if the request is not of the {@code "settings"} endpoints
+     **/
+    private static String getPath(GmailRequest<?> request) {
+        String path = request.buildHttpRequestUrl().getRawPath();
+        return path.contains(SETTINGS_PATH) ? path : null;
+    }
+
+    /**
+     * Method to get the resource of a path, like {@code "settings/imap"} or {@code "settings/sendAs"}
+     *
+     * @param path: the path of which get the resource
+     * @return the path of the resource as {@link String}
+     **/
+    private static String getResource(String path) {
+        int start = path.indexOf(SETTINGS_PATH) + SETTINGS_PATH.length();
+        int end = path.indexOf('/', start);
+        return end == -1 ? path : path.substring(0, end);
+    }
+
+    /**
+     * The {@code Entry} class is useful to hold a state kept
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class Entry {
+
+        /**
+         * {@code state} the state kept
+         **/
+        private final GenericJson state;
+
+        /**
+         * {@code timestamp} the time, in milliseconds, when the state has been received
+         **/
+        private final long timestamp;
+
+        /**
+         * Constructor to init an {@link Entry}
+         *
+         * @param state: the state kept
+         **/
+        private Entry(GenericJson state) {
+            this.state = state;
+            timestamp = System.currentTimeMillis();
+        }
+
+    }
+
+}
@@ -8,17 +8,30 @@ import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.annotations.WrappedRequest;
 import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.googlemanager.GoogleConfig;
+import com.tecknobit.googlemanager.auth.ServiceAccountDelegation;
+import com.tecknobit.googlemanager.gmail.GmailLabelDirectory;
 import com.tecknobit.googlemanager.gmail.GmailManager;
+import com.tecknobit.googlemanager.gmail.GmailPager;
+import com.tecknobit.googlemanager.gmail.GmailPager.Page;
+import com.tecknobit.googlemanager.gmail.GmailSession;
+import com.tecknobit.googlemanager.gmail.records.BatchResult;
 import com.tecknobit.googlemanager.gmail.threads.records.GmailThread;
 import com.tecknobit.googlemanager.gmail.threads.records.GmailThreads;
 import org.json.JSONObject;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.googlemanager.gmail.GmailRecordsMapper.*;
 import static com.tecknobit.googlemanager.gmail.GmailManager.ResponseFormat.METADATA_FORMAT;
+import static com.tecknobit.googlemanager.gmail.GmailPager.DEFAULT_PREFETCH_DEPTH;
 import static java.util.Arrays.stream;
 
 /**
@@ -142,6 +155,38 @@ public class GmailThreadsManager extends GmailManager {
         super();
     }
 
+    /**
+     * Constructor to init a {@link GmailThreadsManager}
+     *
+     * @param config: configuration of the manager
+     * @throws IOException when auth request has been go wrong
+     * @apiNote see {@link GmailManager#GmailManager(GoogleConfig)}
+     **/
+    public GmailThreadsManager(GoogleConfig config) throws IOException {
+        super(config);
+    }
+
+    /**
+     * Constructor to init a {@link GmailThreadsManager} impersonating a user with a service account
+     *
+     * @param delegation:      the service account with the domain-wide delegation enabled
+     * @param userId:          the email of the user to impersonate
+     * @param applicationName: name of application to give at the project
+     **/
+    public GmailThreadsManager(ServiceAccountDelegation delegation, String userId, String applicationName) {
+        super(delegation, userId, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailThreadsManager} as view of another manager
+     *
+     * @param manager: manager already authorized from which share the authorization and the Gmail's service
+     * @apiNote this constructor does not perform any auth request, see {@link GmailSession}
+     **/
+    public GmailThreadsManager(GmailManager manager) {
+        super(manager);
+    }
+
     /**
      * Method to immediately and permanently deletes the specified thread.
      * Any messages that belong to the thread are also deleted. This operation cannot be undone. <br>
@@ -174,7 +219,7 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = DELETE, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}")
     public boolean deleteThread(String threadIdToDelete) {
         try {
-            threads.delete(userId, threadIdToDelete).execute();
+            execute(threads.delete(userId, threadIdToDelete));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -211,7 +256,7 @@ public class GmailThreadsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}")
     public <T> T getThread(String threadIdToGet, ReturnFormat format) throws IOException {
-        return returnThread(threads.get(userId, threadIdToGet).execute(), format);
+        return execute(threads.get(userId, threadIdToGet), format, this::returnThread);
     }
 
     /**
@@ -231,6 +276,39 @@ public class GmailThreadsManager extends GmailManager {
         return getThread(threadIdToGet, responseFormat, LIBRARY_OBJECT);
     }
 
+    /**
+     * Method to get asynchronously the specified thread
+     *
+     * @param threadIdToGet: the {@code "ID"} of the thread to get
+     * @return thread requested as {@link CompletableFuture} of {@link GmailThread} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.threads/get">
+     * users.threads.get</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getThread(String)}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}")
+    public CompletableFuture<GmailThread> getThreadAsync(String threadIdToGet) {
+        return async(() -> getThread(threadIdToGet));
+    }
+
+    /**
+     * Method to get asynchronously the specified thread
+     *
+     * @param threadIdToGet:  the {@code "ID"} of the thread to get
+     * @param responseFormat: the format to return the thread in -> constants available at {@link ResponseFormat}
+     * @return thread requested as {@link CompletableFuture} of {@link GmailThread} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.threads/get">
+     * users.threads.get</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the request is executed with the {@link #getAsyncExecutor()}, see {@link #getThread(String, ResponseFormat)}
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}")
+    public CompletableFuture<GmailThread> getThreadAsync(String threadIdToGet, ResponseFormat responseFormat) {
+        return async(() -> getThread(threadIdToGet, responseFormat));
+    }
+
     /**
      * Method to get the specified thread
      *
@@ -245,7 +323,7 @@ public class GmailThreadsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}")
     public <T> T getThread(String threadIdToGet, ResponseFormat responseFormat, ReturnFormat format) throws IOException {
-        return returnThread(threads.get(userId, threadIdToGet).setFormat(responseFormat.name()).execute(), format);
+        return execute(threads.get(userId, threadIdToGet).setFormat(responseFormat.name()), format, this::returnThread);
     }
 
     /**
@@ -279,8 +357,8 @@ public class GmailThreadsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}")
     public <T> T getThread(String threadIdToGet, String[] metadataHeaders, ReturnFormat format) throws IOException {
-        return returnThread(threads.get(userId, threadIdToGet).setFormat(METADATA_FORMAT.name())
-                .setMetadataHeaders(stream(metadataHeaders).toList()).execute(), format);
+        return execute(threads.get(userId, threadIdToGet).setFormat(METADATA_FORMAT.name())
+                .setMetadataHeaders(stream(metadataHeaders).toList()), format, this::returnThread);
     }
 
     /**
@@ -314,8 +392,170 @@ public class GmailThreadsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}")
     public <T> T getThread(String threadIdToGet, Collection<String> metadataHeaders, ReturnFormat format) throws IOException {
-        return returnThread(threads.get(userId, threadIdToGet).setFormat(METADATA_FORMAT.name())
-                .setMetadataHeaders(metadataHeaders.stream().toList()).execute(), format);
+        return execute(threads.get(userId, threadIdToGet).setFormat(METADATA_FORMAT.name())
+                .setMetadataHeaders(metadataHeaders.stream().toList()), format, this::returnThread);
+    }
+
+    /**
+     * Method to get many threads in a single round trip
+     *
+     * @param threadIds:       ids of the threads to get
+     * @return threads requested as {@link BatchResult} of {@link GmailThread} custom object keyed by id
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the threads are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @Wrapper
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public BatchResult<GmailThread> getThreads(Collection<String> threadIds) throws IOException {
+        return getThreads(threadIds, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to get many threads in a single round trip
+     *
+     * @param threadIds:       ids of the threads to get
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return threads as {@link BatchResult} keyed by id, each thread as {@code "format"} defines
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the threads are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public <T> BatchResult<T> getThreads(Collection<String> threadIds, ReturnFormat format) throws IOException {
+        return getThreads(threadIds, null, null, DEFAULT_BATCH_PARALLELISM, format);
+    }
+
+    /**
+     * Method to get many threads in a single round trip
+     *
+     * @param threadIds:       ids of the threads to get
+     * @param responseFormat:  the format to return the threads in -> constants available at {@link ResponseFormat}
+     * @return threads requested as {@link BatchResult} of {@link GmailThread} custom object keyed by id
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the threads are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @Wrapper
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public BatchResult<GmailThread> getThreads(Collection<String> threadIds,
+                                               ResponseFormat responseFormat) throws IOException {
+        return getThreads(threadIds, responseFormat, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to get many threads in a single round trip
+     *
+     * @param threadIds:       ids of the threads to get
+     * @param responseFormat:  the format to return the threads in -> constants available at {@link ResponseFormat}
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return threads as {@link BatchResult} keyed by id, each thread as {@code "format"} defines
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the threads are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public <T> BatchResult<T> getThreads(Collection<String> threadIds, ResponseFormat responseFormat,
+                                         ReturnFormat format) throws IOException {
+        return getThreads(threadIds, responseFormat, null, DEFAULT_BATCH_PARALLELISM, format);
+    }
+
+    /**
+     * Method to get many threads in a single round trip
+     *
+     * @param threadIds:       ids of the threads to get
+     * @param metadataHeaders: only include headers specified in {@link Collection} of {@link String} format, the threads are returned in {@code "METADATA"} format
+     * @return threads requested as {@link BatchResult} of {@link GmailThread} custom object keyed by id
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the threads are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @Wrapper
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public BatchResult<GmailThread> getThreads(Collection<String> threadIds,
+                                               Collection<String> metadataHeaders) throws IOException {
+        return getThreads(threadIds, metadataHeaders, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to get many threads in a single round trip
+     *
+     * @param threadIds:       ids of the threads to get
+     * @param metadataHeaders: only include headers specified in {@link Collection} of {@link String} format, the threads are returned in {@code "METADATA"} format
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return threads as {@link BatchResult} keyed by id, each thread as {@code "format"} defines
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the threads are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public <T> BatchResult<T> getThreads(Collection<String> threadIds, Collection<String> metadataHeaders,
+                                         ReturnFormat format) throws IOException {
+        return getThreads(threadIds, METADATA_FORMAT, metadataHeaders, DEFAULT_BATCH_PARALLELISM, format);
+    }
+
+    /**
+     * Method to get many threads in a single round trip
+     *
+     * @param threadIds:       ids of the threads to get
+     * @param responseFormat:  the format to return the threads in -> constants available at {@link ResponseFormat}
+     * @param metadataHeaders: when given and format is {@code "METADATA"}, only include headers specified in {@link Collection} of {@link String} format
+     * @param parallelism:     max number of batches sent at the same time
+     * @return threads requested as {@link BatchResult} of {@link GmailThread} custom object keyed by id
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the threads are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @Wrapper
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public BatchResult<GmailThread> getThreads(Collection<String> threadIds, ResponseFormat responseFormat,
+                                               Collection<String> metadataHeaders, int parallelism) throws IOException {
+        return getThreads(threadIds, responseFormat, metadataHeaders, parallelism, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to get many threads in a single round trip
+     *
+     * @param threadIds:       ids of the threads to get
+     * @param responseFormat:  the format to return the threads in -> constants available at {@link ResponseFormat}
+     * @param metadataHeaders: when given and format is {@code "METADATA"}, only include headers specified in {@link Collection} of {@link String} format
+     * @param parallelism:     max number of batches sent at the same time
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return threads as {@link BatchResult} keyed by id, each thread as {@code "format"} defines
+     * @throws IOException when a batch request has been go wrong
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/guides/batch">
+     * Batching requests</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the threads are fetched with a batch request every {@link #MAX_BATCH_SIZE} ids
+     **/
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/batch/gmail/v1")
+    public <T> BatchResult<T> getThreads(Collection<String> threadIds, ResponseFormat responseFormat,
+                                         Collection<String> metadataHeaders, int parallelism,
+                                         ReturnFormat format) throws IOException {
+        LinkedHashMap<String, Gmail.Users.Threads.Get> requests = new LinkedHashMap<>();
+        for (String threadId : threadIds) {
+            Gmail.Users.Threads.Get request = threads.get(userId, threadId);
+            if (responseFormat != null)
+                request.setFormat(responseFormat.toString());
+            if (metadataHeaders != null)
+                request.setMetadataHeaders(metadataHeaders.stream().toList());
+            requests.put(threadId, request);
+        }
+        return executeBatch(requests, format, this::returnThread, parallelism);
     }
 
     /**
@@ -347,7 +587,7 @@ public class GmailThreadsManager extends GmailManager {
      **/
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash).execute(), format);
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash), format, this::returnThreadsList);
     }
 
     /**
@@ -383,8 +623,8 @@ public class GmailThreadsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, int maxResults, ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
-                .setMaxResults((long) maxResults).execute(), format);
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                .setMaxResults((long) maxResults), format, this::returnThreadsList);
     }
 
     /**
@@ -420,8 +660,8 @@ public class GmailThreadsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, String pageToken, ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
-                .setPageToken(pageToken).execute(), format);
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                .setPageToken(pageToken), format, this::returnThreadsList);
     }
 
     /**
@@ -459,8 +699,8 @@ public class GmailThreadsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(String q, boolean includeSpamTrash, ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
-                .setQ(q).execute(), format);
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                .setQ(q), format, this::returnThreadsList);
     }
 
     /**
@@ -496,8 +736,8 @@ public class GmailThreadsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, String[] labelIds, ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                .setLabelIds(stream(labelIds).toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -534,8 +774,8 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, Collection<String> labelIds,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                .setLabelIds(labelIds.stream().toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -574,10 +814,9 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, int maxResults, String pageToken,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
-                .setPageToken(pageToken)
-                .execute(), format);
+                .setPageToken(pageToken), format, this::returnThreadsList);
     }
 
     /**
@@ -618,10 +857,9 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, String q, int maxResults,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
-                .setQ(q)
-                .execute(), format);
+                .setQ(q), format, this::returnThreadsList);
     }
 
     /**
@@ -660,9 +898,9 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, int maxResults, String[] labelIds,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -702,9 +940,9 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, int maxResults, Collection<String> labelIds,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -746,10 +984,10 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, int maxResults, String pageToken, String[] labelIds,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setPageToken(pageToken)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -791,10 +1029,10 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, int maxResults, String pageToken, Collection<String> labelIds,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setPageToken(pageToken)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -838,10 +1076,10 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, int maxResults, String[] labelIds,
                                 String q, ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setQ(q)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -885,10 +1123,10 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, int maxResults, Collection<String> labelIds, String q,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setQ(q)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -929,10 +1167,9 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, String pageToken, String q,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setPageToken(pageToken)
-                .setQ(q)
-                .execute(), format);
+                .setQ(q), format, this::returnThreadsList);
     }
 
     /**
@@ -971,9 +1208,9 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, String pageToken, String[] labelIds,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setPageToken(pageToken)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -1013,9 +1250,9 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, String pageToken, Collection<String> labelIds,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setPageToken(pageToken)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -1059,10 +1296,10 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, String pageToken, String q, String[] labelIds,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setPageToken(pageToken)
                 .setQ(q)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -1106,10 +1343,10 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, String pageToken, String q, Collection<String> labelIds,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setPageToken(pageToken)
                 .setQ(q)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -1150,9 +1387,9 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, String[] labelIds, String q,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setQ(q)
-                .setLabelIds(stream(labelIds).toList()).execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -1193,9 +1430,9 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, Collection<String> labelIds, String q,
                                 ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setQ(q)
-                .setLabelIds(labelIds.stream().toList()).execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -1241,12 +1478,11 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, int maxResults, String pageToken, String q,
                                 String[] labelIds, ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setPageToken(pageToken)
                 .setQ(q)
-                .setLabelIds(stream(labelIds).toList())
-                .execute(), format);
+                .setLabelIds(stream(labelIds).toList()), format, this::returnThreadsList);
     }
 
     /**
@@ -1292,12 +1528,139 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
     public <T> T getThreadsList(boolean includeSpamTrash, int maxResults, String pageToken, String q,
                                 Collection<String> labelIds, ReturnFormat format) throws IOException {
-        return getThreadsList(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+        return execute(threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
                 .setMaxResults((long) maxResults)
                 .setPageToken(pageToken)
                 .setQ(q)
-                .setLabelIds(labelIds.stream().toList())
-                .execute(), format);
+                .setLabelIds(labelIds.stream().toList()), format, this::returnThreadsList);
+    }
+
+    /**
+     * Method to iterate all the threads in the user's mailbox
+     *
+     * @param includeSpamTrash: include threads from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @return threads as {@link Stream} of {@link GmailThread} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.threads/list">
+     * users.threads.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the stream is consumed, the stream must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
+    public Stream<GmailThread> streamThreads(boolean includeSpamTrash) {
+        return streamThreads(includeSpamTrash, 0, null, null);
+    }
+
+    /**
+     * Method to iterate all the threads in the user's mailbox
+     *
+     * @param includeSpamTrash: include threads from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param q:                only return threads matching the specified query, null to not filter
+     * @return threads as {@link Stream} of {@link GmailThread} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.threads/list">
+     * users.threads.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the stream is consumed, the stream must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
+    public Stream<GmailThread> streamThreads(boolean includeSpamTrash, String q) {
+        return streamThreads(includeSpamTrash, 0, q, null);
+    }
+
+    /**
+     * Method to iterate all the threads in the user's mailbox
+     *
+     * @param includeSpamTrash: include threads from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param labelIds:         only return threads with labels that match all of the specified label IDs, null to not filter
+     * @return threads as {@link Stream} of {@link GmailThread} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.threads/list">
+     * users.threads.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the stream is consumed, the stream must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
+    public Stream<GmailThread> streamThreads(boolean includeSpamTrash, Collection<String> labelIds) {
+        return streamThreads(includeSpamTrash, 0, null, labelIds);
+    }
+
+    /**
+     * Method to iterate all the threads in the user's mailbox
+     *
+     * @param includeSpamTrash: include threads from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param maxResults:       maximum number of threads to return for each page, 0 to use the default value
+     * @param q:                only return threads matching the specified query, null to not filter
+     * @param labelIds:         only return threads with labels that match all of the specified label IDs, null to not filter
+     * @return threads as {@link Stream} of {@link GmailThread} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.threads/list">
+     * users.threads.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the stream is consumed, the stream must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
+    public Stream<GmailThread> streamThreads(boolean includeSpamTrash, int maxResults, String q,
+                                             Collection<String> labelIds) {
+        return getThreadsPager(includeSpamTrash, maxResults, q, labelIds).stream();
+    }
+
+    /**
+     * Method to iterate all the threads in the user's mailbox
+     *
+     * @param includeSpamTrash: include threads from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param maxResults:       maximum number of threads to return for each page, 0 to use the default value
+     * @param q:                only return threads matching the specified query, null to not filter
+     * @param labelIds:         only return threads with labels that match all of the specified label IDs, null to not filter
+     * @return threads as {@link GmailPager} of {@link GmailThread} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.threads/list">
+     * users.threads.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the pager is consumed, the pager must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
+    public GmailPager<GmailThread> getThreadsPager(boolean includeSpamTrash, int maxResults, String q,
+                                                   Collection<String> labelIds) {
+        return getThreadsPager(includeSpamTrash, maxResults, q, labelIds, DEFAULT_PREFETCH_DEPTH);
+    }
+
+    /**
+     * Method to iterate all the threads in the user's mailbox
+     *
+     * @param includeSpamTrash: include threads from {@code "SPAM"} and {@code "TRASH"} in the results
+     * @param maxResults:       maximum number of threads to return for each page, 0 to use the default value
+     * @param q:                only return threads matching the specified query, null to not filter
+     * @param labelIds:         only return threads with labels that match all of the specified label IDs, null to not filter
+     * @param prefetchDepth:    number of pages fetched in background while a page is consumed
+     * @return threads as {@link GmailPager} of {@link GmailThread} custom object
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.threads/list">
+     * users.threads.list</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * the pages are fetched following the page tokens while the pager is consumed, the pager must be closed when it
+     * is not consumed until the end, see {@link GmailPager}
+     **/
+    @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads")
+    public GmailPager<GmailThread> getThreadsPager(boolean includeSpamTrash, int maxResults, String q,
+                                                   Collection<String> labelIds, int prefetchDepth) {
+        List<String> labelIdsList = labelIds != null ? List.copyOf(labelIds) : null;
+        return new GmailPager<>(pageToken -> {
+            Gmail.Users.Threads.List list = threads.list(userId).setIncludeSpamTrash(includeSpamTrash)
+                    .setPageToken(pageToken);
+            if (maxResults > 0)
+                list.setMaxResults((long) maxResults);
+            if (q != null)
+                list.setQ(q);
+            if (labelIdsList != null)
+                list.setLabelIds(labelIdsList);
+            ListThreadsResponse response = list.execute();
+            return new Page<>(toThreads(response).getThreads(), response.getNextPageToken());
+        }, prefetchDepth);
     }
 
     /**
@@ -1308,12 +1671,12 @@ public class GmailThreadsManager extends GmailManager {
      * @return threads list as {@code "format"} defines
      **/
     @Returner
-    private <T> T getThreadsList(ListThreadsResponse listThreadsResponse, ReturnFormat format) {
+    private <T> T returnThreadsList(ListThreadsResponse listThreadsResponse, ReturnFormat format) {
         switch (format) {
             case JSON:
                 return (T) new JSONObject(listThreadsResponse);
             case LIBRARY_OBJECT:
-                return (T) new GmailThreads(new JSONObject(listThreadsResponse));
+                return (T) toThreads(listThreadsResponse);
             default:
                 return (T) listThreadsResponse.toString();
         }
@@ -1352,8 +1715,8 @@ public class GmailThreadsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
     public <T> T modifyAddLabelsIds(GmailThread thread, String[] addLabelIds, ReturnFormat format) throws IOException {
-        return returnThread(threads.modify(userId, thread.getId(), new ModifyThreadRequest()
-                .setAddLabelIds(stream(addLabelIds).toList()).setRemoveLabelIds(null)).execute(), format);
+        return execute(threads.modify(userId, thread.getId(), new ModifyThreadRequest()
+                .setAddLabelIds(stream(addLabelIds).toList()).setRemoveLabelIds(null)), format, this::returnThread);
     }
 
     /**
@@ -1387,8 +1750,8 @@ public class GmailThreadsManager extends GmailManager {
      **/
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
     public <T> T modifyAddLabelsIds(String threadId, String[] addLabelIds, ReturnFormat format) throws IOException {
-        return returnThread(threads.modify(userId, threadId, new ModifyThreadRequest()
-                .setAddLabelIds(stream(addLabelIds).toList()).setRemoveLabelIds(null)).execute(), format);
+        return execute(threads.modify(userId, threadId, new ModifyThreadRequest()
+                .setAddLabelIds(stream(addLabelIds).toList()).setRemoveLabelIds(null)), format, this::returnThread);
     }
 
     /**
@@ -1424,8 +1787,8 @@ public class GmailThreadsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
     public <T> T modifyAddLabelsIds(GmailThread thread, Collection<String> addLabelIds, ReturnFormat format) throws IOException {
-        return returnThread(threads.modify(userId, thread.getId(), new ModifyThreadRequest()
-                .setAddLabelIds(addLabelIds.stream().toList()).setRemoveLabelIds(null)).execute(), format);
+        return execute(threads.modify(userId, thread.getId(), new ModifyThreadRequest()
+                .setAddLabelIds(addLabelIds.stream().toList()).setRemoveLabelIds(null)), format, this::returnThread);
     }
 
     /**
@@ -1459,8 +1822,8 @@ public class GmailThreadsManager extends GmailManager {
      **/
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
     public <T> T modifyAddLabelsIds(String threadId, Collection<String> addLabelIds, ReturnFormat format) throws IOException {
-        return returnThread(threads.modify(userId, threadId, new ModifyThreadRequest()
-                .setAddLabelIds(addLabelIds.stream().toList()).setRemoveLabelIds(null)).execute(), format);
+        return execute(threads.modify(userId, threadId, new ModifyThreadRequest()
+                .setAddLabelIds(addLabelIds.stream().toList()).setRemoveLabelIds(null)), format, this::returnThread);
     }
 
     /**
@@ -1496,8 +1859,8 @@ public class GmailThreadsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
     public <T> T modifyRemoveLabelsIds(GmailThread thread, String[] removeLabelIds, ReturnFormat format) throws IOException {
-        return returnThread(threads.modify(userId, thread.getId(), new ModifyThreadRequest().setAddLabelIds(null)
-                .setRemoveLabelIds(stream(removeLabelIds).toList())).execute(), format);
+        return execute(threads.modify(userId, thread.getId(), new ModifyThreadRequest().setAddLabelIds(null)
+                .setRemoveLabelIds(stream(removeLabelIds).toList())), format, this::returnThread);
     }
 
     /**
@@ -1531,8 +1894,8 @@ public class GmailThreadsManager extends GmailManager {
      **/
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
     public <T> T modifyRemoveLabelsIds(String threadId, String[] removeLabelIds, ReturnFormat format) throws IOException {
-        return returnThread(threads.modify(userId, threadId, new ModifyThreadRequest().setAddLabelIds(null)
-                .setRemoveLabelIds(stream(removeLabelIds).toList())).execute(), format);
+        return execute(threads.modify(userId, threadId, new ModifyThreadRequest().setAddLabelIds(null)
+                .setRemoveLabelIds(stream(removeLabelIds).toList())), format, this::returnThread);
     }
 
     /**
@@ -1568,8 +1931,8 @@ public class GmailThreadsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
     public <T> T modifyRemoveLabelsIds(GmailThread thread, Collection<String> removeLabelIds, ReturnFormat format) throws IOException {
-        return returnThread(threads.modify(userId, thread.getId(), new ModifyThreadRequest().setAddLabelIds(null)
-                .setRemoveLabelIds(removeLabelIds.stream().toList())).execute(), format);
+        return execute(threads.modify(userId, thread.getId(), new ModifyThreadRequest().setAddLabelIds(null)
+                .setRemoveLabelIds(removeLabelIds.stream().toList())), format, this::returnThread);
     }
 
     /**
@@ -1603,8 +1966,8 @@ public class GmailThreadsManager extends GmailManager {
      **/
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
     public <T> T modifyRemoveLabelsIds(String threadId, Collection<String> removeLabelIds, ReturnFormat format) throws IOException {
-        return returnThread(threads.modify(userId, threadId, new ModifyThreadRequest().setAddLabelIds(null)
-                .setRemoveLabelIds(removeLabelIds.stream().toList())).execute(), format);
+        return execute(threads.modify(userId, threadId, new ModifyThreadRequest().setAddLabelIds(null)
+                .setRemoveLabelIds(removeLabelIds.stream().toList())), format, this::returnThread);
     }
 
     /**
@@ -1643,9 +2006,9 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
     public <T> T modify(GmailThread thread, String[] addLabelIds, String[] removeLabelIds,
                         ReturnFormat format) throws IOException {
-        return returnThread(threads.modify(userId, thread.getId(), new ModifyThreadRequest()
+        return execute(threads.modify(userId, thread.getId(), new ModifyThreadRequest()
                 .setAddLabelIds(stream(addLabelIds).toList())
-                .setRemoveLabelIds(stream(removeLabelIds).toList())).execute(), format);
+                .setRemoveLabelIds(stream(removeLabelIds).toList())), format, this::returnThread);
     }
 
     /**
@@ -1681,9 +2044,9 @@ public class GmailThreadsManager extends GmailManager {
      **/
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
     public <T> T modify(String threadId, String[] addLabelIds, String[] removeLabelIds, ReturnFormat format) throws IOException {
-        return returnThread(threads.modify(userId, threadId, new ModifyThreadRequest()
+        return execute(threads.modify(userId, threadId, new ModifyThreadRequest()
                 .setAddLabelIds(stream(addLabelIds).toList())
-                .setRemoveLabelIds(stream(removeLabelIds).toList())).execute(), format);
+                .setRemoveLabelIds(stream(removeLabelIds).toList())), format, this::returnThread);
     }
 
     /**
@@ -1723,9 +2086,9 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
     public <T> T modify(GmailThread thread, Collection<String> addLabelIds, Collection<String> removeLabelIds,
                         ReturnFormat format) throws IOException {
-        return returnThread(threads.modify(userId, thread.getId(), new ModifyThreadRequest()
+        return execute(threads.modify(userId, thread.getId(), new ModifyThreadRequest()
                 .setAddLabelIds(addLabelIds.stream().toList())
-                .setRemoveLabelIds(removeLabelIds.stream().toList())).execute(), format);
+                .setRemoveLabelIds(removeLabelIds.stream().toList())), format, this::returnThread);
     }
 
     /**
@@ -1762,9 +2125,101 @@ public class GmailThreadsManager extends GmailManager {
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
     public <T> T modify(String threadId, Collection<String> addLabelIds, Collection<String> removeLabelIds,
                         ReturnFormat format) throws IOException {
-        return returnThread(threads.modify(userId, threadId, new ModifyThreadRequest()
+        return execute(threads.modify(userId, threadId, new ModifyThreadRequest()
                 .setAddLabelIds(addLabelIds.stream().toList())
-                .setRemoveLabelIds(removeLabelIds.stream().toList())).execute(), format);
+                .setRemoveLabelIds(removeLabelIds.stream().toList())), format, this::returnThread);
+    }
+
+    /**
+     * Method to modify the labels applied to the thread. This applies to all messages in the thread,
+     * using the names of the labels resolved with the {@link #getLabelDirectory()}
+     *
+     * @param thread:           the thread to modify
+     * @param addLabelNames:    names of the labels to add to this thread, ignoring the case, in {@link Collection} of {@link String} format
+     * @param removeLabelNames: names of the labels to remove from this thread, ignoring the case, in {@link Collection} of {@link String} format
+     * @return thread modified as {@link GmailThread} custom object
+     * @throws IOException when the request has been go wrong
+     * @throws IllegalArgumentException when a label does not exist
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.threads/modify">
+     * users.threads.modify</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * once the directory is loaded the labels are resolved without requesting the list of the labels
+     **/
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
+    public GmailThread modifyByLabelNames(GmailThread thread, Collection<String> addLabelNames,
+                                          Collection<String> removeLabelNames) throws IOException {
+        return modifyByLabelNames(thread.getId(), addLabelNames, removeLabelNames, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to modify the labels applied to the thread. This applies to all messages in the thread,
+     * using the names of the labels resolved with the {@link #getLabelDirectory()}
+     *
+     * @param thread:           the thread to modify
+     * @param addLabelNames:    names of the labels to add to this thread, ignoring the case, in {@link Collection} of {@link String} format
+     * @param removeLabelNames: names of the labels to remove from this thread, ignoring the case, in {@link Collection} of {@link String} format
+     * @param format:           return type formatter -> {@link ReturnFormat}
+     * @return thread modified as {@code "format"} defines
+     * @throws IOException when the request has been go wrong
+     * @throws IllegalArgumentException when a label does not exist
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.threads/modify">
+     * users.threads.modify</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * once the directory is loaded the labels are resolved without requesting the list of the labels
+     **/
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
+    public <T> T modifyByLabelNames(GmailThread thread, Collection<String> addLabelNames,
+                                    Collection<String> removeLabelNames, ReturnFormat format) throws IOException {
+        return modifyByLabelNames(thread.getId(), addLabelNames, removeLabelNames, format);
+    }
+
+    /**
+     * Method to modify the labels applied to the thread. This applies to all messages in the thread,
+     * using the names of the labels resolved with the {@link #getLabelDirectory()}
+     *
+     * @param threadId:         the {@code "ID"} of the thread to modify
+     * @param addLabelNames:    names of the labels to add to this thread, ignoring the case, in {@link Collection} of {@link String} format
+     * @param removeLabelNames: names of the labels to remove from this thread, ignoring the case, in {@link Collection} of {@link String} format
+     * @return thread modified as {@link GmailThread} custom object
+     * @throws IOException when the request has been go wrong
+     * @throws IllegalArgumentException when a label does not exist
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.threads/modify">
+     * users.threads.modify</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * once the directory is loaded the labels are resolved without requesting the list of the labels
+     **/
+    @Wrapper
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
+    public GmailThread modifyByLabelNames(String threadId, Collection<String> addLabelNames,
+                                          Collection<String> removeLabelNames) throws IOException {
+        return modifyByLabelNames(threadId, addLabelNames, removeLabelNames, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to modify the labels applied to the thread. This applies to all messages in the thread,
+     * using the names of the labels resolved with the {@link #getLabelDirectory()}
+     *
+     * @param threadId:         the {@code "ID"} of the thread to modify
+     * @param addLabelNames:    names of the labels to add to this thread, ignoring the case, in {@link Collection} of {@link String} format
+     * @param removeLabelNames: names of the labels to remove from this thread, ignoring the case, in {@link Collection} of {@link String} format
+     * @param format:           return type formatter -> {@link ReturnFormat}
+     * @return thread modified as {@code "format"} defines
+     * @throws IOException when the request has been go wrong
+     * @throws IllegalArgumentException when a label does not exist
+     * @implNote see the official documentation at: <a href="https://developers.google.com/gmail/api/reference/rest/v1/users.threads/modify">
+     * users.threads.modify</a>
+     * @apiNote {@code "userId"} indicated by official documentation is {@link #userId} instantiated by this library,
+     * once the directory is loaded the labels are resolved without requesting the list of the labels
+     **/
+    @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/modify")
+    public <T> T modifyByLabelNames(String threadId, Collection<String> addLabelNames,
+                                    Collection<String> removeLabelNames, ReturnFormat format) throws IOException {
+        GmailLabelDirectory labelDirectory = getLabelDirectory();
+        return modify(threadId, labelDirectory.getLabelIds(addLabelNames), labelDirectory.getLabelIds(removeLabelNames),
+                format);
     }
 
     /**
@@ -1798,7 +2253,7 @@ public class GmailThreadsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/trash")
     public <T> T trashThread(GmailThread threadToTrash, ReturnFormat format) throws IOException {
-        return returnThread(threads.trash(userId, threadToTrash.getId()).execute(), format);
+        return execute(threads.trash(userId, threadToTrash.getId()), format, this::returnThread);
     }
 
     /**
@@ -1830,7 +2285,7 @@ public class GmailThreadsManager extends GmailManager {
      **/
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/trash")
     public <T> T trashThread(String threadIdToTrash, ReturnFormat format) throws IOException {
-        return returnThread(threads.trash(userId, threadIdToTrash).execute(), format);
+        return execute(threads.trash(userId, threadIdToTrash), format, this::returnThread);
     }
 
     /**
@@ -1864,7 +2319,7 @@ public class GmailThreadsManager extends GmailManager {
     @WrappedRequest
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/untrash")
     public <T> T untrashThread(GmailThread threadToUntrash, ReturnFormat format) throws IOException {
-        return returnThread(threads.untrash(userId, threadToUntrash.getId()).execute(), format);
+        return execute(threads.untrash(userId, threadToUntrash.getId()), format, this::returnThread);
     }
 
     /**
@@ -1896,7 +2351,7 @@ public class GmailThreadsManager extends GmailManager {
      **/
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/threads/{id}/untrash")
     public <T> T untrashThread(String threadIdToUntrash, ReturnFormat format) throws IOException {
-        return returnThread(threads.untrash(userId, threadIdToUntrash).execute(), format);
+        return execute(threads.untrash(userId, threadIdToUntrash), format, this::returnThread);
     }
 
     /**
@@ -1912,7 +2367,7 @@ public class GmailThreadsManager extends GmailManager {
             case JSON:
                 return (T) new JSONObject(thread);
             case LIBRARY_OBJECT:
-                return (T) new GmailThread(new JSONObject(thread));
+                return (T) toThread(thread);
             default:
                 return (T) thread.toString();
         }
@@ -5,7 +5,10 @@ import com.google.api.services.gmail.model.WatchResponse;
 import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.googlemanager.GoogleConfig;
+import com.tecknobit.googlemanager.auth.ServiceAccountDelegation;
 import com.tecknobit.googlemanager.gmail.GmailManager;
+import com.tecknobit.googlemanager.gmail.GmailSession;
 import com.tecknobit.googlemanager.gmail.users.records.Profile;
 import com.tecknobit.googlemanager.gmail.users.records.PushNotificationWatch;
 import org.json.JSONObject;
@@ -16,6 +19,7 @@ import java.util.Collection;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
 import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.googlemanager.GoogleManager.ReturnFormat.RAW;
 import static java.util.Arrays.asList;
 
 /**
@@ -134,6 +138,38 @@ public class GmailUsersManager extends GmailManager {
         super();
     }
 
+    /**
+     * Constructor to init a {@link GmailUsersManager}
+     *
+     * @param config: configuration of the manager
+     * @throws IOException when auth request has been go wrong
+     * @apiNote see {@link GmailManager#GmailManager(GoogleConfig)}
+     **/
+    public GmailUsersManager(GoogleConfig config) throws IOException {
+        super(config);
+    }
+
+    /**
+     * Constructor to init a {@link GmailUsersManager} impersonating a user with a service account
+     *
+     * @param delegation:      the service account with the domain-wide delegation enabled
+     * @param userId:          the email of the user to impersonate
+     * @param applicationName: name of application to give at the project
+     **/
+    public GmailUsersManager(ServiceAccountDelegation delegation, String userId, String applicationName) {
+        super(delegation, userId, applicationName);
+    }
+
+    /**
+     * Constructor to init a {@link GmailUsersManager} as view of another manager
+     *
+     * @param manager: manager already authorized from which share the authorization and the Gmail's service
+     * @apiNote this constructor does not perform any auth request, see {@link GmailSession}
+     **/
+    public GmailUsersManager(GmailManager manager) {
+        super(manager);
+    }
+
     /**
      * Method to get profile <br>
      * Any params required
@@ -163,7 +199,9 @@ public class GmailUsersManager extends GmailManager {
     @Returner
     @RequestPath(method = GET, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/profile")
     public <T> T getProfile(ReturnFormat format) throws IOException {
-        com.google.api.services.gmail.model.Profile profile = gmail.getProfile(userId).execute();
+        if (format == RAW)
+            return (T) gmail.getProfile(userId).executeAsInputStream();
+        com.google.api.services.gmail.model.Profile profile = execute(gmail.getProfile(userId));
         switch (format) {
             case JSON:
                 return (T) new JSONObject(profile);
@@ -190,7 +228,7 @@ public class GmailUsersManager extends GmailManager {
     @RequestPath(method = POST, path = "https://gmail.googleapis.com/gmail/v1/users/{userId}/stop")
     public boolean stop() {
         try {
-            gmail.stop(userId);
+            execute(gmail.stop(userId));
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -275,6 +313,8 @@ public class GmailUsersManager extends GmailManager {
         watchRequest.setLabelIds(labelIds.stream().toList());
         watchRequest.setLabelFilterAction(labelFilterAction);
         watchRequest.setTopicName(topicName);
+        if (format == RAW)
+            return (T) gmail.watch(userId, watchRequest).executeAsInputStream();
         WatchResponse watch = gmail.watch(userId, watchRequest).execute();
         switch (format) {
             case JSON:
@@ -0,0 +1,140 @@
+package com.tecknobit.googlemanager.http;
+
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * The {@code AbortHandle} class is useful to abort, from another thread, the requests sent by a thread
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the handle is bound to the thread that sends the requests, then {@link #abort()} interrupts that thread and
+ * closes the connection of the request sent with a transport of {@link PooledHttpTransport}, so the request fails
+ * immediately
+ * instead of waiting its response. With the other transports the thread is only interrupted, so a request already
+ * sent fails when its response arrives, and no other attempt is made:
+ * <pre>
+ *     {@code
+ *        AbortHandle handle = new AbortHandle();
+ *        executor.execute(() -> {
+ *            handle.bind();
+ *            try {
+ *                request.execute();
+ *            } finally {
+ *                handle.unbind();
+ *            }
+ *        });
+ *        ...
+ *        handle.abort();
+ *     }
+ * </pre>
+ **/
+public final class AbortHandle {
+
+    /**
+     * {@code CURRENT} is the handle bound to each thread
+     **/
+    private static final ThreadLocal<AbortHandle> CURRENT = new ThreadLocal<>();
+
+    /**
+     * {@code thread} is the thread to which the handle is bound, null if not bound
+     **/
+    private Thread thread;
+
+    /**
+     * {@code request} is the request currently sent by the {@link #thread}, null if not sent with a transport of
+     * {@link PooledHttpTransport}
+     **/
+    private HttpUriRequest request;
+
+    /**
+     * {@code aborted} whether the handle has been aborted
+     **/
+    private boolean aborted;
+
+    /**
+     * {@code interrupted} whether {@link #abort()} has interrupted the {@link #thread}
+     **/
+    private boolean interrupted;
+
+    /**
+     * Method to get the handle bound to the current thread <br>
+     * Any params required
+     *
+     * @return the handle as {@link AbortHandle}, null if no handle is bound
+     **/
+    public static AbortHandle current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Method to bind the handle to the current thread <br>
+     * Any params required
+     *
+     * @apiNote when the handle has been already aborted the thread is interrupted immediately
+     **/
+    public synchronized void bind() {
+        thread = Thread.currentThread();
+        CURRENT.set(this);
+        if (aborted) {
+            interrupted = true;
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Method to unbind the handle from the current thread <br>
+     * Any params required
+     *
+     * @apiNote the interruption made by {@link #abort()} is cleared, so the thread can be reused
+     **/
+    public void unbind() {
+        boolean clearInterruption;
+        synchronized (this) {
+            CURRENT.remove();
+            thread = null;
+            request = null;
+            clearInterruption = interrupted;
+            interrupted = false;
+        }
+        if (clearInterruption)
+            Thread.interrupted();
+    }
+
+    /**
+     * Method to abort the requests of the thread bound, also the ones sent from now on <br>
+     * Any params required
+     **/
+    public synchronized void abort() {
+        if (aborted)
+            return;
+        aborted = true;
+        if (request != null)
+            request.abort();
+        if (thread != null) {
+            interrupted = true;
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Method to get {@link #aborted} instance <br>
+     * Any params required
+     *
+     * @return {@link #aborted} instance as boolean
+     **/
+    public synchronized boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Method to register the request currently sent by the thread bound
+     *
+     * @param request: the request sent
+     * @apiNote when the handle has been already aborted the request is aborted immediately
+     **/
+    synchronized void register(HttpUriRequest request) {
+        this.request = request;
+        if (aborted)
+            request.abort();
+    }
+
+}
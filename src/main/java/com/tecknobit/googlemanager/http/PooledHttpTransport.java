@@ -0,0 +1,123 @@
+package com.tecknobit.googlemanager.http;
+
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code PooledHttpTransport} class is useful to create the transports that send the requests of many managers
+ * through a single pool of keep-alive connections
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the transports are {@link ApacheHttpTransport} where, differently from
+ * {@link com.google.api.client.http.javanet.NetHttpTransport}, the number of connections for each host is
+ * configurable and the idle connections are evicted in background, so the same instance can be shared between many
+ * threads. The requests sent by a thread bound to an {@link AbortHandle} are aborted by the handle:
+ * <pre>
+ *     {@code
+ *        GoogleManager.setDefaultHttpTransport(PooledHttpTransport.newTransport(50));
+ *        // all the managers created from now on share the same pool
+ *     }
+ * </pre>
+ * The timeouts are the ones of each request, see {@link com.tecknobit.googlemanager.GoogleManager#setDefaultTimeouts}
+ **/
+public final class PooledHttpTransport {
+
+    /**
+     * {@code DEFAULT_MAX_CONNECTIONS_PER_ROUTE} is a constant for the default number of connections for each host
+     **/
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+
+    /**
+     * {@code DEFAULT_MAX_CONNECTIONS} is a constant for the default number of connections of the pool
+     **/
+    public static final int DEFAULT_MAX_CONNECTIONS = 200;
+
+    /**
+     * {@code DEFAULT_IDLE_TIMEOUT} is a constant for the default time, in milliseconds, after which an idle
+     * connection is evicted
+     **/
+    public static final long DEFAULT_IDLE_TIMEOUT = 30000;
+
+    /**
+     * Constructor to avoid the instantiation of the {@link PooledHttpTransport} <br>
+     * Any params required
+     **/
+    private PooledHttpTransport() {
+    }
+
+    /**
+     * Method to create a transport with the default pool <br>
+     * Any params required
+     *
+     * @return the transport as {@link ApacheHttpTransport}
+     **/
+    public static ApacheHttpTransport newTransport() {
+        return newTransport(DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+    }
+
+    /**
+     * Method to create a transport
+     *
+     * @param maxConnectionsPerRoute: number of connections for each host
+     * @return the transport as {@link ApacheHttpTransport}
+     **/
+    public static ApacheHttpTransport newTransport(int maxConnectionsPerRoute) {
+        return newTransport(maxConnectionsPerRoute, Math.max(DEFAULT_MAX_CONNECTIONS, maxConnectionsPerRoute),
+                DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Method to create a transport
+     *
+     * @param maxConnectionsPerRoute: number of connections for each host
+     * @param maxConnections:         number of connections of the pool
+     * @param idleTimeout:            time, in milliseconds, after which an idle connection is evicted
+     * @return the transport as {@link ApacheHttpTransport}
+     * @apiNote the pool is closed by {@link ApacheHttpTransport#shutdown()}
+     **/
+    public static ApacheHttpTransport newTransport(int maxConnectionsPerRoute, int maxConnections, long idleTimeout) {
+        if (maxConnectionsPerRoute <= 0 || maxConnections < maxConnectionsPerRoute)
+            throw new IllegalArgumentException("Max connections must be greater than max connections per route");
+        if (idleTimeout <= 0)
+            throw new IllegalArgumentException("Idle timeout must be positive");
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setDefaultSocketConfig(SocketConfig.custom()
+                .setTcpNoDelay(true)
+                .setSoKeepAlive(true)
+                .build());
+        return new ApacheHttpTransport(ApacheHttpTransport.newDefaultHttpClientBuilder()
+                .setConnectionManager(connectionManager)
+                .disableCookieManagement()
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout, MILLISECONDS)
+                .addInterceptorFirst(PooledHttpTransport::registerAbort)
+                .build());
+    }
+
+    /**
+     * Method to register a request to the {@link AbortHandle} bound to the thread that sends it
+     *
+     * @param request: the request sent
+     * @param context: the context of the request
+     * @apiNote the request is registered before a connection is leased, so an abort made before the request is sent
+     * stops it before sending
+     **/
+    private static void registerAbort(HttpRequest request, HttpContext context) {
+        AbortHandle handle = AbortHandle.current();
+        if (handle == null || !(request instanceof HttpRequestWrapper))
+            return;
+        HttpRequest original = ((HttpRequestWrapper) request).getOriginal();
+        if (original instanceof HttpUriRequest)
+            handle.register((HttpUriRequest) original);
+    }
+
+}
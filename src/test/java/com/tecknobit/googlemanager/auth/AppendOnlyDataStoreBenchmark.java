@@ -0,0 +1,75 @@
+package com.tecknobit.googlemanager.auth;
+
+import com.google.api.client.auth.oauth2.StoredCredential;
+import com.google.api.client.util.store.DataStore;
+import com.google.api.client.util.store.FileDataStoreFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Compares the cost of refreshing and reading one credential among many between {@link AppendOnlyDataStoreFactory}
+ * and {@link FileDataStoreFactory}, run it with {@code ./gradlew jmh -PjmhArgs=AppendOnlyDataStoreBenchmark}
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppendOnlyDataStoreBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int credentials;
+
+    @Param({"appendOnly", "file"})
+    public String store;
+
+    private File directory;
+
+    private DataStore<StoredCredential> dataStore;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("data-store-benchmark").toFile();
+        if (store.equals("appendOnly"))
+            dataStore = new AppendOnlyDataStoreFactory(directory).getDataStore("credentials");
+        else
+            dataStore = new FileDataStoreFactory(directory).getDataStore("credentials");
+        for (int j = 0; j < credentials; j++)
+            dataStore.set("user-" + j, credential(j));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null)
+            for (File file : files)
+                file.delete();
+        directory.delete();
+    }
+
+    @Benchmark
+    public DataStore<StoredCredential> refresh() throws IOException {
+        int user = ThreadLocalRandom.current().nextInt(credentials);
+        return dataStore.set("user-" + user, credential(user));
+    }
+
+    @Benchmark
+    public StoredCredential lookup() throws IOException {
+        return dataStore.get("user-" + ThreadLocalRandom.current().nextInt(credentials));
+    }
+
+    private static StoredCredential credential(int user) {
+        return new StoredCredential()
+                .setAccessToken("ya29." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + user)
+                .setRefreshToken("1//refresh-token-of-user-" + user)
+                .setExpirationTimeMilliseconds(System.currentTimeMillis() + 3_600_000);
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.tecknobit.googlemanager.auth;
+
+import com.google.api.client.auth.oauth2.StoredCredential;
+import com.google.api.client.util.store.DataStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppendOnlyDataStoreFactoryTest {
+
+    @TempDir
+    Path directory;
+
+    private DataStore<StoredCredential> open() throws IOException {
+        return new AppendOnlyDataStoreFactory(directory.toFile()).getDataStore("credentials");
+    }
+
+    private static StoredCredential credential(String accessToken) {
+        return new StoredCredential().setAccessToken(accessToken).setRefreshToken("refresh-" + accessToken);
+    }
+
+    private File logFile() {
+        return directory.resolve("credentials.log").toFile();
+    }
+
+    @Test
+    void replaysSetsAndDeletes() throws IOException {
+        DataStore<StoredCredential> store = open();
+        store.set("first", credential("a"));
+        store.set("second", credential("b"));
+        store.set("first", credential("c"));
+        store.delete("second");
+        DataStore<StoredCredential> reopened = open();
+        assertEquals(1, reopened.size());
+        assertEquals("c", reopened.get("first").getAccessToken());
+        assertNull(reopened.get("second"));
+    }
+
+    @Test
+    void returnsCopiesOfTheValues() throws IOException {
+        DataStore<StoredCredential> store = open();
+        store.set("user", credential("a"));
+        store.get("user").setAccessToken("changed");
+        assertEquals("a", store.get("user").getAccessToken());
+        assertNotSame(store.get("user"), store.get("user"));
+        assertTrue(store.containsValue(credential("a")));
+    }
+
+    @Test
+    void discardsAnIncompleteRecordAtTheEnd() throws IOException {
+        open().set("user", credential("a"));
+        long validLength = logFile().length();
+        try (DataOutputStream output = new DataOutputStream(new FileOutputStream(logFile(), true))) {
+            output.writeByte(1);
+            output.writeInt(4);
+            output.write("us".getBytes(UTF_8));
+        }
+        DataStore<StoredCredential> reopened = open();
+        assertEquals("a", reopened.get("user").getAccessToken());
+        assertEquals(validLength, logFile().length());
+        reopened.set("other", credential("b"));
+        assertEquals("b", open().get("other").getAccessToken());
+    }
+
+    @Test
+    void removesARecordNotCompletelyWritten() throws Exception {
+        DataStore<StoredCredential> store = open();
+        store.set("user", credential("a"));
+        long validLength = logFile().length();
+        Field log = store.getClass().getDeclaredField("log");
+        log.setAccessible(true);
+        ((DataOutputStream) log.get(store)).close();
+        log.set(store, new DataOutputStream(new FilterOutputStream(new FileOutputStream(logFile(), true)) {
+            private int written;
+
+            @Override
+            public void write(int b) throws IOException {
+                if (++written > 10)
+                    throw new IOException("No space left on device");
+                out.write(b);
+            }
+        }));
+        assertThrows(IOException.class, () -> store.set("other", credential("b")));
+        assertEquals(validLength, logFile().length());
+        assertFalse(store.containsKey("other"));
+        store.set("last", credential("c"));
+        DataStore<StoredCredential> reopened = open();
+        assertEquals("a", reopened.get("user").getAccessToken());
+        assertEquals("c", reopened.get("last").getAccessToken());
+        assertFalse(reopened.containsKey("other"));
+    }
+
+    @Test
+    void failsOnAnUnknownOperation() throws IOException {
+        open().set("user", credential("a"));
+        long length = logFile().length();
+        appendRecord(9, "user");
+        appendRecord(2, "user");
+        IOException exception = assertThrows(IOException.class, this::open);
+        assertTrue(exception.getMessage().contains("offset " + length));
+        assertTrue(logFile().length() > length);
+    }
+
+    @Test
+    void failsOnANegativeLength() throws IOException {
+        open().set("user", credential("a"));
+        try (DataOutputStream output = new DataOutputStream(new FileOutputStream(logFile(), true))) {
+            output.writeByte(2);
+            output.writeInt(-1);
+        }
+        assertThrows(IOException.class, this::open);
+    }
+
+    @Test
+    void compactsTheObsoleteRecords() throws IOException {
+        DataStore<StoredCredential> store = open();
+        store.set("user-0", credential("token-0000"));
+        long recordLength = logFile().length();
+        for (int j = 1; j < 3000; j++)
+            store.set("user-" + (j % 3), credential("token-" + (1000 + j)));
+        store.delete("user-2");
+        assertTrue(logFile().length() < 1100 * recordLength);
+        assertFalse(Files.exists(directory.resolve("credentials.log.compact")));
+        store.set("user-3", credential("after"));
+        DataStore<StoredCredential> reopened = open();
+        assertEquals(3, reopened.size());
+        assertEquals("token-3997", reopened.get("user-0").getAccessToken());
+        assertEquals("token-3998", reopened.get("user-1").getAccessToken());
+        assertEquals("after", reopened.get("user-3").getAccessToken());
+    }
+
+    @Test
+    void clearsTheLog() throws IOException {
+        DataStore<StoredCredential> store = open();
+        store.set("user", credential("a"));
+        store.clear();
+        store.set("other", credential("b"));
+        DataStore<StoredCredential> reopened = open();
+        assertFalse(reopened.containsKey("user"));
+        assertEquals("b", reopened.get("other").getAccessToken());
+    }
+
+    private void appendRecord(int operation, String key) throws IOException {
+        byte[] keyBytes = key.getBytes(UTF_8);
+        try (DataOutputStream output = new DataOutputStream(new FileOutputStream(logFile(), true))) {
+            output.writeByte(operation);
+            output.writeInt(keyBytes.length);
+            output.write(keyBytes);
+        }
+    }
+
+}
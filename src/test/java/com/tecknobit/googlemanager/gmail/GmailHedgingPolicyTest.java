@@ -0,0 +1,130 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GmailHedgingPolicyTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void hedgesWithACopyAndAbortsTheSlowerAttempt() throws Exception {
+        GmailHedgingPolicy policy = new GmailHedgingPolicy(0.5, 1, 50);
+        AtomicInteger sent = new AtomicInteger();
+        CountDownLatch aborted = new CountDownLatch(1);
+        MockHttpTransport transport = transport(request -> {
+            if (sent.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    aborted.countDown();
+                    throw new InterruptedIOException("Aborted");
+                }
+            }
+            return message();
+        });
+        Gmail.Users.Messages.Get request = gmail(transport, policy::install).users().messages().get("me", "id");
+        long start = System.nanoTime();
+        assertEquals("id", policy.execute(request, executor).getId());
+        assertTrue(System.nanoTime() - start < SECONDS.toNanos(2));
+        assertTrue(aborted.await(2, SECONDS));
+        assertEquals(2, sent.get());
+        assertEquals(1, policy.getHedgesCount());
+        assertEquals(1, policy.getHedgesWonCount());
+        assertEquals("id", request.getId());
+    }
+
+    @Test
+    void doesNotHedgeWhenTheRatioIsExhausted() throws Exception {
+        GmailHedgingPolicy policy = new GmailHedgingPolicy(0.5, 0, 10);
+        AtomicInteger sent = new AtomicInteger();
+        MockHttpTransport transport = transport(request -> {
+            sent.incrementAndGet();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("Aborted");
+            }
+            return message();
+        });
+        Gmail gmail = gmail(transport, policy::install);
+        assertEquals("id", policy.execute(gmail.users().messages().get("me", "id"), executor).getId());
+        assertEquals(1, sent.get());
+        assertEquals(0, policy.getHedgesCount());
+    }
+
+    @Test
+    void recordsOnlyTheNetworkLatency() throws Exception {
+        GmailHedgingPolicy policy = new GmailHedgingPolicy(0.5, 0, 1000);
+        Gmail gmail = gmail(transport(request -> message()), request -> {
+            request.setInterceptor(httpRequest -> {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException("Interrupted while waiting the permit");
+                }
+            });
+            policy.install(request);
+        });
+        for (int j = 0; j < 32; j++)
+            policy.execute(gmail.users().messages().get("me", "id"), executor);
+        assertTrue(policy.getHedgeDelay() < 50);
+    }
+
+    private static Gmail gmail(MockHttpTransport transport, HttpRequestInitializer initializer) {
+        return new Gmail.Builder(transport, GsonFactory.getDefaultInstance(), initializer)
+                .setApplicationName("test")
+                .build();
+    }
+
+    private static MockHttpTransport transport(Attempt attempt) {
+        return new MockHttpTransport() {
+            @Override
+            public LowLevelHttpRequest buildRequest(String method, String url) {
+                return new MockLowLevelHttpRequest(url) {
+                    @Override
+                    public LowLevelHttpResponse execute() throws IOException {
+                        return attempt.execute(this);
+                    }
+                };
+            }
+        };
+    }
+
+    private static MockLowLevelHttpResponse message() {
+        return new MockLowLevelHttpResponse()
+                .setContentType("application/json")
+                .setContent("{\"id\":\"id\",\"threadId\":\"thread\"}");
+    }
+
+    private interface Attempt {
+
+        LowLevelHttpResponse execute(MockLowLevelHttpRequest request) throws IOException;
+
+    }
+
+}
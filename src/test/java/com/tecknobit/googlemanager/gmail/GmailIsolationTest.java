@@ -0,0 +1,290 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.*;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.Message;
+import com.tecknobit.googlemanager.gmail.GmailIsolation.RejectedRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.tecknobit.googlemanager.gmail.GmailIsolation.CircuitState.*;
+import static com.tecknobit.googlemanager.gmail.GmailIsolation.ResourceFamily.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GmailIsolationTest {
+
+    private static final GenericUrl MESSAGES_URL =
+            new GenericUrl("https://gmail.googleapis.com/gmail/v1/users/me/messages");
+
+    private static final GenericUrl LABELS_URL = new GenericUrl("https://gmail.googleapis.com/gmail/v1/users/me/labels");
+
+    @Test
+    void classifiesThePaths() {
+        assertEquals(MESSAGES, fromPath("/gmail/v1/users/me/messages/id"));
+        assertEquals(SETTINGS, fromPath("/gmail/v1/users/me/settings/imap"));
+        assertEquals(USERS, fromPath("/gmail/v1/users/me/profile"));
+        assertNull(fromPath("/batch/gmail/v1"));
+    }
+
+    @Test
+    void opensWhenTheFailureRateReachesTheThreshold() throws IOException {
+        GmailIsolation isolation = new GmailIsolation(0.5, 4, 60000);
+        Responses responses = new Responses().respond(200).respond(500).respond(200).respond(500).respond(200);
+        send(responses, isolation, MESSAGES_URL);
+        assertThrows(HttpResponseException.class, () -> send(responses, isolation, MESSAGES_URL));
+        send(responses, isolation, MESSAGES_URL);
+        assertEquals(CLOSED, isolation.getState(MESSAGES));
+        assertThrows(HttpResponseException.class, () -> send(responses, isolation, MESSAGES_URL));
+        assertEquals(OPEN, isolation.getState(MESSAGES));
+        assertEquals(0.5, isolation.getFailureRate(MESSAGES));
+        RejectedRequestException error = assertThrows(RejectedRequestException.class,
+                () -> send(responses, isolation, MESSAGES_URL));
+        assertEquals(MESSAGES, error.getFamily());
+        assertEquals(OPEN, error.getState());
+        assertEquals(4, responses.sent);
+        assertEquals(1, isolation.getRejectedCount(MESSAGES));
+        assertEquals(CLOSED, isolation.getState(LABELS));
+        send(responses, isolation, LABELS_URL);
+    }
+
+    @Test
+    void closesWhenTheTrialSucceeds() throws Exception {
+        GmailIsolation isolation = open();
+        Thread.sleep(60);
+        assertEquals(HALF_OPEN, isolation.getState(MESSAGES));
+        send(new Responses().respond(200), isolation, MESSAGES_URL);
+        assertEquals(CLOSED, isolation.getState(MESSAGES));
+        assertEquals(0, isolation.getFailureRate(MESSAGES));
+    }
+
+    @Test
+    void reopensWhenTheTrialFails() throws Exception {
+        GmailIsolation isolation = open();
+        Thread.sleep(60);
+        assertEquals(HALF_OPEN, isolation.getState(MESSAGES));
+        assertThrows(SocketTimeoutException.class,
+                () -> send(new Responses().failAfterSending(), isolation, MESSAGES_URL));
+        assertEquals(OPEN, isolation.getState(MESSAGES));
+    }
+
+    @Test
+    void letsASingleTrialThrough() throws Exception {
+        GmailIsolation isolation = open();
+        Thread.sleep(60);
+        CountDownLatch sent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Responses responses = new Responses().block(sent, release).respond(200);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<HttpResponse> trial = executor.submit(() -> send(responses, isolation, MESSAGES_URL));
+            assertTrue(sent.await(2, TimeUnit.SECONDS));
+            RejectedRequestException error = assertThrows(RejectedRequestException.class,
+                    () -> send(responses, isolation, MESSAGES_URL));
+            assertEquals(HALF_OPEN, error.getState());
+            release.countDown();
+            assertEquals(200, trial.get(2, TimeUnit.SECONDS).getStatusCode());
+            assertEquals(CLOSED, isolation.getState(MESSAGES));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsTheRequestsOverTheBulkhead() throws Exception {
+        GmailIsolation isolation = new GmailIsolation();
+        isolation.setMaxConcurrentCalls(MESSAGES, 1);
+        CountDownLatch sent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Responses responses = new Responses().block(sent, release).respond(200);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<HttpResponse> first = executor.submit(() -> send(responses, isolation, MESSAGES_URL));
+            assertTrue(sent.await(2, TimeUnit.SECONDS));
+            assertEquals(1, isolation.getActiveCalls(MESSAGES));
+            RejectedRequestException error = assertThrows(RejectedRequestException.class,
+                    () -> send(responses, isolation, MESSAGES_URL));
+            assertEquals(CLOSED, error.getState());
+            release.countDown();
+            first.get(2, TimeUnit.SECONDS);
+            assertEquals(0, isolation.getActiveCalls(MESSAGES));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void releasesThePermitOfEachRetry() throws IOException {
+        GmailRetryPolicy retryPolicy = new GmailRetryPolicy(3, 0, 0);
+        GmailIsolation isolation = new GmailIsolation();
+        isolation.setMaxConcurrentCalls(MESSAGES, 1);
+        Responses responses = new Responses().respond(503).failAfterSending().respond(200);
+        HttpResponse response = responses.createRequestFactory(request -> {
+            retryPolicy.install(request);
+            isolation.install(request);
+        }).buildGetRequest(MESSAGES_URL).execute();
+        assertEquals(200, response.getStatusCode());
+        assertEquals(3, responses.sent);
+        assertEquals(0, isolation.getActiveCalls(MESSAGES));
+        assertEquals(2.0 / 3, isolation.getFailureRate(MESSAGES), 1e-9);
+        assertEquals(0, isolation.getRejectedCount(MESSAGES));
+    }
+
+    @Test
+    void isolatesABatchAsASingleRequest() throws IOException {
+        GmailIsolation isolation = new GmailIsolation();
+        isolation.setMaxConcurrentCalls(MESSAGES, 1);
+        Responses responses = new Responses().respondBatch(100);
+        Gmail gmail = gmail(responses, isolation::install);
+        AtomicInteger succeeded = new AtomicInteger();
+        BatchRequest batch = gmail.batch(isolation::install);
+        for (int j = 0; j < 100; j++)
+            gmail.users().messages().get("me", "id" + j).queue(batch, callback(succeeded));
+        execute(batch);
+        assertEquals(100, succeeded.get());
+        assertEquals(1, responses.sent);
+        assertEquals(0, isolation.getActiveCalls(MESSAGES));
+        assertEquals(0, isolation.getRejectedCount(MESSAGES));
+        send(new Responses().respond(200), isolation, MESSAGES_URL);
+    }
+
+    @Test
+    void releasesThePermitsOfABatchNotCompleted() throws IOException {
+        GmailIsolation isolation = new GmailIsolation();
+        isolation.setMaxConcurrentCalls(MESSAGES, 1);
+        Gmail gmail = gmail(new Responses().failAfterSending(), isolation::install);
+        BatchRequest batch = gmail.batch(isolation::install);
+        gmail.users().messages().get("me", "first").queue(batch, callback(new AtomicInteger()));
+        gmail.users().messages().get("me", "second").queue(batch, callback(new AtomicInteger()));
+        assertThrows(SocketTimeoutException.class, () -> execute(batch));
+        assertEquals(0, isolation.getActiveCalls(MESSAGES));
+        assertEquals(1, isolation.getFailureRate(MESSAGES));
+        Gmail failing = gmail(new Responses(), request -> {
+            if (request.getUrl().getRawPath().endsWith("second")) {
+                request.setInterceptor(httpRequest -> {
+                    throw new IOException("Not sent");
+                });
+            }
+            isolation.install(request);
+        });
+        BatchRequest notSent = failing.batch(isolation::install);
+        failing.users().messages().get("me", "first").queue(notSent, callback(new AtomicInteger()));
+        failing.users().messages().get("me", "second").queue(notSent, callback(new AtomicInteger()));
+        assertThrows(IOException.class, () -> execute(notSent));
+        assertEquals(0, isolation.getActiveCalls(MESSAGES));
+    }
+
+    private static void execute(BatchRequest batch) throws IOException {
+        try {
+            batch.execute();
+        } finally {
+            GmailIsolation.endBatch();
+        }
+    }
+
+    private static JsonBatchCallback<Message> callback(AtomicInteger succeeded) {
+        return new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(Message message, HttpHeaders responseHeaders) {
+                succeeded.incrementAndGet();
+            }
+
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+            }
+        };
+    }
+
+    private static Gmail gmail(MockHttpTransport transport, HttpRequestInitializer initializer) {
+        return new Gmail.Builder(transport, GsonFactory.getDefaultInstance(), initializer)
+                .setApplicationName("test")
+                .build();
+    }
+
+    private static GmailIsolation open() {
+        GmailIsolation isolation = new GmailIsolation(1, 1, 50);
+        assertThrows(HttpResponseException.class, () -> send(new Responses().respond(500), isolation, MESSAGES_URL));
+        assertEquals(OPEN, isolation.getState(MESSAGES));
+        return isolation;
+    }
+
+    private static HttpResponse send(Responses responses, GmailIsolation isolation, GenericUrl url) throws IOException {
+        return responses.createRequestFactory(isolation::install).buildGetRequest(url).execute();
+    }
+
+    private static final class Responses extends MockHttpTransport {
+
+        private final BlockingQueue<Response> responses = new LinkedBlockingQueue<>();
+
+        private volatile int sent;
+
+        Responses respond(int statusCode) {
+            responses.add(() -> new MockLowLevelHttpResponse().setStatusCode(statusCode));
+            return this;
+        }
+
+        Responses respondBatch(int parts) {
+            String boundary = "batch_boundary";
+            StringBuilder content = new StringBuilder();
+            for (int j = 0; j < parts; j++) {
+                content.append("--").append(boundary).append("\r\nContent-Type: application/http\r\n\r\n")
+                        .append("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\n\r\n{\"id\":\"")
+                        .append(j).append("\"}\r\n");
+            }
+            content.append("--").append(boundary).append("--\r\n");
+            responses.add(() -> new MockLowLevelHttpResponse()
+                    .setContentType("multipart/mixed; boundary=" + boundary)
+                    .setContent(content.toString()));
+            return this;
+        }
+
+        Responses failAfterSending() {
+            responses.add(() -> {
+                throw new SocketTimeoutException("Read timed out");
+            });
+            return this;
+        }
+
+        Responses block(CountDownLatch sent, CountDownLatch release) {
+            responses.add(() -> {
+                sent.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                return new MockLowLevelHttpResponse();
+            });
+            return this;
+        }
+
+        @Override
+        public LowLevelHttpRequest buildRequest(String method, String url) {
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public LowLevelHttpResponse execute() throws IOException {
+                    sent++;
+                    return responses.remove().execute();
+                }
+            };
+        }
+
+    }
+
+    private interface Response {
+
+        LowLevelHttpResponse execute() throws IOException;
+
+    }
+
+}
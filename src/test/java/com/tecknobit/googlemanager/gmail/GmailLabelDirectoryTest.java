@@ -0,0 +1,86 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.Label;
+import com.google.api.services.gmail.model.ListLabelsResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GmailLabelDirectoryTest {
+
+    private final Gmail.Users users = new Gmail.Builder(new MockHttpTransport(), GsonFactory.getDefaultInstance(),
+            null).setApplicationName("test").build().users();
+
+    private final List<Label> labels = new ArrayList<>(List.of(new Label().setId("INBOX").setName("INBOX")));
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    void loadsOnceWhenTheLoaderUpdatesTheDirectory() throws IOException {
+        GmailLabelDirectory[] directory = new GmailLabelDirectory[1];
+        directory[0] = new GmailLabelDirectory(() -> {
+            ListLabelsResponse response = list();
+            directory[0].update(users.labels().list("me"), response);
+            return response;
+        });
+        assertEquals("INBOX", directory[0].getLabelId("inbox"));
+        directory[0].reload();
+        assertEquals(2, requests.get());
+        assertEquals(2, directory[0].getLoadsCount());
+    }
+
+    @Test
+    void loadsTheResponseOfALoaderThatDoesNotUpdateTheDirectory() throws IOException {
+        GmailLabelDirectory directory = new GmailLabelDirectory(this::list);
+        directory.reload();
+        assertEquals(1, directory.getLoadsCount());
+        assertEquals("INBOX", directory.getLabelName("INBOX"));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void reloadsOnceOnAMiss() throws IOException {
+        GmailLabelDirectory directory = new GmailLabelDirectory(this::list);
+        directory.setMinReloadInterval(0);
+        assertEquals("INBOX", directory.getLabelId("INBOX"));
+        labels.add(new Label().setId("Label_1").setName("Invoices"));
+        assertFalse(directory.isStale());
+        assertEquals("Label_1", directory.getLabelId("invoices"));
+        assertEquals(2, requests.get());
+        assertNull(directory.getLabelId("missing"));
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void boundsTheReloadsCausedByTheMisses() throws IOException {
+        GmailLabelDirectory directory = new GmailLabelDirectory(this::list);
+        assertEquals("INBOX", directory.getLabelId("INBOX"));
+        labels.add(new Label().setId("Label_1").setName("Invoices"));
+        assertNull(directory.getLabelId("Invoices"));
+        assertNull(directory.getLabelName("Label_1"));
+        assertEquals(1, requests.get());
+        directory.invalidate();
+        assertEquals("Label_1", directory.getLabelId("Invoices"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void rejectsANegativeInterval() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GmailLabelDirectory(this::list).setMinReloadInterval(-1));
+    }
+
+    private ListLabelsResponse list() {
+        requests.incrementAndGet();
+        return new ListLabelsResponse().setLabels(new ArrayList<>(labels));
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.*;
+import com.google.api.services.gmail.model.Thread;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GmailMessageCacheTest {
+
+    private final Gmail.Users users = new Gmail.Builder(new MockHttpTransport(), GsonFactory.getDefaultInstance(),
+            null).setApplicationName("test").build().users();
+
+    private GmailMessageCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cache = new GmailMessageCache();
+        keep("1", "thread", "INBOX", "UNREAD");
+        keep("2", "thread", "INBOX");
+        keep("3", "other", "INBOX");
+        cache.update(users.messages().attachments().get("me", "1", "attachment"),
+                new MessagePartBody().setAttachmentId("attachment").setData("data"));
+    }
+
+    @Test
+    void patchesTheMessagesOfABatchModify() throws IOException {
+        cache.update(users.messages().batchModify("me", new BatchModifyMessagesRequest().setIds(List.of("1", "3"))
+                .setAddLabelIds(List.of("STARRED")).setRemoveLabelIds(List.of("UNREAD"))), null);
+        assertEquals(List.of("INBOX", "STARRED"), get("1").getLabelIds());
+        assertEquals(List.of("INBOX"), get("2").getLabelIds());
+        assertEquals(List.of("INBOX", "STARRED"), get("3").getLabelIds());
+    }
+
+    @Test
+    void evictsTheMessagesOfABatchDelete() throws IOException {
+        cache.update(users.messages().batchDelete("me", new BatchDeleteMessagesRequest().setIds(List.of("1"))),
+                null);
+        assertNull(get("1"));
+        assertNotNull(get("2"));
+        assertEquals(2, cache.getEntriesCount());
+    }
+
+    @Test
+    void patchesTheMessagesOfAThreadModified() throws IOException {
+        Thread thread = new Thread().setId("thread").setMessages(List.of(
+                new Message().setId("1").setThreadId("thread").setLabelIds(List.of("TRASH")),
+                new Message().setId("2").setThreadId("thread").setLabelIds(List.of("TRASH"))));
+        cache.update(users.threads().trash("me", "thread"), thread);
+        assertEquals(List.of("TRASH"), get("1").getLabelIds());
+        assertEquals(List.of("TRASH"), get("2").getLabelIds());
+        assertEquals(List.of("INBOX"), get("3").getLabelIds());
+    }
+
+    @Test
+    void evictsTheMessagesOfAThreadWithoutLabels() throws IOException {
+        cache.update(users.threads().modify("me", "thread", new ModifyThreadRequest()
+                .setAddLabelIds(List.of("STARRED"))), new Thread().setId("thread"));
+        assertNull(get("1"));
+        assertNull(get("2"));
+        assertNotNull(get("3"));
+    }
+
+    @Test
+    void evictsTheMessagesOfAThreadDeleted() throws IOException {
+        cache.update(users.threads().delete("me", "thread"), null);
+        assertNull(get("1"));
+        assertNull(get("2"));
+        assertNull(cache.get(users.messages().attachments().get("me", "1", "attachment")));
+        assertEquals(1, cache.getEntriesCount());
+        cache.update(users.threads().delete("me", "other"), null);
+        assertEquals(0, cache.getEntriesCount());
+    }
+
+    private void keep(String id, String threadId, String... labelIds) throws IOException {
+        cache.update(users.messages().get("me", id), new Message().setId(id).setThreadId(threadId)
+                .setLabelIds(new ArrayList<>(List.of(labelIds))));
+    }
+
+    private Message get(String id) throws IOException {
+        return cache.get(users.messages().get("me", id));
+    }
+
+}
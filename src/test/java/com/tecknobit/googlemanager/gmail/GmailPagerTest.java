@@ -0,0 +1,107 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.tecknobit.googlemanager.gmail.GmailPager.Page;
+import com.tecknobit.googlemanager.gmail.GmailPager.PageFetcher;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GmailPagerTest {
+
+    private static final List<List<String>> PAGES = Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c", "d"),
+            Collections.singletonList("e"));
+
+    @Test
+    void iteratesAllThePages() {
+        GmailPager<String> pager = new GmailPager<>(fetcher(new AtomicInteger()));
+        List<String> items = new ArrayList<>();
+        pager.forEachRemaining(items::add);
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), items);
+        assertFalse(pager.hasNext());
+        assertThrows(NoSuchElementException.class, pager::next);
+    }
+
+    @Test
+    void prefetchesTheNextPagesWhileAPageIsConsumed() throws InterruptedException {
+        CountDownLatch fetched = new CountDownLatch(PAGES.size());
+        AtomicInteger fetches = new AtomicInteger();
+        PageFetcher<String> fetcher = fetcher(fetches);
+        GmailPager<String> pager = new GmailPager<>(pageToken -> {
+            Page<String> page = fetcher.fetch(pageToken);
+            fetched.countDown();
+            return page;
+        }, 2);
+        assertEquals("a", pager.next());
+        assertTrue(fetched.await(5, SECONDS));
+        assertEquals(PAGES.size(), fetches.get());
+    }
+
+    @Test
+    void fetchesAPageOnlyWhenNeededWithoutPrefetch() {
+        AtomicInteger fetches = new AtomicInteger();
+        GmailPager<String> pager = new GmailPager<>(fetcher(fetches), 0);
+        assertEquals("a", pager.next());
+        assertEquals("b", pager.next());
+        assertEquals(1, fetches.get());
+        assertEquals("c", pager.next());
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void stopsTheIterationWhenClosed() {
+        AtomicInteger fetches = new AtomicInteger();
+        GmailPager<String> pager = new GmailPager<>(fetcher(fetches), 0);
+        assertEquals("a", pager.next());
+        pager.close();
+        assertFalse(pager.hasNext());
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void closesThePagerWithItsStream() {
+        AtomicInteger fetches = new AtomicInteger();
+        GmailPager<String> pager = new GmailPager<>(fetcher(fetches), 0);
+        try (Stream<String> items = pager.stream()) {
+            assertEquals(Arrays.asList("a", "b"), items.limit(2).collect(Collectors.toList()));
+        }
+        assertFalse(pager.hasNext());
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void throwsTheErrorOfAPageAfterTheItemsFetched() {
+        GmailPager<String> pager = new GmailPager<>(pageToken -> {
+            if (pageToken == null)
+                return new Page<>(PAGES.get(0), "1");
+            throw new IOException("rate limited");
+        });
+        assertEquals("a", pager.next());
+        assertEquals("b", pager.next());
+        UncheckedIOException error = assertThrows(UncheckedIOException.class, pager::hasNext);
+        assertEquals("rate limited", error.getCause().getMessage());
+        assertFalse(pager.hasNext());
+    }
+
+    @Test
+    void rejectsANegativePrefetchDepth() {
+        assertThrows(IllegalArgumentException.class, () -> new GmailPager<>(fetcher(new AtomicInteger()), -1));
+    }
+
+    static PageFetcher<String> fetcher(AtomicInteger fetches) {
+        return pageToken -> {
+            fetches.incrementAndGet();
+            int page = pageToken == null ? 0 : Integer.parseInt(pageToken);
+            return new Page<>(PAGES.get(page), page + 1 < PAGES.size() ? String.valueOf(page + 1) : null);
+        };
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.tecknobit.googlemanager.gmail.GmailPager.PageFetcher;
+import com.tecknobit.googlemanager.gmail.records.BatchResult;
+import com.tecknobit.googlemanager.gmail.records.BatchResult.Failure;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.tecknobit.googlemanager.gmail.GmailPagerTest.fetcher;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GmailPipelineTest {
+
+    @Test
+    void hydratesAllTheIds() {
+        Set<String> items = new HashSet<>();
+        try (GmailPipeline<String> pipeline = new GmailPipeline<>(new GmailPager<>(fetcher(new AtomicInteger())),
+                GmailPipelineTest::hydrate, 2, 2, 1)) {
+            pipeline.forEachRemaining(items::add);
+            assertTrue(pipeline.getFailures().isEmpty());
+        }
+        assertEquals(new HashSet<>(Arrays.asList("A", "B", "C", "D", "E")), items);
+    }
+
+    @Test
+    void keepsTheFailuresOfTheIds() {
+        Set<String> items = new HashSet<>();
+        try (GmailPipeline<String> pipeline = new GmailPipeline<>(new GmailPager<>(fetcher(new AtomicInteger())),
+                ids -> {
+                    LinkedHashMap<String, String> results = new LinkedHashMap<>(hydrate(ids).getResults());
+                    LinkedHashMap<String, Failure> failures = new LinkedHashMap<>();
+                    if (results.remove("c") != null)
+                        failures.put("c", new Failure(404, "Not Found", "notFound"));
+                    return new BatchResult<>(results, failures);
+                }, 2, 2, 10)) {
+            pipeline.forEachRemaining(items::add);
+            assertEquals(404, pipeline.getFailures().get("c").getCode());
+        }
+        assertEquals(new HashSet<>(Arrays.asList("A", "B", "D", "E")), items);
+    }
+
+    @Test
+    void throwsTheErrorAfterTheItemsHydrated() {
+        GmailPipeline<String> pipeline = new GmailPipeline<>(new GmailPager<>(fetcher(new AtomicInteger())),
+                ids -> {
+                    if (ids.contains("e"))
+                        throw new IOException("backend error");
+                    return hydrate(ids);
+                }, 2, 1, 10);
+        int items = 0;
+        try {
+            while (pipeline.hasNext()) {
+                pipeline.next();
+                items++;
+            }
+            fail("the error has not been thrown");
+        } catch (UncheckedIOException e) {
+            assertEquals("backend error", e.getCause().getMessage());
+        }
+        assertEquals(4, items);
+    }
+
+    @Test
+    void stopsThePaginationWhenClosedDuringAPageFetch() throws InterruptedException {
+        AtomicInteger fetches = new AtomicInteger();
+        PageFetcher<String> pages = fetcher(fetches);
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        GmailPipeline<String> pipeline = new GmailPipeline<>(new GmailPager<>(pageToken -> {
+            if (pageToken != null) {
+                fetching.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            return pages.fetch(pageToken);
+        }, 0), GmailPipelineTest::hydrate, 2, 1, 10);
+        assertTrue(pipeline.hasNext());
+        assertTrue(fetching.await(5, SECONDS));
+        pipeline.close();
+        assertFalse(pipeline.hasNext());
+        release.countDown();
+        Thread.sleep(200);
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void rejectsAnInvalidConfiguration() {
+        GmailPager<String> ids = new GmailPager<>(fetcher(new AtomicInteger()));
+        assertThrows(IllegalArgumentException.class, () -> new GmailPipeline<>(ids, GmailPipelineTest::hydrate,
+                0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GmailPipeline<>(ids, GmailPipelineTest::hydrate,
+                1, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GmailPipeline<>(ids, GmailPipelineTest::hydrate,
+                1, 1, 0));
+    }
+
+    private static BatchResult<String> hydrate(List<String> ids) {
+        LinkedHashMap<String, String> results = new LinkedHashMap<>();
+        for (String id : ids)
+            results.put(id, id.toUpperCase());
+        return new BatchResult<>(results, new LinkedHashMap<>());
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.GmailRequest;
+import com.google.api.services.gmail.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.tecknobit.googlemanager.gmail.GmailRateLimiter.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GmailRateLimiterTest {
+
+    private final List<Integer> costs = new CopyOnWriteArrayList<>();
+
+    private final HttpRequestInitializer recorder = request -> request.setInterceptor(httpRequest ->
+            costs.add(getCost(httpRequest.getRequestMethod(), httpRequest.getUrl().getRawPath())));
+
+    private final Gmail.Users users = gmail(new JsonTransport(), recorder).users();
+
+    @Test
+    void chargesTheCostOfTheMethodOfTheBuiltRequests() throws IOException {
+        assertCost(100, users.messages().send("me", new Message().setRaw("cmF3")));
+        assertCost(50, users.messages().batchModify("me", new BatchModifyMessagesRequest()
+                .setIds(List.of("1"))));
+        assertCost(50, users.messages().batchDelete("me", new BatchDeleteMessagesRequest().setIds(List.of("1"))));
+        assertCost(100, users.watch("me", new WatchRequest().setTopicName("topic")));
+        assertCost(50, users.stop("me"));
+        assertCost(5, users.messages().get("me", "1"));
+        assertCost(5, users.messages().trash("me", "1"));
+        assertCost(10, users.messages().delete("me", "1"));
+        assertCost(10, users.threads().get("me", "1"));
+        assertCost(20, users.threads().delete("me", "1"));
+        assertCost(1, users.labels().list("me"));
+        assertCost(1, users.getProfile("me"));
+        assertCost(2, users.history().list("me").setStartHistoryId(BigInteger.ONE));
+        assertCost(100, users.settings().updatePop("me", new PopSettings()));
+    }
+
+    @Test
+    void chargesEachPartOfABatch() throws IOException {
+        Gmail gmail = gmail(new MultipartTransport(), recorder);
+        BatchRequest batch = gmail.batch();
+        JsonBatchCallback<Message> callback = new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(Message message, HttpHeaders responseHeaders) {
+            }
+
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+            }
+        };
+        gmail.users().messages().get("me", "1").queue(batch, callback);
+        gmail.users().messages().get("me", "2").queue(batch, callback);
+        costs.clear();
+        batch.execute();
+        assertEquals(List.of(5, 5), costs);
+    }
+
+    @Test
+    void rejectsARequestWithoutMethod() {
+        assertThrows(IllegalArgumentException.class, () -> getCost(null, "/gmail/v1/users/me/messages/send"));
+        assertEquals(0, getCost("POST", "/batch/gmail/v1"));
+    }
+
+    @Test
+    void waitsTheQuotaOfEachAttempt() throws IOException {
+        GmailRateLimiter limiter = getInstance("test-" + System.nanoTime(), "me");
+        setUserQuota(100);
+        try {
+            Gmail.Users limited = gmail(new JsonTransport(), limiter::install).users();
+            long start = System.nanoTime();
+            limited.messages().send("me", new Message().setRaw("cmF3")).execute();
+            assertTrue(System.nanoTime() - start < 500_000_000L);
+            limited.messages().send("me", new Message().setRaw("cmF3")).execute();
+            assertTrue(System.nanoTime() - start > 800_000_000L);
+        } finally {
+            setUserQuota(DEFAULT_USER_QUOTA);
+        }
+    }
+
+    private void assertCost(int expected, GmailRequest<?> request) throws IOException {
+        costs.clear();
+        request.execute();
+        assertEquals(List.of(expected), costs);
+    }
+
+    private static Gmail gmail(MockHttpTransport transport, HttpRequestInitializer initializer) {
+        return new Gmail.Builder(transport, GsonFactory.getDefaultInstance(), initializer)
+                .setApplicationName("test")
+                .build();
+    }
+
+    private static final class JsonTransport extends MockHttpTransport {
+
+        @Override
+        public LowLevelHttpRequest buildRequest(String method, String url) {
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public LowLevelHttpResponse execute() {
+                    return new MockLowLevelHttpResponse().setContentType("application/json").setContent("{}");
+                }
+            };
+        }
+
+    }
+
+    private static final class MultipartTransport extends MockHttpTransport {
+
+        private static final String BOUNDARY = "batch_boundary";
+
+        @Override
+        public LowLevelHttpRequest buildRequest(String method, String url) {
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public LowLevelHttpResponse execute() {
+                    String part = "--" + BOUNDARY + "\r\nContent-Type: application/http\r\n\r\nHTTP/1.1 200 OK\r\n"
+                            + "Content-Type: application/json\r\n\r\n{\"id\":\"1\"}\r\n";
+                    return new MockLowLevelHttpResponse()
+                            .setContentType("multipart/mixed; boundary=" + BOUNDARY)
+                            .setContent(part + part + "--" + BOUNDARY + "--\r\n");
+                }
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.gmail.model.ListMessagesResponse;
+import com.tecknobit.googlemanager.gmail.messages.records.Messages;
+import com.tecknobit.googlemanager.gmail.records.Message;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+
+import static com.tecknobit.googlemanager.gmail.GmailRecordsMapperTest.MESSAGE;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Compares {@link GmailRecordsMapper} with the reflective {@link JSONObject} path previously used to create the
+ * library's records from the models of the responses, run it with
+ * {@code ./gradlew jmh -PjmhArgs=GmailRecordsMapperBenchmark}
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GmailRecordsMapperBenchmark {
+
+    private com.google.api.services.gmail.model.Message message;
+
+    private ListMessagesResponse listMessagesResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        GsonFactory jsonFactory = GsonFactory.getDefaultInstance();
+        message = jsonFactory.fromString(MESSAGE, com.google.api.services.gmail.model.Message.class);
+        StringBuilder list = new StringBuilder("{\"messages\":[");
+        for (int j = 0; j < 100; j++) {
+            if (j > 0)
+                list.append(',');
+            list.append("{\"id\":\"18a").append(j).append("\",\"threadId\":\"18a0\"}");
+        }
+        list.append("],\"nextPageToken\":\"token\",\"resultSizeEstimate\":100}");
+        listMessagesResponse = jsonFactory.fromString(list.toString(), ListMessagesResponse.class);
+    }
+
+    @Benchmark
+    public Message messageMapper() {
+        return GmailRecordsMapper.toMessage(message);
+    }
+
+    @Benchmark
+    public Message messageReflection() {
+        return new Message(new JSONObject(message));
+    }
+
+    @Benchmark
+    public Messages messagesListMapper() {
+        return GmailRecordsMapper.toMessages(listMessagesResponse);
+    }
+
+    @Benchmark
+    public Messages messagesListReflection() {
+        return new Messages(new JSONObject(listMessagesResponse));
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.gmail.model.ListHistoryResponse;
+import com.google.api.services.gmail.model.ListMessagesResponse;
+import com.tecknobit.googlemanager.gmail.history.records.HistoryList;
+import com.tecknobit.googlemanager.gmail.labels.records.Label;
+import com.tecknobit.googlemanager.gmail.messages.records.Messages;
+import com.tecknobit.googlemanager.gmail.records.Message;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static com.tecknobit.googlemanager.gmail.GmailRecordsMapper.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GmailRecordsMapperTest {
+
+    static final String MESSAGE = "{\"id\":\"18a1\",\"threadId\":\"18a0\",\"labelIds\":[\"INBOX\",\"UNREAD\"]," +
+            "\"snippet\":\"Hello there\",\"historyId\":\"9041\",\"internalDate\":\"1697500000000\"," +
+            "\"sizeEstimate\":2048,\"payload\":{\"partId\":\"\",\"mimeType\":\"multipart/alternative\"," +
+            "\"filename\":\"\",\"headers\":[{\"name\":\"From\",\"value\":\"a@example.com\"}," +
+            "{\"name\":\"Subject\",\"value\":\"Hello\"}],\"body\":{\"size\":0},\"parts\":[{\"partId\":\"0\"," +
+            "\"mimeType\":\"text/plain\",\"filename\":\"\",\"headers\":[{\"name\":\"Content-Type\"," +
+            "\"value\":\"text/plain\"}],\"body\":{\"size\":11,\"data\":\"SGVsbG8gdGhlcmU\"}},{\"partId\":\"1\"," +
+            "\"mimeType\":\"application/pdf\",\"filename\":\"a.pdf\",\"body\":{\"attachmentId\":\"att-1\"," +
+            "\"size\":1024}}]}}";
+
+    private static final GsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+
+    @Test
+    void mapsTheMessageLikeItsJsonWithThePayloadFlattened() throws IOException {
+        com.google.api.services.gmail.model.Message model = JSON_FACTORY.fromString(MESSAGE,
+                com.google.api.services.gmail.model.Message.class);
+        Message mapped = toMessage(model);
+        assertSimilar(new Message(flatten(new JSONObject(MESSAGE))), mapped);
+        assertEquals(2, mapped.getHeaders().size());
+        assertEquals(2, mapped.getParts().size());
+        assertEquals("att-1", new ArrayList<>(mapped.getParts()).get(1).getMessageBody().getAttachmentId());
+    }
+
+    @Test
+    void keepsTheFieldsOfTheReflectivePath() throws IOException {
+        com.google.api.services.gmail.model.Message model = JSON_FACTORY.fromString(MESSAGE,
+                com.google.api.services.gmail.model.Message.class);
+        Message reflected = new Message(new JSONObject(model));
+        Message mapped = toMessage(model);
+        assertEquals(reflected.getId(), mapped.getId());
+        assertEquals(reflected.getThreadId(), mapped.getThreadId());
+        assertEquals(new ArrayList<>(reflected.getLabelIds()), new ArrayList<>(mapped.getLabelIds()));
+        assertEquals(reflected.getSnippet(), mapped.getSnippet());
+        assertEquals(reflected.getHistoryId(), mapped.getHistoryId());
+        assertEquals(reflected.getInternalDate(), mapped.getInternalDate());
+        assertEquals(reflected.getSizeEstimate(), mapped.getSizeEstimate());
+        // the reflective path left the payload nested, so the part fields were never read
+        assertTrue(reflected.getHeaders().isEmpty());
+        assertFalse(mapped.getHeaders().isEmpty());
+    }
+
+    @Test
+    void mapsTheMessagesListLikeItsJson() throws IOException {
+        String json = "{\"messages\":[{\"id\":\"18a1\",\"threadId\":\"18a0\"},{\"id\":\"18a2\",\"threadId\":\"18a2\"}]," +
+                "\"nextPageToken\":\"token\",\"resultSizeEstimate\":2}";
+        Messages mapped = toMessages(JSON_FACTORY.fromString(json, ListMessagesResponse.class));
+        assertSimilar(new Messages(new JSONObject(json)), mapped);
+    }
+
+    @Test
+    void mapsTheLabelLikeItsJson() throws IOException {
+        String json = "{\"id\":\"Label_1\",\"name\":\"Invoices\",\"messageListVisibility\":\"hide\"," +
+                "\"labelListVisibility\":\"labelShowIfUnread\",\"type\":\"user\",\"messagesTotal\":12," +
+                "\"messagesUnread\":3,\"threadsTotal\":10,\"threadsUnread\":2,\"color\":{\"textColor\":\"#ffffff\"," +
+                "\"backgroundColor\":\"#000000\"}}";
+        Label mapped = toLabel(JSON_FACTORY.fromString(json, com.google.api.services.gmail.model.Label.class));
+        assertSimilar(new Label(new JSONObject(json)), mapped);
+    }
+
+    @Test
+    void mapsASingleHistoryRecordLikeItsJson() throws IOException {
+        String record = "{\"id\":\"9040\",\"messagesAdded\":[{\"message\":" + MESSAGE + "}]," +
+                "\"labelsRemoved\":[{\"message\":{\"id\":\"18a2\",\"threadId\":\"18a2\"},\"labelIds\":[\"UNREAD\"]}]}";
+        String json = "{\"history\":[" + record + "],\"historyId\":\"9040\"}";
+        HistoryList mapped = toHistoryList(JSON_FACTORY.fromString(json, ListHistoryResponse.class));
+        JSONObject jRecord = new JSONObject(record);
+        jRecord.getJSONArray("messagesAdded").getJSONObject(0).put("message",
+                flatten(new JSONObject(MESSAGE)));
+        assertSimilar(new HistoryList(jRecord), mapped);
+    }
+
+    @Test
+    void gathersTheChangesOfEveryHistoryRecord() throws IOException {
+        String json = "{\"history\":[{\"id\":\"9040\",\"messagesAdded\":[{\"message\":{\"id\":\"18a1\"}}]}," +
+                "{\"id\":\"9041\",\"messagesAdded\":[{\"message\":{\"id\":\"18a2\"}}],\"messagesDeleted\":" +
+                "[{\"message\":{\"id\":\"18a0\"}}]}],\"historyId\":\"9045\"}";
+        HistoryList mapped = toHistoryList(JSON_FACTORY.fromString(json, ListHistoryResponse.class));
+        assertEquals("9045", mapped.getId());
+        assertEquals(2, mapped.getMessagesAdded().size());
+        assertEquals("18a2", new ArrayList<>(mapped.getMessagesAdded()).get(1).getId());
+        assertEquals(1, mapped.getMessagesDeleted().size());
+        // the JSON path parsed the whole list as a single history record, so it found none of the changes
+        HistoryList parsed = new HistoryList(new JSONObject(json));
+        assertTrue(parsed.getMessagesAdded().isEmpty());
+    }
+
+    static JSONObject flatten(JSONObject message) {
+        JSONObject payload = message.optJSONObject("payload");
+        if (payload != null) {
+            message.remove("payload");
+            for (String key : payload.keySet())
+                message.put(key, payload.get(key));
+        }
+        JSONArray parts = message.optJSONArray("parts");
+        if (parts != null)
+            for (int j = 0; j < parts.length(); j++)
+                flatten(parts.getJSONObject(j));
+        return message;
+    }
+
+    private static void assertSimilar(Object expected, Object actual) {
+        JSONObject jExpected = new JSONObject(expected);
+        JSONObject jActual = new JSONObject(actual);
+        assertTrue(jExpected.similar(jActual), () -> "expected " + jExpected + " but was " + jActual);
+    }
+
+}
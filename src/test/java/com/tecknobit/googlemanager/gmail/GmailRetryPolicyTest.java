@@ -0,0 +1,251 @@
+package com.tecknobit.googlemanager.gmail;
+
+import com.google.api.client.http.*;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static com.tecknobit.googlemanager.gmail.GmailRetryPolicy.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GmailRetryPolicyTest {
+
+    private static final GenericUrl URL = new GenericUrl("https://gmail.googleapis.com/gmail/v1/users/me/messages");
+
+    private static final GenericUrl BATCH_MODIFY_URL =
+            new GenericUrl("https://gmail.googleapis.com/gmail/v1/users/me/messages/batchModify");
+
+    private static final String RATE_LIMIT = "{\"error\":{\"code\":403,\"message\":\"User Rate Limit Exceeded\"," +
+            "\"errors\":[{\"domain\":\"usageLimits\",\"reason\":\"userRateLimitExceeded\"}]}}";
+
+    private static final String FORBIDDEN = "{\"error\":{\"code\":403,\"message\":\"Insufficient Permission\"," +
+            "\"errors\":[{\"domain\":\"global\",\"reason\":\"insufficientPermissions\"}]}}";
+
+    private final GmailRetryPolicy policy = new GmailRetryPolicy(3, 0, 0);
+
+    @Test
+    void classifiesTheResponses() {
+        assertTrue(isRetryable(429));
+        assertTrue(isRetryable(503));
+        assertFalse(isRetryable(403));
+        assertFalse(isRetryable(404));
+        assertTrue(isRetryable(403, "rateLimitExceeded"));
+        assertTrue(isRetryable(403, "userRateLimitExceeded"));
+        assertFalse(isRetryable(403, "dailyLimitExceeded"));
+        assertFalse(isRetryable(403, null));
+        assertFalse(isRetryable(400, "userRateLimitExceeded"));
+    }
+
+    @Test
+    void readsTheReasonOfTheErrors() {
+        assertEquals("userRateLimitExceeded", getErrorReason(RATE_LIMIT));
+        assertEquals("insufficientPermissions", getErrorReason(FORBIDDEN));
+        assertNull(getErrorReason("{\"error\":{\"code\":500}}"));
+        assertNull(getErrorReason("<html>Service Unavailable</html>"));
+        assertNull(getErrorReason(null));
+    }
+
+    @Test
+    void classifiesTheMethods() {
+        assertTrue(isIdempotent(HttpMethods.GET));
+        assertTrue(isIdempotent(HttpMethods.PUT));
+        assertTrue(isIdempotent(HttpMethods.DELETE));
+        assertFalse(isIdempotent(HttpMethods.POST));
+        assertFalse(isIdempotent(HttpMethods.PATCH));
+    }
+
+    @Test
+    void classifiesThePostsThatSetAState() {
+        assertTrue(isRetrySafe(HttpMethods.GET, "/gmail/v1/users/me/messages/id"));
+        assertTrue(isRetrySafe(HttpMethods.POST, "/gmail/v1/users/me/messages/batchModify"));
+        assertTrue(isRetrySafe(HttpMethods.POST, "/gmail/v1/users/me/messages/batchDelete"));
+        assertTrue(isRetrySafe(HttpMethods.POST, "/gmail/v1/users/me/messages/id/modify"));
+        assertTrue(isRetrySafe(HttpMethods.POST, "/gmail/v1/users/me/messages/id/trash"));
+        assertTrue(isRetrySafe(HttpMethods.POST, "/gmail/v1/users/me/threads/id/untrash"));
+        assertFalse(isRetrySafe(HttpMethods.POST, "/gmail/v1/users/me/messages/send"));
+        assertFalse(isRetrySafe(HttpMethods.POST, "/gmail/v1/users/me/messages"));
+        assertFalse(isRetrySafe(HttpMethods.POST, "/gmail/v1/users/me/drafts/send"));
+    }
+
+    @Test
+    void retriesAGetFailedForAServerError() throws IOException {
+        Attempts attempts = new Attempts().respond(500, null).respond(200, "{}");
+        assertEquals(200, get(attempts).getStatusCode());
+        assertEquals(2, attempts.sent);
+        assertEquals(1, policy.getRetriesCount());
+        assertEquals(1, policy.getRecoveredCount());
+    }
+
+    @Test
+    void retriesAGetRejectedForARateLimit() throws IOException {
+        Attempts attempts = new Attempts().respond(403, RATE_LIMIT).respond(200, "{}");
+        assertEquals(200, get(attempts).getStatusCode());
+        assertEquals(2, attempts.sent);
+    }
+
+    @Test
+    void keepsTheContentOfAForbiddenResponse() {
+        Attempts attempts = new Attempts().respond(403, FORBIDDEN);
+        HttpResponseException error = assertThrows(HttpResponseException.class, () -> get(attempts));
+        assertEquals(1, attempts.sent);
+        assertTrue(error.getContent().contains("insufficientPermissions"));
+    }
+
+    @Test
+    void retriesAGetFailedForANetworkError() throws IOException {
+        Attempts attempts = new Attempts().failAfterSending().respond(200, "{}");
+        assertEquals(200, get(attempts).getStatusCode());
+        assertEquals(2, attempts.sent);
+    }
+
+    @Test
+    void stopsAfterTheMaxAttempts() {
+        Attempts attempts = new Attempts().respond(503, null).respond(503, null).respond(503, null)
+                .respond(200, "{}");
+        assertThrows(HttpResponseException.class, () -> get(attempts));
+        assertEquals(3, attempts.sent);
+        assertEquals(1, policy.getExhaustedCount());
+    }
+
+    @Test
+    void doesNotRetryAPostFailedForAServerError() {
+        Attempts attempts = new Attempts().respond(500, null).respond(200, "{}");
+        assertThrows(HttpResponseException.class, () -> post(attempts));
+        assertEquals(1, attempts.sent);
+        assertEquals(0, policy.getRetriesCount());
+    }
+
+    @Test
+    void retriesAPostRateLimitedWithoutRetryAfter() throws IOException {
+        Attempts attempts = new Attempts().respond(429, null).respond(200, "{}");
+        assertEquals(200, post(attempts).getStatusCode());
+        assertEquals(2, attempts.sent);
+    }
+
+    @Test
+    void retriesAPostRejectedForARateLimitReason() throws IOException {
+        Attempts attempts = new Attempts().respond(403, RATE_LIMIT).respond(200, "{}");
+        assertEquals(200, post(attempts).getStatusCode());
+        assertEquals(2, attempts.sent);
+    }
+
+    @Test
+    void retriesAPostThatSetsAStateFailedForAServerError() throws IOException {
+        Attempts attempts = new Attempts().respond(500, null).failAfterSending().respond(200, "{}");
+        assertEquals(200, post(attempts, BATCH_MODIFY_URL).getStatusCode());
+        assertEquals(3, attempts.sent);
+    }
+
+    @Test
+    void retriesAPostRejectedWithRetryAfter() throws IOException {
+        Attempts attempts = new Attempts().respond(503, null, "0").respond(200, "{}");
+        assertEquals(200, post(attempts).getStatusCode());
+        assertEquals(2, attempts.sent);
+    }
+
+    @Test
+    void retriesAPostThatHasNotReachedTheServer() throws IOException {
+        Attempts attempts = new Attempts().failToConnect().respond(200, "{}");
+        assertEquals(200, post(attempts).getStatusCode());
+        assertEquals(2, attempts.sent);
+        assertEquals("{\"ids\":[\"1\"]}", attempts.lastBody);
+    }
+
+    @Test
+    void doesNotRetryAPostThatCouldHaveReachedTheServer() {
+        Attempts attempts = new Attempts().failAfterSending().respond(200, "{}");
+        assertThrows(SocketTimeoutException.class, () -> post(attempts));
+        assertEquals(1, attempts.sent);
+    }
+
+    private HttpResponse get(Attempts attempts) throws IOException {
+        return attempts.createRequestFactory(policy::install).buildGetRequest(URL).execute();
+    }
+
+    private HttpResponse post(Attempts attempts) throws IOException {
+        return post(attempts, URL);
+    }
+
+    private HttpResponse post(Attempts attempts, GenericUrl url) throws IOException {
+        return attempts.createRequestFactory(policy::install).buildPostRequest(url,
+                new ByteArrayContent("application/json", "{\"ids\":[\"1\"]}".getBytes(UTF_8))).execute();
+    }
+
+    private static final class Attempts extends MockHttpTransport {
+
+        private final Deque<Attempt> attempts = new ArrayDeque<>();
+
+        private int sent;
+
+        private String lastBody;
+
+        Attempts respond(int statusCode, String content) {
+            return respond(statusCode, content, null);
+        }
+
+        Attempts respond(int statusCode, String content, String retryAfter) {
+            attempts.add(request -> {
+                MockLowLevelHttpResponse response = new MockLowLevelHttpResponse().setStatusCode(statusCode);
+                if (content != null)
+                    response.setContentType("application/json").setContent(content);
+                if (retryAfter != null)
+                    response.addHeader("Retry-After", retryAfter);
+                return response;
+            });
+            return this;
+        }
+
+        Attempts failToConnect() {
+            attempts.add((ConnectFailure) request -> {
+                throw new ConnectException("Connection refused");
+            });
+            return this;
+        }
+
+        Attempts failAfterSending() {
+            attempts.add(request -> {
+                throw new SocketTimeoutException("Read timed out");
+            });
+            return this;
+        }
+
+        @Override
+        public LowLevelHttpRequest buildRequest(String method, String url) {
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public LowLevelHttpResponse execute() throws IOException {
+                    sent++;
+                    Attempt attempt = attempts.poll();
+                    if (attempt instanceof ConnectFailure)
+                        return attempt.execute(this);
+                    if (getStreamingContent() != null) {
+                        ByteArrayOutputStream body = new ByteArrayOutputStream();
+                        getStreamingContent().writeTo(body);
+                        lastBody = body.toString(UTF_8);
+                    }
+                    return attempt.execute(this);
+                }
+            };
+        }
+
+    }
+
+    private interface Attempt {
+
+        LowLevelHttpResponse execute(MockLowLevelHttpRequest request) throws IOException;
+
+    }
+
+    private interface ConnectFailure extends Attempt {
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.tecknobit.googlemanager.http;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Compares the throughput of many threads sending small requests through a {@link PooledHttpTransport} and
+ * {@link NetHttpTransport}, run it with {@code ./gradlew jmh -PjmhArgs=PooledHttpTransportBenchmark}
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class PooledHttpTransportBenchmark {
+
+    private static final byte[] BODY = "{\"id\":\"message\",\"labelIds\":[\"INBOX\",\"UNREAD\"]}".getBytes(UTF_8);
+
+    @Param({"pooled", "net"})
+    public String transport;
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+    private HttpTransport httpTransport;
+
+    private HttpRequestFactory requestFactory;
+
+    private GenericUrl url;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // without it the delayed acknowledgements of the server, not the transports, bound the throughput
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 128);
+        server.createContext("/message", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(BODY);
+            }
+        });
+        executor = Executors.newFixedThreadPool(16);
+        server.setExecutor(executor);
+        server.start();
+        url = new GenericUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/message");
+        if (transport.equals("pooled"))
+            httpTransport = PooledHttpTransport.newTransport(16);
+        else
+            httpTransport = new NetHttpTransport();
+        requestFactory = httpTransport.createRequestFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpTransport.shutdown();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public String get() throws IOException {
+        HttpResponse response = requestFactory.buildGetRequest(url).execute();
+        try {
+            return response.parseAsString();
+        } finally {
+            response.disconnect();
+        }
+    }
+
+}
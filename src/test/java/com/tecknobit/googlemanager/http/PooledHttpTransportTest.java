@@ -0,0 +1,121 @@
+package com.tecknobit.googlemanager.http;
+
+import com.google.api.client.http.ByteArrayContent;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledHttpTransportTest {
+
+    private HttpServer server;
+
+    private ApacheHttpTransport transport;
+
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/echo", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException ignored) {
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort();
+        transport = PooledHttpTransport.newTransport(4, 8, 30000);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        transport.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void sendsTheBody() throws IOException {
+        HttpResponse response = transport.createRequestFactory()
+                .buildPostRequest(new GenericUrl(url + "/echo"), ByteArrayContent.fromString("text/plain", "hello"))
+                .execute();
+        assertEquals("hello", response.parseAsString());
+    }
+
+    @Test
+    void appliesTheTimeoutsOfTheRequest() throws IOException {
+        HttpRequest request = transport.createRequestFactory().buildGetRequest(new GenericUrl(url + "/slow"));
+        request.setReadTimeout(100);
+        long start = System.nanoTime();
+        assertThrows(SocketTimeoutException.class, request::execute);
+        assertTrue(System.nanoTime() - start < 900_000_000L);
+    }
+
+    @Test
+    void abortsTheRequestOfTheHandle() throws Exception {
+        HttpRequest request = transport.createRequestFactory().buildGetRequest(new GenericUrl(url + "/slow"));
+        request.setNumberOfRetries(0);
+        AbortHandle handle = new AbortHandle();
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse> response = CompletableFuture.supplyAsync(() -> {
+            handle.bind();
+            try {
+                return request.execute();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                handle.unbind();
+            }
+        });
+        Thread.sleep(100);
+        handle.abort();
+        ExecutionException error = assertThrows(ExecutionException.class, response::get);
+        assertInstanceOf(UncheckedIOException.class, error.getCause());
+        assertTrue(System.nanoTime() - start < 900_000_000L);
+        assertTrue(handle.isAborted());
+    }
+
+    @Test
+    void abortsARequestBeforeSendingIt() {
+        AbortHandle handle = new AbortHandle();
+        handle.abort();
+        handle.bind();
+        try {
+            Thread.interrupted();
+            assertThrows(IOException.class, () -> transport.createRequestFactory()
+                    .buildGetRequest(new GenericUrl(url + "/echo")).setNumberOfRetries(0).execute());
+        } finally {
+            handle.unbind();
+        }
+    }
+
+    @Test
+    void rejectsAPoolSmallerThanARoute() {
+        assertThrows(IllegalArgumentException.class, () -> PooledHttpTransport.newTransport(8, 4, 30000));
+        assertThrows(IllegalArgumentException.class, () -> PooledHttpTransport.newTransport(4, 8, 0));
+    }
+
+}